@@ -41,6 +41,7 @@ import java.awt.Font;
 import java.awt.Paint;
 import java.awt.RenderingHints;
 import java.awt.Shape;
+import java.awt.font.FontRenderContext;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
@@ -50,6 +51,7 @@ import java.io.Serializable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.HashMap;
@@ -61,15 +63,25 @@ import com.orsoncharts.ChartBox3D.ChartBoxFace;
 import com.orsoncharts.axis.Axis3D;
 import com.orsoncharts.axis.TickData;
 import com.orsoncharts.axis.ValueAxis3D;
+import com.orsoncharts.data.Dataset3DChangeEvent;
 import com.orsoncharts.data.ItemKey;
+import com.orsoncharts.data.Series3DChangeEvent;
+import com.orsoncharts.data.xyz.XYZArrayDataset;
+import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.DoubleSidedFace;
 import com.orsoncharts.graphics3d.Drawable3D;
 import com.orsoncharts.graphics3d.Face;
+import com.orsoncharts.graphics3d.FaceCuller;
 import com.orsoncharts.graphics3d.FaceSorter;
+import com.orsoncharts.graphics3d.IndexedMesh3D;
 import com.orsoncharts.graphics3d.LabelFace;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.Point3D;
+import com.orsoncharts.graphics3d.PointFace;
+import com.orsoncharts.graphics3d.RadixFaceSorter;
+import com.orsoncharts.graphics3d.ShadedColorCache;
 import com.orsoncharts.graphics3d.Utils2D;
 import com.orsoncharts.graphics3d.ViewPoint3D;
 import com.orsoncharts.graphics3d.World;
@@ -89,6 +101,7 @@ import com.orsoncharts.legend.LegendBuilder;
 import com.orsoncharts.legend.StandardLegendBuilder;
 import com.orsoncharts.marker.Marker;
 import com.orsoncharts.marker.MarkerData;
+import com.orsoncharts.renderer.ComposeType;
 import com.orsoncharts.style.ChartStyle;
 import com.orsoncharts.style.ChartStyleChangeEvent;
 import com.orsoncharts.style.ChartStyleChangeListener;
@@ -174,6 +187,9 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     public static final String SERIES_KEY = "series_key";
     
+    /** The size (in Java2D units) of the marker drawn for a point face. */
+    private static final double POINT_SIZE = 3.0;
+    
     /** The chart id. */
     private String id;
     
@@ -198,8 +214,11 @@ public class Chart3D implements Drawable3D, ChartElement,
     /** The plot. */
     private Plot3D plot;
     
-    /** The view point. */
-    private ViewPoint3D viewPoint;
+    /** 
+     * The view point.  It is updated in place (under the lock on the view
+     * point itself) and copied at the start of each rendering.
+     */
+    private volatile ViewPoint3D viewPoint;
 
     /** The projection distance. */
     private double projDist;
@@ -212,7 +231,7 @@ public class Chart3D implements Drawable3D, ChartElement,
      * to allow the user (optionally) to drag the chart from its center 
      * location to better align it with the chart title and legend.
      */
-    private Offset2D translate2D;
+    private volatile Offset2D translate2D;
     
     /** Storage for registered change listeners. */
     private transient EventListenerList listenerList;
@@ -241,6 +260,86 @@ public class Chart3D implements Drawable3D, ChartElement,
     
     /** A 3D model of the world (represents the chart). */
     private transient World world;
+    
+    /** 
+     * A reduced detail version of the world, used when a draft rendering is
+     * requested via {@link Chart3DHints#KEY_DRAFT}.
+     */
+    private transient World draftWorld;
+    
+    /** 
+     * Appends to series in the plot's dataset that have been received since
+     * the world was composed and that can be added to the existing world 
+     * instead of recomposing it (only used for XYZ plots).
+     */
+    private transient List<Series3DChangeEvent> pendingAppends;
+    
+    /** 
+     * The axis ranges and plot dimensions at the time the world was composed
+     * (used to check whether appended items can be added to the existing 
+     * world).
+     */
+    private transient Object[] worldState;
+    
+    /** 
+     * The eye coordinates from the most recent rendering, retained so that
+     * the points can be updated in place on the next rendering.
+     */
+    private transient Point3D[] eyePts;
+    
+    /** 
+     * The projected points from the most recent rendering, retained so that
+     * the points can be updated in place on the next rendering.
+     */
+    private transient Point2D[] projPts;
+    
+    /** 
+     * The frame (see {@link Chart3DHints#KEY_FRAME}) for the faces in 
+     * {@code frameFaces}, or {@code null}.
+     */
+    private transient Object frame;
+    
+    /** The world that {@code frameFaces} was created from. */
+    private transient World frameWorld;
+    
+    /** The copy of the view point that is used for the current frame. */
+    private transient ViewPoint3D frameViewPoint;
+    
+    /** The 2D offset that is used for the current frame. */
+    private transient Offset2D frameTranslate2D;
+    
+    /** 
+     * The faces in paint order for the current frame, culled to the full
+     * bounds of the frame rather than the clip of a single rendering.
+     */
+    private transient List<Face> frameFaces;
+    
+    /** A cache of shaded colors used when filling faces. */
+    private transient ShadedColorCache shadedColors;
+
+    /** 
+     * The legend created for the most recent rendering (possibly 
+     * {@code null}), reused until a change to the chart, plot or style
+     * could alter it.
+     */
+    private transient TableElement legend;
+
+    /** A flag that indicates whether or not {@code legend} is current. */
+    private transient boolean legendValid;
+
+    /** The measured size of the legend from the most recent rendering. */
+    private transient ElementLayout legendLayout;
+
+    /** The measured size of the title from the most recent rendering. */
+    private transient ElementLayout titleLayout;
+
+    /** 
+     * The element hints for the faces of each data item, created when
+     * element hinting is enabled and shared by the faces of an item within
+     * a single call to {@code draw()} (the map is discarded at the end of
+     * the call, so it does not grow with the number of items ever drawn).
+     */
+    private transient Map<ItemKey, Map<String, String>> elementHints;
 
     /** An object that sorts faces for rendering (painter's algorithm). */
     private FaceSorter faceSorter;
@@ -251,6 +350,12 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     private boolean elementHinting;
     
+    /**
+     * A flag that controls whether or not the vertices of large 3D models
+     * are transformed to eye and screen coordinates using multiple threads.
+     */
+    private boolean parallelTransform;
+    
     /**
      * Creates a 3D chart for the specified plot using the default chart
      * style.  Note that a plot instance must be used in one chart instance
@@ -367,7 +472,9 @@ public class Chart3D implements Drawable3D, ChartElement,
     /**
      * Returns the chart title.  A {@link TableElement} is used for the title,
      * since it allows a lot of flexibility in the types of title that can
-     * be displayed.
+     * be displayed.  The size of the title is measured once and reused, so 
+     * if you modify the title element directly you should pass it to 
+     * {@link #setTitle(TableElement)} again.
      * 
      * @return The chart title (possibly {@code null}). 
      */
@@ -420,6 +527,7 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     public void setTitle(TableElement title) {
         this.title = title;
+        this.titleLayout = null;
         fireChangeEvent();
     }
 
@@ -581,6 +689,11 @@ public class Chart3D implements Drawable3D, ChartElement,
      * Returns the legend builder.  The default value is an instance of
      * {@link StandardLegendBuilder}.  If the legend builder is {@code null}, 
      * no legend will be displayed for the chart.
+     * <br><br>
+     * The legend is created once and then reused until the chart, plot or 
+     * style is changed, so after modifying the attributes of the builder 
+     * directly you should call {@link #setLegendBuilder(LegendBuilder)} 
+     * to refresh the legend.
      * 
      * @return The legend builder (possibly {@code null}).
      * 
@@ -602,6 +715,7 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     public void setLegendBuilder(LegendBuilder legendBuilder) {
         this.legendBuilder = legendBuilder;
+        invalidateLegend();
         fireChangeEvent();
     }
     
@@ -628,6 +742,7 @@ public class Chart3D implements Drawable3D, ChartElement,
     public void setLegendAnchor(Anchor2D anchor) {
         ArgChecks.nullNotPermitted(anchor, "anchor");
         this.legendAnchor = anchor;
+        invalidateLegend();
         fireChangeEvent();
     }
     
@@ -653,6 +768,7 @@ public class Chart3D implements Drawable3D, ChartElement,
     public void setLegendOrientation(Orientation orientation) {
         ArgChecks.nullNotPermitted(orientation, "orientation");
         this.legendOrientation = orientation;
+        invalidateLegend();
         fireChangeEvent();
     }
     
@@ -771,6 +887,65 @@ public class Chart3D implements Drawable3D, ChartElement,
         fireChangeEvent();
     }
     
+    /**
+     * Returns the flag that controls whether or not the vertices of the 3D
+     * model are transformed to eye and screen coordinates in parallel, using
+     * the common {@code ForkJoinPool}, when rendering large models.  The 
+     * default value is {@code false}.
+     * 
+     * @return A boolean.
+     * 
+     * @see World#PARALLEL_THRESHOLD
+     * @since 1.7
+     */
+    public boolean getParallelTransform() {
+        return this.parallelTransform;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not the vertices of the 3D 
+     * model are transformed in parallel when rendering large models, and 
+     * sends a change event to all registered listeners.  The output is the
+     * same whichever setting is used.
+     * 
+     * @param parallel  the new flag value.
+     * 
+     * @since 1.7
+     */
+    public void setParallelTransform(boolean parallel) {
+        this.parallelTransform = parallel;
+        fireChangeEvent();
+    }
+    
+    /**
+     * Returns the face sorter, which determines the order in which the
+     * faces of the 3D model are painted.  The default is a 
+     * {@link StandardFaceSorter}.
+     * 
+     * @return The face sorter (never {@code null}).
+     * 
+     * @since 1.7
+     */
+    public FaceSorter getFaceSorter() {
+        return this.faceSorter;
+    }
+    
+    /**
+     * Sets the face sorter and sends a change event to all registered 
+     * listeners.  For charts with a large number of faces (for example 
+     * surface charts) a {@link RadixFaceSorter} can be significantly faster
+     * than the default {@link StandardFaceSorter}.
+     * 
+     * @param faceSorter  the face sorter ({@code null} not permitted).
+     * 
+     * @since 1.7
+     */
+    public void setFaceSorter(FaceSorter faceSorter) {
+        ArgChecks.nullNotPermitted(faceSorter, "faceSorter");
+        this.faceSorter = faceSorter;
+        fireChangeEvent();
+    }
+    
     /**
      * Returns the chart style.
      * 
@@ -805,7 +980,18 @@ public class Chart3D implements Drawable3D, ChartElement,
      * @param chartBox  the chart box ({@code null} permitted).
      */
     private World createWorld(ChartBox3D chartBox) {
-        World result = new World();      
+        return createWorld(chartBox, false);
+    }
+    
+    /**
+     * Creates a world containing the chart and the supplied chart box.
+     * 
+     * @param chartBox  the chart box ({@code null} permitted).
+     * @param draft  create a draft (reduced detail) world?
+     */
+    private World createWorld(ChartBox3D chartBox, boolean draft) {
+        World result = new World();
+        result.setDraft(draft);
         Dimension3D dim = this.plot.getDimensions();
         double w = dim.getWidth();
         double h = dim.getHeight();
@@ -818,14 +1004,161 @@ public class Chart3D implements Drawable3D, ChartElement,
     }
     
     /**
-     * Draws the chart to the specified output target.
+     * Returns the state of the plot that the composed world depends on, 
+     * other than the dataset, or {@code null} for plots other than 
+     * {@link XYZPlot}.  For an XYZ plot this is the plot dimensions and the
+     * current axis ranges (which can change silently when the axes are 
+     * auto-ranged).
+     * 
+     * @return The state (possibly {@code null}). 
+     */
+    private Object[] fetchWorldState() {
+        if (!(this.plot instanceof XYZPlot)) {
+            return null;
+        }
+        XYZPlot xyzPlot = (XYZPlot) this.plot;
+        return new Object[] { xyzPlot.getDimensions(), 
+                xyzPlot.getXAxis().getRange(), xyzPlot.getYAxis().getRange(),
+                xyzPlot.getZAxis().getRange() };
+    }
+    
+    /**
+     * Adds the items that have been appended to the plot's dataset since the
+     * world was last composed to the existing world.  This is only possible
+     * if the dimensions and the axis ranges for the plot are unchanged, 
+     * otherwise the method returns {@code false} and the world must be
+     * recomposed.
+     * 
+     * @return A boolean indicating whether or not the items were added. 
+     */
+    private boolean composeAppendedItems() {
+        if (!Arrays.equals(this.worldState, fetchWorldState())) {
+            return false;
+        }
+        XYZPlot xyzPlot = (XYZPlot) this.plot;
+        XYZDataset<?> dataset = xyzPlot.getDataset();
+        Dimension3D dim = xyzPlot.getDimensions();
+        for (Series3DChangeEvent event : this.pendingAppends) {
+            int seriesIndex = seriesIndex(dataset, appendedSeriesKey(event));
+            if (seriesIndex < 0 || event.getLastItemIndex() 
+                    >= dataset.getItemCount(seriesIndex)) {
+                return false;
+            }
+        }
+        for (Series3DChangeEvent event : this.pendingAppends) {
+            int seriesIndex = seriesIndex(dataset, appendedSeriesKey(event));
+            xyzPlot.composeItems(this.world, seriesIndex, 
+                    event.getFirstItemIndex(), event.getLastItemIndex(), 
+                    -dim.getWidth() / 2, -dim.getHeight() / 2, 
+                    -dim.getDepth() / 2);
+        }
+        this.pendingAppends.clear();
+        return true;
+    }
+    
+    /**
+     * Returns the series change event that is the source of a plot change 
+     * event if the event signals only that items have been appended to a 
+     * series in an XYZ plot whose renderer composes items individually.  In 
+     * all other cases this method returns {@code null}.
+     * 
+     * @param event  the plot change event ({@code null} not permitted).
+     * 
+     * @return The series change event (possibly {@code null}). 
+     */
+    private Series3DChangeEvent findSeriesAppend(Plot3DChangeEvent event) {
+        if (!(this.plot instanceof XYZPlot)) {
+            return null;
+        }
+        XYZPlot xyzPlot = (XYZPlot) this.plot;
+        if (xyzPlot.getRenderer().getComposeType() != ComposeType.PER_ITEM) {
+            return null;
+        }
+        if (!(event.getSource() instanceof Dataset3DChangeEvent)) {
+            return null;
+        }
+        Dataset3DChangeEvent de = (Dataset3DChangeEvent) event.getSource();
+        if (de.getDataset() != xyzPlot.getDataset() 
+                || !(de.getSource() instanceof Series3DChangeEvent)) {
+            return null;
+        }
+        Series3DChangeEvent se = (Series3DChangeEvent) de.getSource();
+        if (se.isAppend() && appendedSeriesKey(se) != null) {
+            return se;
+        }
+        return null;
+    }
+    
+    /**
+     * Returns the key of the series that is the subject of a series change
+     * event.  The source of the event is either the {@link XYZSeries} itself
+     * or (for datasets such as {@link XYZArrayDataset} that do not have 
+     * series objects) the series key.
+     * 
+     * @param event  the series change event ({@code null} not permitted).
+     * 
+     * @return The series key (possibly {@code null}). 
+     */
+    private Comparable<?> appendedSeriesKey(Series3DChangeEvent event) {
+        Object source = event.getSource();
+        if (source instanceof XYZSeries) {
+            return ((XYZSeries<?>) source).getKey();
+        }
+        if (source instanceof Comparable) {
+            return (Comparable<?>) source;
+        }
+        return null;
+    }
+    
+    /**
+     * Returns the index of the series with the specified key in the dataset,
+     * or {@code -1} if there is no such series.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param key  the series key ({@code null} permitted).
+     * 
+     * @return The series index. 
+     */
+    private static int seriesIndex(XYZDataset<?> dataset, Comparable<?> key) {
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            if (dataset.getSeriesKey(s).equals(key)) {
+                return s;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Draws the chart to the specified output target.  The chart is locked
+     * (on this instance) for the duration of the call, so code on other 
+     * threads that modifies the chart or its datasets while a rendering may 
+     * be in progress should synchronize on the chart as well.  The view point
+     * and the 2D offset are not guarded by that lock: the chart copies the 
+     * view point (while holding the lock on the {@link ViewPoint3D} instance)
+     * at the start of the rendering and draws from the copy, so code that 
+     * updates the view point in place should synchronize on the view point 
+     * only (and is never blocked by a rendering in progress).
      * 
      * @param g2  the output target ({@code null} not permitted).
      * 
      * @return Information about the items rendered.
      */
     @Override
-    public RenderingInfo draw(Graphics2D g2, Rectangle2D bounds) {
+    public synchronized RenderingInfo draw(Graphics2D g2, Rectangle2D bounds) {
+        Object frameHint = g2.getRenderingHint(Chart3DHints.KEY_FRAME);
+        ViewPoint3D vp;
+        Offset2D translate;
+        if (frameHint != null && frameHint == this.frame) {
+            // the later renderings of a frame use the view of the first one
+            vp = this.frameViewPoint;
+            translate = this.frameTranslate2D;
+        } else {
+            ViewPoint3D source = this.viewPoint;
+            synchronized (source) {
+                vp = new ViewPoint3D(source);
+            }
+            translate = this.translate2D;
+        }
         beginElement(g2, this.id, "ORSON_CHART_TOP_LEVEL");
         Shape savedClip = g2.getClip();
         g2.clip(bounds);
@@ -839,7 +1172,7 @@ public class Chart3D implements Drawable3D, ChartElement,
         ChartBox3D chartBox = null;
         if (this.plot instanceof XYZPlot 
                 || this.plot instanceof CategoryPlot3D) {
-            double[] tickUnits = findAxisTickUnits(g2, w, h, depth);
+            double[] tickUnits = findAxisTickUnits(g2, vp, w, h, depth);
             chartBox = new ChartBox3D(w, h, depth, -w / 2, -h / 2, -depth / 2, 
                     this.chartBoxColor);
             chartBox.setXTicks(fetchXTickData(this.plot, tickUnits[0]));
@@ -849,31 +1182,118 @@ public class Chart3D implements Drawable3D, ChartElement,
             chartBox.setYMarkers(fetchYMarkerData(this.plot));
             chartBox.setZMarkers(fetchZMarkerData(this.plot));
         }
-        if (this.world == null) {
-            this.world = createWorld(chartBox);
-        } else if (chartBox != null) {
-            this.world.clear("chartbox");
-            this.world.add("chartbox", chartBox.createObject3D());
+        boolean draft = Boolean.TRUE.equals(g2.getRenderingHint(
+                Chart3DHints.KEY_DRAFT));
+        World world;
+        if (draft) {
+            if (this.draftWorld == null) {
+                this.draftWorld = createWorld(chartBox, true);
+            } else if (chartBox != null) {
+                this.draftWorld.clear("chartbox");
+                this.draftWorld.add("chartbox", chartBox.createObject3D());
+            }
+            world = this.draftWorld;
+        } else {
+            if (this.world != null && this.pendingAppends != null 
+                    && !this.pendingAppends.isEmpty()) {
+                if (!composeAppendedItems()) {
+                    this.world = null;
+                }
+            }
+            if (this.world == null) {
+                this.world = createWorld(chartBox);
+                this.worldState = fetchWorldState();
+                if (this.pendingAppends != null) {
+                    this.pendingAppends.clear();
+                }
+            } else if (chartBox != null) {
+                this.world.clear("chartbox");
+                this.world.add("chartbox", chartBox.createObject3D());
+            }
+            world = this.world;
         }
         if (this.background != null) {
             this.background.fill(g2, bounds);
         }
         AffineTransform saved = g2.getTransform();
         double dx = bounds.getX() + bounds.getWidth() / 2.0 
-                + this.translate2D.getDX();
+                + translate.getDX();
         double dy = bounds.getY() + bounds.getHeight() / 2.0 
-                + this.translate2D.getDY();
+                + translate.getDY();
         g2.translate(dx, dy);
-        Point3D[] eyePts = this.world.calculateEyeCoordinates(this.viewPoint);
-        Point2D[] pts = this.world.calculateProjectedPoints(this.viewPoint, 
-                this.projDist);
+        if (frameHint == null || frameHint != this.frame 
+                || world != this.frameWorld) {
+            world.setParallel(this.parallelTransform);
+            this.eyePts = world.updateEyeCoordinates(vp, this.eyePts);
+            this.projPts = world.updateProjectedPoints(vp, this.projDist, 
+                    this.projPts);
+            this.frame = null;
+            this.frameWorld = null;
+            this.frameFaces = null;
+            this.frameViewPoint = null;
+            this.frameTranslate2D = null;
+            if (frameHint != null) {
+                // the first rendering of a frame: sort the faces that lie
+                // within the full bounds, so that the later renderings 
+                // (with a different clip) can reuse the projection and the
+                // sorted faces
+                Rectangle2D frameBounds = new Rectangle2D.Double(
+                        bounds.getX() - dx, bounds.getY() - dy, 
+                        bounds.getWidth(), bounds.getHeight());
+                List<Face> faces = FaceCuller.cull(world.getFaces(), 
+                        this.eyePts, this.projPts, frameBounds);
+                this.frameFaces = this.faceSorter.sort(faces, this.eyePts);
+                this.frame = frameHint;
+                this.frameWorld = world;
+                this.frameViewPoint = vp;
+                this.frameTranslate2D = translate;
+            }
+        }
+        Point3D[] eyePts = this.eyePts;
+        Point2D[] pts = this.projPts;
+        
+        // discard faces that can't be seen, then sort by z-order (culling
+        // preserves the order, so the faces sorted for a frame are reused)
+        List<Face> facesInPaintOrder;
+        if (this.frameFaces != null) {
+            facesInPaintOrder = FaceCuller.cull(this.frameFaces, eyePts, pts,
+                    g2.getClipBounds());
+        } else {
+            facesInPaintOrder = FaceCuller.cull(world.getFaces(), eyePts, 
+                    pts, g2.getClipBounds());
+            facesInPaintOrder = this.faceSorter.sort(facesInPaintOrder, 
+                    eyePts);
+        }
         
-        // sort faces by z-order
-        List<Face> facesInPaintOrder = new ArrayList<Face>(world.getFaces());
-        facesInPaintOrder = this.faceSorter.sort(facesInPaintOrder, eyePts);
+        // the light source is fixed relative to the viewer, so express it
+        // in world coordinates once and shade using the world face normals
+        Point3D sun = vp.eyeToWorldDirection(world.getSunX(), 
+                world.getSunY(), world.getSunZ());
+        if (this.shadedColors == null) {
+            this.shadedColors = new ShadedColorCache();
+        }
         Line2D line = null;
         Stroke stroke = new BasicStroke(1.0f);
         for (Face f : facesInPaintOrder) {
+            if (draft && f instanceof LabelFace) {
+                continue;
+            }
+            // check for the special case where the face is just a point
+            if (f.getVertexCount() == 1) {
+                g2.setPaint(f.getColor());
+                Point2D pt = pts[f.getVertexIndex(0)];
+                if (f instanceof PointFace) {
+                    g2.translate(pt.getX(), pt.getY());
+                    g2.fill(((PointFace) f).getGlyph());
+                    g2.translate(-pt.getX(), -pt.getY());
+                } else {
+                    g2.fill(new Rectangle2D.Double(
+                            pt.getX() - POINT_SIZE / 2.0, 
+                            pt.getY() - POINT_SIZE / 2.0, 
+                            POINT_SIZE, POINT_SIZE));
+                }
+                continue;
+            }
             // check for the special case where the face is just a line
             if (f.getVertexCount() == 2) {
                 g2.setPaint(f.getColor());
@@ -889,18 +1309,15 @@ public class Chart3D implements Drawable3D, ChartElement,
                 continue;
             }
             boolean drawOutline = f.getOutline();
-            double[] plane = f.calculateNormal(eyePts);
-            double inprod = plane[0] * world.getSunX() + plane[1]
-                    * world.getSunY() + plane[2] * world.getSunZ();
-            double shade = (inprod + 1) / 2.0;
             if (f instanceof DoubleSidedFace 
                     || Utils2D.area2(pts[f.getVertexIndex(0)],
                     pts[f.getVertexIndex(1)], pts[f.getVertexIndex(2)]) > 0.0) {
-                Color c = f.getColor();
+                double[] n = f.getNormal();
+                double inprod = n[0] * sun.x + n[1] * sun.y + n[2] * sun.z;
+                double shade = (inprod + 1) / 2.0;
                 Path2D p = f.createPath(pts);
-                g2.setPaint(new Color((int) (c.getRed() * shade),
-                        (int) (c.getGreen() * shade),
-                        (int) (c.getBlue() * shade), c.getAlpha()));
+                g2.setPaint(this.shadedColors.getShadedColor(f.getColor(), 
+                        shade));
                 if (this.elementHinting) {
                     beginElementGroup(f, g2);
                 }
@@ -943,9 +1360,9 @@ public class Chart3D implements Drawable3D, ChartElement,
         OnDrawHandler onDrawHandler = new OnDrawHandler(info, 
                 this.elementHinting);
    
-        // handle labels on pie plots...
-        if (this.plot instanceof PiePlot3D) {
-            drawPieLabels(g2, w, h, depth, info);
+        // handle labels on pie plots (skipped for a draft)...
+        if (this.plot instanceof PiePlot3D && !draft) {
+            drawPieLabels(g2, vp, w, h, depth, info);
         }
 
         // handle axis labelling on non-pie plots...
@@ -956,43 +1373,75 @@ public class Chart3D implements Drawable3D, ChartElement,
 
         g2.setTransform(saved);
         
-        // generate and draw the legend...
+        // generate (or reuse) and draw the legend...
         if (this.legendBuilder != null) {
-            TableElement legend = this.legendBuilder.createLegend(this.plot,
-                    this.legendAnchor, this.legendOrientation, this.style);
-            if (legend != null) {
-                Dimension2D legendSize = legend.preferredSize(g2, bounds);
-                Rectangle2D legendArea = calculateDrawArea(legendSize, 
-                        this.legendAnchor, bounds);
-                legend.draw(g2, legendArea, onDrawHandler);
+            if (!this.legendValid) {
+                this.legend = this.legendBuilder.createLegend(this.plot,
+                        this.legendAnchor, this.legendOrientation, this.style);
+                this.legendLayout = null;
+                this.legendValid = true;
+            }
+            if (this.legend != null) {
+                this.legendLayout = ElementLayout.measure(this.legend, 
+                        this.legendLayout, g2, bounds);
+                Rectangle2D legendArea = calculateDrawArea(
+                        this.legendLayout.size, this.legendAnchor, bounds);
+                this.legend.draw(g2, legendArea, onDrawHandler);
             }
         }
 
         // draw the title...
         if (this.title != null) {
-            Dimension2D titleSize = this.title.preferredSize(g2, bounds);
-            Rectangle2D titleArea = calculateDrawArea(titleSize, 
+            this.titleLayout = ElementLayout.measure(this.title, 
+                    this.titleLayout, g2, bounds);
+            Rectangle2D titleArea = calculateDrawArea(this.titleLayout.size, 
                     this.titleAnchor, bounds);
             this.title.draw(g2, titleArea, onDrawHandler);
         }
         g2.setClip(savedClip);
         endElement(g2);
+        this.elementHints = null;
         return info;
     }
     
-    private void beginElementGroup(Face face, Graphics2D g2) {
+    /**
+     * Returns the key for the data item that the face belongs to (this is
+     * the {@link Object3D#ITEM_KEY} property of the face's owner, except for 
+     * meshes that hold many items).
+     * 
+     * @param face  the face.
+     * 
+     * @return The item key (possibly {@code null}). 
+     */
+    private static ItemKey itemKeyFor(Face face) {
         Object3D owner = face.getOwner();
-        ItemKey itemKey = (ItemKey) owner.getProperty(Object3D.ITEM_KEY);
+        if (owner instanceof IndexedMesh3D) {
+            return (ItemKey) ((IndexedMesh3D) owner).getItemKey(face);
+        }
+        return (ItemKey) owner.getProperty(Object3D.ITEM_KEY);
+    }
+    
+    private void beginElementGroup(Face face, Graphics2D g2) {
+        ItemKey itemKey = itemKeyFor(face);
         if (itemKey != null) {
-            Map<String, String> m = new HashMap<String, String>();
-            m.put("ref", itemKey.toJSONString());
+            // a data item typically has several faces, so the hint (with 
+            // the item key in JSON format) is created once for each item
+            if (this.elementHints == null) {
+                this.elementHints 
+                        = new HashMap<ItemKey, Map<String, String>>();
+            }
+            Map<String, String> m = this.elementHints.get(itemKey);
+            if (m == null) {
+                m = new HashMap<String, String>();
+                m.put("ref", itemKey.toJSONString());
+                this.elementHints.put(itemKey, m);
+            }
             g2.setRenderingHint(Chart3DHints.KEY_BEGIN_ELEMENT, m);
         }
     }
     
     private void endElementGroup(Face face, Graphics2D g2) {
-        Object3D owner = face.getOwner();
-        ItemKey itemKey = (ItemKey) owner.getProperty(Object3D.ITEM_KEY);
+        ItemKey itemKey = itemKeyFor(face);
         if (itemKey != null) {
             g2.setRenderingHint(Chart3DHints.KEY_END_ELEMENT, Boolean.TRUE);
         }
@@ -1363,22 +1812,23 @@ public class Chart3D implements Drawable3D, ChartElement,
      * projecting the points to 2D-space.
      * 
      * @param g2  the graphics target.
+     * @param vp  the view point.
      * @param w  the width.
      * @param h  the height.
      * @param depth  the depth.
      * @param info  the rendering info ({@code null} permitted).
      */
     @SuppressWarnings("unchecked")
-    private void drawPieLabels(Graphics2D g2, double w, double h, 
-            double depth, RenderingInfo info) {
+    private void drawPieLabels(Graphics2D g2, ViewPoint3D vp, double w, 
+            double h, double depth, RenderingInfo info) {
         PiePlot3D p = (PiePlot3D) this.plot;
         World labelOverlay = new World();
         List<Object3D> objs = p.getLabelFaces(-w / 2, -h / 2, -depth / 2);
         for (Object3D obj : objs) {
             labelOverlay.add(obj);
         }
-        Point2D[] ppts = labelOverlay.calculateProjectedPoints(
-                this.viewPoint, this.projDist);
+        Point2D[] ppts = labelOverlay.calculateProjectedPoints(vp, 
+                this.projDist);
         for (int i = 0; i < p.getDataset().getItemCount() * 2; i++) {
             if (p.getDataset().getValue(i / 2) == null) {
                 continue;
@@ -1438,20 +1888,21 @@ public class Chart3D implements Drawable3D, ChartElement,
      * Determines appropriate tick units for the axes in the chart.
      * 
      * @param g2  the graphics target.
+     * @param vp  the view point.
      * @param w  the width.
      * @param h  the height.
      * @param depth  the depth.
      * 
      * @return The tick sizes. 
      */
-    private double[] findAxisTickUnits(Graphics2D g2, double w, double h, 
-            double depth) {
+    private double[] findAxisTickUnits(Graphics2D g2, ViewPoint3D vp, 
+            double w, double h, double depth) {
         World tempWorld = new World();
         ChartBox3D chartBox = new ChartBox3D(w, h, depth, -w / 2.0, -h / 2.0, 
                 -depth / 2.0, Color.WHITE);
         tempWorld.add(chartBox.createObject3D());
-        Point2D[] axisPts2D = tempWorld.calculateProjectedPoints(
-                this.viewPoint, this.projDist);
+        Point2D[] axisPts2D = tempWorld.calculateProjectedPoints(vp, 
+                this.projDist);
 
         // vertices
         Point2D v0 = axisPts2D[0];
@@ -1799,6 +2250,10 @@ public class Chart3D implements Drawable3D, ChartElement,
     public void receive(ChartElementVisitor visitor) {
         this.plot.receive(visitor);
         visitor.visit(this);
+        // the visitor may have modified the title, and the legend is built
+        // using the chart style
+        this.titleLayout = null;
+        invalidateLegend();
     }
 
     /**
@@ -1946,8 +2401,22 @@ public class Chart3D implements Drawable3D, ChartElement,
      */
     @Override
     public void plotChanged(Plot3DChangeEvent event) {
-        if (event.requiresWorldUpdate()) {
-            this.world = null;
+        synchronized (this) {
+            if (event.requiresWorldUpdate()) {
+                Series3DChangeEvent append = findSeriesAppend(event);
+                if (append != null && this.world != null) {
+                    if (this.pendingAppends == null) {
+                        this.pendingAppends 
+                                = new ArrayList<Series3DChangeEvent>();
+                    }
+                    this.pendingAppends.add(append);
+                } else {
+                    this.world = null;
+                }
+                this.draftWorld = null;
+            }
+            // the legend items are derived from the plot
+            invalidateLegend();
         }
         notifyListeners(new Chart3DChangeEvent(event, this));
     }
@@ -2024,10 +2493,24 @@ public class Chart3D implements Drawable3D, ChartElement,
         // if the flag is being set to true, there may be queued up changes...
         if (notify) {
             this.world = null;
+            this.draftWorld = null;
+            this.titleLayout = null;
+            invalidateLegend();
             fireChangeEvent();
         }
     }
   
+    /**
+     * Discards the legend (and its measured size) from the most recent 
+     * rendering so that it is created again the next time the chart is 
+     * drawn.
+     */
+    private void invalidateLegend() {
+        this.legend = null;
+        this.legendLayout = null;
+        this.legendValid = false;
+    }
+
     /**
      * Sends a {@link Chart3DChangeEvent} to all registered listeners.
      */
@@ -2116,4 +2599,55 @@ public class Chart3D implements Drawable3D, ChartElement,
         }
     }
 
+    /**
+     * The preferred size of a title or legend element, as measured for a 
+     * given drawing area and font render context.  Within a sequence of 
+     * renderings (rotating the chart, for example) these are unchanged, so
+     * the measurement can be reused.
+     */
+    private static final class ElementLayout {
+        
+        /** The element that was measured. */
+        private final TableElement element;
+
+        /** The bounds that the element was measured against. */
+        private final Rectangle2D bounds;
+        
+        /** The font render context that the element was measured with. */
+        private final FontRenderContext frc;
+        
+        /** The preferred size of the element. */
+        private final Dimension2D size;
+        
+        private ElementLayout(TableElement element, Rectangle2D bounds, 
+                FontRenderContext frc, Dimension2D size) {
+            this.element = element;
+            this.bounds = (Rectangle2D) bounds.clone();
+            this.frc = frc;
+            this.size = size;
+        }
+        
+        /**
+         * Returns the layout for an element, reusing {@code cached} if it 
+         * was measured for the same element, bounds and font render context.
+         * 
+         * @param element  the element ({@code null} not permitted).
+         * @param cached  the previous layout ({@code null} permitted).
+         * @param g2  the graphics target ({@code null} not permitted).
+         * @param bounds  the drawing area ({@code null} not permitted).
+         * 
+         * @return The layout (never {@code null}). 
+         */
+        static ElementLayout measure(TableElement element, 
+                ElementLayout cached, Graphics2D g2, Rectangle2D bounds) {
+            FontRenderContext frc = g2.getFontRenderContext();
+            if (cached != null && cached.element == element 
+                    && cached.bounds.equals(bounds) && cached.frc.equals(frc)) {
+                return cached;
+            }
+            return new ElementLayout(element, bounds, frc, 
+                    element.preferredSize(g2, bounds));
+        }
+    }
+
 }
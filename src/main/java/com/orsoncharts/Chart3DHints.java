@@ -62,6 +62,30 @@ public final class Chart3DHints {
      */
     public static final Key KEY_END_ELEMENT = new Chart3DHints.Key(1);
     
+    /**
+     * The key for a hint that requests a draft (reduced detail) rendering of 
+     * the chart, typically used to keep the display responsive while the 
+     * user is rotating or zooming the view.  The value should be a 
+     * {@code Boolean}.
+     * 
+     * @since 1.7
+     */
+    public static final Key KEY_DRAFT = new Chart3DHints.Key(2);
+    
+    /**
+     * The key for a hint that identifies a sequence of renderings of the 
+     * same frame (for example, the tiles of a large image).  When 
+     * consecutive calls to {@code draw()} carry the same (non-{@code null})
+     * value, the chart projects and sorts the faces on the first call only 
+     * and reuses the result for the others, so the caller must make sure 
+     * that the chart is not modified between the calls (for example, by 
+     * holding the lock on the chart).  The value can be any object that 
+     * is unique to the sequence.
+     * 
+     * @since 1.7
+     */
+    public static final Key KEY_FRAME = new Chart3DHints.Key(3);
+    
     /**
      * A key for rendering hints that can be used with Orson Charts (in 
      * addition to the regular Java2D rendering hints).
@@ -93,6 +117,10 @@ public final class Chart3DHints {
                             || val instanceof Map;
                 case 1:
                     return val == null || val instanceof Object;
+                case 2:
+                    return val == null || val instanceof Boolean;
+                case 3:
+                    return true;
                 default:
                     throw new RuntimeException("Not possible!");
             }
@@ -0,0 +1,788 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import com.orsoncharts.Range;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.data.xyz.XYZArrayDataset;
+import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * Utility methods for reading and writing datasets ({@link XYZDataset}, 
+ * {@link KeyedValues3D} and {@link PieDataset3D}) in a compact binary 
+ * format.  This is much faster to read and write than the JSON format 
+ * supported by {@link JSONUtils} and the data is roughly three times 
+ * smaller, so it is better suited to moving large datasets between 
+ * processes.
+ * <br><br>
+ * All numbers are stored in little-endian byte order.  Each dataset starts 
+ * with a header containing a 16 byte preamble (a magic number, the format 
+ * version, the dataset type and the length of the header), the dimensions 
+ * of the dataset, and a dictionary of the keys (written as UTF-8 strings). 
+ * The header is padded to a multiple of 8 bytes and is followed by the data 
+ * values, stored as columns of doubles.  For an {@link XYZDataset}, the 
+ * header also records the ranges of the x, y and z-values, and the data 
+ * consists of the x, y and z columns for each series in turn.  For 
+ * {@link KeyedValues3D} and {@link PieDataset3D} instances, the values are 
+ * preceded by a bitmap that records which values are non-{@code null}.
+ * <br><br>
+ * Keys are written using their {@code toString()} method and read back as
+ * strings, in the same way as for {@link JSONUtils}.
+ * <br><br>
+ * A file containing an {@link XYZDataset} in this format can also be used
+ * in place, without loading it into memory, with {@link MappedXYZDataset}.
+ * 
+ * @since 1.7
+ */
+public class BinaryUtils {
+
+    /** The magic number at the start of the data ("OSCD"). */
+    static final int MAGIC = 0x4443534F;
+    
+    /** The current format version. */
+    static final int VERSION = 1;
+    
+    /** The type code for an {@link XYZDataset}. */
+    static final int TYPE_XYZ = 1;
+    
+    /** The type code for a {@link KeyedValues3D}. */
+    static final int TYPE_KEYED_VALUES_3D = 2;
+    
+    /** The type code for a {@link PieDataset3D}. */
+    static final int TYPE_PIE = 3;
+    
+    /** The length of the preamble at the start of the header. */
+    static final int PREAMBLE_LENGTH = 16;
+    
+    /** The size of the buffer used to transfer values to a channel. */
+    private static final int BUFFER_SIZE = 65536;
+    
+    /** The character set for keys. */
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    
+    private BinaryUtils() {
+        // no need to instantiate this class
+    }
+    
+    /**
+     * Writes an {@link XYZDataset} to a channel in binary format.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param channel  the channel ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeXYZDataset(XYZDataset dataset, 
+            WritableByteChannel channel) throws IOException {
+        ArgChecks.nullNotPermitted(dataset, "dataset");
+        ArgChecks.nullNotPermitted(channel, "channel");
+        int seriesCount = dataset.getSeriesCount();
+        List<byte[]> keys = encodeKeys(dataset.getSeriesKeys());
+        int headerLength = align(PREAMBLE_LENGTH + 8 + 48 + 8 * seriesCount 
+                + dictionaryLength(keys));
+        ByteBuffer header = createHeader(TYPE_XYZ, headerLength);
+        header.putInt(seriesCount);
+        header.putInt(0);
+        putRange(header, DataUtils.findXRange(dataset));
+        putRange(header, DataUtils.findYRange(dataset));
+        putRange(header, DataUtils.findZRange(dataset));
+        for (int s = 0; s < seriesCount; s++) {
+            header.putLong(dataset.getItemCount(s));
+        }
+        putKeys(header, keys);
+        header.clear();
+        writeFully(channel, header);
+        
+        ByteBuffer buffer = createBuffer(BUFFER_SIZE);
+        for (int s = 0; s < seriesCount; s++) {
+            for (int col = 0; col < 3; col++) {
+                writeColumn(dataset, s, col, buffer, channel);
+            }
+        }
+    }
+    
+    /**
+     * Reads an {@link XYZDataset} in binary format from a channel.
+     * 
+     * @param channel  the channel ({@code null} not permitted).
+     * 
+     * @return The dataset (never {@code null}).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public static XYZArrayDataset<String> readXYZDataset(
+            ReadableByteChannel channel) throws IOException {
+        ArgChecks.nullNotPermitted(channel, "channel");
+        ByteBuffer b = readHeader(channel, TYPE_XYZ);
+        b.rewind();
+        XYZHeader header = new XYZHeader(b);
+        XYZArrayDataset<String> result = new XYZArrayDataset<String>();
+        ByteBuffer buffer = createBuffer(BUFFER_SIZE);
+        for (int s = 0; s < header.keys.size(); s++) {
+            int n = header.itemCount(s);
+            double[] xs = readColumn(channel, buffer, n);
+            double[] ys = readColumn(channel, buffer, n);
+            double[] zs = readColumn(channel, buffer, n);
+            result.addSeries(header.keys.get(s), xs, ys, zs);
+        }
+        return result;
+    }
+
+    /**
+     * Reads an {@link XYZDataset} in binary format from a buffer, starting
+     * at the buffer's current position.  The values are copied from the 
+     * buffer with bulk transfers (there is no parsing of individual values).
+     * 
+     * @param buffer  the buffer ({@code null} not permitted).
+     * 
+     * @return The dataset (never {@code null}).
+     */
+    public static XYZArrayDataset<String> readXYZDataset(ByteBuffer buffer) {
+        ArgChecks.nullNotPermitted(buffer, "buffer");
+        ByteBuffer b = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        XYZHeader header = new XYZHeader(b);
+        b.position(header.headerLength);
+        XYZArrayDataset<String> result = new XYZArrayDataset<String>();
+        for (int s = 0; s < header.keys.size(); s++) {
+            int n = header.itemCount(s);
+            double[] xs = new double[n];
+            double[] ys = new double[n];
+            double[] zs = new double[n];
+            b.asDoubleBuffer().get(xs);
+            b.position(b.position() + n * 8);
+            b.asDoubleBuffer().get(ys);
+            b.position(b.position() + n * 8);
+            b.asDoubleBuffer().get(zs);
+            b.position(b.position() + n * 8);
+            result.addSeries(header.keys.get(s), xs, ys, zs);
+        }
+        return result;
+    }
+    
+    /**
+     * Reads an {@link XYZDataset} in binary format from a file.  The file
+     * is memory-mapped, so the operating system transfers the data directly 
+     * from the file into the arrays that back the dataset.
+     * 
+     * @param file  the file ({@code null} not permitted).
+     * 
+     * @return The dataset (never {@code null}).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public static XYZArrayDataset<String> readXYZDataset(File file) 
+            throws IOException {
+        ArgChecks.nullNotPermitted(file, "file");
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            return readXYZDataset(channel.map(FileChannel.MapMode.READ_ONLY, 
+                    0, channel.size()));
+        } finally {
+            raf.close();
+        }
+    }
+    
+    /**
+     * Writes a {@link KeyedValues3D} instance to a channel in binary format.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param channel  the channel ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeKeyedValues3D(KeyedValues3D dataset, 
+            WritableByteChannel channel) throws IOException {
+        ArgChecks.nullNotPermitted(dataset, "dataset");
+        ArgChecks.nullNotPermitted(channel, "channel");
+        List<byte[]> seriesKeys = encodeKeys(dataset.getSeriesKeys());
+        List<byte[]> rowKeys = encodeKeys(dataset.getRowKeys());
+        List<byte[]> columnKeys = encodeKeys(dataset.getColumnKeys());
+        int headerLength = align(PREAMBLE_LENGTH + 16 
+                + dictionaryLength(seriesKeys) + dictionaryLength(rowKeys) 
+                + dictionaryLength(columnKeys));
+        ByteBuffer header = createHeader(TYPE_KEYED_VALUES_3D, headerLength);
+        header.putInt(seriesKeys.size());
+        header.putInt(rowKeys.size());
+        header.putInt(columnKeys.size());
+        header.putInt(0);
+        putKeys(header, seriesKeys);
+        putKeys(header, rowKeys);
+        putKeys(header, columnKeys);
+        header.clear();
+        writeFully(channel, header);
+        
+        final int rows = rowKeys.size();
+        final int columns = columnKeys.size();
+        final KeyedValues3D data = dataset;
+        writeValues(new Values<Number>() {
+            @Override
+            public int getItemCount() {
+                return data.getSeriesCount() * rows * columns;
+            }
+
+            @Override
+            public Number getValue(int item) {
+                int s = item / (rows * columns);
+                int r = (item / columns) % rows;
+                int c = item % columns;
+                return (Number) data.getValue(s, r, c);
+            }
+
+            @Override
+            public double getDoubleValue(int item) {
+                Number n = getValue(item);
+                return n != null ? n.doubleValue() : Double.NaN;
+            }
+        }, channel);
+    }
+    
+    /**
+     * Reads a {@link KeyedValues3D} instance in binary format from a 
+     * channel.
+     * 
+     * @param channel  the channel ({@code null} not permitted).
+     * 
+     * @return The dataset (never {@code null}).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public static KeyedValues3D<String, String, String, Number> 
+            readKeyedValues3D(ReadableByteChannel channel) 
+            throws IOException {
+        ArgChecks.nullNotPermitted(channel, "channel");
+        ByteBuffer header = readHeader(channel, TYPE_KEYED_VALUES_3D);
+        int seriesCount = header.getInt();
+        int rowCount = header.getInt();
+        int columnCount = header.getInt();
+        header.getInt();
+        List<String> seriesKeys = getKeys(header, seriesCount);
+        List<String> rowKeys = getKeys(header, rowCount);
+        List<String> columnKeys = getKeys(header, columnCount);
+        long count = (long) seriesCount * rowCount * columnCount;
+        if (count > Integer.MAX_VALUE) {
+            throw new RuntimeException("Too many values: " + count);
+        }
+        Number[] values = readValues(channel, (int) count);
+        StandardCategoryDataset3D<String, String, String> result 
+                = new StandardCategoryDataset3D<String, String, String>();
+        result.setNotify(false);
+        int i = 0;
+        for (String s : seriesKeys) {
+            for (String r : rowKeys) {
+                for (String c : columnKeys) {
+                    result.setValue(values[i++], s, r, c);
+                }
+            }
+        }
+        result.setNotify(true);
+        return result;
+    }
+    
+    /**
+     * Writes a {@link PieDataset3D} to a channel in binary format.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param channel  the channel ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writePieDataset3D(PieDataset3D<?> dataset, 
+            WritableByteChannel channel) throws IOException {
+        ArgChecks.nullNotPermitted(dataset, "dataset");
+        ArgChecks.nullNotPermitted(channel, "channel");
+        List<byte[]> keys = encodeKeys(dataset.getKeys());
+        int headerLength = align(PREAMBLE_LENGTH + 8 + dictionaryLength(keys));
+        ByteBuffer header = createHeader(TYPE_PIE, headerLength);
+        header.putInt(keys.size());
+        header.putInt(0);
+        putKeys(header, keys);
+        header.clear();
+        writeFully(channel, header);
+        writeValues(dataset, channel);
+    }
+    
+    /**
+     * Reads a {@link PieDataset3D} in binary format from a channel.
+     * 
+     * @param channel  the channel ({@code null} not permitted).
+     * 
+     * @return The dataset (never {@code null}).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public static PieDataset3D<String> readPieDataset3D(
+            ReadableByteChannel channel) throws IOException {
+        ArgChecks.nullNotPermitted(channel, "channel");
+        ByteBuffer header = readHeader(channel, TYPE_PIE);
+        int itemCount = header.getInt();
+        header.getInt();
+        List<String> keys = getKeys(header, itemCount);
+        Number[] values = readValues(channel, itemCount);
+        StandardPieDataset3D<String> result 
+                = new StandardPieDataset3D<String>();
+        result.setNotify(false);
+        for (int i = 0; i < itemCount; i++) {
+            result.add(keys.get(i), values[i]);
+        }
+        result.setNotify(true);
+        return result;
+    }
+    
+    /**
+     * The header for an {@link XYZDataset} in binary format.
+     */
+    static final class XYZHeader {
+        
+        /** The length of the header in bytes. */
+        final int headerLength;
+        
+        /** The series keys. */
+        final List<String> keys;
+        
+        /** The item count for each series. */
+        final long[] itemCounts;
+        
+        /** 
+         * The x, y and z-ranges (minimum then maximum for each, 
+         * {@code Double.NaN} if there is no range).
+         */
+        final double[] bounds;
+        
+        /**
+         * Reads the header from a buffer positioned at the start of the 
+         * header.  On return, the buffer is positioned at the end of the 
+         * key dictionary.
+         * 
+         * @param b  the buffer ({@code null} not permitted).
+         */
+        XYZHeader(ByteBuffer b) {
+            this.headerLength = checkPreamble(b, TYPE_XYZ);
+            int seriesCount = b.getInt();
+            b.getInt();
+            this.bounds = new double[6];
+            for (int i = 0; i < 6; i++) {
+                this.bounds[i] = b.getDouble();
+            }
+            this.itemCounts = new long[seriesCount];
+            for (int s = 0; s < seriesCount; s++) {
+                this.itemCounts[s] = b.getLong();
+            }
+            this.keys = getKeys(b, seriesCount);
+        }
+        
+        /**
+         * Returns the item count for a series.
+         * 
+         * @param series  the series index.
+         * 
+         * @return The item count. 
+         */
+        int itemCount(int series) {
+            long n = this.itemCounts[series];
+            if (n > Integer.MAX_VALUE / 8) {
+                throw new RuntimeException("Series " + this.keys.get(series) 
+                        + " has too many items: " + n);
+            }
+            return (int) n;
+        }
+        
+        /**
+         * Returns the range stored in the header for the x, y or z-values.
+         * 
+         * @param dim  the dimension (0 for x, 1 for y, 2 for z).
+         * 
+         * @return The range (possibly {@code null}). 
+         */
+        Range getRange(int dim) {
+            double min = this.bounds[dim * 2];
+            double max = this.bounds[dim * 2 + 1];
+            if (Double.isNaN(min) || Double.isNaN(max)) {
+                return null;
+            }
+            return new Range(min, max);
+        }
+        
+    }
+    
+    /**
+     * Returns the value rounded up to a multiple of 8.
+     * 
+     * @param n  the value.
+     * 
+     * @return The aligned value. 
+     */
+    static int align(int n) {
+        return (n + 7) & ~7;
+    }
+    
+    /**
+     * Creates a little-endian heap buffer with the specified capacity.
+     * 
+     * @param capacity  the capacity.
+     * 
+     * @return The buffer. 
+     */
+    private static ByteBuffer createBuffer(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    /**
+     * Creates a buffer for a header of the specified length, and writes the
+     * preamble to it.
+     * 
+     * @param type  the dataset type.
+     * @param headerLength  the header length (a multiple of 8).
+     * 
+     * @return The buffer (positioned after the preamble).
+     */
+    private static ByteBuffer createHeader(int type, int headerLength) {
+        ByteBuffer header = createBuffer(headerLength);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(type);
+        header.putInt(headerLength);
+        return header;
+    }
+    
+    /**
+     * Reads the preamble from the buffer and checks that it describes a 
+     * dataset of the expected type.
+     * 
+     * @param b  the buffer (positioned at the start of the preamble).
+     * @param type  the expected dataset type.
+     * 
+     * @return The length of the header.
+     */
+    static int checkPreamble(ByteBuffer b, int type) {
+        if (b.remaining() < PREAMBLE_LENGTH || b.getInt() != MAGIC) {
+            throw new RuntimeException("The input is not a binary dataset.");
+        }
+        int version = b.getInt();
+        if (version > VERSION) {
+            throw new RuntimeException("Unsupported format version: " 
+                    + version);
+        }
+        int actualType = b.getInt();
+        if (actualType != type) {
+            throw new RuntimeException("Expected dataset type " + type 
+                    + " but found " + actualType + ".");
+        }
+        int headerLength = b.getInt();
+        if (headerLength < PREAMBLE_LENGTH || headerLength % 8 != 0) {
+            throw new RuntimeException("Invalid header length: " 
+                    + headerLength);
+        }
+        return headerLength;
+    }
+    
+    /**
+     * Reads a complete header from the channel.
+     * 
+     * @param channel  the channel.
+     * @param type  the expected dataset type.
+     * 
+     * @return A buffer containing the header, positioned after the preamble.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static ByteBuffer readHeader(ReadableByteChannel channel, 
+            int type) throws IOException {
+        ByteBuffer preamble = createBuffer(PREAMBLE_LENGTH);
+        readFully(channel, preamble);
+        preamble.flip();
+        int headerLength = checkPreamble(preamble, type);
+        ByteBuffer header = createBuffer(headerLength);
+        preamble.flip();
+        header.put(preamble);
+        readFully(channel, header);
+        header.flip();
+        header.position(PREAMBLE_LENGTH);
+        return header;
+    }
+    
+    /**
+     * Writes the range to the buffer as two doubles ({@code Double.NaN} 
+     * for a {@code null} range).
+     * 
+     * @param b  the buffer.
+     * @param range  the range ({@code null} permitted).
+     */
+    private static void putRange(ByteBuffer b, Range range) {
+        b.putDouble(range != null ? range.getMin() : Double.NaN);
+        b.putDouble(range != null ? range.getMax() : Double.NaN);
+    }
+    
+    /**
+     * Encodes a list of keys as UTF-8 strings.
+     * 
+     * @param keys  the keys.
+     * 
+     * @return The encoded keys. 
+     */
+    private static List<byte[]> encodeKeys(List<?> keys) {
+        List<byte[]> result = new ArrayList<byte[]>(keys.size());
+        for (Object key : keys) {
+            result.add(key.toString().getBytes(UTF8));
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the number of bytes required to store the encoded keys.
+     * 
+     * @param keys  the encoded keys.
+     * 
+     * @return The length in bytes. 
+     */
+    private static int dictionaryLength(List<byte[]> keys) {
+        int result = 4;
+        for (byte[] key : keys) {
+            result += 4 + key.length;
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the encoded keys to the buffer.
+     * 
+     * @param b  the buffer.
+     * @param keys  the encoded keys.
+     */
+    private static void putKeys(ByteBuffer b, List<byte[]> keys) {
+        b.putInt(keys.size());
+        for (byte[] key : keys) {
+            b.putInt(key.length);
+            b.put(key);
+        }
+    }
+    
+    /**
+     * Reads a key dictionary from the buffer.
+     * 
+     * @param b  the buffer.
+     * @param expectedCount  the expected number of keys.
+     * 
+     * @return The keys. 
+     */
+    static List<String> getKeys(ByteBuffer b, int expectedCount) {
+        int count = b.getInt();
+        if (count != expectedCount) {
+            throw new RuntimeException("Expected " + expectedCount 
+                    + " keys but found " + count + ".");
+        }
+        List<String> result = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[b.getInt()];
+            b.get(bytes);
+            result.add(new String(bytes, UTF8));
+        }
+        return result;
+    }
+    
+    /**
+     * Writes one column (x, y or z) of a series to the channel.
+     * 
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param col  the column (0 for x, 1 for y, 2 for z).
+     * @param buffer  a buffer for transferring data to the channel.
+     * @param channel  the channel.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeColumn(XYZDataset dataset, int series, int col, 
+            ByteBuffer buffer, WritableByteChannel channel) 
+            throws IOException {
+        double[] values = null;
+        if (dataset instanceof XYZArrayDataset) {
+            XYZArrayDataset d = (XYZArrayDataset) dataset;
+            values = col == 0 ? d.getXValues(series) : col == 1 
+                    ? d.getYValues(series) : d.getZValues(series);
+        }
+        int count = dataset.getItemCount(series);
+        int i = 0;
+        while (i < count) {
+            int n = Math.min(count - i, buffer.capacity() / 8);
+            buffer.clear();
+            if (values != null) {
+                buffer.asDoubleBuffer().put(values, i, n);
+            } else {
+                for (int k = 0; k < n; k++) {
+                    double v = col == 0 ? dataset.getX(series, i + k) 
+                            : col == 1 ? dataset.getY(series, i + k) 
+                            : dataset.getZ(series, i + k);
+                    buffer.putDouble(k * 8, v);
+                }
+            }
+            buffer.limit(n * 8);
+            writeFully(channel, buffer);
+            i += n;
+        }
+    }
+    
+    /**
+     * Reads a column of values from the channel.
+     * 
+     * @param channel  the channel.
+     * @param buffer  a buffer for transferring data from the channel.
+     * @param count  the number of values.
+     * 
+     * @return The values.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static double[] readColumn(ReadableByteChannel channel, 
+            ByteBuffer buffer, int count) throws IOException {
+        double[] result = new double[count];
+        int i = 0;
+        while (i < count) {
+            int n = Math.min(count - i, buffer.capacity() / 8);
+            buffer.clear();
+            buffer.limit(n * 8);
+            readFully(channel, buffer);
+            buffer.flip();
+            buffer.asDoubleBuffer().get(result, i, n);
+            i += n;
+        }
+        return result;
+    }
+    
+    /**
+     * Writes a sequence of (possibly {@code null}) values to the channel, as
+     * a bitmap of the non-{@code null} values (padded to a multiple of 8 
+     * bytes) followed by a column of doubles.
+     * 
+     * @param values  the values.
+     * @param channel  the channel.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeValues(Values<Number> values, 
+            WritableByteChannel channel) throws IOException {
+        int count = values.getItemCount();
+        ByteBuffer bitmap = createBuffer(align((count + 7) / 8));
+        for (int i = 0; i < count; i++) {
+            if (values.getValue(i) != null) {
+                int index = i >> 3;
+                bitmap.put(index, (byte) (bitmap.get(index) | (1 << (i & 7))));
+            }
+        }
+        writeFully(channel, bitmap);
+        ByteBuffer buffer = createBuffer(BUFFER_SIZE);
+        int i = 0;
+        while (i < count) {
+            int n = Math.min(count - i, buffer.capacity() / 8);
+            buffer.clear();
+            for (int k = 0; k < n; k++) {
+                buffer.putDouble(k * 8, values.getDoubleValue(i + k));
+            }
+            buffer.limit(n * 8);
+            writeFully(channel, buffer);
+            i += n;
+        }
+    }
+    
+    /**
+     * Reads a sequence of values written by 
+     * {@link #writeValues(Values, WritableByteChannel)}.
+     * 
+     * @param channel  the channel.
+     * @param count  the number of values.
+     * 
+     * @return The values (some of which may be {@code null}).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static Number[] readValues(ReadableByteChannel channel, 
+            int count) throws IOException {
+        ByteBuffer bitmap = createBuffer(align((count + 7) / 8));
+        readFully(channel, bitmap);
+        double[] doubles = readColumn(channel, createBuffer(BUFFER_SIZE), 
+                count);
+        Number[] result = new Number[count];
+        for (int i = 0; i < count; i++) {
+            if ((bitmap.get(i >> 3) & (1 << (i & 7))) != 0) {
+                result[i] = doubles[i];
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Writes all the remaining bytes in the buffer to the channel.
+     * 
+     * @param channel  the channel.
+     * @param buffer  the buffer.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeFully(WritableByteChannel channel, 
+            ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+    
+    /**
+     * Reads bytes from the channel until the buffer is full.
+     * 
+     * @param channel  the channel.
+     * @param buffer  the buffer.
+     * 
+     * @throws IOException if there is an I/O problem (including reaching the
+     *     end of the input before the buffer is full).
+     */
+    private static void readFully(ReadableByteChannel channel, 
+            ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of input.");
+            }
+        }
+    }
+    
+}
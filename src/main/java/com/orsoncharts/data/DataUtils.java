@@ -32,10 +32,17 @@
 
 package com.orsoncharts.data;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import com.orsoncharts.Range;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZDatasetUtils;
+import com.orsoncharts.data.xyz.XYZRangeInfo;
 import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
 import com.orsoncharts.util.ArgChecks;
@@ -46,6 +53,18 @@ import com.orsoncharts.util.ArgChecks;
  */
 public class DataUtils {
     
+    /** 
+     * The number of data items above which the {@code summarize()} methods
+     * split the work across the available processors. 
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+    
+    /** The number of data items in each task for the parallel scans. */
+    private static final int TASK_SIZE = 1 << 16;
+    
+    /** The number of items read from an {@link XYZDataset} at a time. */
+    private static final int BLOCK_SIZE = 1024;
+    
     private DataUtils() {
         // no need to create instances
     }
@@ -501,7 +520,9 @@ public class DataUtils {
      * {@code Double.NaN} in which case it is ignored).  If the
      * {@code finite} flag is set, infinite values in the dataset will be 
      * ignored.  If there are no values eligible for inclusion in the range, 
-     * this method returns {@code null}.
+     * this method returns {@code null}.  If the {@code finite} flag is set 
+     * and the dataset implements {@link XYZRangeInfo}, the range maintained 
+     * by the dataset is used instead of iterating over the values.
      * 
      * @param dataset  the dataset ({@code null} not permitted).
      * @param inc  an additional x-value to include.
@@ -514,6 +535,10 @@ public class DataUtils {
     public static Range findXRange(XYZDataset dataset, double inc, 
             boolean finite) {
         ArgChecks.nullNotPermitted(dataset, "dataset");
+        if (finite && dataset instanceof XYZRangeInfo) {
+            Range r = ((XYZRangeInfo) dataset).getXRange();
+            return Double.isNaN(inc) ? r : includeValue(r, inc);
+        }
         double min = Double.POSITIVE_INFINITY;
         double max = Double.NEGATIVE_INFINITY;
         for (int s = 0; s < dataset.getSeriesCount(); s++) {
@@ -576,7 +601,9 @@ public class DataUtils {
      * {@code Double.NaN} in which case it is ignored).  If the
      * {@code finite} flag is set, infinite values in the dataset will be 
      * ignored.  If there are no values eligible for inclusion in the range, 
-     * this method returns {@code null}.
+     * this method returns {@code null}.  If the {@code finite} flag is set 
+     * and the dataset implements {@link XYZRangeInfo}, the range maintained 
+     * by the dataset is used instead of iterating over the values.
      * 
      * @param dataset  the dataset ({@code null} not permitted).
      * @param inc  an additional y-value to include.
@@ -589,6 +616,10 @@ public class DataUtils {
     public static Range findYRange(XYZDataset dataset, double inc, 
             boolean finite) {
         ArgChecks.nullNotPermitted(dataset, "dataset");
+        if (finite && dataset instanceof XYZRangeInfo) {
+            Range r = ((XYZRangeInfo) dataset).getYRange();
+            return Double.isNaN(inc) ? r : includeValue(r, inc);
+        }
         double min = Double.POSITIVE_INFINITY;
         double max = Double.NEGATIVE_INFINITY;
         for (int s = 0; s < dataset.getSeriesCount(); s++) {
@@ -651,7 +682,9 @@ public class DataUtils {
      * {@code Double.NaN} in which case it is ignored).  If the
      * {@code finite} flag is set, infinite values in the dataset will be 
      * ignored.  If there are no values eligible for inclusion in the range, 
-     * this method returns {@code null}.
+     * this method returns {@code null}.  If the {@code finite} flag is set 
+     * and the dataset implements {@link XYZRangeInfo}, the range maintained 
+     * by the dataset is used instead of iterating over the values.
      * 
      * @param dataset  the dataset ({@code null} not permitted).
      * @param inc  an additional z-value to include.
@@ -665,6 +698,10 @@ public class DataUtils {
             boolean finite) {
         ArgChecks.nullNotPermitted(dataset, "dataset");
         ArgChecks.finiteRequired(inc, "inc");
+        if (finite && dataset instanceof XYZRangeInfo) {
+            Range r = ((XYZRangeInfo) dataset).getZRange();
+            return Double.isNaN(inc) ? r : includeValue(r, inc);
+        }
         double min = Double.POSITIVE_INFINITY;
         double max = Double.NEGATIVE_INFINITY;
         for (int s = 0; s < dataset.getSeriesCount(); s++) {
@@ -688,6 +725,214 @@ public class DataUtils {
             return null;
         }        
     }
+    
+    /**
+     * Computes summary statistics for the dataset (the x, y and z-ranges, 
+     * the item counts and the total of the y-values) in a single pass over 
+     * the data.  This is faster than calling {@link #findXRange(XYZDataset)},
+     * {@link #findYRange(XYZDataset)} and {@link #findZRange(XYZDataset)} 
+     * separately.  For large datasets the work is split across the available 
+     * processors, so the dataset must support reads from multiple threads 
+     * (all the datasets in Orson Charts do) and must not be modified while 
+     * this method is running.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * 
+     * @return The summary (never {@code null}). 
+     * 
+     * @since 1.7
+     */
+    public static XYZDataSummary summarize(final XYZDataset dataset) {
+        ArgChecks.nullNotPermitted(dataset, "dataset");
+        List<Callable<XYZDataSummary>> tasks 
+                = new ArrayList<Callable<XYZDataSummary>>();
+        long total = 0;
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            int itemCount = dataset.getItemCount(s);
+            total += itemCount;
+            for (int first = 0; first < itemCount; first += TASK_SIZE) {
+                final int series = s;
+                final int start = first;
+                final int count = Math.min(TASK_SIZE, itemCount - first);
+                tasks.add(new Callable<XYZDataSummary>() {
+                    @Override
+                    public XYZDataSummary call() {
+                        return summarize(dataset, series, start, count);
+                    }
+                });
+            }
+        }
+        XYZDataSummary result = new XYZDataSummary();
+        for (XYZDataSummary summary : runTasks(tasks, total)) {
+            result.add(summary);
+        }
+        return result;
+    }
+    
+    /**
+     * Computes summary statistics for a range of items in one series.
+     * 
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param count  the number of items.
+     * 
+     * @return The summary. 
+     */
+    private static XYZDataSummary summarize(XYZDataset dataset, int series, 
+            int firstItem, int count) {
+        XYZDataSummary result = new XYZDataSummary();
+        double[] xs = new double[Math.min(BLOCK_SIZE, count)];
+        double[] ys = new double[xs.length];
+        double[] zs = new double[xs.length];
+        for (int i = 0; i < count; i += xs.length) {
+            int n = Math.min(xs.length, count - i);
+            XYZDatasetUtils.getItems(dataset, series, firstItem + i, n, xs, 
+                    ys, zs);
+            for (int j = 0; j < n; j++) {
+                result.add(xs[j], ys[j], zs[j]);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Computes summary statistics for the data cube (the value range, the 
+     * stacked value range, the total and the counts of finite and 
+     * {@code NaN} values) in a single pass over the data.  This is faster 
+     * than calling {@link #findValueRange(Values3D)}, 
+     * {@link #findStackedValueRange(Values3D)} and the other methods 
+     * separately.  For large data cubes the work is split across the 
+     * available processors, so the data must support reads from multiple
+     * threads (all the datasets in Orson Charts do) and must not be modified
+     * while this method is running.
+     * 
+     * @param data  the data ({@code null} not permitted).
+     * 
+     * @return The summary (never {@code null}). 
+     * 
+     * @since 1.7
+     */
+    public static Values3DSummary summarize(
+            final Values3D<? extends Number> data) {
+        ArgChecks.nullNotPermitted(data, "data");
+        int rowCount = data.getRowCount();
+        long cellCount = (long) data.getColumnCount() * data.getSeriesCount();
+        int rowsPerTask = (int) Math.max(1, TASK_SIZE / Math.max(1, cellCount));
+        List<Callable<Values3DSummary>> tasks 
+                = new ArrayList<Callable<Values3DSummary>>();
+        for (int first = 0; first < rowCount; first += rowsPerTask) {
+            final int start = first;
+            final int end = Math.min(rowCount, first + rowsPerTask);
+            tasks.add(new Callable<Values3DSummary>() {
+                @Override
+                public Values3DSummary call() {
+                    return summarize(data, start, end);
+                }
+            });
+        }
+        Values3DSummary result = new Values3DSummary();
+        for (Values3DSummary summary : runTasks(tasks, rowCount * cellCount)) {
+            result.add(summary);
+        }
+        return result;
+    }
+    
+    /**
+     * Computes summary statistics for a range of rows in the data cube.
+     * 
+     * @param data  the data.
+     * @param firstRow  the index of the first row.
+     * @param endRow  the index after the last row.
+     * 
+     * @return The summary. 
+     */
+    private static Values3DSummary summarize(Values3D<? extends Number> data, 
+            int firstRow, int endRow) {
+        Values3DSummary result = new Values3DSummary();
+        int seriesCount = data.getSeriesCount();
+        int columnCount = data.getColumnCount();
+        double[] neg = new double[(endRow - firstRow) * columnCount];
+        double[] pos = new double[neg.length];
+        for (int series = 0; series < seriesCount; series++) {
+            int i = 0;
+            for (int row = firstRow; row < endRow; row++) {
+                for (int col = 0; col < columnCount; col++) {
+                    double v = data.getDoubleValue(series, row, col);
+                    result.add(v);
+                    if (v > 0.0) {
+                        pos[i] += v;
+                    } else if (v < 0.0) {
+                        neg[i] += v;
+                    }
+                    i++;
+                }
+            }
+        }
+        for (int i = 0; i < neg.length; i++) {
+            result.addStack(neg[i], pos[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * Runs the tasks for one of the {@code summarize()} methods and returns
+     * the results.  The tasks are run in the common fork-join pool if the
+     * total number of data items is large, otherwise they are run in the 
+     * calling thread.
+     * 
+     * @param tasks  the tasks.
+     * @param itemCount  the total number of data items.
+     * 
+     * @return The results of the tasks.
+     */
+    private static <T> List<T> runTasks(List<Callable<T>> tasks, 
+            long itemCount) {
+        List<T> results = new ArrayList<T>(tasks.size());
+        try {
+            if (itemCount < PARALLEL_THRESHOLD || tasks.size() < 2 
+                    || Runtime.getRuntime().availableProcessors() < 2) {
+                for (Callable<T> task : tasks) {
+                    results.add(task.call());
+                }
+            } else {
+                for (Future<T> f : ForkJoinPool.commonPool().invokeAll(
+                        tasks)) {
+                    results.add(f.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return results;
+    }
+
+    /**
+     * Returns a range that includes all the values in {@code range} plus
+     * the specified value.
+     * 
+     * @param range  the range ({@code null} permitted).
+     * @param value  the value (not {@code Double.NaN}).
+     * 
+     * @return The range (never {@code null}). 
+     */
+    private static Range includeValue(Range range, double value) {
+        if (range == null) {
+            return new Range(value, value);
+        }
+        return new Range(Math.min(range.getMin(), value), 
+                Math.max(range.getMax(), value));
+    }
 
     /**
      * Creates an {@link XYZDataset} by extracting values from specified 
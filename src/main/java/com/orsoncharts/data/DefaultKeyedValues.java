@@ -34,7 +34,9 @@ package com.orsoncharts.data;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.orsoncharts.util.ArgChecks;
 
@@ -50,12 +52,24 @@ import com.orsoncharts.util.ArgChecks;
  * @param <K>  the key type (must implement Comparable).
  * @param <T>  the value type.
  */
-@SuppressWarnings("serial")
 public final class DefaultKeyedValues<K extends Comparable<K>, T> 
         implements KeyedValues<K, T>, Serializable {
 
+    /** 
+     * Fixed at the value computed for version 1.6, so that instances 
+     * serialized by that version can still be read (the key index is not
+     * serialized, it is rebuilt when first needed).
+     */
+    private static final long serialVersionUID = -3536906602436698354L;
+
     /** Storage for the data items. */
     private List<KeyedValue<K, T>> data;
+    
+    /** 
+     * A map from key to item index, built when first needed (see 
+     * {@link #getIndex(Comparable)}). 
+     */
+    private transient Map<K, Integer> keyIndex;
   
     /**
      * Creates a new (empty) list of keyed values.
@@ -85,6 +99,7 @@ public final class DefaultKeyedValues<K extends Comparable<K>, T>
      */
     public void clear() {
         this.data.clear();
+        this.keyIndex = null;
     }
  
     /**
@@ -102,9 +117,34 @@ public final class DefaultKeyedValues<K extends Comparable<K>, T>
             dkv = (DefaultKeyedValue<K, T>) this.data.get(index);
             dkv.setValue(value);
         } else {
-            this.data.add(new DefaultKeyedValue<K, T>(key, value));
+            add(key, value);
+        }
+    }
+    
+    /**
+     * Appends an item without checking for an existing item with the same 
+     * key.  This is used by the other keyed values classes in this package,
+     * which maintain their own key indexes.
+     * 
+     * @param key  the key.
+     * @param value  the value.
+     */
+    void add(K key, T value) {
+        this.data.add(new DefaultKeyedValue<K, T>(key, value));
+        if (this.keyIndex != null && !this.keyIndex.containsKey(key)) {
+            this.keyIndex.put(key, this.data.size() - 1);
         }
     }
+    
+    /**
+     * Updates the value for the item with the specified index.
+     * 
+     * @param index  the item index.
+     * @param value  the value.
+     */
+    void setValue(int index, T value) {
+        ((DefaultKeyedValue<K, T>) this.data.get(index)).setValue(value);
+    }
   
     /**
      * Removes the item with the specified key, if there is one.
@@ -126,6 +166,7 @@ public final class DefaultKeyedValues<K extends Comparable<K>, T>
      */
     public void remove(int index) {
         this.data.remove(index);
+        this.keyIndex = null;
     }
   
     /**
@@ -152,13 +193,14 @@ public final class DefaultKeyedValues<K extends Comparable<K>, T>
     @Override
     public int getIndex(K key) {
         ArgChecks.nullNotPermitted(key, "key");
-        for (int i = 0; i < this.data.size(); i++) {
-            KeyedValue<K, T> kv = this.data.get(i);
-            if (kv.getKey().equals(key)) {
-                return i;
+        if (this.keyIndex == null) {
+            this.keyIndex = new HashMap<K, Integer>(this.data.size() * 2 + 16);
+            for (int i = this.data.size() - 1; i >= 0; i--) {
+                this.keyIndex.put(this.data.get(i).getKey(), i);
             }
         }
-        return -1;
+        Integer index = this.keyIndex.get(key);
+        return index != null ? index : -1;
     }
 
     /**
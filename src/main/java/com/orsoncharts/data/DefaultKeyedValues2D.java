@@ -32,6 +32,8 @@
 
 package com.orsoncharts.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,10 +53,16 @@ import com.orsoncharts.util.ArgChecks;
  * @param <T> the value type.
  * 
  */
-@SuppressWarnings("serial")
 public final class DefaultKeyedValues2D<R extends Comparable<R>, C extends Comparable<C>, T> 
         implements KeyedValues2D<R, C, T>, Serializable {
 
+    /** 
+     * Fixed at the value computed for version 1.6, so that tables 
+     * serialized by that version can still be read (the key indexes are
+     * not serialized, they are rebuilt when the table is read).
+     */
+    private static final long serialVersionUID = -4009340033836555791L;
+
     /** The row keys. */
     List<R> rowKeys;
     
@@ -63,6 +71,12 @@ public final class DefaultKeyedValues2D<R extends Comparable<R>, C extends Compa
     
     /** The data values. */
     List<DefaultKeyedValues<C, T>> data;  // one entry per row key
+    
+    /** An index for the row keys. */
+    private transient KeyIndex<R> rowIndex;
+    
+    /** An index for the column keys. */
+    private transient KeyIndex<C> columnIndex;
   
     /**
      * Creates a new (empty) instance.
@@ -87,6 +101,26 @@ public final class DefaultKeyedValues2D<R extends Comparable<R>, C extends Compa
         for (int i = 0; i < rowKeys.size(); i++) {
             this.data.add(new DefaultKeyedValues<C, T>(columnKeys));
         }
+        this.rowIndex = new KeyIndex<R>(this.rowKeys);
+        this.columnIndex = new KeyIndex<C>(this.columnKeys);
+    }
+    
+    /**
+     * Creates a new instance that uses the specified lists directly (without
+     * copying them).  This is used by {@link KeyedValues3DBuilder}.
+     * 
+     * @param rowKeys  the row keys.
+     * @param columnKeys  the column keys.
+     * @param data  the data values (one entry per row key, each containing 
+     *     the column keys in order).
+     */
+    DefaultKeyedValues2D(List<R> rowKeys, List<C> columnKeys, 
+            List<DefaultKeyedValues<C, T>> data) {
+        this.rowKeys = rowKeys;
+        this.columnKeys = columnKeys;
+        this.data = data;
+        this.rowIndex = new KeyIndex<R>(this.rowKeys);
+        this.columnIndex = new KeyIndex<C>(this.columnKeys);
     }
 
     /**
@@ -123,7 +157,7 @@ public final class DefaultKeyedValues2D<R extends Comparable<R>, C extends Compa
     @Override
     public int getRowIndex(R rowKey) {
         ArgChecks.nullNotPermitted(rowKey, "rowKey");
-        return this.rowKeys.indexOf(rowKey);
+        return this.rowIndex.indexOf(rowKey);
     }
 
     /**
@@ -136,7 +170,7 @@ public final class DefaultKeyedValues2D<R extends Comparable<R>, C extends Compa
     @Override
     public int getColumnIndex(C columnKey) {
         ArgChecks.nullNotPermitted(columnKey, "columnKey");
-        return this.columnKeys.indexOf(columnKey);
+        return this.columnIndex.indexOf(columnKey);
     }
 
     /**
@@ -238,52 +272,21 @@ public final class DefaultKeyedValues2D<R extends Comparable<R>, C extends Compa
         ArgChecks.nullNotPermitted(rowKey, "rowKey");
         ArgChecks.nullNotPermitted(columnKey, "columnKey");
         
-        if (this.data.isEmpty()) {  // 1. no data - just add one new entry
-            this.rowKeys.add(rowKey);
-            this.columnKeys.add(columnKey);
-            DefaultKeyedValues<C, T> dkvs = new DefaultKeyedValues<C, T>();
-            dkvs.put(columnKey, n);
-            this.data.add(dkvs);
-        } else {
-            int rowIndex = getRowIndex(rowKey);
-            int columnIndex = getColumnIndex(columnKey);
-            if (rowIndex >= 0) {
-                DefaultKeyedValues<C, T> dkvs = this.data.get(rowIndex);
-                if (columnIndex >= 0) {
-                    // 2.  Both keys exist - just update the value
-                    dkvs.put(columnKey, n);
-                } else {
-                    // 3.  rowKey exists, but columnKey does not (add the 
-                    //     columnKey to each series)
-                    this.columnKeys.add(columnKey);
-                    for (DefaultKeyedValues<C, T> kv : this.data) {
-                        kv.put(columnKey, null);
-                    }
-                    dkvs.put(columnKey, n);
-                }
-            } else {
-                if (columnIndex >= 0) {
-                    // 4.  rowKey does not exist, but columnKey does
-                    this.rowKeys.add(rowKey);
-                    DefaultKeyedValues<C, T> d = new DefaultKeyedValues<C, T>(
-                            this.columnKeys);
-                    d.put(columnKey, n);
-                    this.data.add(d);
-                } else {
-                    // 5.  neither key exists, need to create the new series, 
-                    //     plus the new entry in every series
-                    this.rowKeys.add(rowKey);
-                    this.columnKeys.add(columnKey);
-                    for (DefaultKeyedValues<C, T> kv : this.data) {
-                        kv.put(columnKey, null);
-                    }
-                    DefaultKeyedValues<C, T> d = new DefaultKeyedValues<C, T>(
-                            this.columnKeys);
-                    d.put(columnKey, n);
-                    this.data.add(d);
-                }
+        int rowIndex = getRowIndex(rowKey);
+        int columnIndex = getColumnIndex(columnKey);
+        if (columnIndex < 0) {
+            // add the new column key to every row
+            columnIndex = this.columnIndex.add(columnKey);
+            for (DefaultKeyedValues<C, T> kv : this.data) {
+                kv.add(columnKey, null);
             }
         }
+        if (rowIndex < 0) {
+            // add a new row with all the column keys
+            rowIndex = this.rowIndex.add(rowKey);
+            this.data.add(new DefaultKeyedValues<C, T>(this.columnKeys));
+        }
+        this.data.get(rowIndex).setValue(columnIndex, n);
     }
     
     @Override
@@ -306,4 +309,20 @@ public final class DefaultKeyedValues2D<R extends Comparable<R>, C extends Compa
         }
         return true;
     }
+    
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowIndex = new KeyIndex<R>(this.rowKeys);
+        this.columnIndex = new KeyIndex<C>(this.columnKeys);
+    }
+
 }
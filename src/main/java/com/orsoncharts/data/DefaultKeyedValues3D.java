@@ -32,6 +32,8 @@
 
 package com.orsoncharts.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,10 +53,16 @@ import com.orsoncharts.util.ArgChecks;
  * @param <C>  the column key (must implement Comparable).
  * @param <V>  the value type.
  */
-@SuppressWarnings("serial")
 public final class DefaultKeyedValues3D<S extends Comparable<S>, R extends Comparable<R>, C extends Comparable<C>, V> 
         implements KeyedValues3D<S, R, C, V>, Serializable {
 
+    /** 
+     * Fixed at the value computed for version 1.6, so that tables 
+     * serialized by that version can still be read (the key indexes are
+     * not serialized, they are rebuilt when the table is read).
+     */
+    private static final long serialVersionUID = -6368700230869389154L;
+
     /** The series keys. */
     private List<S> seriesKeys;
   
@@ -69,15 +77,43 @@ public final class DefaultKeyedValues3D<S extends Comparable<S>, R extends Compa
      * row and column keys.
      */
     private List<DefaultKeyedValues2D<R, C, V>> data; // one entry per series
+    
+    /** An index for the series keys. */
+    private transient KeyIndex<S> seriesIndex;
+    
+    /** An index for the row keys. */
+    private transient KeyIndex<R> rowIndex;
+    
+    /** An index for the column keys. */
+    private transient KeyIndex<C> columnIndex;
   
     /**
      * Creates a new (empty) table.
      */
     public DefaultKeyedValues3D() {
-        this.seriesKeys = new ArrayList<S>();
-        this.rowKeys = new ArrayList<R>();
-        this.columnKeys = new ArrayList<C>();
-        this.data = new ArrayList<DefaultKeyedValues2D<R, C, V>>();
+        this(new ArrayList<S>(), new ArrayList<R>(), new ArrayList<C>(), 
+                new ArrayList<DefaultKeyedValues2D<R, C, V>>());
+    }
+    
+    /**
+     * Creates a new instance that uses the specified lists directly (without
+     * copying them).  This is used by {@link KeyedValues3DBuilder}.
+     * 
+     * @param seriesKeys  the series keys.
+     * @param rowKeys  the row keys.
+     * @param columnKeys  the column keys.
+     * @param data  the data (one entry per series, each containing the row 
+     *     and column keys in order).
+     */
+    DefaultKeyedValues3D(List<S> seriesKeys, List<R> rowKeys, 
+            List<C> columnKeys, List<DefaultKeyedValues2D<R, C, V>> data) {
+        this.seriesKeys = seriesKeys;
+        this.rowKeys = rowKeys;
+        this.columnKeys = columnKeys;
+        this.data = data;
+        this.seriesIndex = new KeyIndex<S>(this.seriesKeys);
+        this.rowIndex = new KeyIndex<R>(this.rowKeys);
+        this.columnIndex = new KeyIndex<C>(this.columnKeys);
     }
   
     /**
@@ -127,7 +163,7 @@ public final class DefaultKeyedValues3D<S extends Comparable<S>, R extends Compa
     @Override
     public int getSeriesIndex(S seriesKey) {
         ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
-        return this.seriesKeys.indexOf(seriesKey);
+        return this.seriesIndex.indexOf(seriesKey);
     }
 
     /**
@@ -141,7 +177,7 @@ public final class DefaultKeyedValues3D<S extends Comparable<S>, R extends Compa
     @Override
     public int getRowIndex(R rowKey) {
         ArgChecks.nullNotPermitted(rowKey, "rowKey");
-        return this.rowKeys.indexOf(rowKey);
+        return this.rowIndex.indexOf(rowKey);
     }
 
     /**
@@ -155,7 +191,7 @@ public final class DefaultKeyedValues3D<S extends Comparable<S>, R extends Compa
     @Override
     public int getColumnIndex(C columnKey) {
         ArgChecks.nullNotPermitted(columnKey, "columnKey");
-        return this.columnKeys.indexOf(columnKey);
+        return this.columnIndex.indexOf(columnKey);
     }
 
     /**
@@ -269,29 +305,17 @@ public final class DefaultKeyedValues3D<S extends Comparable<S>, R extends Compa
         ArgChecks.nullNotPermitted(rowKey, "rowKey");
         ArgChecks.nullNotPermitted(columnKey, "columnKey");
         
-        // cases:
-        // 1 - the dataset is empty, so we just need to add a new layer with the
-        //     given keys;
-        if (this.data.isEmpty()) {
-            this.seriesKeys.add(seriesKey);
-            this.rowKeys.add(rowKey);
-            this.columnKeys.add(columnKey);
-            DefaultKeyedValues2D<R, C, V> d 
-                    = new DefaultKeyedValues2D<R, C, V>();
-            d.setValue(n, rowKey, columnKey);
-            this.data.add(d);
-        }
-        
         int seriesIndex = getSeriesIndex(seriesKey);
         int rowIndex = getRowIndex(rowKey);
         int columnIndex = getColumnIndex(columnKey);
         if (rowIndex < 0) {
-            this.rowKeys.add(rowKey);
+            this.rowIndex.add(rowKey);
         }
         if (columnIndex < 0) {
-            this.columnKeys.add(columnKey);
+            this.columnIndex.add(columnKey);
         }
         if (rowIndex < 0 || columnIndex < 0) {
+            // every series must contain the same row and column keys
             for (DefaultKeyedValues2D<R, C, V> d : this.data) {
                 d.setValue(null, rowKey, columnKey);
             } 
@@ -300,7 +324,7 @@ public final class DefaultKeyedValues3D<S extends Comparable<S>, R extends Compa
             DefaultKeyedValues2D<R, C, V> d = this.data.get(seriesIndex);
             d.setValue(n, rowKey, columnKey);
         } else {
-            this.seriesKeys.add(seriesKey);
+            this.seriesIndex.add(seriesKey);
             DefaultKeyedValues2D<R, C, V> d 
                     = new DefaultKeyedValues2D<R, C, V>(this.rowKeys, 
                     this.columnKeys);
@@ -339,5 +363,21 @@ public final class DefaultKeyedValues3D<S extends Comparable<S>, R extends Compa
         }
         return true;
     }
+    
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.seriesIndex = new KeyIndex<S>(this.seriesKeys);
+        this.rowIndex = new KeyIndex<R>(this.rowKeys);
+        this.columnIndex = new KeyIndex<C>(this.columnKeys);
+    }
 
 }
@@ -47,6 +47,7 @@ import com.orsoncharts.util.json.parser.JSONParser;
 import com.orsoncharts.util.json.parser.ParseException;
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.util.json.parser.ContainerFactory;
+import com.orsoncharts.data.xyz.XYZArrayDataset;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
@@ -468,6 +469,42 @@ public class JSONUtils {
         }
     }
     
+    /**
+     * Parses character data from the reader and (if possible) creates a
+     * {@link KeyedValues3D} instance, in the same way as 
+     * {@link #readKeyedValues3D(java.io.Reader)}.  This method processes 
+     * the input as a stream and adds the values directly to the dataset, so 
+     * it uses much less memory for large inputs.  It also accepts the 
+     * format written by {@link #writeKeyedValues3D(
+     * com.orsoncharts.data.KeyedValues3D, java.io.Writer)}.  The 
+     * {@code "columnKeys"} and {@code "rowKeys"} entries must precede the 
+     * series data in the input.
+     * 
+     * @param reader  the reader ({@code null} not permitted).
+     * @param listener  a listener that receives progress reports 
+     *     ({@code null} permitted).
+     * 
+     * @return A {@code KeyedValues3D} instance.
+     * 
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.7
+     */
+    public static KeyedValues3D<String, String, String, Number> 
+            readKeyedValues3D(Reader reader, ReadProgressListener listener) 
+            throws IOException {
+        ArgChecks.nullNotPermitted(reader, "reader");
+        JSONParser parser = new JSONParser();
+        KeyedValues3DHandler handler = new KeyedValues3DHandler(parser, 
+                listener);
+        try {
+            parser.parse(reader, handler);
+        } catch (ParseException ex) {
+            throw new RuntimeException(ex);
+        }
+        return handler.getDataset();
+    }
+    
     /**
      * Processes an entry for one series.
      * 
@@ -731,6 +768,36 @@ public class JSONUtils {
         return result;
     }
 
+    /**
+     * Parses character data from the reader and (if possible) creates an 
+     * {@link XYZArrayDataset} instance that represents the data.  This 
+     * method reads the same format as {@link #readXYZDataset(java.io.Reader)}
+     * but processes the input as a stream, adding the data items directly to
+     * the dataset, so it uses much less memory for large inputs.
+     * 
+     * @param reader  a reader ({@code null} not permitted).
+     * @param listener  a listener that receives progress reports 
+     *     ({@code null} permitted).
+     * 
+     * @return A dataset.
+     * 
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.7
+     */
+    public static XYZArrayDataset<String> readXYZDataset(Reader reader, 
+            ReadProgressListener listener) throws IOException {
+        ArgChecks.nullNotPermitted(reader, "reader");
+        JSONParser parser = new JSONParser();
+        XYZDatasetHandler handler = new XYZDatasetHandler(parser, listener);
+        try {
+            parser.parse(reader, handler);
+        } catch (ParseException ex) {
+            throw new RuntimeException(ex);
+        }
+        return handler.getDataset();
+    }
+
     /**
      * Returns a string containing the dataset in JSON format.
      * 
@@ -799,7 +866,7 @@ public class JSONUtils {
      * 
      * @return A double primitive (possibly Double.NaN). 
      */
-    private static double objToDouble(Object obj) {
+    static double objToDouble(Object obj) {
         if (obj == null) {
             return Double.NaN;
         }
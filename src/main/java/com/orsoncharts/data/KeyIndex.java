@@ -0,0 +1,116 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A hash index for a list of keys, so that the position of a key in the list
+ * can be found without a linear search.  The index is built on the first 
+ * lookup and kept up to date as keys are appended through this object (if 
+ * the list is modified in any other way, call {@link #invalidate()}).  Where 
+ * a key appears more than once in the list, the index of the first 
+ * occurrence is returned (the same as {@code List.indexOf()}).
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class. 
+ * 
+ * @param <K> the key type.
+ */
+@SuppressWarnings("serial")
+final class KeyIndex<K> implements Serializable {
+    
+    /** The keys (this list is shared with the owner of the index). */
+    private final List<K> keys;
+    
+    /** A map from key to index, built when first needed. */
+    private transient Map<K, Integer> map;
+    
+    /**
+     * Creates a new index for the specified list of keys.
+     * 
+     * @param keys  the keys ({@code null} not permitted).
+     */
+    KeyIndex(List<K> keys) {
+        this.keys = keys;
+    }
+    
+    /**
+     * Returns the index of the specified key, or {@code -1} if the key is
+     * not in the list.
+     * 
+     * @param key  the key.
+     * 
+     * @return The index or {@code -1}. 
+     */
+    int indexOf(K key) {
+        if (this.map == null) {
+            this.map = new HashMap<K, Integer>(this.keys.size() * 2 + 16);
+            for (int i = this.keys.size() - 1; i >= 0; i--) {
+                this.map.put(this.keys.get(i), i);
+            }
+        }
+        Integer index = this.map.get(key);
+        return index != null ? index : -1;
+    }
+    
+    /**
+     * Appends a key to the list and updates the index.
+     * 
+     * @param key  the key.
+     * 
+     * @return The index of the new key. 
+     */
+    int add(K key) {
+        int index = this.keys.size();
+        this.keys.add(key);
+        if (this.map != null && !this.map.containsKey(key)) {
+            this.map.put(key, index);
+        }
+        return index;
+    }
+    
+    /**
+     * Discards the index, so that it will be rebuilt on the next lookup.  
+     * This must be called after the list of keys is modified other than by
+     * the {@link #add(Object)} method.
+     */
+    void invalidate() {
+        this.map = null;
+    }
+
+}
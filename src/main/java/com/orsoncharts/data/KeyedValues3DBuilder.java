@@ -0,0 +1,233 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A builder for large {@link DefaultKeyedValues3D} instances.  All the 
+ * series, row and column keys are specified up front, and the values are
+ * written into a dense array of {@code double} primitives, so filling the 
+ * builder takes constant time per value.  The {@link #build()} method then 
+ * creates the table in a single pass.  This is much faster than calling 
+ * {@link DefaultKeyedValues3D#setValue(Object, Comparable, Comparable, 
+ * Comparable)} for each item when the table is large, because that method 
+ * has to extend every series each time a new row or column key is seen.
+ * <br><br>
+ * Values that are not set (or are set to {@code Double.NaN}) are 
+ * {@code null} in the table that is built.
+ * 
+ * @param <S>  the series key (must implement Comparable).
+ * @param <R>  the row key (must implement Comparable).
+ * @param <C>  the column key (must implement Comparable).
+ * 
+ * @since 1.7
+ */
+public final class KeyedValues3DBuilder<S extends Comparable<S>, 
+        R extends Comparable<R>, C extends Comparable<C>> {
+    
+    /** The series keys. */
+    private final List<S> seriesKeys;
+    
+    /** The row keys. */
+    private final List<R> rowKeys;
+    
+    /** The column keys. */
+    private final List<C> columnKeys;
+    
+    /** An index for the series keys. */
+    private final KeyIndex<S> seriesIndex;
+    
+    /** An index for the row keys. */
+    private final KeyIndex<R> rowIndex;
+    
+    /** An index for the column keys. */
+    private final KeyIndex<C> columnIndex;
+    
+    /** 
+     * The values, ordered by series then row then column ({@code NaN} for 
+     * missing values). 
+     */
+    private final double[] values;
+    
+    /**
+     * Creates a new builder for a table with the specified keys.
+     * 
+     * @param seriesKeys  the series keys ({@code null} not permitted).
+     * @param rowKeys  the row keys ({@code null} not permitted).
+     * @param columnKeys  the column keys ({@code null} not permitted).
+     * 
+     * @throws IllegalArgumentException if any of the lists contains a 
+     *     {@code null} or duplicate key.
+     */
+    public KeyedValues3DBuilder(List<S> seriesKeys, List<R> rowKeys, 
+            List<C> columnKeys) {
+        ArgChecks.nullNotPermitted(seriesKeys, "seriesKeys");
+        ArgChecks.nullNotPermitted(rowKeys, "rowKeys");
+        ArgChecks.nullNotPermitted(columnKeys, "columnKeys");
+        checkKeys(seriesKeys, "series");
+        checkKeys(rowKeys, "row");
+        checkKeys(columnKeys, "column");
+        this.seriesKeys = new ArrayList<S>(seriesKeys);
+        this.rowKeys = new ArrayList<R>(rowKeys);
+        this.columnKeys = new ArrayList<C>(columnKeys);
+        this.seriesIndex = new KeyIndex<S>(this.seriesKeys);
+        this.rowIndex = new KeyIndex<R>(this.rowKeys);
+        this.columnIndex = new KeyIndex<C>(this.columnKeys);
+        long size = (long) seriesKeys.size() * rowKeys.size() 
+                * columnKeys.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many values: " + size);
+        }
+        this.values = new double[(int) size];
+        Arrays.fill(this.values, Double.NaN);
+    }
+    
+    /**
+     * Checks that a list of keys contains no {@code null} or duplicate 
+     * keys.
+     * 
+     * @param keys  the keys.
+     * @param name  the key type (for the exception message).
+     */
+    private static <K> void checkKeys(List<K> keys, String name) {
+        Set<K> seen = new HashSet<K>(keys.size() * 2);
+        for (K key : keys) {
+            ArgChecks.nullNotPermitted(key, name + "Key");
+            if (!seen.add(key)) {
+                throw new IllegalArgumentException("Duplicate " + name 
+                        + " key '" + key + "'.");
+            }
+        }
+    }
+    
+    /**
+     * Sets the value for one item.
+     * 
+     * @param value  the value ({@code Double.NaN} for a {@code null} value).
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     */
+    public void setValue(double value, int seriesIndex, int rowIndex, 
+            int columnIndex) {
+        if (seriesIndex < 0 || seriesIndex >= this.seriesKeys.size()) {
+            throw new IndexOutOfBoundsException("Invalid series index: " 
+                    + seriesIndex);
+        }
+        if (rowIndex < 0 || rowIndex >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Invalid row index: " 
+                    + rowIndex);
+        }
+        if (columnIndex < 0 || columnIndex >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException("Invalid column index: " 
+                    + columnIndex);
+        }
+        this.values[(seriesIndex * this.rowKeys.size() + rowIndex) 
+                * this.columnKeys.size() + columnIndex] = value;
+    }
+    
+    /**
+     * Sets the value for one item.  This method will throw an 
+     * {@code IllegalArgumentException} if the builder does not contain the
+     * specified keys.
+     * 
+     * @param value  the value ({@code Double.NaN} for a {@code null} value).
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void setValue(double value, S seriesKey, R rowKey, C columnKey) {
+        ArgChecks.nullNotPermitted(seriesKey, "seriesKey");
+        ArgChecks.nullNotPermitted(rowKey, "rowKey");
+        ArgChecks.nullNotPermitted(columnKey, "columnKey");
+        int s = this.seriesIndex.indexOf(seriesKey);
+        if (s < 0) {
+            throw new IllegalArgumentException("Series '" + seriesKey 
+                    + "' is not found.");
+        }
+        int r = this.rowIndex.indexOf(rowKey);
+        if (r < 0) {
+            throw new IllegalArgumentException("Row key '" + rowKey 
+                    + "' is not found.");
+        }
+        int c = this.columnIndex.indexOf(columnKey);
+        if (c < 0) {
+            throw new IllegalArgumentException("Column key '" + columnKey 
+                    + "' is not found.");
+        }
+        setValue(value, s, r, c);
+    }
+    
+    /**
+     * Creates a new table containing the keys and values in this builder.
+     * The builder can continue to be used after this method is called.
+     * 
+     * @return A new table (never {@code null}).
+     */
+    public DefaultKeyedValues3D<S, R, C, Number> build() {
+        int rowCount = this.rowKeys.size();
+        int columnCount = this.columnKeys.size();
+        List<DefaultKeyedValues2D<R, C, Number>> data 
+                = new ArrayList<DefaultKeyedValues2D<R, C, Number>>(
+                this.seriesKeys.size());
+        int i = 0;
+        for (int s = 0; s < this.seriesKeys.size(); s++) {
+            List<DefaultKeyedValues<C, Number>> rows 
+                    = new ArrayList<DefaultKeyedValues<C, Number>>(rowCount);
+            for (int r = 0; r < rowCount; r++) {
+                DefaultKeyedValues<C, Number> row 
+                        = new DefaultKeyedValues<C, Number>();
+                for (int c = 0; c < columnCount; c++) {
+                    double v = this.values[i++];
+                    row.add(this.columnKeys.get(c), 
+                            Double.isNaN(v) ? null : Double.valueOf(v));
+                }
+                rows.add(row);
+            }
+            data.add(new DefaultKeyedValues2D<R, C, Number>(
+                    new ArrayList<R>(this.rowKeys), 
+                    new ArrayList<C>(this.columnKeys), rows));
+        }
+        return new DefaultKeyedValues3D<S, R, C, Number>(
+                new ArrayList<S>(this.seriesKeys), 
+                new ArrayList<R>(this.rowKeys), 
+                new ArrayList<C>(this.columnKeys), data);
+    }
+
+}
@@ -0,0 +1,334 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.util.json.parser.ContentHandler;
+import com.orsoncharts.util.json.parser.JSONParser;
+import com.orsoncharts.util.json.parser.ParseException;
+
+/**
+ * A {@link ContentHandler} that builds a {@link StandardCategoryDataset3D} 
+ * directly from the events sent by a {@link JSONParser}, without creating
+ * the intermediate maps and lists that are used when the whole document is
+ * parsed at once.  The series data can be supplied either in the 
+ * {@code "data"} format read by 
+ * {@link JSONUtils#readKeyedValues3D(java.io.Reader)} (where the rows of 
+ * each series are an object mapping row keys to value arrays) or in the 
+ * {@code "series"} format written by 
+ * {@link JSONUtils#writeKeyedValues3D(KeyedValues3D)} (where the rows are 
+ * an array of {@code [rowKey, values]} pairs).  In both cases the 
+ * {@code "columnKeys"} and {@code "rowKeys"} entries must precede the 
+ * series data.
+ */
+class KeyedValues3DHandler implements ContentHandler {
+
+    /** The parser (used to report the position in the input). */
+    private final JSONParser parser;
+    
+    /** The listener for progress reports ({@code null} permitted). */
+    private final ReadProgressListener listener;
+    
+    /** The dataset being built. */
+    private final StandardCategoryDataset3D<String, String, String> dataset;
+    
+    /** The current nesting depth (objects and arrays). */
+    private int depth;
+    
+    /** 
+     * The depth of the object containing an entry that is being skipped, 
+     * or {@code 0}.
+     */
+    private int skipDepth;
+    
+    /** The current entry in the top level object. */
+    private String rootEntry;
+    
+    /** The number of entries seen in the top level object. */
+    private int rootEntryCount;
+    
+    /** A flag that records whether or not the series data was found. */
+    private boolean dataFound;
+    
+    /** The column keys (or {@code null} if not yet read). */
+    private List<String> columnKeys;
+    
+    /** The row keys (or {@code null} if not yet read). */
+    private List<String> rowKeys;
+    
+    /** The row keys in a set, for validating the series data. */
+    private Set<String> rowKeySet;
+    
+    /** The current entry in a series object. */
+    private String seriesEntry;
+    
+    /** The key for the current series. */
+    private String seriesKey;
+    
+    /** A flag indicating that the rows of the series are in an object. */
+    private boolean rowsInObject;
+    
+    /** The key for the current row. */
+    private String rowKey;
+    
+    /** The index of the next column in the current row. */
+    private int column;
+    
+    /** The number of values read. */
+    private long itemCount;
+    
+    /**
+     * Creates a new handler.
+     * 
+     * @param parser  the parser ({@code null} not permitted).
+     * @param listener  the progress listener ({@code null} permitted).
+     */
+    KeyedValues3DHandler(JSONParser parser, ReadProgressListener listener) {
+        this.parser = parser;
+        this.listener = listener;
+        this.dataset = new StandardCategoryDataset3D<String, String, String>();
+    }
+    
+    /**
+     * Returns the dataset that has been read.
+     * 
+     * @return The dataset (never {@code null}). 
+     */
+    StandardCategoryDataset3D<String, String, String> getDataset() {
+        return this.dataset;
+    }
+    
+    /**
+     * Returns the depth at which the values for a row are found.
+     * 
+     * @return The depth. 
+     */
+    private int valuesDepth() {
+        return this.rowsInObject ? 5 : 6;
+    }
+    
+    /**
+     * Returns {@code true} if the current top level entry contains the 
+     * series data.
+     * 
+     * @return A boolean. 
+     */
+    private boolean inSeriesData() {
+        return "data".equals(this.rootEntry) 
+                || "series".equals(this.rootEntry);
+    }
+
+    @Override
+    public void startJSON() throws ParseException, IOException {
+        this.depth = 0;
+        this.dataset.setNotify(false);
+    }
+
+    @Override
+    public void endJSON() throws ParseException, IOException {
+        this.dataset.setNotify(true);
+        if (this.listener != null) {
+            this.listener.readProgress(this.parser.getPosition(), 
+                    this.itemCount);
+        }
+    }
+
+    @Override
+    public boolean startObject() throws ParseException, IOException {
+        this.depth++;
+        if (this.skipDepth > 0 || this.depth == 1) {
+            return true;
+        }
+        if (this.depth == 3 && inSeriesData()) {
+            this.seriesKey = null;
+        } else if (this.depth == 4 && "rows".equals(this.seriesEntry)) {
+            checkSeriesKey();
+            this.rowsInObject = true;
+        } else {
+            throw new RuntimeException("Unexpected object in the input.");
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endObject() throws ParseException, IOException {
+        if (this.depth == 1 && this.rootEntryCount > 0 && !this.dataFound) {
+            throw new RuntimeException("No 'data' section defined.");
+        }
+        this.depth--;
+        return true;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) throws ParseException, 
+            IOException {
+        if (this.skipDepth > 0) {
+            return true;
+        }
+        if (this.depth == 1) {
+            this.rootEntry = key;
+            this.rootEntryCount++;
+            if (!"columnKeys".equals(key) && !"rowKeys".equals(key) 
+                    && !inSeriesData()) {
+                this.skipDepth = this.depth;
+            }
+        } else if (this.depth == 3) {
+            this.seriesEntry = key;
+            if (!"seriesKey".equals(key) && !"rows".equals(key)) {
+                this.skipDepth = this.depth;
+            }
+        } else if (this.depth == 4) {
+            startRow(key);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endObjectEntry() throws ParseException, IOException {
+        if (this.skipDepth == this.depth) {
+            this.skipDepth = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean startArray() throws ParseException, IOException {
+        this.depth++;
+        if (this.skipDepth > 0) {
+            return true;
+        }
+        if (this.depth == 2 && "columnKeys".equals(this.rootEntry)) {
+            this.columnKeys = new ArrayList<String>();
+        } else if (this.depth == 2 && "rowKeys".equals(this.rootEntry)) {
+            this.rowKeys = new ArrayList<String>();
+        } else if (this.depth == 2 && inSeriesData()) {
+            if (this.columnKeys == null || this.rowKeys == null) {
+                throw new RuntimeException("The 'columnKeys' and 'rowKeys' " 
+                        + "must be defined before the series data.");
+            }
+            this.rowKeySet = new HashSet<String>(this.rowKeys);
+            this.dataFound = true;
+        } else if (this.depth == 4 && "rows".equals(this.seriesEntry)) {
+            checkSeriesKey();
+            this.rowsInObject = false;
+        } else if (this.depth == 5 && !this.rowsInObject) {
+            this.rowKey = null;
+        } else if (this.depth == valuesDepth() && this.rowKey != null) {
+            this.column = 0;
+        } else {
+            throw new RuntimeException("Unexpected array in the input.");
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endArray() throws ParseException, IOException {
+        if (this.skipDepth == 0 && this.depth == valuesDepth() 
+                && this.column != this.columnKeys.size()) {
+            throw new RuntimeException("The values list for series "
+                    + this.seriesKey + " and row " + this.rowKey 
+                    + " does not contain the correct number of entries to " 
+                    + "match the columnKeys.");
+        }
+        this.depth--;
+        return true;
+    }
+
+    @Override
+    public boolean primitive(Object value) throws ParseException, 
+            IOException {
+        if (this.skipDepth > 0) {
+            return true;
+        }
+        if (this.depth == 2 && "columnKeys".equals(this.rootEntry)) {
+            this.columnKeys.add(String.valueOf(value));
+        } else if (this.depth == 2 && "rowKeys".equals(this.rootEntry)) {
+            this.rowKeys.add(String.valueOf(value));
+        } else if (this.depth == 3 && "seriesKey".equals(this.seriesEntry)) {
+            this.seriesKey = String.valueOf(value);
+        } else if (this.depth == 5 && !this.rowsInObject 
+                && this.rowKey == null) {
+            startRow(String.valueOf(value));
+        } else if (this.depth == valuesDepth() && this.rowKey != null) {
+            if (this.column >= this.columnKeys.size()) {
+                throw new RuntimeException("The values list for series "
+                        + this.seriesKey + " and row " + this.rowKey 
+                        + " contains more entries than the columnKeys.");
+            }
+            this.dataset.addValue(JSONUtils.objToDouble(value), 
+                    this.seriesKey, this.rowKey, 
+                    this.columnKeys.get(this.column));
+            this.column++;
+            this.itemCount++;
+            if (this.listener != null && this.itemCount 
+                    % XYZDatasetHandler.PROGRESS_INTERVAL == 0) {
+                this.listener.readProgress(this.parser.getPosition(), 
+                        this.itemCount);
+            }
+        } else {
+            throw new RuntimeException("Unexpected value in the input: " 
+                    + value);
+        }
+        return true;
+    }
+    
+    /**
+     * Checks that the series key has been read before the rows of the 
+     * series.
+     */
+    private void checkSeriesKey() {
+        if (this.seriesKey == null) {
+            throw new RuntimeException("The 'seriesKey' must be defined " 
+                    + "before the 'rows' of the series.");
+        }
+    }
+    
+    /**
+     * Starts reading the values for a row.
+     * 
+     * @param key  the row key. 
+     */
+    private void startRow(String key) {
+        if (!this.rowKeySet.contains(key)) {
+            throw new RuntimeException("The row key " + key + " is not "
+                    + "listed in the rowKeys entry."); 
+        }
+        this.rowKey = key;
+    }
+
+}
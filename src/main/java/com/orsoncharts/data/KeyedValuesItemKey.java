@@ -86,6 +86,11 @@ public class KeyedValuesItemKey implements ItemKey, Serializable {
         }
         return true;
     }
+
+    @Override
+    public int hashCode() {
+        return this.key.hashCode();
+    }
     
     @Override
     public String toJSONString() {
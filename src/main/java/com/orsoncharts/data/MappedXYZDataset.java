@@ -0,0 +1,438 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import com.orsoncharts.Range;
+import com.orsoncharts.data.xyz.XYZBlockAccess;
+import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZRangeInfo;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A read-only {@link XYZDataset} that accesses the data directly from a 
+ * memory-mapped file written by 
+ * {@link BinaryUtils#writeXYZDataset(XYZDataset, 
+ * java.nio.channels.WritableByteChannel)}.  The data values are not loaded
+ * into the Java heap, so this dataset can be used for point clouds that are
+ * too large to fit in memory (the operating system pages the data in from 
+ * the file as it is accessed).  Each column of values is mapped in segments
+ * of up to 512MB, so a series can contain up to {@code Integer.MAX_VALUE} 
+ * items.
+ * <br><br>
+ * The ranges of the data values are read from the file header, so finding 
+ * the axis ranges does not require a scan of the data, and the dataset 
+ * supports bulk access to the values through {@link XYZBlockAccess}.
+ * <br><br>
+ * NOTE: This class is serializable, but only the file name is serialized 
+ * (the file is mapped again when the dataset is deserialized).
+ * 
+ * @since 1.7
+ */
+@SuppressWarnings("serial")
+public class MappedXYZDataset extends AbstractDataset3D 
+        implements XYZDataset<String>, XYZRangeInfo, XYZBlockAccess, 
+        Serializable {
+    
+    /** The number of bits for the index of a value within a segment. */
+    private static final int SEGMENT_SHIFT = 26;
+    
+    /** The maximum number of values in a segment. */
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    
+    /** The mask for the index of a value within a segment. */
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    
+    /** The file. */
+    private final File file;
+    
+    /** The series keys. */
+    private transient List<String> keys;
+    
+    /** A map from series key to series index. */
+    private transient Map<String, Integer> keyIndex;
+    
+    /** The number of items in each series. */
+    private transient int[] itemCounts;
+    
+    /** The x, y and z-ranges. */
+    private transient Range[] ranges;
+    
+    /** 
+     * The mapped columns, indexed by {@code series * 3 + column} and then by
+     * segment. 
+     */
+    private transient DoubleBuffer[][] columns;
+    
+    /**
+     * Creates a new dataset that maps the specified file.
+     * 
+     * @param file  the file ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public MappedXYZDataset(File file) throws IOException {
+        ArgChecks.nullNotPermitted(file, "file");
+        this.file = file;
+        map();
+    }
+    
+    /**
+     * Maps the file and reads the header.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private void map() throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(this.file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            long size = channel.size();
+            ByteBuffer preamble = channel.map(FileChannel.MapMode.READ_ONLY, 
+                    0, Math.min(size, BinaryUtils.PREAMBLE_LENGTH)).order(
+                    ByteOrder.LITTLE_ENDIAN);
+            int headerLength = BinaryUtils.checkPreamble(preamble, 
+                    BinaryUtils.TYPE_XYZ);
+            if (headerLength > size) {
+                throw new IOException("The file is truncated.");
+            }
+            ByteBuffer b = channel.map(FileChannel.MapMode.READ_ONLY, 0, 
+                    headerLength).order(ByteOrder.LITTLE_ENDIAN);
+            BinaryUtils.XYZHeader header = new BinaryUtils.XYZHeader(b);
+            int seriesCount = header.keys.size();
+            this.keys = new ArrayList<String>(header.keys);
+            this.keyIndex = new HashMap<String, Integer>();
+            for (int s = 0; s < seriesCount; s++) {
+                this.keyIndex.put(this.keys.get(s), s);
+            }
+            this.ranges = new Range[] { header.getRange(0), 
+                    header.getRange(1), header.getRange(2) };
+            this.itemCounts = new int[seriesCount];
+            this.columns = new DoubleBuffer[seriesCount * 3][];
+            long position = headerLength;
+            for (int s = 0; s < seriesCount; s++) {
+                long n = header.itemCounts[s];
+                if (n > Integer.MAX_VALUE) {
+                    throw new IOException("Series " + this.keys.get(s) 
+                            + " has too many items: " + n);
+                }
+                this.itemCounts[s] = (int) n;
+                if (position + n * 24 > size) {
+                    throw new IOException("The file is truncated.");
+                }
+                for (int col = 0; col < 3; col++) {
+                    this.columns[s * 3 + col] = mapColumn(channel, position, 
+                            (int) n);
+                    position += n * 8;
+                }
+            }
+        } finally {
+            raf.close();
+        }
+    }
+    
+    /**
+     * Maps a column of values in segments.
+     * 
+     * @param channel  the file channel.
+     * @param position  the position of the column in the file.
+     * @param count  the number of values in the column.
+     * 
+     * @return The segments.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static DoubleBuffer[] mapColumn(FileChannel channel, 
+            long position, int count) throws IOException {
+        int segmentCount = (int) ((count + (long) SEGMENT_SIZE - 1) 
+                / SEGMENT_SIZE);
+        DoubleBuffer[] result = new DoubleBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int n = Math.min(SEGMENT_SIZE, count - i * SEGMENT_SIZE);
+            result[i] = channel.map(FileChannel.MapMode.READ_ONLY, 
+                    position + (long) i * SEGMENT_SIZE * 8, n * 8L).order(
+                    ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the file that this dataset maps.
+     * 
+     * @return The file (never {@code null}). 
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     * 
+     * @return The number of series in the dataset. 
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns a new list containing all the series keys.  Modifying this list 
+     * will have no impact on the dataset.
+     * 
+     * @return A list containing the series keys (possibly empty, but never 
+     *     {@code null}).
+     */
+    @Override
+    public List<String> getSeriesKeys() {
+        return new ArrayList<String>(this.keys);
+    }
+
+    /**
+     * Returns the key for the specified series.
+     * 
+     * @param seriesIndex  the series index.
+     * 
+     * @return The series key.
+     */
+    @Override
+    public String getSeriesKey(int seriesIndex) {
+        return this.keys.get(seriesIndex);
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or 
+     * {@code -1} if there is no series with the specified key.
+     * 
+     * @param key  the key ({@code null} not permitted).
+     * 
+     * @return The series index or {@code -1}. 
+     */
+    @Override
+    public int getSeriesIndex(String key) {
+        ArgChecks.nullNotPermitted(key, "key");
+        Integer index = this.keyIndex.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     * 
+     * @param seriesIndex  the series index.
+     * 
+     * @return The number of items in the specified series. 
+     */
+    @Override
+    public int getItemCount(int seriesIndex) {
+        return this.itemCounts[seriesIndex];
+    }
+
+    /**
+     * Returns the x-value for one item in a series.
+     * 
+     * @param seriesIndex  the series index.
+     * @param itemIndex  the item index.
+     * 
+     * @return The x-value. 
+     */
+    @Override
+    public double getX(int seriesIndex, int itemIndex) {
+        return value(seriesIndex * 3, itemIndex);
+    }
+
+    /**
+     * Returns the y-value for one item in a series.
+     * 
+     * @param seriesIndex  the series index.
+     * @param itemIndex  the item index.
+     * 
+     * @return The y-value. 
+     */
+    @Override
+    public double getY(int seriesIndex, int itemIndex) {
+        return value(seriesIndex * 3 + 1, itemIndex);
+    }
+
+    /**
+     * Returns the z-value for one item in a series.
+     * 
+     * @param seriesIndex  the series index.
+     * @param itemIndex  the item index.
+     * 
+     * @return The z-value. 
+     */
+    @Override
+    public double getZ(int seriesIndex, int itemIndex) {
+        return value(seriesIndex * 3 + 2, itemIndex);
+    }
+    
+    /**
+     * Returns a value from a mapped column.
+     * 
+     * @param column  the column index ({@code series * 3 + dimension}).
+     * @param item  the item index.
+     * 
+     * @return The value. 
+     */
+    private double value(int column, int item) {
+        return this.columns[column][item >>> SEGMENT_SHIFT].get(
+                item & SEGMENT_MASK);
+    }
+
+    /**
+     * Copies the x, y and z-values for a block of consecutive items in a 
+     * series into the supplied arrays (starting at index 0 in each array).
+     * 
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param count  the number of items.
+     * @param xs  the array for the x-values ({@code null} not permitted).
+     * @param ys  the array for the y-values ({@code null} not permitted).
+     * @param zs  the array for the z-values ({@code null} not permitted).
+     */
+    @Override
+    public void getItems(int series, int firstItem, int count, double[] xs, 
+            double[] ys, double[] zs) {
+        if (firstItem < 0 || firstItem + count > this.itemCounts[series]) {
+            throw new IllegalArgumentException("Invalid item range.");
+        }
+        copyValues(this.columns[series * 3], firstItem, count, xs);
+        copyValues(this.columns[series * 3 + 1], firstItem, count, ys);
+        copyValues(this.columns[series * 3 + 2], firstItem, count, zs);
+    }
+    
+    /**
+     * Copies values from a mapped column into an array.
+     * 
+     * @param segments  the column segments.
+     * @param first  the index of the first value.
+     * @param count  the number of values.
+     * @param dest  the destination array.
+     */
+    private static void copyValues(DoubleBuffer[] segments, int first, 
+            int count, double[] dest) {
+        int i = 0;
+        while (i < count) {
+            int item = first + i;
+            DoubleBuffer segment = segments[item >>> SEGMENT_SHIFT].duplicate();
+            int offset = item & SEGMENT_MASK;
+            int n = Math.min(count - i, segment.limit() - offset);
+            segment.position(offset);
+            segment.get(dest, i, n);
+            i += n;
+        }
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset, as recorded in the
+     * file header.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    @Override
+    public Range getXRange() {
+        return this.ranges[0];
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset, as recorded in the
+     * file header.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    @Override
+    public Range getYRange() {
+        return this.ranges[1];
+    }
+
+    /**
+     * Returns the range of the z-values in the dataset, as recorded in the
+     * file header.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    @Override
+    public Range getZRange() {
+        return this.ranges[2];
+    }
+    
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two 
+     * instances are considered equal if they map the same file.
+     * 
+     * @param obj  the object ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MappedXYZDataset)) {
+            return false;
+        }
+        MappedXYZDataset that = (MappedXYZDataset) obj;
+        return this.file.equals(that.file);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.file.hashCode();
+    }
+    
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        map();
+    }
+
+}
@@ -32,6 +32,8 @@
 
 package com.orsoncharts.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.EventObject;
 
@@ -43,6 +45,22 @@ import java.util.EventObject;
  */
 public class Series3DChangeEvent extends EventObject implements Serializable{
 
+    /** 
+     * Fixed at the value computed for version 1.6, so that events 
+     * serialized by that version (which have no item indices) can still be
+     * read.
+     */
+    private static final long serialVersionUID = -1161059294198517280L;
+
+    /** 
+     * The index of the first item appended to the series, or {@code -1} if 
+     * the change is not a simple append.
+     */
+    private int firstItemIndex;
+    
+    /** The index of the last item appended to the series. */
+    private int lastItemIndex;
+    
     /**
      * Constructs a new event.
      *
@@ -50,6 +68,83 @@ public class Series3DChangeEvent extends EventObject implements Serializable{
      */
     public Series3DChangeEvent(Object source) {
         super(source);
+        this.firstItemIndex = -1;
+        this.lastItemIndex = -1;
+    }
+
+    /**
+     * Constructs a new event signalling that the items from 
+     * {@code firstItemIndex} to {@code lastItemIndex} (inclusive) have been 
+     * appended to the series, with no change to the existing items.  
+     * Listeners can use this information to update their state 
+     * incrementally.
+     * 
+     * @param source  the source of the change event.
+     * @param firstItemIndex  the index of the first appended item.
+     * @param lastItemIndex  the index of the last appended item.
+     * 
+     * @since 1.7
+     */
+    public Series3DChangeEvent(Object source, int firstItemIndex, 
+            int lastItemIndex) {
+        super(source);
+        if (firstItemIndex < 0 || lastItemIndex < firstItemIndex) {
+            throw new IllegalArgumentException("Invalid item range.");
+        }
+        this.firstItemIndex = firstItemIndex;
+        this.lastItemIndex = lastItemIndex;
+    }
+    
+    /**
+     * Returns {@code true} if this event signals only that items were 
+     * appended to the series, and {@code false} otherwise.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.7
+     */
+    public boolean isAppend() {
+        return this.firstItemIndex >= 0;
+    }
+    
+    /**
+     * Returns the index of the first appended item, or {@code -1} if this
+     * event does not signal an append.
+     * 
+     * @return The item index.
+     * 
+     * @since 1.7
+     */
+    public int getFirstItemIndex() {
+        return this.firstItemIndex;
+    }
+    
+    /**
+     * Returns the index of the last appended item, or {@code -1} if this
+     * event does not signal an append.
+     * 
+     * @return The item index.
+     * 
+     * @since 1.7
+     */
+    public int getLastItemIndex() {
+        return this.lastItemIndex;
+    }
+    
+    /**
+     * Provides serialization support.  An event serialized by version 1.6
+     * does not signal an append.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = stream.readFields();
+        this.firstItemIndex = fields.get("firstItemIndex", -1);
+        this.lastItemIndex = fields.get("lastItemIndex", -1);
     }
 
 }
@@ -0,0 +1,230 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import java.io.Serializable;
+import com.orsoncharts.Range;
+
+/**
+ * Summary statistics for a {@link Values3D} data cube, computed in a single 
+ * pass over the data by {@link DataUtils#summarize(Values3D)}.  The 
+ * summary includes the value range (for the finite values), the range of 
+ * the stacked values (as used for stacked bar charts), the total and the 
+ * counts of finite and {@code NaN} (or {@code null}) values.
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class.
+ * 
+ * @since 1.7
+ */
+@SuppressWarnings("serial")
+public final class Values3DSummary implements Serializable {
+    
+    /** The smallest finite value. */
+    private double min;
+    
+    /** The largest finite value. */
+    private double max;
+    
+    /** 
+     * The smallest (negative) subtotal when the values for each data cell 
+     * are stacked, starting from zero. 
+     */
+    private double stackedMin;
+    
+    /** 
+     * The largest (positive) subtotal when the values for each data cell are
+     * stacked, starting from zero. 
+     */
+    private double stackedMax;
+    
+    /** The total of the values (excluding {@code NaN} values). */
+    private double total;
+    
+    /** The number of finite values. */
+    private long finiteCount;
+    
+    /** The number of {@code NaN} (or {@code null}) values. */
+    private long nanCount;
+    
+    /** The number of infinite values. */
+    private long infiniteCount;
+    
+    /**
+     * Creates a new (empty) summary.
+     */
+    Values3DSummary() {
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+    
+    /**
+     * Includes one value in the summary (the stacked values are handled
+     * separately, see {@link #addStack(double, double)}).
+     * 
+     * @param v  the value.
+     */
+    void add(double v) {
+        if (Double.isNaN(v)) {
+            this.nanCount++;
+            return;
+        }
+        this.total += v;
+        if (Double.isInfinite(v)) {
+            this.infiniteCount++;
+            return;
+        }
+        this.finiteCount++;
+        if (v < this.min) {
+            this.min = v;
+        }
+        if (v > this.max) {
+            this.max = v;
+        }
+    }
+    
+    /**
+     * Includes the stacked subtotals for one data cell in the summary.
+     * 
+     * @param neg  the total of the negative values.
+     * @param pos  the total of the positive values.
+     */
+    void addStack(double neg, double pos) {
+        if (neg < this.stackedMin) {
+            this.stackedMin = neg;
+        }
+        if (pos > this.stackedMax) {
+            this.stackedMax = pos;
+        }
+    }
+    
+    /**
+     * Includes the statistics from another summary in this summary.
+     * 
+     * @param other  the other summary.
+     */
+    void add(Values3DSummary other) {
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        this.stackedMin = Math.min(this.stackedMin, other.stackedMin);
+        this.stackedMax = Math.max(this.stackedMax, other.stackedMax);
+        this.total += other.total;
+        this.finiteCount += other.finiteCount;
+        this.nanCount += other.nanCount;
+        this.infiniteCount += other.infiniteCount;
+    }
+    
+    /**
+     * Returns the range of the finite values, or {@code null} if there are 
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}).
+     */
+    public Range getValueRange() {
+        return getValueRange(Double.NaN);
+    }
+    
+    /**
+     * Returns the range of the finite values, extended if necessary to 
+     * include the {@code base} value (unless it is {@code Double.NaN} in 
+     * which case it is ignored).  The result is the same as 
+     * {@link DataUtils#findValueRange(Values3D, double)}.
+     * 
+     * @param base  a value that must be included in the range (often 0).
+     * 
+     * @return The range (possibly {@code null}).
+     */
+    public Range getValueRange(double base) {
+        double lower = this.min;
+        double upper = this.max;
+        if (!Double.isNaN(base)) {
+            lower = Math.min(lower, base);
+            upper = Math.max(upper, base);
+        }
+        return lower <= upper ? new Range(lower, upper) : null;
+    }
+    
+    /**
+     * Returns the range of the values when the values for each data cell 
+     * are stacked (positive values upwards and negative values downwards) 
+     * starting from the {@code base} value.  The result is the same as 
+     * {@link DataUtils#findStackedValueRange(Values3D, double)} (apart from
+     * rounding differences when the base is not zero).
+     * 
+     * @param base  the base value.
+     * 
+     * @return The range (never {@code null}). 
+     */
+    public Range getStackedValueRange(double base) {
+        return new Range(base + this.stackedMin, base + this.stackedMax);
+    }
+    
+    /**
+     * Returns the total of the values, ignoring {@code NaN} (and 
+     * {@code null}) values.
+     * 
+     * @return The total.
+     */
+    public double getTotal() {
+        return this.total;
+    }
+    
+    /**
+     * Returns the number of finite values.
+     * 
+     * @return The number of finite values. 
+     */
+    public long getFiniteCount() {
+        return this.finiteCount;
+    }
+    
+    /**
+     * Returns the number of {@code NaN} (or {@code null}) values.
+     * 
+     * @return The number of {@code NaN} values. 
+     */
+    public long getNaNCount() {
+        return this.nanCount;
+    }
+    
+    /**
+     * Returns the number of infinite values.
+     * 
+     * @return The number of infinite values. 
+     */
+    public long getInfiniteCount() {
+        return this.infiniteCount;
+    }
+    
+}
@@ -0,0 +1,207 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import java.io.Serializable;
+import com.orsoncharts.Range;
+import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZRangeInfo;
+
+/**
+ * Summary statistics for an {@link XYZDataset}, computed in a single pass 
+ * over the data by {@link DataUtils#summarize(XYZDataset)}.  The ranges 
+ * exclude {@code Double.NaN} and infinite values, so they are the same as 
+ * the ranges returned by {@link DataUtils#findXRange(XYZDataset)} and the
+ * related methods.
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class.
+ * 
+ * @since 1.7
+ */
+@SuppressWarnings("serial")
+public final class XYZDataSummary implements XYZRangeInfo, Serializable {
+    
+    /** The bounds of the finite x, y and z-values. */
+    private double minX, maxX, minY, maxY, minZ, maxZ;
+    
+    /** The number of items. */
+    private long itemCount;
+    
+    /** The number of items where the x, y and z-values are all finite. */
+    private long finiteItemCount;
+    
+    /** The total of the y-values (excluding {@code NaN} values). */
+    private double yTotal;
+    
+    /**
+     * Creates a new (empty) summary.
+     */
+    XYZDataSummary() {
+        this.minX = Double.POSITIVE_INFINITY;
+        this.maxX = Double.NEGATIVE_INFINITY;
+        this.minY = Double.POSITIVE_INFINITY;
+        this.maxY = Double.NEGATIVE_INFINITY;
+        this.minZ = Double.POSITIVE_INFINITY;
+        this.maxZ = Double.NEGATIVE_INFINITY;
+    }
+    
+    /**
+     * Includes one item in the summary.
+     * 
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     */
+    void add(double x, double y, double z) {
+        this.itemCount++;
+        boolean finite = true;
+        if (x > Double.NEGATIVE_INFINITY && x < Double.POSITIVE_INFINITY) {
+            if (x < this.minX) {
+                this.minX = x;
+            }
+            if (x > this.maxX) {
+                this.maxX = x;
+            }
+        } else {
+            finite = false;
+        }
+        if (y > Double.NEGATIVE_INFINITY && y < Double.POSITIVE_INFINITY) {
+            if (y < this.minY) {
+                this.minY = y;
+            }
+            if (y > this.maxY) {
+                this.maxY = y;
+            }
+        } else {
+            finite = false;
+        }
+        if (z > Double.NEGATIVE_INFINITY && z < Double.POSITIVE_INFINITY) {
+            if (z < this.minZ) {
+                this.minZ = z;
+            }
+            if (z > this.maxZ) {
+                this.maxZ = z;
+            }
+        } else {
+            finite = false;
+        }
+        if (finite) {
+            this.finiteItemCount++;
+        }
+        if (!Double.isNaN(y)) {
+            this.yTotal += y;
+        }
+    }
+    
+    /**
+     * Includes the statistics from another summary in this summary.
+     * 
+     * @param other  the other summary.
+     */
+    void add(XYZDataSummary other) {
+        this.minX = Math.min(this.minX, other.minX);
+        this.maxX = Math.max(this.maxX, other.maxX);
+        this.minY = Math.min(this.minY, other.minY);
+        this.maxY = Math.max(this.maxY, other.maxY);
+        this.minZ = Math.min(this.minZ, other.minZ);
+        this.maxZ = Math.max(this.maxZ, other.maxZ);
+        this.itemCount += other.itemCount;
+        this.finiteItemCount += other.finiteItemCount;
+        this.yTotal += other.yTotal;
+    }
+    
+    /**
+     * Returns the number of items in the dataset.
+     * 
+     * @return The number of items. 
+     */
+    public long getItemCount() {
+        return this.itemCount;
+    }
+    
+    /**
+     * Returns the number of items in the dataset for which the x, y and 
+     * z-values are all finite.
+     * 
+     * @return The number of items. 
+     */
+    public long getFiniteItemCount() {
+        return this.finiteItemCount;
+    }
+    
+    /**
+     * Returns the total of the y-values in the dataset, ignoring 
+     * {@code Double.NaN} values.
+     * 
+     * @return The total. 
+     */
+    public double getYTotal() {
+        return this.yTotal;
+    }
+
+    /**
+     * Returns the range of the finite x-values, or {@code null} if there are 
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    @Override
+    public Range getXRange() {
+        return this.minX <= this.maxX ? new Range(this.minX, this.maxX) : null;
+    }
+
+    /**
+     * Returns the range of the finite y-values, or {@code null} if there are 
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    @Override
+    public Range getYRange() {
+        return this.minY <= this.maxY ? new Range(this.minY, this.maxY) : null;
+    }
+
+    /**
+     * Returns the range of the finite z-values, or {@code null} if there are 
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    @Override
+    public Range getZRange() {
+        return this.minZ <= this.maxZ ? new Range(this.minZ, this.maxZ) : null;
+    }
+
+}
@@ -0,0 +1,250 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import java.io.IOException;
+import com.orsoncharts.data.xyz.XYZArrayDataset;
+import com.orsoncharts.util.json.parser.ContentHandler;
+import com.orsoncharts.util.json.parser.JSONParser;
+import com.orsoncharts.util.json.parser.ParseException;
+
+/**
+ * A {@link ContentHandler} that builds an {@link XYZArrayDataset} directly
+ * from the events sent by a {@link JSONParser}, without creating the 
+ * intermediate lists that are used when the whole document is parsed at 
+ * once.  The expected format is the one written by 
+ * {@link JSONUtils#writeXYZDataset(com.orsoncharts.data.xyz.XYZDataset)}.
+ */
+class XYZDatasetHandler implements ContentHandler {
+
+    /** The number of items that are buffered before adding to a series. */
+    private static final int BLOCK_SIZE = 4096;
+    
+    /** The number of items between progress reports. */
+    static final int PROGRESS_INTERVAL = 65536;
+    
+    /** The parser (used to report the position in the input). */
+    private final JSONParser parser;
+    
+    /** The listener for progress reports ({@code null} permitted). */
+    private final ReadProgressListener listener;
+    
+    /** The dataset being built. */
+    private final XYZArrayDataset<String> dataset;
+    
+    /** The current array nesting depth. */
+    private int depth;
+    
+    /** The index of the series being read, or {@code -1}. */
+    private int seriesIndex;
+    
+    /** The number of values read for the current item. */
+    private int valueCount;
+    
+    /** The values for the current item. */
+    private final double[] values;
+    
+    /** Buffered x-values waiting to be added to the current series. */
+    private final double[] xs;
+    
+    /** Buffered y-values waiting to be added to the current series. */
+    private final double[] ys;
+    
+    /** Buffered z-values waiting to be added to the current series. */
+    private final double[] zs;
+    
+    /** The number of buffered items. */
+    private int bufferCount;
+    
+    /** The total number of items read. */
+    private long itemCount;
+    
+    /**
+     * Creates a new handler.
+     * 
+     * @param parser  the parser ({@code null} not permitted).
+     * @param listener  the progress listener ({@code null} permitted).
+     */
+    XYZDatasetHandler(JSONParser parser, ReadProgressListener listener) {
+        this.parser = parser;
+        this.listener = listener;
+        this.dataset = new XYZArrayDataset<String>();
+        this.seriesIndex = -1;
+        this.values = new double[3];
+        this.xs = new double[BLOCK_SIZE];
+        this.ys = new double[BLOCK_SIZE];
+        this.zs = new double[BLOCK_SIZE];
+    }
+    
+    /**
+     * Returns the dataset that has been read.
+     * 
+     * @return The dataset (never {@code null}). 
+     */
+    XYZArrayDataset<String> getDataset() {
+        return this.dataset;
+    }
+
+    @Override
+    public void startJSON() throws ParseException, IOException {
+        this.depth = 0;
+    }
+
+    @Override
+    public void endJSON() throws ParseException, IOException {
+        if (this.listener != null) {
+            this.listener.readProgress(this.parser.getPosition(), 
+                    this.itemCount);
+        }
+    }
+
+    @Override
+    public boolean startObject() throws ParseException, IOException {
+        throw new RuntimeException(
+                "Unexpected object in the input, expecting an array.");
+    }
+
+    @Override
+    public boolean endObject() throws ParseException, IOException {
+        return true;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) throws ParseException, 
+            IOException {
+        return true;
+    }
+
+    @Override
+    public boolean endObjectEntry() throws ParseException, IOException {
+        return true;
+    }
+
+    @Override
+    public boolean startArray() throws ParseException, IOException {
+        this.depth++;
+        if (this.depth == 3 && this.seriesIndex < 0) {
+            throw new RuntimeException(
+                    "A series should start with the series key.");
+        }
+        if (this.depth == 4) {
+            this.valueCount = 0;
+        } else if (this.depth > 4) {
+            throw new RuntimeException(
+                    "Expecting a data item (x, y, z) but found an array.");
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endArray() throws ParseException, IOException {
+        if (this.depth == 4) {
+            if (this.valueCount != 3) {
+                throw new RuntimeException("A data item should contain " 
+                        + "three numbers, but we have " + this.valueCount 
+                        + ".");
+            }
+            addItem(this.values[0], this.values[1], this.values[2]);
+        } else if (this.depth == 2) {
+            flushItems();
+            this.seriesIndex = -1;
+        }
+        this.depth--;
+        return true;
+    }
+
+    @Override
+    public boolean primitive(Object value) throws ParseException, 
+            IOException {
+        if (this.depth == 2 && this.seriesIndex < 0) {
+            if (value == null) {
+                throw new RuntimeException("Missing series key.");
+            }
+            this.seriesIndex = this.dataset.addSeries(value.toString());
+        } else if (this.depth == 4) {
+            if (this.valueCount >= 3) {
+                throw new RuntimeException("A data item should contain " 
+                        + "three numbers, but we have more.");
+            }
+            this.values[this.valueCount++] = JSONUtils.objToDouble(value);
+        } else {
+            throw new RuntimeException("Unexpected value in the input: " 
+                    + value);
+        }
+        return true;
+    }
+    
+    /**
+     * Adds an item to the buffer for the current series, adding the 
+     * buffered items to the dataset when the buffer is full.
+     * 
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     */
+    private void addItem(double x, double y, double z) {
+        this.xs[this.bufferCount] = x;
+        this.ys[this.bufferCount] = y;
+        this.zs[this.bufferCount] = z;
+        this.bufferCount++;
+        if (this.bufferCount == BLOCK_SIZE) {
+            flushItems();
+        }
+        this.itemCount++;
+        if (this.listener != null 
+                && this.itemCount % PROGRESS_INTERVAL == 0) {
+            this.listener.readProgress(this.parser.getPosition(), 
+                    this.itemCount);
+        }
+    }
+    
+    /**
+     * Adds the buffered items to the current series.
+     */
+    private void flushItems() {
+        if (this.bufferCount == BLOCK_SIZE) {
+            this.dataset.addAll(this.seriesIndex, this.xs, this.ys, this.zs);
+        } else if (this.bufferCount > 0) {
+            int n = this.bufferCount;
+            double[] x = new double[n];
+            double[] y = new double[n];
+            double[] z = new double[n];
+            System.arraycopy(this.xs, 0, x, 0, n);
+            System.arraycopy(this.ys, 0, y, 0, n);
+            System.arraycopy(this.zs, 0, z, 0, n);
+            this.dataset.addAll(this.seriesIndex, x, y, z);
+        }
+        this.bufferCount = 0;
+    }
+
+}
@@ -0,0 +1,531 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.category;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.orsoncharts.data.AbstractDataset3D;
+import com.orsoncharts.data.JSONUtils;
+import com.orsoncharts.data.KeyedValues3D;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A {@link CategoryDataset3D} that stores its values in a single array of 
+ * {@code double} primitives, ordered by series then row then column.  A 
+ * {@code null} value is stored as {@code Double.NaN} (so the dataset cannot
+ * distinguish between the two).  The series, row and column keys are fixed 
+ * when the dataset is created.
+ * <br><br>
+ * Compared to {@link StandardCategoryDataset3D}, this dataset uses much less
+ * memory for large numbers of values and {@link #getDoubleValue(int, int, 
+ * int)} reads the value directly from the array, so iterating over the
+ * dataset (for example to find the value range, or to compose the plot)
+ * is faster.
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class.
+ * 
+ * @param <S>  the series key (must implement Comparable).
+ * @param <R>  the row key (must implement Comparable).
+ * @param <C>  the column key (must implement Comparable).
+ * 
+ * @since 1.7
+ */
+@SuppressWarnings("serial")
+public final class CategoryArrayDataset3D<S extends Comparable<S>, 
+        R extends Comparable<R>, C extends Comparable<C>> 
+        extends AbstractDataset3D 
+        implements CategoryDataset3D<S, R, C>, Serializable {
+
+    /** The series keys. */
+    private final List<S> seriesKeys;
+    
+    /** The row keys. */
+    private final List<R> rowKeys;
+    
+    /** The column keys. */
+    private final List<C> columnKeys;
+    
+    /** A map from series key to series index. */
+    private final Map<S, Integer> seriesIndex;
+    
+    /** A map from row key to row index. */
+    private final Map<R, Integer> rowIndex;
+    
+    /** A map from column key to column index. */
+    private final Map<C, Integer> columnIndex;
+    
+    /** The data values ({@code NaN} for {@code null}). */
+    private final double[] values;
+    
+    /**
+     * Creates a new dataset with the specified keys and all values set to 
+     * {@code null}.
+     * 
+     * @param seriesKeys  the series keys ({@code null} not permitted).
+     * @param rowKeys  the row keys ({@code null} not permitted).
+     * @param columnKeys  the column keys ({@code null} not permitted).
+     */
+    public CategoryArrayDataset3D(List<S> seriesKeys, List<R> rowKeys, 
+            List<C> columnKeys) {
+        ArgChecks.nullNotPermitted(seriesKeys, "seriesKeys");
+        ArgChecks.nullNotPermitted(rowKeys, "rowKeys");
+        ArgChecks.nullNotPermitted(columnKeys, "columnKeys");
+        this.seriesKeys = new ArrayList<S>(seriesKeys);
+        this.rowKeys = new ArrayList<R>(rowKeys);
+        this.columnKeys = new ArrayList<C>(columnKeys);
+        this.seriesIndex = createIndex(this.seriesKeys, "series");
+        this.rowIndex = createIndex(this.rowKeys, "row");
+        this.columnIndex = createIndex(this.columnKeys, "column");
+        long size = (long) seriesKeys.size() * rowKeys.size() 
+                * columnKeys.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many values: " + size);
+        }
+        this.values = new double[(int) size];
+        Arrays.fill(this.values, Double.NaN);
+    }
+    
+    /**
+     * Creates a new dataset with the specified keys and values.  The values
+     * array is ordered by series then row then column (so the value for
+     * {@code (series, row, column)} is at index 
+     * {@code (series * rowCount + row) * columnCount + column}), with 
+     * {@code Double.NaN} for {@code null} values.  The array is copied.
+     * 
+     * @param seriesKeys  the series keys ({@code null} not permitted).
+     * @param rowKeys  the row keys ({@code null} not permitted).
+     * @param columnKeys  the column keys ({@code null} not permitted).
+     * @param values  the values ({@code null} not permitted).
+     */
+    public CategoryArrayDataset3D(List<S> seriesKeys, List<R> rowKeys, 
+            List<C> columnKeys, double[] values) {
+        this(seriesKeys, rowKeys, columnKeys);
+        ArgChecks.nullNotPermitted(values, "values");
+        if (values.length != this.values.length) {
+            throw new IllegalArgumentException("Expected " 
+                    + this.values.length + " values but found " 
+                    + values.length + ".");
+        }
+        System.arraycopy(values, 0, this.values, 0, values.length);
+    }
+    
+    /**
+     * Creates a new dataset containing the same keys and values as the
+     * source data.
+     * 
+     * @param source  the source data ({@code null} not permitted).
+     */
+    public CategoryArrayDataset3D(
+            KeyedValues3D<S, R, C, ? extends Number> source) {
+        this(source.getSeriesKeys(), source.getRowKeys(), 
+                source.getColumnKeys());
+        int i = 0;
+        for (int s = 0; s < this.seriesKeys.size(); s++) {
+            for (int r = 0; r < this.rowKeys.size(); r++) {
+                for (int c = 0; c < this.columnKeys.size(); c++) {
+                    this.values[i++] = source.getDoubleValue(s, r, c);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Creates a map from key to index for a list of keys.
+     * 
+     * @param keys  the keys.
+     * @param name  the name of the key type (for the error message).
+     * 
+     * @return The map. 
+     */
+    private static <K> Map<K, Integer> createIndex(List<K> keys, 
+            String name) {
+        Map<K, Integer> result = new HashMap<K, Integer>(keys.size() * 2);
+        for (int i = 0; i < keys.size(); i++) {
+            K key = keys.get(i);
+            ArgChecks.nullNotPermitted(key, name + "Key");
+            if (result.put(key, i) != null) {
+                throw new IllegalArgumentException("Duplicate " + name 
+                        + " key '" + key + "'.");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of data series in the dataset.
+     * 
+     * @return The number of data series.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.size();
+    }
+
+    /**
+     * Returns the number of rows in the dataset.
+     * 
+     * @return The number of rows. 
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the dataset.
+     * 
+     * @return The number of columns. 
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns the key for the specified series.
+     * 
+     * @param seriesIndex  the series index.
+     * 
+     * @return The series key. 
+     */
+    @Override
+    public S getSeriesKey(int seriesIndex) {
+        return this.seriesKeys.get(seriesIndex);
+    }
+
+    /**
+     * Returns the key for the specified row.
+     * 
+     * @param rowIndex The row index.
+     * 
+     * @return The row key. 
+     */
+    @Override
+    public R getRowKey(int rowIndex) {
+        return this.rowKeys.get(rowIndex);
+    }
+
+    /**
+     * Returns the key for the specified column.
+     * 
+     * @param columnIndex  the column index.
+     * 
+     * @return The column key. 
+     */
+    @Override
+    public C getColumnKey(int columnIndex) {
+        return this.columnKeys.get(columnIndex);
+    }
+
+    /**
+     * Returns the index for the specified series key, or {@code -1} if the 
+     * key is not defined in the dataset.
+     * 
+     * @param serieskey  the series key ({@code null} not permitted).
+     * 
+     * @return The series index or {@code -1}.
+     */
+    @Override
+    public int getSeriesIndex(S serieskey) {
+        ArgChecks.nullNotPermitted(serieskey, "serieskey");
+        Integer index = this.seriesIndex.get(serieskey);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the index of the specified row key, or {@code -1} if there
+     * is no matching key.
+     * 
+     * @param rowkey  the row key ({@code null} not permitted).
+     * 
+     * @return The row index or {@code -1}. 
+     */
+    @Override
+    public int getRowIndex(R rowkey) {
+        ArgChecks.nullNotPermitted(rowkey, "rowkey");
+        Integer index = this.rowIndex.get(rowkey);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the index of the specified column key, or {@code -1} if 
+     * there is no matching key.
+     * 
+     * @param columnkey  the column key ({@code null} not permitted).
+     * 
+     * @return The column index or {@code -1}. 
+     */
+    @Override
+    public int getColumnIndex(C columnkey) {
+        ArgChecks.nullNotPermitted(columnkey, "columnkey");
+        Integer index = this.columnIndex.get(columnkey);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns a list of the series keys for the dataset.  Modifying this
+     * list will have no impact on the underlying dataset.
+     * 
+     * @return A list of the series keys (possibly empty, but never 
+     *     {@code null}). 
+     */
+    @Override
+    public List<S> getSeriesKeys() {
+        return new ArrayList<S>(this.seriesKeys);
+    }
+
+    /**
+     * Returns a list of the row keys for the dataset.  Modifying this
+     * list will have no impact on the underlying dataset.
+     * 
+     * @return A list of the row keys (possibly empty, but never 
+     *     {@code null}). 
+     */
+    @Override
+    public List<R> getRowKeys() {
+        return new ArrayList<R>(this.rowKeys);
+    }
+
+    /**
+     * Returns a list of the column keys for the dataset.  Modifying this
+     * list will have no impact on the underlying dataset.
+     * 
+     * @return A list of the column keys (possibly empty, but never 
+     *     {@code null}). 
+     */
+    @Override
+    public List<C> getColumnKeys() {
+        return new ArrayList<C>(this.columnKeys);
+    }
+    
+    /**
+     * Returns the position of a value in the values array.
+     * 
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     * 
+     * @return The position. 
+     */
+    private int offset(int seriesIndex, int rowIndex, int columnIndex) {
+        if (seriesIndex < 0 || seriesIndex >= this.seriesKeys.size()) {
+            throw new IndexOutOfBoundsException("Invalid series index: " 
+                    + seriesIndex);
+        }
+        if (rowIndex < 0 || rowIndex >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Invalid row index: " 
+                    + rowIndex);
+        }
+        if (columnIndex < 0 || columnIndex >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException("Invalid column index: " 
+                    + columnIndex);
+        }
+        return (seriesIndex * this.rowKeys.size() + rowIndex) 
+                * this.columnKeys.size() + columnIndex;
+    }
+    
+    /**
+     * Returns the position of a value in the values array, throwing an
+     * {@code IllegalArgumentException} if any of the keys is not defined in
+     * the dataset.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     * 
+     * @return The position. 
+     */
+    private int offset(S seriesKey, R rowKey, C columnKey) {
+        int seriesIndex = getSeriesIndex(seriesKey);
+        if (seriesIndex < 0) {
+            throw new IllegalArgumentException("Series '" + seriesKey 
+                    + "' is not found.");
+        }
+        int rowIndex = getRowIndex(rowKey);
+        if (rowIndex < 0) {
+            throw new IllegalArgumentException("Row key '" + rowKey 
+                    + "' is not found.");
+        }
+        int columnIndex = getColumnIndex(columnKey);
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("Column key '" + columnKey 
+                    + "' is not found.");
+        }
+        return offset(seriesIndex, rowIndex, columnIndex);
+    }
+
+    /**
+     * Returns the value for a series at the specified cell (referenced by
+     * row key and column key).  This method will throw an 
+     * {@code IllegalArgumentException} if the dataset does not contain the
+     * specified keys.
+     * 
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     * 
+     * @return The value (possibly {@code null}). 
+     */
+    @Override
+    public Number getValue(S seriesKey, R rowKey, C columnKey) {
+        double v = this.values[offset(seriesKey, rowKey, columnKey)];
+        return Double.isNaN(v) ? null : Double.valueOf(v);
+    }
+
+    /**
+     * Returns the value for a series at the specified cell (referenced by 
+     * row index and column index).
+     * 
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     * 
+     * @return The value (possibly {@code null}).
+     */
+    @Override
+    public Number getValue(int seriesIndex, int rowIndex, int columnIndex) {
+        double v = this.values[offset(seriesIndex, rowIndex, columnIndex)];
+        return Double.isNaN(v) ? null : Double.valueOf(v);
+    }
+
+    /**
+     * Returns the value for a series at the specified cell (referenced by row
+     * index and column index) as a double primitive.  If the stored data 
+     * value is {@code null}, this method returns {@code Double.NaN}.
+     * 
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     * 
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public double getDoubleValue(int seriesIndex, int rowIndex, 
+            int columnIndex) {
+        return this.values[offset(seriesIndex, rowIndex, columnIndex)];
+    }
+    
+    /**
+     * Sets the value for a series at the specified cell (referenced by row
+     * index and column index) and sends a change event to all registered 
+     * listeners.
+     * 
+     * @param value  the value ({@code Double.NaN} for a {@code null} value).
+     * @param seriesIndex  the series index.
+     * @param rowIndex  the row index.
+     * @param columnIndex  the column index.
+     */
+    public void setValue(double value, int seriesIndex, int rowIndex, 
+            int columnIndex) {
+        this.values[offset(seriesIndex, rowIndex, columnIndex)] = value;
+        fireDatasetChanged();
+    }
+    
+    /**
+     * Sets the value for a series at the specified cell (referenced by row
+     * key and column key) and sends a change event to all registered 
+     * listeners.  This method will throw an {@code IllegalArgumentException}
+     * if the dataset does not contain the specified keys.
+     * 
+     * @param n  the value ({@code null} permitted).
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     */
+    public void setValue(Number n, S seriesKey, R rowKey, C columnKey) {
+        this.values[offset(seriesKey, rowKey, columnKey)] 
+                = n != null ? n.doubleValue() : Double.NaN;
+        fireDatasetChanged();
+    }
+    
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     * 
+     * @param obj  the object to test against ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryArrayDataset3D)) {
+            return false;
+        }
+        CategoryArrayDataset3D<?, ?, ?> that 
+                = (CategoryArrayDataset3D<?, ?, ?>) obj;
+        if (!this.seriesKeys.equals(that.seriesKeys)) {
+            return false;
+        }
+        if (!this.rowKeys.equals(that.rowKeys)) {
+            return false;
+        }
+        if (!this.columnKeys.equals(that.columnKeys)) {
+            return false;
+        }
+        return Arrays.equals(this.values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 37 * hash + this.seriesKeys.hashCode();
+        hash = 37 * hash + this.rowKeys.hashCode();
+        hash = 37 * hash + this.columnKeys.hashCode();
+        return hash;
+    }
+    
+    /**
+     * Returns a string representation of this instance, primarily for 
+     * debugging purposes.
+     * <br><br>
+     * Implementation note: the current implementation (which is subject to 
+     * change) writes the dataset in JSON format using 
+     * {@link JSONUtils#writeKeyedValues3D(com.orsoncharts.data.KeyedValues3D)}.
+     * 
+     * @return A string. 
+     */
+    @Override
+    public String toString() {
+        return JSONUtils.writeKeyedValues3D(this);
+    }
+
+}
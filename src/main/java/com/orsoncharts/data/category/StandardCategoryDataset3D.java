@@ -39,6 +39,7 @@ import com.orsoncharts.data.AbstractDataset3D;
 import com.orsoncharts.data.DefaultKeyedValues3D;
 import com.orsoncharts.data.JSONUtils;
 import com.orsoncharts.data.KeyedValues;
+import com.orsoncharts.data.KeyedValues3DBuilder;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -66,6 +67,20 @@ public final class StandardCategoryDataset3D
     public StandardCategoryDataset3D() {
         this.data = new DefaultKeyedValues3D<S, R, C, Number>();  
     }
+    
+    /**
+     * Creates a new dataset containing the keys and values from the 
+     * specified builder.  For large datasets this is much faster than 
+     * adding the values one at a time.
+     * 
+     * @param builder  the builder ({@code null} not permitted).
+     * 
+     * @since 1.7
+     */
+    public StandardCategoryDataset3D(KeyedValues3DBuilder<S, R, C> builder) {
+        ArgChecks.nullNotPermitted(builder, "builder");
+        this.data = builder.build();
+    }
 
     /**
      * Returns the number of data series in the dataset.
@@ -0,0 +1,626 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.orsoncharts.Range;
+import com.orsoncharts.data.AbstractDataset3D;
+import com.orsoncharts.data.Dataset3DChangeEvent;
+import com.orsoncharts.data.JSONUtils;
+import com.orsoncharts.data.Series3DChangeEvent;
+import com.orsoncharts.plot.XYZPlot;
+import com.orsoncharts.renderer.xyz.XYZRenderer;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * An {@link XYZDataset} that stores the data for each series in three 
+ * growable arrays of primitive {@code double} values, one per column.  
+ * Compared with an {@link XYZSeriesCollection}, this avoids creating an 
+ * object for every data item, so it is well suited to datasets containing 
+ * a large number of items.  The dataset can be used as a source of data for 
+ * any {@link XYZRenderer} on an {@link XYZPlot}.
+ * <br><br>
+ * Items can only be appended to a series, either one at a time or in bulk 
+ * via {@link #addAll(int, double[], double[], double[])}.  Each append 
+ * fires a {@link Dataset3DChangeEvent} whose source is a 
+ * {@link Series3DChangeEvent} describing the appended items (the source of
+ * the series event is the series key), so that a chart can add the new items
+ * to its 3D model incrementally.  The dataset also maintains the bounds of 
+ * the data values as items are appended (see {@link XYZRangeInfo}).
+ * <br><br>
+ * NOTE: This class is serializable, but the serialization format is subject 
+ * to change in future releases and should not be relied upon for persisting 
+ * instances of this class. 
+ * 
+ * @param <S> the type for the series keys.
+ * 
+ * @since 1.7
+ */
+@SuppressWarnings("serial")
+public class XYZArrayDataset<S extends Comparable<S>> extends AbstractDataset3D
+        implements XYZDataset<S>, XYZRangeInfo, XYZBlockAccess, 
+        Serializable {
+
+    /** The initial capacity for the columns of a new series. */
+    private static final int INITIAL_CAPACITY = 16;
+    
+    /** The series keys. */
+    private final List<S> keys;
+    
+    /** A map from series key to series index. */
+    private final Map<S, Integer> keyIndex;
+    
+    /** The x-values for each series. */
+    private final List<double[]> xValues;
+    
+    /** The y-values for each series. */
+    private final List<double[]> yValues;
+    
+    /** The z-values for each series. */
+    private final List<double[]> zValues;
+    
+    /** The number of items in each series. */
+    private int[] itemCounts;
+    
+    /** The bounds of the data values in each series. */
+    private final List<XYZBounds> bounds;
+    
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public XYZArrayDataset() {
+        this.keys = new ArrayList<S>();
+        this.keyIndex = new HashMap<S, Integer>();
+        this.xValues = new ArrayList<double[]>();
+        this.yValues = new ArrayList<double[]>();
+        this.zValues = new ArrayList<double[]>();
+        this.itemCounts = new int[0];
+        this.bounds = new ArrayList<XYZBounds>();
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     * 
+     * @return The number of series in the dataset. 
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns a new list containing all the series keys.  Modifying this list 
+     * will have no impact on the dataset.
+     * 
+     * @return A list containing the series keys (possibly empty, but never 
+     *     {@code null}).
+     */
+    @Override
+    public List<S> getSeriesKeys() {
+        return new ArrayList<S>(this.keys);
+    }
+
+    /**
+     * Returns the key for the specified series.
+     * 
+     * @param seriesIndex  the series index.
+     * 
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int seriesIndex) {
+        ArgChecks.checkArrayBounds(seriesIndex, "seriesIndex", 
+                this.keys.size());
+        return this.keys.get(seriesIndex);
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or 
+     * {@code -1} if there is no series with the specified key.
+     * 
+     * @param key  the key ({@code null} not permitted).
+     * 
+     * @return The series index or {@code -1}. 
+     */
+    @Override
+    public int getSeriesIndex(S key) {
+        ArgChecks.nullNotPermitted(key, "key");
+        Integer index = this.keyIndex.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Adds a new (empty) series to the dataset and sends a 
+     * {@link Dataset3DChangeEvent} to all registered listeners.  The series
+     * key must be unique within the dataset.
+     * 
+     * @param key  the series key ({@code null} not permitted).
+     * 
+     * @return The index of the new series.
+     */
+    public int addSeries(S key) {
+        ArgChecks.nullNotPermitted(key, "key");
+        if (this.keyIndex.containsKey(key)) {
+            throw new IllegalArgumentException(
+                    "Another series with the same key already exists within the dataset.");
+        }
+        int index = this.keys.size();
+        this.keys.add(key);
+        this.keyIndex.put(key, index);
+        this.xValues.add(new double[INITIAL_CAPACITY]);
+        this.yValues.add(new double[INITIAL_CAPACITY]);
+        this.zValues.add(new double[INITIAL_CAPACITY]);
+        this.itemCounts = Arrays.copyOf(this.itemCounts, index + 1);
+        this.bounds.add(new XYZBounds());
+        fireDatasetChanged();
+        return index;
+    }
+    
+    /**
+     * Adds a new series to the dataset using the supplied arrays as the 
+     * column storage, and sends a {@link Dataset3DChangeEvent} to all 
+     * registered listeners.  The arrays are not copied, so they must not be
+     * modified by the caller after this method is called.  The three arrays
+     * must have the same length, which becomes the item count for the 
+     * series.
+     * 
+     * @param key  the series key ({@code null} not permitted).
+     * @param xs  the x-values ({@code null} not permitted).
+     * @param ys  the y-values ({@code null} not permitted).
+     * @param zs  the z-values ({@code null} not permitted).
+     * 
+     * @return The index of the new series.
+     */
+    public int addSeries(S key, double[] xs, double[] ys, double[] zs) {
+        ArgChecks.nullNotPermitted(key, "key");
+        ArgChecks.nullNotPermitted(xs, "xs");
+        ArgChecks.nullNotPermitted(ys, "ys");
+        ArgChecks.nullNotPermitted(zs, "zs");
+        if (ys.length != xs.length || zs.length != xs.length) {
+            throw new IllegalArgumentException(
+                    "The arrays must have the same length.");
+        }
+        if (this.keyIndex.containsKey(key)) {
+            throw new IllegalArgumentException(
+                    "Another series with the same key already exists within the dataset.");
+        }
+        int index = this.keys.size();
+        this.keys.add(key);
+        this.keyIndex.put(key, index);
+        this.xValues.add(xs);
+        this.yValues.add(ys);
+        this.zValues.add(zs);
+        this.itemCounts = Arrays.copyOf(this.itemCounts, index + 1);
+        this.itemCounts[index] = xs.length;
+        XYZBounds b = new XYZBounds();
+        for (int i = 0; i < xs.length; i++) {
+            b.include(xs[i], ys[i], zs[i]);
+        }
+        this.bounds.add(b);
+        fireDatasetChanged();
+        return index;
+    }
+    
+    /**
+     * Removes a series from the dataset and sends a 
+     * {@link Dataset3DChangeEvent} to all registered listeners.
+     * 
+     * @param seriesIndex  the series index.
+     */
+    public void removeSeries(int seriesIndex) {
+        ArgChecks.checkArrayBounds(seriesIndex, "seriesIndex", 
+                this.keys.size());
+        this.keys.remove(seriesIndex);
+        this.xValues.remove(seriesIndex);
+        this.yValues.remove(seriesIndex);
+        this.zValues.remove(seriesIndex);
+        this.bounds.remove(seriesIndex);
+        int[] counts = new int[this.keys.size()];
+        System.arraycopy(this.itemCounts, 0, counts, 0, seriesIndex);
+        System.arraycopy(this.itemCounts, seriesIndex + 1, counts, 
+                seriesIndex, counts.length - seriesIndex);
+        this.itemCounts = counts;
+        this.keyIndex.clear();
+        for (int i = 0; i < this.keys.size(); i++) {
+            this.keyIndex.put(this.keys.get(i), i);
+        }
+        fireDatasetChanged();
+    }
+    
+    /**
+     * Removes all the series from the dataset and sends a
+     * {@link Dataset3DChangeEvent} to all registered listeners.  If the
+     * dataset is already empty, this method does nothing.
+     */
+    public void removeAll() {
+        if (!this.keys.isEmpty()) {
+            this.keys.clear();
+            this.keyIndex.clear();
+            this.xValues.clear();
+            this.yValues.clear();
+            this.zValues.clear();
+            this.itemCounts = new int[0];
+            this.bounds.clear();
+            fireDatasetChanged();
+        }
+    }
+    
+    /**
+     * Returns the number of items in the specified series.
+     * 
+     * @param seriesIndex  the series index.
+     * 
+     * @return The number of items in the specified series. 
+     */
+    @Override
+    public int getItemCount(int seriesIndex) {
+        return this.itemCounts[seriesIndex];
+    }
+
+    /**
+     * Returns the x-value for one item in a series.
+     * 
+     * @param seriesIndex  the series index.
+     * @param itemIndex  the item index.
+     * 
+     * @return The x-value. 
+     */
+    @Override
+    public double getX(int seriesIndex, int itemIndex) {
+        ArgChecks.checkArrayBounds(itemIndex, "itemIndex", 
+                this.itemCounts[seriesIndex]);
+        return this.xValues.get(seriesIndex)[itemIndex];
+    }
+
+    /**
+     * Returns the y-value for one item in a series.
+     * 
+     * @param seriesIndex  the series index.
+     * @param itemIndex  the item index.
+     * 
+     * @return The y-value. 
+     */
+    @Override
+    public double getY(int seriesIndex, int itemIndex) {
+        ArgChecks.checkArrayBounds(itemIndex, "itemIndex", 
+                this.itemCounts[seriesIndex]);
+        return this.yValues.get(seriesIndex)[itemIndex];
+    }
+
+    /**
+     * Returns the z-value for one item in a series.
+     * 
+     * @param seriesIndex  the series index.
+     * @param itemIndex  the item index.
+     * 
+     * @return The z-value. 
+     */
+    @Override
+    public double getZ(int seriesIndex, int itemIndex) {
+        ArgChecks.checkArrayBounds(itemIndex, "itemIndex", 
+                this.itemCounts[seriesIndex]);
+        return this.zValues.get(seriesIndex)[itemIndex];
+    }
+
+    /**
+     * Copies the x, y and z-values for a block of consecutive items in a 
+     * series into the supplied arrays (starting at index 0 in each array).
+     * 
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param count  the number of items.
+     * @param xs  the array for the x-values ({@code null} not permitted).
+     * @param ys  the array for the y-values ({@code null} not permitted).
+     * @param zs  the array for the z-values ({@code null} not permitted).
+     */
+    @Override
+    public void getItems(int series, int firstItem, int count, double[] xs, 
+            double[] ys, double[] zs) {
+        if (firstItem < 0 || firstItem + count > this.itemCounts[series]) {
+            throw new IllegalArgumentException("Invalid item range.");
+        }
+        System.arraycopy(this.xValues.get(series), firstItem, xs, 0, count);
+        System.arraycopy(this.yValues.get(series), firstItem, ys, 0, count);
+        System.arraycopy(this.zValues.get(series), firstItem, zs, 0, count);
+    }
+    
+    /**
+     * Returns the array holding the x-values for the specified series.  The 
+     * array is the dataset's own storage (it is not copied): only the first 
+     * {@link #getItemCount(int)} elements are valid, the array must not be 
+     * modified, and it is replaced by a larger array when the series 
+     * grows beyond its current capacity.
+     * 
+     * @param seriesIndex  the series index.
+     * 
+     * @return The x-values (never {@code null}).
+     */
+    public double[] getXValues(int seriesIndex) {
+        return this.xValues.get(seriesIndex);
+    }
+    
+    /**
+     * Returns the array holding the y-values for the specified series.  The 
+     * same caveats apply as for {@link #getXValues(int)}.
+     * 
+     * @param seriesIndex  the series index.
+     * 
+     * @return The y-values (never {@code null}).
+     */
+    public double[] getYValues(int seriesIndex) {
+        return this.yValues.get(seriesIndex);
+    }
+    
+    /**
+     * Returns the array holding the z-values for the specified series.  The 
+     * same caveats apply as for {@link #getXValues(int)}.
+     * 
+     * @param seriesIndex  the series index.
+     * 
+     * @return The z-values (never {@code null}).
+     */
+    public double[] getZValues(int seriesIndex) {
+        return this.zValues.get(seriesIndex);
+    }
+    
+    /**
+     * Appends a data item to a series and sends a 
+     * {@link Dataset3DChangeEvent} to all registered listeners.
+     * 
+     * @param seriesIndex  the series index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     */
+    public void add(int seriesIndex, double x, double y, double z) {
+        ArgChecks.checkArrayBounds(seriesIndex, "seriesIndex", 
+                this.keys.size());
+        int count = this.itemCounts[seriesIndex];
+        ensureCapacity(seriesIndex, count + 1);
+        this.xValues.get(seriesIndex)[count] = x;
+        this.yValues.get(seriesIndex)[count] = y;
+        this.zValues.get(seriesIndex)[count] = z;
+        this.itemCounts[seriesIndex] = count + 1;
+        this.bounds.get(seriesIndex).include(x, y, z);
+        fireItemsAppended(seriesIndex, count, count);
+    }
+    
+    /**
+     * Appends data items to a series and sends a single 
+     * {@link Dataset3DChangeEvent} to all registered listeners.  The three
+     * arrays must have the same length, and their values are copied into the
+     * dataset.
+     * 
+     * @param seriesIndex  the series index.
+     * @param xs  the x-values ({@code null} not permitted).
+     * @param ys  the y-values ({@code null} not permitted).
+     * @param zs  the z-values ({@code null} not permitted).
+     */
+    public void addAll(int seriesIndex, double[] xs, double[] ys, 
+            double[] zs) {
+        ArgChecks.checkArrayBounds(seriesIndex, "seriesIndex", 
+                this.keys.size());
+        ArgChecks.nullNotPermitted(xs, "xs");
+        ArgChecks.nullNotPermitted(ys, "ys");
+        ArgChecks.nullNotPermitted(zs, "zs");
+        if (ys.length != xs.length || zs.length != xs.length) {
+            throw new IllegalArgumentException(
+                    "The arrays must have the same length.");
+        }
+        if (xs.length == 0) {
+            return;
+        }
+        int count = this.itemCounts[seriesIndex];
+        ensureCapacity(seriesIndex, count + xs.length);
+        System.arraycopy(xs, 0, this.xValues.get(seriesIndex), count, 
+                xs.length);
+        System.arraycopy(ys, 0, this.yValues.get(seriesIndex), count, 
+                ys.length);
+        System.arraycopy(zs, 0, this.zValues.get(seriesIndex), count, 
+                zs.length);
+        this.itemCounts[seriesIndex] = count + xs.length;
+        XYZBounds b = this.bounds.get(seriesIndex);
+        for (int i = 0; i < xs.length; i++) {
+            b.include(xs[i], ys[i], zs[i]);
+        }
+        fireItemsAppended(seriesIndex, count, count + xs.length - 1);
+    }
+    
+    /**
+     * Returns the range of the x-values in the dataset (ignoring 
+     * {@code Double.NaN} and infinite values), or {@code null} if there are
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    @Override
+    public Range getXRange() {
+        return combinedBounds().getXRange();
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset (ignoring 
+     * {@code Double.NaN} and infinite values), or {@code null} if there are
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    @Override
+    public Range getYRange() {
+        return combinedBounds().getYRange();
+    }
+
+    /**
+     * Returns the range of the z-values in the dataset (ignoring 
+     * {@code Double.NaN} and infinite values), or {@code null} if there are
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    @Override
+    public Range getZRange() {
+        return combinedBounds().getZRange();
+    }
+    
+    /**
+     * Returns the combined bounds of all the series in the dataset.
+     * 
+     * @return The bounds (never {@code null}). 
+     */
+    private XYZBounds combinedBounds() {
+        XYZBounds result = new XYZBounds();
+        for (XYZBounds b : this.bounds) {
+            result.include(b);
+        }
+        return result;
+    }
+    
+    /**
+     * Ensures that the columns for a series can hold at least the specified
+     * number of items, growing them if necessary.
+     * 
+     * @param seriesIndex  the series index.
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int seriesIndex, int capacity) {
+        double[] xs = this.xValues.get(seriesIndex);
+        if (xs.length >= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, xs.length * 2);
+        this.xValues.set(seriesIndex, Arrays.copyOf(xs, newCapacity));
+        this.yValues.set(seriesIndex, Arrays.copyOf(
+                this.yValues.get(seriesIndex), newCapacity));
+        this.zValues.set(seriesIndex, Arrays.copyOf(
+                this.zValues.get(seriesIndex), newCapacity));
+    }
+    
+    /**
+     * Sends a {@link Dataset3DChangeEvent} to all registered listeners, 
+     * signalling that items were appended to a series.
+     * 
+     * @param seriesIndex  the series index.
+     * @param first  the index of the first appended item.
+     * @param last  the index of the last appended item.
+     */
+    private void fireItemsAppended(int seriesIndex, int first, int last) {
+        Series3DChangeEvent event = new Series3DChangeEvent(
+                this.keys.get(seriesIndex), first, last);
+        notifyListeners(new Dataset3DChangeEvent(event, this));
+    }
+    
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     * 
+     * @param obj  the object ({@code null} permitted).
+     * 
+     * @return A boolean. 
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYZArrayDataset)) {
+            return false;
+        }
+        XYZArrayDataset<?> that = (XYZArrayDataset<?>) obj;
+        if (!this.keys.equals(that.keys)) {
+            return false;
+        }
+        if (!Arrays.equals(this.itemCounts, that.itemCounts)) {
+            return false;
+        }
+        for (int s = 0; s < this.keys.size(); s++) {
+            int count = this.itemCounts[s];
+            if (!columnEquals(this.xValues.get(s), that.xValues.get(s), count)
+                    || !columnEquals(this.yValues.get(s), 
+                            that.yValues.get(s), count)
+                    || !columnEquals(this.zValues.get(s), 
+                            that.zValues.get(s), count)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Returns {@code true} if the first {@code count} values in two arrays
+     * are equal, and {@code false} otherwise.
+     * 
+     * @param a  the first array.
+     * @param b  the second array.
+     * @param count  the number of values to compare.
+     * 
+     * @return A boolean.
+     */
+    private static boolean columnEquals(double[] a, double[] b, int count) {
+        for (int i = 0; i < count; i++) {
+            if (Double.doubleToLongBits(a[i]) 
+                    != Double.doubleToLongBits(b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 41 * hash + this.keys.hashCode();
+        hash = 41 * hash + Arrays.hashCode(this.itemCounts);
+        return hash;
+    }
+
+    /**
+     * Returns a string representation of this instance, primarily for 
+     * debugging purposes.
+     * <br><br>
+     * Implementation note: the current implementation (which is subject to 
+     * change) writes the dataset in JSON format using 
+     * {@link JSONUtils#writeXYZDataset(com.orsoncharts.data.xyz.XYZDataset)}.
+     * 
+     * @return A string. 
+     */
+    @Override
+    public String toString() {
+        return JSONUtils.writeXYZDataset(this);
+    }
+
+}
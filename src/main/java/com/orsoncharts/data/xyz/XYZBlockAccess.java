@@ -0,0 +1,63 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+/**
+ * An optional interface for {@link XYZDataset} implementations that can 
+ * copy the values for a block of consecutive items more efficiently than 
+ * by calling {@link XYZDataset#getX(int, int)} and the related methods for
+ * each item (for example, because the data is stored in arrays or in a 
+ * memory-mapped file).  Renderers that process a large number of items use
+ * this interface, via 
+ * {@link XYZDatasetUtils#getItems(XYZDataset, int, int, int, double[], 
+ * double[], double[])}, to stream over the data.
+ * 
+ * @since 1.7
+ */
+public interface XYZBlockAccess {
+    
+    /**
+     * Copies the x, y and z-values for a block of consecutive items in a 
+     * series into the supplied arrays (starting at index 0 in each array).
+     * 
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param count  the number of items.
+     * @param xs  the array for the x-values ({@code null} not permitted).
+     * @param ys  the array for the y-values ({@code null} not permitted).
+     * @param zs  the array for the z-values ({@code null} not permitted).
+     */
+    void getItems(int series, int firstItem, int count, double[] xs, 
+            double[] ys, double[] zs);
+    
+}
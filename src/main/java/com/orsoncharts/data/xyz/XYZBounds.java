@@ -0,0 +1,147 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import java.io.Serializable;
+import com.orsoncharts.Range;
+
+/**
+ * Running bounds for a collection of {@code (x, y, z)} values, used by the 
+ * datasets in this package to implement {@link XYZRangeInfo}.  
+ * {@code Double.NaN} and infinite values are ignored.
+ */
+@SuppressWarnings("serial")
+class XYZBounds implements Serializable {
+    
+    private double minX = Double.POSITIVE_INFINITY;
+    
+    private double maxX = Double.NEGATIVE_INFINITY;
+    
+    private double minY = Double.POSITIVE_INFINITY;
+    
+    private double maxY = Double.NEGATIVE_INFINITY;
+    
+    private double minZ = Double.POSITIVE_INFINITY;
+    
+    private double maxZ = Double.NEGATIVE_INFINITY;
+    
+    /**
+     * Creates new (empty) bounds.
+     */
+    XYZBounds() {
+    }
+    
+    /**
+     * Extends the bounds to include the specified values (any value that is
+     * {@code Double.NaN} or infinite is ignored).
+     * 
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     */
+    void include(double x, double y, double z) {
+        if (!Double.isNaN(x) && !Double.isInfinite(x)) {
+            this.minX = Math.min(this.minX, x);
+            this.maxX = Math.max(this.maxX, x);
+        }
+        if (!Double.isNaN(y) && !Double.isInfinite(y)) {
+            this.minY = Math.min(this.minY, y);
+            this.maxY = Math.max(this.maxY, y);
+        }
+        if (!Double.isNaN(z) && !Double.isInfinite(z)) {
+            this.minZ = Math.min(this.minZ, z);
+            this.maxZ = Math.max(this.maxZ, z);
+        }
+    }
+    
+    /**
+     * Extends the bounds to include other bounds.
+     * 
+     * @param b  the other bounds ({@code null} not permitted).
+     */
+    void include(XYZBounds b) {
+        this.minX = Math.min(this.minX, b.minX);
+        this.maxX = Math.max(this.maxX, b.maxX);
+        this.minY = Math.min(this.minY, b.minY);
+        this.maxY = Math.max(this.maxY, b.maxY);
+        this.minZ = Math.min(this.minZ, b.minZ);
+        this.maxZ = Math.max(this.maxZ, b.maxZ);
+    }
+    
+    /**
+     * Returns {@code true} if any of the specified values lies on the 
+     * boundary of these bounds (so that the bounds might shrink if the values
+     * were removed), and {@code false} otherwise.
+     * 
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     * 
+     * @return A boolean. 
+     */
+    boolean isOnBoundary(double x, double y, double z) {
+        return x == this.minX || x == this.maxX || y == this.minY 
+                || y == this.maxY || z == this.minZ || z == this.maxZ;
+    }
+    
+    /**
+     * Returns the range of the x-values, or {@code null} if no x-values have
+     * been included.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    Range getXRange() {
+        return this.minX <= this.maxX ? new Range(this.minX, this.maxX) : null;
+    }
+    
+    /**
+     * Returns the range of the y-values, or {@code null} if no y-values have
+     * been included.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    Range getYRange() {
+        return this.minY <= this.maxY ? new Range(this.minY, this.maxY) : null;
+    }
+    
+    /**
+     * Returns the range of the z-values, or {@code null} if no z-values have
+     * been included.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    Range getZRange() {
+        return this.minZ <= this.maxZ ? new Range(this.minZ, this.maxZ) : null;
+    }
+
+}
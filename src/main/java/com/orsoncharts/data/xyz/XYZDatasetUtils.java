@@ -40,6 +40,37 @@ import com.orsoncharts.data.function.Function3D;
  */
 public class XYZDatasetUtils {
     
+    /**
+     * Copies the x, y and z-values for a block of consecutive items in a 
+     * series into the supplied arrays (starting at index 0 in each array).  
+     * If the dataset implements {@link XYZBlockAccess}, the values are
+     * copied in bulk, otherwise they are fetched one item at a time.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param count  the number of items.
+     * @param xs  the array for the x-values ({@code null} not permitted).
+     * @param ys  the array for the y-values ({@code null} not permitted).
+     * @param zs  the array for the z-values ({@code null} not permitted).
+     * 
+     * @since 1.7
+     */
+    public static void getItems(XYZDataset dataset, int series, 
+            int firstItem, int count, double[] xs, double[] ys, 
+            double[] zs) {
+        if (dataset instanceof XYZBlockAccess) {
+            ((XYZBlockAccess) dataset).getItems(series, firstItem, count, 
+                    xs, ys, zs);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            xs[i] = dataset.getX(series, firstItem + i);
+            ys[i] = dataset.getY(series, firstItem + i);
+            zs[i] = dataset.getZ(series, firstItem + i);
+        }
+    }
+    
     /**
      * Creates an {@link XYZDataset} by sampling a {@link Function3D} over
      * a specified range.
@@ -0,0 +1,77 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import com.orsoncharts.Range;
+import com.orsoncharts.data.DataUtils;
+
+/**
+ * An optional interface for {@link XYZDataset} implementations that keep 
+ * track of the bounds of their x, y and z-values as the data changes.  When 
+ * a dataset implements this interface, the range methods in 
+ * {@link DataUtils} (and therefore the axis auto-range calculations) use 
+ * these bounds rather than iterating over every data item.
+ * <br><br>
+ * The ranges returned must exclude {@code Double.NaN} and infinite values, 
+ * in the same way as {@link DataUtils#findXRange(XYZDataset)} and the 
+ * related methods.
+ * 
+ * @since 1.7
+ */
+public interface XYZRangeInfo {
+    
+    /**
+     * Returns the range of the (finite) x-values, or {@code null} if there
+     * are no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    Range getXRange();
+    
+    /**
+     * Returns the range of the (finite) y-values, or {@code null} if there
+     * are no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    Range getYRange();
+    
+    /**
+     * Returns the range of the (finite) z-values, or {@code null} if there
+     * are no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     */
+    Range getZRange();
+    
+}
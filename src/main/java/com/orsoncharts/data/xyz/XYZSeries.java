@@ -36,6 +36,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import javax.swing.event.EventListenerList;
+import com.orsoncharts.Range;
 import com.orsoncharts.data.Series3DChangeEvent;
 import com.orsoncharts.data.Series3DChangeListener;
 import com.orsoncharts.util.ArgChecks;
@@ -49,6 +50,16 @@ import com.orsoncharts.util.ObjectUtils;
  * series to receive change events - in this way, the collection can notify
  * its own listeners when a change is made to the series.
  * <br><br>
+ * The series keeps track of the bounds of its data values as items are 
+ * added, so the {@link XYZRangeInfo} methods do not need to iterate over 
+ * the items (except after an item is removed).
+ * <br><br>
+ * For streaming data, items can be appended in blocks with 
+ * {@link #addAll(double[], double[], double[])}, the series can be limited
+ * to a sliding window of the most recent items with 
+ * {@link #setMaxItemCount(int)}, and change events can be coalesced by 
+ * setting a notification interval (see {@link #setNotifyInterval(long)}).
+ * <br><br>
  * NOTE: This class is serializable, but the serialization format is subject 
  * to change in future releases and should not be relied upon for persisting 
  * instances of this class.
@@ -58,7 +69,8 @@ import com.orsoncharts.util.ObjectUtils;
  *     modified).
  */
 @SuppressWarnings("serial")
-public class XYZSeries<K extends Comparable<K>> implements Serializable {
+public class XYZSeries<K extends Comparable<K>> implements XYZRangeInfo, 
+        Serializable {
 
     /** The series key (never {@code null}). */
     private final K key;
@@ -66,12 +78,48 @@ public class XYZSeries<K extends Comparable<K>> implements Serializable {
     /** The data items in the series. */
     private final List<XYZDataItem> items;
 
+    /** 
+     * The bounds of the data values ({@code null} if they need to be 
+     * recalculated).
+     */
+    private transient XYZBounds bounds;
+    
     /** Storage for registered change listeners. */
     private EventListenerList listeners;
     
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
     
+    /** 
+     * The maximum number of items in the series (when exceeded, the oldest
+     * items are removed).
+     */
+    private int maxItemCount;
+    
+    /** 
+     * The minimum time (in milliseconds) between change events (zero to 
+     * send an event for every change).
+     */
+    private long notifyInterval;
+    
+    /** The time at which the last change event was sent. */
+    private transient long lastNotifyTime;
+    
+    /** 
+     * The index of the first item appended since the last change event, or
+     * {@code -1}.
+     */
+    private int pendingFirst;
+    
+    /** The index of the last item appended since the last change event. */
+    private int pendingLast;
+    
+    /** 
+     * A flag that indicates that a change other than an append has not yet
+     * been notified.
+     */
+    private boolean pendingChange;
+    
     /**
      * Creates a new series with the specified key.  Note that the series key
      * cannot be changed after it has been set in the constructor - this is by 
@@ -87,6 +135,10 @@ public class XYZSeries<K extends Comparable<K>> implements Serializable {
         this.items = new ArrayList<XYZDataItem>();
         this.listeners = new EventListenerList();
         this.notify = true;
+        this.maxItemCount = Integer.MAX_VALUE;
+        this.notifyInterval = 0L;
+        this.pendingFirst = -1;
+        this.pendingLast = -1;
     }
 
     /**
@@ -174,7 +226,53 @@ public class XYZSeries<K extends Comparable<K>> implements Serializable {
     public void add(XYZDataItem item) {
         ArgChecks.nullNotPermitted(item, "item");
         this.items.add(item);
-        fireSeriesChanged();
+        if (this.bounds != null) {
+            this.bounds.include(item.getX(), item.getY(), item.getZ());
+        }
+        if (ageOut()) {
+            changed();
+        } else {
+            int index = this.items.size() - 1;
+            itemsAppended(index, index);
+        }
+    }
+    
+    /**
+     * Appends a block of data items to the series and sends a single
+     * {@link Series3DChangeEvent} to all registered listeners.  The three
+     * arrays must have the same length.
+     * 
+     * @param xs  the x-values ({@code null} not permitted).
+     * @param ys  the y-values ({@code null} not permitted).
+     * @param zs  the z-values ({@code null} not permitted).
+     * 
+     * @since 1.7
+     */
+    public void addAll(double[] xs, double[] ys, double[] zs) {
+        ArgChecks.nullNotPermitted(xs, "xs");
+        ArgChecks.nullNotPermitted(ys, "ys");
+        ArgChecks.nullNotPermitted(zs, "zs");
+        if (ys.length != xs.length || zs.length != xs.length) {
+            throw new IllegalArgumentException(
+                    "The arrays must have the same length.");
+        }
+        if (xs.length == 0) {
+            return;
+        }
+        int first = this.items.size();
+        ((ArrayList<XYZDataItem>) this.items).ensureCapacity(
+                first + xs.length);
+        for (int i = 0; i < xs.length; i++) {
+            this.items.add(new XYZDataItem(xs[i], ys[i], zs[i]));
+            if (this.bounds != null) {
+                this.bounds.include(xs[i], ys[i], zs[i]);
+            }
+        }
+        if (ageOut()) {
+            changed();
+        } else {
+            itemsAppended(first, this.items.size() - 1);
+        }
     }
     
     /**
@@ -187,7 +285,243 @@ public class XYZSeries<K extends Comparable<K>> implements Serializable {
      */
     public void remove(int itemIndex) {
         this.items.remove(itemIndex);
-        fireSeriesChanged();
+        this.bounds = null;
+        changed();
+    }
+    
+    /**
+     * Returns the maximum number of items in the series.  The default value
+     * is {@code Integer.MAX_VALUE}.
+     * 
+     * @return The maximum number of items.
+     * 
+     * @see #setMaxItemCount(int) 
+     * @since 1.7
+     */
+    public int getMaxItemCount() {
+        return this.maxItemCount;
+    }
+    
+    /**
+     * Sets the maximum number of items in the series.  When items are added
+     * to a series that is already at its maximum size, the oldest items are
+     * removed so that the series holds a sliding window over the most recent 
+     * data.  If the series currently holds more items than the new maximum, 
+     * the oldest items are removed immediately and a 
+     * {@link Series3DChangeEvent} is sent to all registered listeners.
+     * 
+     * @param maxItemCount  the maximum number of items (must be positive).
+     * 
+     * @since 1.7
+     */
+    public void setMaxItemCount(int maxItemCount) {
+        if (maxItemCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maxItemCount' > 0.");
+        }
+        this.maxItemCount = maxItemCount;
+        if (ageOut()) {
+            changed();
+        }
+    }
+    
+    /**
+     * Returns the minimum interval (in milliseconds) between change events 
+     * sent by this series.  The default value is {@code 0}.
+     * 
+     * @return The interval.
+     * 
+     * @see #setNotifyInterval(long) 
+     * @since 1.7
+     */
+    public long getNotifyInterval() {
+        return this.notifyInterval;
+    }
+    
+    /**
+     * Sets the minimum interval (in milliseconds) between change events sent 
+     * by this series.  When the interval is positive, changes made less than
+     * {@code interval} milliseconds after the previous change event are 
+     * held back and combined into the next event, which is sent by the first
+     * change after the interval has elapsed or by a call to {@link #flush()}.
+     * Use this to avoid redrawing a chart for every item when the series is 
+     * updated at a high rate.
+     * <br><br>
+     * The series does not send events on a thread of its own: every event 
+     * is sent on the thread that changes the series or calls 
+     * {@link #flush()}.  When the updates may pause, the code that updates 
+     * the series should call {@link #flush()} (for example, from a timer on
+     * the same thread) so that the last changes are not held back 
+     * indefinitely.
+     * 
+     * @param interval  the interval in milliseconds (zero or positive).
+     * 
+     * @since 1.7
+     */
+    public void setNotifyInterval(long interval) {
+        if (interval < 0L) {
+            throw new IllegalArgumentException("Requires 'interval' >= 0.");
+        }
+        this.notifyInterval = interval;
+    }
+    
+    /**
+     * Sends a {@link Series3DChangeEvent} to all registered listeners for 
+     * any changes that have been held back (see 
+     * {@link #setNotifyInterval(long)}).  If there are no such changes, or 
+     * the notify flag is {@code false}, this method does nothing.
+     * 
+     * @since 1.7
+     */
+    public void flush() {
+        Series3DChangeEvent event = null;
+        synchronized (this) {
+            if (!this.notify) {
+                return;
+            }
+            if (this.pendingChange) {
+                event = new Series3DChangeEvent(this);
+            } else if (this.pendingFirst >= 0) {
+                event = new Series3DChangeEvent(this, this.pendingFirst, 
+                        this.pendingLast);
+            }
+            this.pendingFirst = -1;
+            this.pendingLast = -1;
+            this.pendingChange = false;
+            if (event != null) {
+                this.lastNotifyTime = System.currentTimeMillis();
+            }
+        }
+        if (event != null) {
+            notifyListeners(event);
+        }
+    }
+    
+    /**
+     * Removes the oldest items from the series if it holds more than the
+     * maximum number of items.
+     * 
+     * @return A boolean indicating whether or not any items were removed.
+     */
+    private boolean ageOut() {
+        int excess = this.items.size() - this.maxItemCount;
+        if (excess <= 0) {
+            return false;
+        }
+        List<XYZDataItem> oldest = this.items.subList(0, excess);
+        if (this.bounds != null) {
+            for (XYZDataItem item : oldest) {
+                if (this.bounds.isOnBoundary(item.getX(), item.getY(), 
+                        item.getZ())) {
+                    this.bounds = null;
+                    break;
+                }
+            }
+        }
+        oldest.clear();
+        return true;
+    }
+    
+    /**
+     * Records that items have been appended to the series, and sends a 
+     * change event if one is due.
+     * 
+     * @param first  the index of the first appended item.
+     * @param last  the index of the last appended item.
+     */
+    private void itemsAppended(int first, int last) {
+        synchronized (this) {
+            if (this.pendingFirst < 0) {
+                this.pendingFirst = first;
+            }
+            this.pendingLast = last;
+        }
+        notifyIfDue();
+    }
+    
+    /**
+     * Records that the series has changed (other than by appending items),
+     * and sends a change event if one is due.
+     */
+    private void changed() {
+        synchronized (this) {
+            this.pendingChange = true;
+        }
+        notifyIfDue();
+    }
+    
+    /**
+     * Sends a change event for the pending changes unless notification is
+     * switched off or the notify interval has not elapsed since the last
+     * event.
+     */
+    private void notifyIfDue() {
+        synchronized (this) {
+            if (this.notifyInterval > 0L && System.currentTimeMillis() 
+                    - this.lastNotifyTime < this.notifyInterval) {
+                return;
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Returns the range of the x-values in the series (ignoring 
+     * {@code Double.NaN} and infinite values), or {@code null} if there are
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     * 
+     * @since 1.7
+     */
+    @Override
+    public Range getXRange() {
+        return getBounds().getXRange();
+    }
+
+    /**
+     * Returns the range of the y-values in the series (ignoring 
+     * {@code Double.NaN} and infinite values), or {@code null} if there are
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     * 
+     * @since 1.7
+     */
+    @Override
+    public Range getYRange() {
+        return getBounds().getYRange();
+    }
+
+    /**
+     * Returns the range of the z-values in the series (ignoring 
+     * {@code Double.NaN} and infinite values), or {@code null} if there are
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     * 
+     * @since 1.7
+     */
+    @Override
+    public Range getZRange() {
+        return getBounds().getZRange();
+    }
+    
+    /**
+     * Returns the bounds of the data values in the series, recalculating 
+     * them first if necessary.
+     * 
+     * @return The bounds (never {@code null}). 
+     */
+    XYZBounds getBounds() {
+        if (this.bounds == null) {
+            XYZBounds b = new XYZBounds();
+            for (XYZDataItem item : this.items) {
+                b.include(item.getX(), item.getY(), item.getZ());
+            }
+            this.bounds = b;
+        }
+        return this.bounds;
     }
 
     /**
@@ -240,12 +574,21 @@ public class XYZSeries<K extends Comparable<K>> implements Serializable {
      * @since 1.6
      */
     public void setNotify(boolean notify) {
-        if (this.notify != notify) {
+        synchronized (this) {
+            if (this.notify == notify) {
+                return;
+            }
             this.notify = notify;
-            if (notify) {
-                fireSeriesChanged();
+            if (!notify) {
+                return;
+            }
+            // send a single event covering the changes made while
+            // notification was switched off
+            if (this.pendingFirst < 0) {
+                this.pendingChange = true;
             }
         }
+        flush();
     }
     
     /**
@@ -255,9 +598,16 @@ public class XYZSeries<K extends Comparable<K>> implements Serializable {
      * @since 1.6
      */
     public void fireSeriesChanged() {
-        if (this.notify) {
-            notifyListeners(new Series3DChangeEvent(this));
+        synchronized (this) {
+            if (!this.notify) {
+                return;
+            }
+            this.pendingFirst = -1;
+            this.pendingLast = -1;
+            this.pendingChange = false;
+            this.lastNotifyTime = System.currentTimeMillis();
         }
+        notifyListeners(new Series3DChangeEvent(this));
     }
 
     /**
@@ -297,6 +647,9 @@ public class XYZSeries<K extends Comparable<K>> implements Serializable {
         if (!this.key.equals(that.key)) {
             return false;
         }
+        if (this.maxItemCount != that.maxItemCount) {
+            return false;
+        }
         if (!this.items.equals(that.items)) {
             return false;
         }
@@ -37,6 +37,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.Range;
 import com.orsoncharts.data.AbstractDataset3D;
 import com.orsoncharts.data.Dataset3DChangeEvent;
 import com.orsoncharts.data.JSONUtils;
@@ -49,7 +50,9 @@ import com.orsoncharts.util.ObjectUtils;
 /**
  * A collection of {@link XYZSeries} objects (implements the {@link XYZDataset}
  * interface so that it can be used as a source of data for an 
- * {@link XYZRenderer} on an {@link XYZPlot}).
+ * {@link XYZRenderer} on an {@link XYZPlot}).  The collection implements
+ * {@link XYZRangeInfo} by combining the bounds that each series maintains, 
+ * so finding the data ranges does not require iterating over all the items.
  * <br><br>
  * NOTE: This class is serializable, but the serialization format is subject 
  * to change in future releases and should not be relied upon for persisting 
@@ -58,7 +61,8 @@ import com.orsoncharts.util.ObjectUtils;
 @SuppressWarnings("serial")
 public class XYZSeriesCollection<S extends Comparable<S>> 
         extends AbstractDataset3D 
-        implements XYZDataset<S>, Series3DChangeListener, Serializable {
+        implements XYZDataset<S>, XYZRangeInfo, Series3DChangeListener, 
+        Serializable {
 
     /** Storage for the data series. */
     private final List<XYZSeries<S>> series;
@@ -277,6 +281,61 @@ public class XYZSeriesCollection<S extends Comparable<S>>
         return s.getZValue(itemIndex);
     }
 
+    /**
+     * Returns the range of the x-values in the dataset (ignoring 
+     * {@code Double.NaN} and infinite values), or {@code null} if there are
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     * 
+     * @since 1.7
+     */
+    @Override
+    public Range getXRange() {
+        return combinedBounds().getXRange();
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset (ignoring 
+     * {@code Double.NaN} and infinite values), or {@code null} if there are
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     * 
+     * @since 1.7
+     */
+    @Override
+    public Range getYRange() {
+        return combinedBounds().getYRange();
+    }
+
+    /**
+     * Returns the range of the z-values in the dataset (ignoring 
+     * {@code Double.NaN} and infinite values), or {@code null} if there are
+     * no such values.
+     * 
+     * @return The range (possibly {@code null}). 
+     * 
+     * @since 1.7
+     */
+    @Override
+    public Range getZRange() {
+        return combinedBounds().getZRange();
+    }
+    
+    /**
+     * Returns the combined bounds of all the series in the collection.
+     * 
+     * @return The bounds (never {@code null}). 
+     */
+    private XYZBounds combinedBounds() {
+        XYZBounds result = new XYZBounds();
+        for (XYZSeries<S> s : this.series) {
+            result.include(s.getBounds());
+        }
+        return result;
+    }
+
     /**
      * Called when an observed series changes in some way.
      *
@@ -286,7 +345,9 @@ public class XYZSeriesCollection<S extends Comparable<S>>
      */
     @Override
     public void seriesChanged(Series3DChangeEvent event) {
-        fireDatasetChanged();
+        // pass on the series event as the source, so that listeners can see 
+        // the details of the change
+        notifyListeners(new Dataset3DChangeEvent(event, this));
     }
 
     /**
@@ -0,0 +1,163 @@
+/* ===================
+ * Orson Charts - Demo
+ * ===================
+ * 
+ * Copyright (c) 2013-2016, Object Refinery Limited.
+ * All rights reserved.
+ *
+ * http://www.object-refinery.com/orsoncharts/index.html
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   - Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   - Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   - Neither the name of the Object Refinery Limited nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE 
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ * ARE DISCLAIMED. IN NO EVENT SHALL OBJECT REFINERY LIMITED BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Note that the above terms apply to the demo source only, and not the 
+ * Orson Charts library.
+ * 
+ */
+
+
+package com.orsoncharts.demo;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.data.category.CategoryDataset3D;
+import com.orsoncharts.graphics3d.BatchRenderer;
+import com.orsoncharts.graphics3d.ExportUtils;
+import com.orsoncharts.graphics3d.RenderJob;
+import com.orsoncharts.graphics3d.RenderResult;
+import com.orsoncharts.util.ExportFormat;
+
+/**
+ * A simple benchmark that compares the throughput of a {@link BatchRenderer}
+ * with drawing and encoding each chart in turn on one thread (as 
+ * {@link ExportUtils#writeAsPNG(com.orsoncharts.graphics3d.Drawable3D, int, int, java.io.File)}
+ * does), as a server generating charts on request might do.  In both cases 
+ * a new chart is created for each image and the PNG data is written to an
+ * in-memory stream, so that file I/O does not affect the comparison.  The
+ * benchmark prints the number of charts per second and, for the batch 
+ * renderer, the median and 99th percentile latency.
+ * <br><br>
+ * Usage: {@code BatchRenderingBenchmark [chartCount] [threadCount]}
+ */
+public class BatchRenderingBenchmark {
+
+    private static final int WIDTH = 600;
+    
+    private static final int HEIGHT = 400;
+
+    private static Chart3D createChart(CategoryDataset3D dataset) {
+        return BarChart3D1.createChart(dataset);
+    }
+
+    /**
+     * Draws each chart and writes it to an in-memory stream in PNG format, 
+     * one after the other, and returns the elapsed time in nanoseconds.
+     */
+    private static long runSequential(CategoryDataset3D dataset, int count) 
+            throws IOException {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            BufferedImage image = new BufferedImage(WIDTH, HEIGHT, 
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = image.createGraphics();
+            try {
+                createChart(dataset).draw(g2, new Rectangle(WIDTH, HEIGHT));
+            } finally {
+                g2.dispose();
+            }
+            ImageIO.write(image, "png", new ByteArrayOutputStream());
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Renders the charts with a batch renderer, writing to in-memory 
+     * streams, and returns the elapsed time in nanoseconds.  The latency 
+     * of each job is stored in {@code latencies}.
+     */
+    private static long runBatchRenderer(CategoryDataset3D dataset, 
+            int count, int threads, long[] latencies) 
+            throws InterruptedException, ExecutionException {
+        BatchRenderer renderer = new BatchRenderer(threads);
+        long start = System.nanoTime();
+        List<Future<RenderResult>> futures 
+                = new ArrayList<Future<RenderResult>>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(renderer.submit(new RenderJob(createChart(dataset), 
+                    WIDTH, HEIGHT, ExportFormat.PNG, 
+                    new ByteArrayOutputStream())));
+        }
+        for (int i = 0; i < count; i++) {
+            latencies[i] = futures.get(i).get().getLatency();
+        }
+        long elapsed = System.nanoTime() - start;
+        renderer.shutdown();
+        renderer.awaitTermination(1, TimeUnit.MINUTES);
+        return elapsed;
+    }
+
+    private static String perSecond(int count, long nanos) {
+        return String.format("%.1f charts/s", count * 1e9 / nanos);
+    }
+
+    /**
+     * Runs the benchmark.
+     * 
+     * @param args  the chart count and thread count (both optional).
+     * 
+     * @throws Exception if there is a problem.
+     */
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) 
+                : Runtime.getRuntime().availableProcessors();
+        CategoryDataset3D dataset = SampleData.createCompanyRevenueDataset();
+        long[] latencies = new long[count];
+        
+        // warm up
+        runSequential(dataset, Math.max(1, count / 10));
+        runBatchRenderer(dataset, Math.max(1, count / 10), threads, latencies);
+        
+        long naive = runSequential(dataset, count);
+        System.out.println("Sequential: " + perSecond(count, naive));
+        long batch = runBatchRenderer(dataset, count, threads, latencies);
+        Arrays.sort(latencies);
+        System.out.println("BatchRenderer (" + threads + " threads): " 
+                + perSecond(count, batch) + ", median latency " 
+                + latencies[count / 2] / 1000000 + " ms, p99 latency " 
+                + latencies[Math.min(count - 1, count * 99 / 100)] / 1000000 
+                + " ms");
+    }
+
+}
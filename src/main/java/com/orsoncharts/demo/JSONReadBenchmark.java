@@ -0,0 +1,222 @@
+/* ===================
+ * Orson Charts - Demo
+ * ===================
+ * 
+ * Copyright (c) 2013-2016, Object Refinery Limited.
+ * All rights reserved.
+ *
+ * http://www.object-refinery.com/orsoncharts/index.html
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *   - Redistributions of source code must retain the above copyright
+ *     notice, this list of conditions and the following disclaimer.
+ *   - Redistributions in binary form must reproduce the above copyright
+ *     notice, this list of conditions and the following disclaimer in the
+ *     documentation and/or other materials provided with the distribution.
+ *   - Neither the name of the Object Refinery Limited nor the
+ *     names of its contributors may be used to endorse or promote products
+ *     derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" 
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE 
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE 
+ * ARE DISCLAIMED. IN NO EVENT SHALL OBJECT REFINERY LIMITED BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Note that the above terms apply to the demo source only, and not the 
+ * Orson Charts library.
+ * 
+ */
+
+
+package com.orsoncharts.demo;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Random;
+
+import com.orsoncharts.data.JSONUtils;
+import com.orsoncharts.data.xyz.XYZArrayDataset;
+import com.orsoncharts.data.xyz.XYZDataset;
+
+/**
+ * A simple benchmark that compares the tree-based JSON reader
+ * {@link JSONUtils#readXYZDataset(java.io.Reader)} with the streaming reader
+ * {@link JSONUtils#readXYZDataset(java.io.Reader, 
+ * com.orsoncharts.data.ReadProgressListener)}.  The data is written to a 
+ * temporary file first, and each reader then reads the whole file.  The 
+ * benchmark prints, for each reader, the number of items read per second
+ * and the peak heap usage during the read.  The heap usage is measured with 
+ * the platform memory beans, relative to the usage after a garbage 
+ * collection before the read.
+ * The peak is the sum of the peaks of the heap memory pools, so it includes
+ * garbage that had not been collected yet: run the benchmark with a small,
+ * fixed young generation (for example {@code -Xms1g -Xmx1g -Xmn16m}) so 
+ * that it mostly reflects the live data.
+ * <br><br>
+ * Usage: {@code JSONReadBenchmark [itemCount] [seriesCount]}
+ */
+public class JSONReadBenchmark {
+
+    /**
+     * Writes a dataset with random values to a temporary file in JSON 
+     * format and returns the file.
+     */
+    private static File createInput(int itemCount, int seriesCount) 
+            throws IOException {
+        Random random = new Random(1L);
+        XYZArrayDataset<String> dataset = new XYZArrayDataset<String>();
+        int perSeries = itemCount / seriesCount;
+        for (int s = 0; s < seriesCount; s++) {
+            double[] xs = new double[perSeries];
+            double[] ys = new double[perSeries];
+            double[] zs = new double[perSeries];
+            for (int i = 0; i < perSeries; i++) {
+                xs[i] = random.nextDouble() * 100.0;
+                ys[i] = random.nextDouble() * 100.0;
+                zs[i] = random.nextDouble() * 100.0;
+            }
+            dataset.addSeries("S" + s, xs, ys, zs);
+        }
+        File file = File.createTempFile("JSONReadBenchmark", ".json");
+        file.deleteOnExit();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), "UTF-8"));
+        try {
+            JSONUtils.writeXYZDataset(dataset, writer);
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+    
+    private static Reader openReader(File file) throws IOException {
+        return new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), "UTF-8"));
+    }
+    
+    /**
+     * Performs a garbage collection and returns the heap usage afterwards.
+     */
+    private static long usedHeapAfterGC() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        // repeat until nothing more is freed (finalizers, soft references)
+        while (true) {
+            memory.gc();
+            long u = memory.getHeapMemoryUsage().getUsed();
+            if (u >= used) {
+                return u;
+            }
+            used = u;
+        }
+    }
+    
+    /**
+     * Performs a garbage collection and resets the peak usage of the heap
+     * memory pools, and returns the heap usage after the collection.
+     */
+    private static long resetHeap() {
+        long used = usedHeapAfterGC();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+        return used;
+    }
+    
+    /**
+     * Returns the sum of the peak usage of the heap memory pools since the 
+     * last call to {@link #resetHeap()}.
+     */
+    private static long peakHeap() {
+        long total = 0L;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                total += pool.getPeakUsage().getUsed();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Reads the file with the tree-based reader or the streaming reader.
+     */
+    private static XYZDataset<String> read(File file, boolean streaming) 
+            throws IOException {
+        Reader reader = openReader(file);
+        try {
+            if (streaming) {
+                return JSONUtils.readXYZDataset(reader, null);
+            }
+            return JSONUtils.readXYZDataset(reader);
+        } finally {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Reads the file and prints the throughput and the heap usage.
+     */
+    private static void run(String name, File file, boolean streaming) 
+            throws IOException {
+        long baseline = resetHeap();
+        long start = System.nanoTime();
+        XYZDataset<String> dataset = read(file, streaming);
+        long elapsed = System.nanoTime() - start;
+        long peak = peakHeap() - baseline;
+        int items = itemCount(dataset);
+        System.out.println(String.format("%s: %.0f items/s, peak heap +%d MB", 
+                name, items * 1e9 / elapsed, peak / (1024 * 1024)));
+    }
+    
+    private static int itemCount(XYZDataset<?> dataset) {
+        int count = 0;
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            count += dataset.getItemCount(s);
+        }
+        return count;
+    }
+    
+    /**
+     * Runs the benchmark.
+     * 
+     * @param args  the item count and series count (both optional).
+     * 
+     * @throws Exception if there is a problem.
+     */
+    public static void main(String[] args) throws Exception {
+        int itemCount = args.length > 0 ? Integer.parseInt(args[0]) : 500000;
+        int seriesCount = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        File file = createInput(itemCount, seriesCount);
+        System.out.println("Input: " + file.length() / 1024 + " KB, " 
+                + itemCount + " items");
+        
+        // warm up
+        read(file, false);
+        read(file, true);
+        
+        run("Tree-based reader", file, false);
+        run("Streaming reader", file, true);
+    }
+
+}
@@ -37,14 +37,17 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.Dimension2D;
+import javafx.animation.PauseTransition;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Tooltip;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
+import javafx.util.Duration;
 import com.orsoncharts.Chart3D;
 import com.orsoncharts.Chart3DChangeEvent;
 import com.orsoncharts.Chart3DChangeListener;
+import com.orsoncharts.Chart3DHints;
 import com.orsoncharts.data.ItemKey;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.Object3D;
@@ -122,6 +125,28 @@ public class Chart3DCanvas extends Canvas implements Chart3DChangeListener {
     /** Is rotation by mouse-dragging enabled? */
     private boolean rotateViewEnabled = true;
     
+    /** 
+     * The minimum time (in milliseconds) taken by a full quality rendering
+     * for draft rendering to be used while the user is interacting with the
+     * view (a negative value disables draft rendering).
+     */
+    private int draftThreshold = 40;
+    
+    /** 
+     * The time (in milliseconds) after the last user interaction before a 
+     * full quality rendering is performed.
+     */
+    private int draftIdleDelay = 250;
+    
+    /** The time (in milliseconds) taken by the last full quality rendering. */
+    private long fullRenderTime;
+    
+    /** A flag that indicates that the next rendering should be a draft. */
+    private boolean draft;
+    
+    /** The transition that triggers the full quality rendering after a draft. */
+    private PauseTransition idleTransition;
+    
     /**
      * Creates a new canvas to display the supplied chart in JavaFX.
      * 
@@ -333,6 +358,63 @@ public class Chart3DCanvas extends Canvas implements Chart3DChangeListener {
         this.rotateViewEnabled = enabled;
     }
 
+    /**
+     * Returns the minimum time (in milliseconds) taken by a full quality 
+     * rendering for draft rendering to be used while the user is rotating or
+     * zooming the view (see {@link #interactiveDraw()}).  The default value 
+     * is {@code 40}.  A value of {@code 0} means that draft rendering is 
+     * always used during interaction, and a negative value disables it.
+     * 
+     * @return The threshold (in milliseconds).
+     * 
+     * @since 1.7
+     */
+    public int getDraftThreshold() {
+        return this.draftThreshold;
+    }
+    
+    /**
+     * Sets the minimum time (in milliseconds) taken by a full quality 
+     * rendering for draft rendering to be used while the user is rotating or
+     * zooming the view.
+     * 
+     * @param threshold  the threshold (in milliseconds, negative to disable
+     *     draft rendering).
+     * 
+     * @since 1.7
+     */
+    public void setDraftThreshold(int threshold) {
+        this.draftThreshold = threshold;
+    }
+    
+    /**
+     * Returns the time (in milliseconds) after the last user interaction 
+     * before the chart is redrawn at full quality following a draft 
+     * rendering.  The default value is {@code 250}.
+     * 
+     * @return The delay (in milliseconds).
+     * 
+     * @since 1.7
+     */
+    public int getDraftIdleDelay() {
+        return this.draftIdleDelay;
+    }
+    
+    /**
+     * Sets the time (in milliseconds) after the last user interaction before 
+     * the chart is redrawn at full quality following a draft rendering.
+     * 
+     * @param delay  the delay (in milliseconds, must be &gt;= 0).
+     * 
+     * @since 1.7
+     */
+    public void setDraftIdleDelay(int delay) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Requires 'delay' >= 0.");
+        }
+        this.draftIdleDelay = delay;
+    }
+
     /**
      * Adjusts the viewing distance so that the chart fits the specified
      * size.  A margin is left (see {@link #getMargin()}) around the edges to 
@@ -364,11 +446,46 @@ public class Chart3DCanvas extends Canvas implements Chart3DChangeListener {
         double height = getHeight();
         if (width > 0 && height > 0) {
             ctx.clearRect(0, 0, width, height);
-            this.renderingInfo = this.chart.draw(this.g2, 
-                    new Rectangle((int) width, (int) height));
+            Rectangle bounds = new Rectangle((int) width, (int) height);
+            this.g2.setRenderingHint(Chart3DHints.KEY_DRAFT, this.draft);
+            if (this.draft) {
+                this.renderingInfo = this.chart.draw(this.g2, bounds);
+            } else {
+                long start = System.nanoTime();
+                this.renderingInfo = this.chart.draw(this.g2, bounds);
+                this.fullRenderTime = (System.nanoTime() - start) / 1000000L;
+            }
         }
         ctx.restore();
     }
+    
+    /**
+     * Draws the chart following a change made by the user (for example, 
+     * rotating the view by dragging the mouse).  If the last full quality 
+     * rendering took at least {@link #getDraftThreshold()} milliseconds, a 
+     * draft is drawn (see {@link Chart3DHints#KEY_DRAFT}) and a full quality
+     * rendering is scheduled for when there has been no further interaction
+     * for {@link #getDraftIdleDelay()} milliseconds.
+     * 
+     * @since 1.7
+     */
+    public void interactiveDraw() {
+        if (this.draftThreshold >= 0 
+                && this.fullRenderTime >= this.draftThreshold) {
+            this.draft = true;
+            if (this.idleTransition == null) {
+                this.idleTransition = new PauseTransition();
+                this.idleTransition.setOnFinished(e -> {
+                    this.draft = false;
+                    draw();
+                });
+            }
+            this.idleTransition.setDuration(Duration.millis(
+                    this.draftIdleDelay));
+            this.idleTransition.playFromStart();
+        }
+        draw();
+    }
  
     /**
      * Return {@code true} to indicate the canvas is resizable.
@@ -431,7 +548,7 @@ public class Chart3DCanvas extends Canvas implements Chart3DChangeListener {
         this.lastMovePoint = currPt;
         this.chart.getViewPoint().panLeftRight(-dx * this.panIncrement);
         this.chart.getViewPoint().moveUpDown(-dy * this.rotateIncrement);
-        this.draw();        
+        interactiveDraw();
     }
 
     private void handleScroll(ScrollEvent event) {
@@ -442,7 +559,7 @@ public class Chart3DCanvas extends Canvas implements Chart3DChangeListener {
         double valRho = Math.max(this.minViewingDistance,
                 Math.min(maxViewingDistance, vp.getRho() + units));
         vp.setRho(valRho);
-        draw();
+        interactiveDraw();
     }
 
     @Override
@@ -0,0 +1,357 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.util.ExportFormat;
+
+/**
+ * Renders {@link RenderJob}s in PNG or JPEG format on a fixed number of 
+ * worker threads, for generating charts on a (typically headless) server.
+ * Compared with calling {@link ExportUtils} for each chart, a batch 
+ * renderer:
+ * <ul>
+ * <li>limits the number of charts rendered at the same time, with further 
+ * jobs waiting in a queue;</li>
+ * <li>reuses image buffers (one idle buffer is kept per worker) and image 
+ * writers (one per worker and format);</li>
+ * <li>encodes images in memory (without the disk cache that 
+ * {@code ImageIO} uses by default) and writes them to any output stream 
+ * or byte buffer;</li>
+ * <li>reports the queue time and render time for each job in a 
+ * {@link RenderResult}.</li>
+ * </ul>
+ * A drawable (for example a {@code Chart3D}) cannot be drawn by more than 
+ * one thread at a time, so jobs for the same drawable are drawn one after 
+ * the other, although encoding can still overlap.  Call 
+ * {@link #shutdown()} when the renderer is no longer required.
+ * 
+ * @since 1.7
+ */
+public class BatchRenderer {
+
+    /** A counter used to number the worker threads of all renderers. */
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /** The worker threads. */
+    private final ExecutorService executor;
+    
+    /** The pool of image buffers. */
+    private final ImagePool imagePool;
+    
+    /** The image writers for each worker thread. */
+    private final ThreadLocal<Map<ExportFormat, ImageWriter>> writers;
+
+    /**
+     * Creates a new renderer with one worker thread for each available 
+     * processor.
+     */
+    public BatchRenderer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new renderer with the specified number of worker threads.
+     * The worker threads are daemon threads.
+     * 
+     * @param threadCount  the number of worker threads (must be positive).
+     */
+    public BatchRenderer(int threadCount) {
+        ArgChecks.positiveRequired(threadCount, "threadCount");
+        this.executor = Executors.newFixedThreadPool(threadCount, 
+                new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "BatchRenderer-" 
+                        + THREAD_COUNT.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        this.imagePool = new ImagePool(threadCount);
+        this.writers = new ThreadLocal<Map<ExportFormat, ImageWriter>>() {
+            @Override
+            protected Map<ExportFormat, ImageWriter> initialValue() {
+                return new EnumMap<ExportFormat, ImageWriter>(
+                        ExportFormat.class);
+            }
+        };
+    }
+
+    /**
+     * Adds a job to the queue.  If the job fails, calling {@code get()} on
+     * the returned future throws an {@code ExecutionException} with the 
+     * cause of the failure (for example an {@code IOException} when the 
+     * output cannot be written).
+     * 
+     * @param job  the job ({@code null} not permitted).
+     * 
+     * @return A future for the result of the job.
+     * 
+     * @throws java.util.concurrent.RejectedExecutionException if the 
+     *     renderer has been shut down.
+     */
+    public Future<RenderResult> submit(RenderJob job) {
+        ArgChecks.nullNotPermitted(job, "job");
+        return this.executor.submit(new JobTask(job));
+    }
+
+    /**
+     * Adds all of the jobs to the queue, in order.
+     * 
+     * @param jobs  the jobs ({@code null} not permitted).
+     * 
+     * @return A list of futures for the results, in the same order as the 
+     *     jobs. 
+     */
+    public List<Future<RenderResult>> submitAll(List<RenderJob> jobs) {
+        ArgChecks.nullNotPermitted(jobs, "jobs");
+        List<Future<RenderResult>> result 
+                = new ArrayList<Future<RenderResult>>(jobs.size());
+        for (RenderJob job : jobs) {
+            result.add(submit(job));
+        }
+        return result;
+    }
+
+    /**
+     * Stops accepting new jobs.  Jobs already in the queue are completed.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Waits for the queued jobs to complete after a call to 
+     * {@link #shutdown()}.
+     * 
+     * @param timeout  the maximum time to wait.
+     * @param unit  the time unit for {@code timeout} ({@code null} not 
+     *     permitted).
+     * 
+     * @return {@code true} if the jobs completed and {@code false} if the 
+     *     timeout elapsed first.
+     * 
+     * @throws InterruptedException if the thread is interrupted while 
+     *     waiting.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) 
+            throws InterruptedException {
+        ArgChecks.nullNotPermitted(unit, "unit");
+        return this.executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Returns the image writer for the specified format for the current
+     * thread, creating it if necessary.
+     * 
+     * @param format  the format (PNG or JPEG).
+     * 
+     * @return The image writer. 
+     */
+    private ImageWriter getWriter(ExportFormat format) {
+        Map<ExportFormat, ImageWriter> map = this.writers.get();
+        ImageWriter writer = map.get(format);
+        if (writer == null) {
+            String name = format == ExportFormat.PNG ? "png" : "jpeg";
+            Iterator<ImageWriter> iterator 
+                    = ImageIO.getImageWritersByFormatName(name);
+            if (!iterator.hasNext()) {
+                throw new IllegalStateException("No image writer for " + name);
+            }
+            writer = iterator.next();
+            map.put(format, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * Draws and encodes a single job.
+     */
+    private final class JobTask implements Callable<RenderResult> {
+        
+        private final RenderJob job;
+        
+        /** The time (from {@code System.nanoTime()}) of submission. */
+        private final long submitted;
+        
+        JobTask(RenderJob job) {
+            this.job = job;
+            this.submitted = System.nanoTime();
+        }
+
+        @Override
+        public RenderResult call() throws IOException {
+            long start = System.nanoTime();
+            RenderJob j = this.job;
+            int imageType = j.getFormat() == ExportFormat.PNG 
+                    ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+            BufferedImage image = imagePool.acquire(j.getWidth(), 
+                    j.getHeight(), imageType);
+            RenderingInfo info;
+            long byteCount;
+            try {
+                Graphics2D g2 = image.createGraphics();
+                try {
+                    Drawable3D drawable = j.getDrawable();
+                    synchronized (drawable) {
+                        info = drawable.draw(g2, new Rectangle(j.getWidth(), 
+                                j.getHeight()));
+                    }
+                } finally {
+                    g2.dispose();
+                }
+                byteCount = write(image, j);
+            } finally {
+                imagePool.release(image);
+            }
+            long end = System.nanoTime();
+            return new RenderResult(j, info, byteCount, start - this.submitted, 
+                    end - start);
+        }
+        
+        /**
+         * Encodes the image and writes it to the job's output.
+         * 
+         * @param image  the image.
+         * @param job  the job.
+         * 
+         * @return The number of bytes written.
+         * 
+         * @throws IOException if there is an I/O problem. 
+         */
+        private long write(BufferedImage image, RenderJob job) 
+                throws IOException {
+            OutputStream out = job.getOutputStream();
+            ByteBuffer buffer = job.getBuffer();
+            CountingOutputStream cos = new CountingOutputStream(
+                    out != null ? out : new ByteBufferOutputStream(buffer));
+            ImageWriter writer = getWriter(job.getFormat());
+            ImageOutputStream ios = new MemoryCacheImageOutputStream(cos);
+            try {
+                writer.setOutput(ios);
+                writer.write(image);
+            } finally {
+                writer.reset();
+                ios.close();
+            }
+            cos.flush();
+            return cos.count;
+        }
+    }
+
+    /**
+     * An output stream that counts the bytes written to another stream.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        
+        private final OutputStream out;
+        
+        private long count;
+        
+        CountingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.out.flush();
+        }
+    }
+
+    /**
+     * An output stream that writes to a byte buffer.
+     */
+    private static final class ByteBufferOutputStream extends OutputStream {
+        
+        private final ByteBuffer buffer;
+
+        ByteBufferOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            try {
+                this.buffer.put((byte) b);
+            } catch (BufferOverflowException e) {
+                throw new IOException("The byte buffer is full.", e);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                this.buffer.put(b, off, len);
+            } catch (BufferOverflowException e) {
+                throw new IOException("The byte buffer is full.", e);
+            }
+        }
+    }
+
+}
@@ -63,7 +63,7 @@ public class DefaultDrawable3D implements Drawable3D {
     public static final double DEFAULT_PROJ_DIST = 1500.0;
 
     /** The viewing point. */
-    private ViewPoint3D viewPoint;
+    private volatile ViewPoint3D viewPoint;
     
     /** The projection distance. */
     private double projDist;
@@ -178,9 +178,14 @@ public class DefaultDrawable3D implements Drawable3D {
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
                 RenderingHints.VALUE_ANTIALIAS_ON);
 
-        Point3D[] eyePts = this.world.calculateEyeCoordinates(this.viewPoint);
+        // render from a copy so that the view point can change meanwhile
+        ViewPoint3D vp = this.viewPoint;
+        synchronized (vp) {
+            vp = new ViewPoint3D(vp);
+        }
+        Point3D[] eyePts = this.world.calculateEyeCoordinates(vp);
 
-        Point2D[] pts = this.world.calculateProjectedPoints(this.viewPoint,
+        Point2D[] pts = this.world.calculateProjectedPoints(vp,
                     this.projDist);
         List<Face> facesInPaintOrder = new ArrayList<Face>(
                 this.world.getFaces());
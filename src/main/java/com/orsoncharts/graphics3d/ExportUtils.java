@@ -37,11 +37,14 @@ import java.awt.Rectangle;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -56,12 +59,22 @@ import com.orsoncharts.util.ExportFormats;
  */
 public class ExportUtils {
     
+    /** The document type declaration written at the start of SVG files. */
+    private static final String SVG_DOCTYPE = "<!DOCTYPE svg PUBLIC "
+            + "\"-//W3C//DTD SVG 1.1//EN\" "
+            + "\"http://www.w3.org/Graphics/SVG/1.1/DTD/svg11.dtd\">";
+
+    /** The reflected JFreeSVG API (created on first use). */
+    private static SVGSupport svgSupport;
+
     /**
      * Writes the current content to the specified file in SVG format.  This 
      * will only work when the JFreeSVG library is found on the classpath.
      * Reflection is used to ensure there is no compile-time dependency on
      * JFreeSVG.  Any exceptions that occur while writing the file are
      * caught and wrapped in a {@code RuntimeException} that is then thrown.
+     * The file is written as described for 
+     * {@link #writeAsSVG(Drawable3D, int, int, Writer)}.
      * 
      * @param drawable  the drawable ({@code null} not permitted).
      * @param w  the chart width.
@@ -79,37 +92,65 @@ public class ExportUtils {
         ArgChecks.nullNotPermitted(drawable, "drawable");
         ArgChecks.nullNotPermitted(file, "file");
         try {
-            Class<?> svg2Class = Class.forName(
-                    "org.jfree.graphics2d.svg.SVGGraphics2D");
-            Constructor<?> c1 = svg2Class.getConstructor(int.class, int.class);
-            Graphics2D svg2 = (Graphics2D) c1.newInstance(w, h);
-            Rectangle2D drawArea = new Rectangle2D.Double(0, 0, w, h);
-            RenderingInfo info = drawable.draw(svg2, drawArea);
-            Class<?> svgUtilsClass = Class.forName(
-                    "org.jfree.graphics2d.svg.SVGUtils");
-            Method m1 = svg2Class.getMethod("getSVGElement", (Class[]) null);
-            String element = (String) m1.invoke(svg2, (Object[]) null);
-            Method m2 = svgUtilsClass.getMethod("writeToSVG", File.class, 
-                    String.class);
-            m2.invoke(svgUtilsClass, file, element);
-            return info;
-        } catch (ClassNotFoundException ex) {
-            throw new RuntimeException(ex);
-        } catch (InstantiationException ex) {
-            throw new RuntimeException(ex);
-        } catch (IllegalAccessException ex) {
-            throw new RuntimeException(ex);
-        } catch (NoSuchMethodException ex) {
-            throw new RuntimeException(ex);
-        } catch (SecurityException ex) {
-            throw new RuntimeException(ex);
-        } catch (IllegalArgumentException ex) {
-            throw new RuntimeException(ex);
-        } catch (InvocationTargetException ex) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(file), "UTF-8"));
+            try {
+                writer.write(SVG_DOCTYPE);
+                writer.write("\n");
+                RenderingInfo info = writeAsSVG(drawable, w, h, writer);
+                writer.write("\n");
+                return info;
+            } finally {
+                writer.close();
+            }
+        } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
 
+    /**
+     * Writes the current content as an SVG element to the specified writer
+     * (the writer is not closed, and no XML or document type declaration is
+     * written, so the element can be embedded in an HTML page).  This will 
+     * only work when the JFreeSVG library is found on the classpath.  
+     * Reflection is used to ensure there is no compile-time dependency on 
+     * JFreeSVG, and the reflected methods are cached after the first call.
+     * <br><br>
+     * To keep the output small for charts with many faces, each distinct 
+     * style is written once as a CSS class in a {@code style} element that
+     * follows the content (together with the definitions of clip paths and 
+     * gradients), and the elements refer to the class.  The content is 
+     * streamed to the writer rather than built as a single string first.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param w  the chart width.
+     * @param h  the chart height.
+     * @param writer  the writer ({@code null} not permitted).
+     * 
+     * @return The rendering info.
+     * 
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.7
+     */
+    public static RenderingInfo writeAsSVG(Drawable3D drawable, int w, int h,
+            Writer writer) throws IOException {
+        if (!ExportFormats.isJFreeSVGAvailable()) {
+            throw new IllegalStateException(
+                    "JFreeSVG is not present on the classpath.");
+        }
+        ArgChecks.nullNotPermitted(drawable, "drawable");
+        ArgChecks.nullNotPermitted(writer, "writer");
+        return getSVGSupport().write(drawable, w, h, writer);
+    }
+
+    private static synchronized SVGSupport getSVGSupport() {
+        if (svgSupport == null) {
+            svgSupport = new SVGSupport();
+        }
+        return svgSupport;
+    }
+
     /**
      * Writes a {@link Drawable3D} to the specified file in PDF format.  This 
      * will only work when the OrsonPDF library is found on the classpath.
@@ -191,6 +232,67 @@ public class ExportUtils {
         return result;
     }
 
+    /**
+     * Writes the current content to the specified file in PNG format, 
+     * drawing and encoding the image in horizontal tiles so that the memory 
+     * required depends on the tile size rather than the image size.  This 
+     * is intended for very large images (for printing, for example).  The 
+     * tiles are compressed in parallel when more than one processor is 
+     * available.
+     * <br><br>
+     * No rendering info is returned since each tile is drawn separately and
+     * only includes the faces that are visible within the tile.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param w  the chart width.
+     * @param h  the chart height.
+     * @param file  the output file ({@code null} not permitted).
+     * @param tileHeight  the tile height in pixels (must be positive).
+     * 
+     * @throws FileNotFoundException if the file is not found.
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.7
+     */
+    public static void writeAsPNG(Drawable3D drawable, int w, int h, 
+            File file, int tileHeight) throws FileNotFoundException, 
+            IOException {
+        ArgChecks.nullNotPermitted(file, "file");
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            writeAsPNG(drawable, w, h, out, tileHeight);
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes the current content to the specified output stream in PNG 
+     * format, drawing and encoding the image in horizontal tiles (see 
+     * {@link #writeAsPNG(Drawable3D, int, int, File, int)}).  The stream is
+     * flushed but not closed.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param w  the chart width.
+     * @param h  the chart height.
+     * @param out  the output stream ({@code null} not permitted).
+     * @param tileHeight  the tile height in pixels (must be positive).
+     * 
+     * @throws IOException if there is an I/O problem.
+     * 
+     * @since 1.7
+     */
+    public static void writeAsPNG(Drawable3D drawable, int w, int h, 
+            OutputStream out, int tileHeight) throws IOException {
+        ArgChecks.nullNotPermitted(drawable, "drawable");
+        ArgChecks.nullNotPermitted(out, "out");
+        ArgChecks.positiveRequired(w, "w");
+        ArgChecks.positiveRequired(h, "h");
+        ArgChecks.positiveRequired(tileHeight, "tileHeight");
+        TiledPNGWriter.write(drawable, w, h, tileHeight, out);
+    }
+
     /**
      * Writes the current content to the specified file in JPEG format.
      * 
@@ -220,4 +322,85 @@ public class ExportUtils {
         return result;
     }
 
+    /**
+     * The parts of the JFreeSVG API used for SVG export, looked up once by 
+     * reflection.
+     */
+    private static final class SVGSupport {
+        
+        /** The constructor {@code SVGGraphics2D(int, int, StringBuilder)}. */
+        private final Constructor<?> constructor;
+        
+        /** The method {@code SVGGraphics2D.getSVGElement()}. */
+        private final Method getSVGElement;
+        
+        /** The method {@code SVGGraphics2D.getDefsKeyPrefix()}. */
+        private final Method getDefsKeyPrefix;
+        
+        /** 
+         * The length of the content of the last SVG element written, used 
+         * to size the buffer for the next one. 
+         */
+        private volatile int lastLength;
+
+        SVGSupport() {
+            try {
+                Class<?> svg2Class = Class.forName(
+                        "org.jfree.graphics2d.svg.SVGGraphics2D");
+                this.constructor = svg2Class.getConstructor(int.class, 
+                        int.class, StringBuilder.class);
+                this.getSVGElement = svg2Class.getMethod("getSVGElement");
+                this.getDefsKeyPrefix = svg2Class.getMethod(
+                        "getDefsKeyPrefix");
+            } catch (ClassNotFoundException ex) {
+                throw new RuntimeException(ex);
+            } catch (NoSuchMethodException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        /**
+         * Draws {@code drawable} and writes it as an SVG element.  The 
+         * content is drawn into a buffer that is then streamed to the 
+         * writer, after the opening tag.  The buffer is then cleared, so 
+         * that {@code getSVGElement()} returns only the definitions.
+         */
+        RenderingInfo write(Drawable3D drawable, int w, int h, Writer writer) 
+                throws IOException {
+            try {
+                StringBuilder content = new StringBuilder(Math.max(8192, 
+                        this.lastLength + this.lastLength / 8));
+                Graphics2D svg2 = (Graphics2D) this.constructor.newInstance(
+                        w, h, content);
+                String empty = (String) this.getSVGElement.invoke(svg2);
+                int openEnd = empty.indexOf('>', empty.indexOf("<svg")) + 1;
+                Rectangle2D drawArea = new Rectangle2D.Double(0, 0, w, h);
+                RenderingInfo info = drawable.draw(svg2, drawArea);
+                this.lastLength = content.length();
+                String prefix = (String) this.getDefsKeyPrefix.invoke(svg2);
+                
+                writer.write(empty, 0, openEnd);
+                writer.write("\n");
+                SVGStyleWriter styleWriter = new SVGStyleWriter(writer, 
+                        "s" + prefix + "-");
+                styleWriter.write(content);
+                content.setLength(0);
+                content.trimToSize();
+                String shell = (String) this.getSVGElement.invoke(svg2);
+                int end = shell.lastIndexOf("</svg>");
+                writer.write(shell, openEnd, end - openEnd);
+                styleWriter.writeStyleElement();
+                writer.write(shell, end, shell.length() - end);
+                writer.flush();
+                return info;
+            } catch (InstantiationException ex) {
+                throw new RuntimeException(ex);
+            } catch (IllegalAccessException ex) {
+                throw new RuntimeException(ex);
+            } catch (InvocationTargetException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+    }
+
 }
@@ -56,27 +56,34 @@ public class Face {
 
     /** 
      * The indices of the vertices representing this face.  Normally a face
-     * should have at least three vertices (a triangle) but we allow a special
-     * case with just two vertices to represent a line.
+     * should have at least three vertices (a triangle) but we allow special
+     * cases with just two vertices to represent a line, or one vertex to
+     * represent a point.
      */
     private int[] vertices;
+    
+    /** 
+     * The normal vector for the face in world coordinates (calculated when
+     * it is first requested, then cached).
+     */
+    private double[] normal;
 
     /**
      * Creates a new face with the specified vertices that is part of the 3D
      * {@code owner} object.  Most faces will have at least three vertices,
-     * but a special case with just two vertices (representing a line) is
-     * permitted.
+     * but special cases with just two vertices (representing a line) or one
+     * vertex (representing a point, since 1.7) are permitted.
      *
      * @param owner  the object that owns the face ({@code null} not 
      *     permitted).
-     * @param vertices  the indices of the vertices (array length &gt;= 2).
+     * @param vertices  the indices of the vertices (array length &gt;= 1).
      * 
      * @since 1.3
      */
     public Face(Object3D owner, int[] vertices) {
-        if (vertices.length < 2) {
+        if (vertices.length < 1) {
             throw new IllegalArgumentException(
-                    "Faces must have at least two vertices.");
+                    "Faces must have at least one vertex.");
         }
         ArgChecks.nullNotPermitted(owner, "owner");
         this.owner = owner;
@@ -201,6 +208,39 @@ public class Face {
         return new double[] {a, b, c};
     }
 
+    /**
+     * Returns the unit normal vector for this face in world coordinates.
+     * The normal is calculated from the owner's vertices the first time this
+     * method is called and then cached (the vertices of an object cannot be 
+     * changed once added, so the normal never becomes stale).  The 
+     * returned array is the cached instance and should not be modified by
+     * the caller.  The face must have at least three vertices.
+     * 
+     * @return The normal vector (as an array of length 3).
+     * 
+     * @since 1.7
+     */
+    public double[] getNormal() {
+        if (this.normal == null) {
+            double[] v = this.owner.getVertexData();
+            int iA = this.vertices[0] * 3;
+            int iB = this.vertices[1] * 3;
+            int iC = this.vertices[2] * 3;
+            double u1 = v[iB] - v[iA];
+            double u2 = v[iB + 1] - v[iA + 1];
+            double u3 = v[iB + 2] - v[iA + 2];
+            double v1 = v[iC] - v[iA];
+            double v2 = v[iC + 1] - v[iA + 1];
+            double v3 = v[iC + 2] - v[iA + 2];
+            double a = u2 * v3 - u3 * v2;
+            double b = u3 * v1 - u1 * v3;
+            double c = u1 * v2 - u2 * v1;
+            double len = Math.sqrt(a * a + b * b + c * c);
+            this.normal = new double[] {a / len, b / len, c / len};
+        }
+        return this.normal;
+    }
+    
     /**
      * Returns the average z-value.
      *
@@ -0,0 +1,191 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Shape;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * Removes faces that cannot contribute to the rendered output, prior to 
+ * sorting the faces for rendering.  A face is culled if:
+ * <ul>
+ * <li>any of its vertices lies at or behind the eye (the projection of such
+ * vertices is not meaningful);</li>
+ * <li>it is a single-sided face (not a {@link DoubleSidedFace}) that faces 
+ * away from the viewer;</li>
+ * <li>its projected vertices all lie outside the same edge of the clip 
+ * bounds (for a {@link PointFace}, the bounds of the glyph drawn at the 
+ * vertex lie outside the clip bounds).</li>
+ * </ul>
+ * {@link LabelFace} instances are only culled if they are behind the eye,
+ * since the labels are drawn whichever way the face is facing and the text 
+ * can extend beyond the face itself.
+ * 
+ * @since 1.7
+ */
+public class FaceCuller {
+    
+    /** 
+     * A margin (in Java2D units) added to the clip bounds, to allow for the
+     * width of face outlines.
+     */
+    private static final double MARGIN = 4.0;
+    
+    private FaceCuller() {
+        // no need to instantiate
+    }
+    
+    /**
+     * Returns a new list containing the faces that are potentially visible,
+     * in the same order as the input list.
+     * 
+     * @param faces  the faces ({@code null} not permitted).
+     * @param eyePts  the eye coordinates for the world ({@code null} not 
+     *     permitted).
+     * @param pts  the projected points for the world ({@code null} not 
+     *     permitted).
+     * @param clip  the clip bounds in the same coordinate space as the 
+     *     projected points ({@code null} permitted, in which case no faces 
+     *     are culled for being outside the clip).
+     * 
+     * @return A list of faces. 
+     */
+    public static List<Face> cull(List<Face> faces, Point3D[] eyePts, 
+            Point2D[] pts, Rectangle2D clip) {
+        ArgChecks.nullNotPermitted(faces, "faces");
+        ArgChecks.nullNotPermitted(eyePts, "eyePts");
+        ArgChecks.nullNotPermitted(pts, "pts");
+        List<Face> result = new ArrayList<Face>(faces.size());
+        double minX = Double.NEGATIVE_INFINITY;
+        double maxX = Double.POSITIVE_INFINITY;
+        double minY = Double.NEGATIVE_INFINITY;
+        double maxY = Double.POSITIVE_INFINITY;
+        if (clip != null) {
+            minX = clip.getMinX() - MARGIN;
+            maxX = clip.getMaxX() + MARGIN;
+            minY = clip.getMinY() - MARGIN;
+            maxY = clip.getMaxY() + MARGIN;
+        }
+        Shape glyph = null;
+        Rectangle2D glyphBounds = null;
+        for (Face f : faces) {
+            if (isBehindEye(f, eyePts)) {
+                continue;
+            }
+            if (f instanceof LabelFace) {
+                result.add(f);
+                continue;
+            }
+            if (f.getVertexCount() > 2 && !(f instanceof DoubleSidedFace)
+                    && !f.isFrontFacing(pts)) {
+                continue;
+            }
+            if (f instanceof PointFace) {
+                // the glyph is centered on the vertex, so widen the bounds by
+                // the glyph bounds (glyphs are usually shared by many faces)
+                Shape g = ((PointFace) f).getGlyph();
+                if (g != glyph) {
+                    glyph = g;
+                    glyphBounds = g.getBounds2D();
+                }
+                if (isOutside(f, pts, minX - glyphBounds.getMaxX(), 
+                        maxX - glyphBounds.getMinX(), 
+                        minY - glyphBounds.getMaxY(), 
+                        maxY - glyphBounds.getMinY())) {
+                    continue;
+                }
+            } else if (isOutside(f, pts, minX, maxX, minY, maxY)) {
+                continue;
+            }
+            result.add(f);
+        }
+        return result;
+    }
+    
+    /**
+     * Returns {@code true} if any vertex of the face is at or behind the
+     * eye, and {@code false} otherwise.
+     * 
+     * @param f  the face.
+     * @param eyePts  the eye coordinates.
+     * 
+     * @return A boolean. 
+     */
+    private static boolean isBehindEye(Face f, Point3D[] eyePts) {
+        for (int v = 0; v < f.getVertexCount(); v++) {
+            if (eyePts[f.getVertexIndex(v)].z >= 0.0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Returns {@code true} if all the projected vertices of the face lie 
+     * beyond one edge of the specified bounds.
+     * 
+     * @param f  the face.
+     * @param pts  the projected points.
+     * @param minX  the minimum x-value for the bounds.
+     * @param maxX  the maximum x-value for the bounds.
+     * @param minY  the minimum y-value for the bounds.
+     * @param maxY  the maximum y-value for the bounds.
+     * 
+     * @return A boolean. 
+     */
+    private static boolean isOutside(Face f, Point2D[] pts, double minX, 
+            double maxX, double minY, double maxY) {
+        boolean left = true;
+        boolean right = true;
+        boolean above = true;
+        boolean below = true;
+        for (int v = 0; v < f.getVertexCount(); v++) {
+            Point2D p = pts[f.getVertexIndex(v)];
+            double x = p.getX();
+            double y = p.getY();
+            left = left && x < minX;
+            right = right && x > maxX;
+            above = above && y < minY;
+            below = below && y > maxY;
+            if (!(left || right || above || below)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+}
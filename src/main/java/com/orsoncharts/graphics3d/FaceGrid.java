@@ -0,0 +1,352 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A uniform grid over the screen space bounding boxes of the faces in a
+ * rendering, used by {@link RenderingInfo} to find the face at a given 
+ * point without testing every face.  The grid keeps a reference to the 
+ * faces, vertex indices and projected points it was built from, so these 
+ * must not be modified afterwards.  The vertex indices are passed 
+ * separately (rather than read from the faces) because the offsets stored
+ * in the faces change if the world is updated after the rendering.  Each 
+ * cell records the faces that overlap it in rendering order, so a lookup 
+ * only tests the faces in one cell (from the last rendered to the first).
+ * <br><br>
+ * Label faces are not placed in the grid, because their bounds are only 
+ * known after the labels are drawn.  Point faces are placed in the grid 
+ * using the bounds of their glyphs, and other faces with fewer than three 
+ * vertices are ignored since they have no area.
+ */
+final class FaceGrid {
+    
+    /** The maximum number of cells along each axis of the grid. */
+    private static final int MAX_CELLS = 256;
+    
+    /** The x-coordinate of the left edge of the grid. */
+    private double minX;
+    
+    /** The y-coordinate of the top edge of the grid. */
+    private double minY;
+    
+    /** The x-coordinate of the right edge of the grid. */
+    private double maxX;
+    
+    /** The y-coordinate of the bottom edge of the grid. */
+    private double maxY;
+    
+    /** The cell width. */
+    private double cellWidth;
+    
+    /** The cell height. */
+    private double cellHeight;
+    
+    /** The number of columns (zero if there are no faces in the grid). */
+    private int columns;
+    
+    /** The number of rows (zero if there are no faces in the grid). */
+    private int rows;
+    
+    /** 
+     * The bounds of each face (minX, minY, maxX, maxY), with NaN for faces 
+     * that are not in the grid. 
+     */
+    private final double[] bounds;
+    
+    /** 
+     * The start of the entries for each cell in {@code cellFaces} (with an
+     * extra entry marking the end of the last cell).
+     */
+    private int[] cellStart;
+    
+    /** The face indices for all cells, in rendering order within a cell. */
+    private int[] cellFaces;
+    
+    /** The indices of the label faces, in rendering order. */
+    private final int[] labelFaces;
+    
+    /** The faces in rendering order. */
+    private final List<Face> faces;
+    
+    /** The point indices for the vertices of all faces. */
+    private final int[] vertexIndices;
+    
+    /** The start of the entries for each face in {@code vertexIndices}. */
+    private final int[] vertexStart;
+    
+    /** The projected points, packed as (x, y) pairs. */
+    private final double[] points;
+    
+    /**
+     * Creates a new grid for the specified faces.
+     * 
+     * @param faces  the faces in rendering order ({@code null} not 
+     *     permitted).
+     * @param vertexIndices  the point indices for the vertices of all faces
+     *     ({@code null} not permitted).
+     * @param vertexStart  the start of the entries for each face in 
+     *     {@code vertexIndices}, with an extra entry marking the end of the
+     *     last face ({@code null} not permitted).
+     * @param points  the projected points, packed as (x, y) pairs 
+     *     ({@code null} not permitted).
+     */
+    FaceGrid(List<Face> faces, int[] vertexIndices, int[] vertexStart, 
+            double[] points) {
+        this.faces = faces;
+        this.vertexIndices = vertexIndices;
+        this.vertexStart = vertexStart;
+        this.points = points;
+        int n = faces.size();
+        this.bounds = new double[n * 4];
+        int[] labels = new int[16];
+        int labelCount = 0;
+        int count = 0;
+        double x0 = Double.POSITIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY;
+        double y1 = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            Face f = faces.get(i);
+            int b = i * 4;
+            this.bounds[b] = Double.NaN;
+            if (f instanceof LabelFace) {
+                if (labelCount == labels.length) {
+                    labels = Arrays.copyOf(labels, labelCount * 2);
+                }
+                labels[labelCount++] = i;
+                continue;
+            }
+            if (f instanceof PointFace) {
+                int p = pointIndex(i, 0);
+                Rectangle2D gb = ((PointFace) f).getGlyph().getBounds2D();
+                this.bounds[b] = points[p] + gb.getMinX();
+                this.bounds[b + 1] = points[p + 1] + gb.getMinY();
+                this.bounds[b + 2] = points[p] + gb.getMaxX();
+                this.bounds[b + 3] = points[p + 1] + gb.getMaxY();
+                double sum = this.bounds[b] + this.bounds[b + 1] 
+                        + this.bounds[b + 2] + this.bounds[b + 3];
+                if (Double.isNaN(sum) || Double.isInfinite(sum)) {
+                    this.bounds[b] = Double.NaN;
+                    continue;
+                }
+                x0 = Math.min(x0, this.bounds[b]);
+                y0 = Math.min(y0, this.bounds[b + 1]);
+                x1 = Math.max(x1, this.bounds[b + 2]);
+                y1 = Math.max(y1, this.bounds[b + 3]);
+                count++;
+                continue;
+            }
+            int vertexCount = vertexStart[i + 1] - vertexStart[i];
+            if (vertexCount < 3) {
+                continue;
+            }
+            // the paths used for hit testing have float coordinates
+            double fx0 = Double.POSITIVE_INFINITY;
+            double fy0 = Double.POSITIVE_INFINITY;
+            double fx1 = Double.NEGATIVE_INFINITY;
+            double fy1 = Double.NEGATIVE_INFINITY;
+            for (int v = 0; v < vertexCount; v++) {
+                int p = pointIndex(i, v);
+                double x = (float) points[p];
+                double y = (float) points[p + 1];
+                fx0 = Math.min(fx0, x);
+                fy0 = Math.min(fy0, y);
+                fx1 = Math.max(fx1, x);
+                fy1 = Math.max(fy1, y);
+            }
+            if (Double.isNaN(fx0 + fy0 + fx1 + fy1) 
+                    || Double.isInfinite(fx0 + fy0 + fx1 + fy1)) {
+                continue;
+            }
+            this.bounds[b] = fx0;
+            this.bounds[b + 1] = fy0;
+            this.bounds[b + 2] = fx1;
+            this.bounds[b + 3] = fy1;
+            x0 = Math.min(x0, fx0);
+            y0 = Math.min(y0, fy0);
+            x1 = Math.max(x1, fx1);
+            y1 = Math.max(y1, fy1);
+            count++;
+        }
+        this.labelFaces = Arrays.copyOf(labels, labelCount);
+        if (count == 0) {
+            return;
+        }
+        int side = (int) Math.ceil(Math.sqrt(count));
+        side = Math.max(1, Math.min(MAX_CELLS, side));
+        this.minX = x0;
+        this.minY = y0;
+        this.maxX = x1;
+        this.maxY = y1;
+        this.columns = side;
+        this.rows = side;
+        this.cellWidth = x1 > x0 ? (x1 - x0) / side : 1.0;
+        this.cellHeight = y1 > y0 ? (y1 - y0) / side : 1.0;
+        
+        // count the faces in each cell, then fill the cells
+        this.cellStart = new int[side * side + 1];
+        for (int pass = 0; pass < 2; pass++) {
+            int[] cursor = null;
+            if (pass == 1) {
+                for (int c = 0; c < side * side; c++) {
+                    this.cellStart[c + 1] += this.cellStart[c];
+                }
+                this.cellFaces = new int[this.cellStart[side * side]];
+                cursor = Arrays.copyOf(this.cellStart, side * side);
+            }
+            for (int i = 0; i < n; i++) {
+                int b = i * 4;
+                if (Double.isNaN(this.bounds[b])) {
+                    continue;
+                }
+                int c0 = column(this.bounds[b]);
+                int r0 = row(this.bounds[b + 1]);
+                int c1 = column(this.bounds[b + 2]);
+                int r1 = row(this.bounds[b + 3]);
+                for (int r = r0; r <= r1; r++) {
+                    for (int c = c0; c <= c1; c++) {
+                        int cell = r * side + c;
+                        if (pass == 0) {
+                            this.cellStart[cell + 1]++;
+                        } else {
+                            this.cellFaces[cursor[cell]++] = i;
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    private int column(double x) {
+        int c = (int) ((x - this.minX) / this.cellWidth);
+        return Math.max(0, Math.min(this.columns - 1, c));
+    }
+    
+    private int row(double y) {
+        int r = (int) ((y - this.minY) / this.cellHeight);
+        return Math.max(0, Math.min(this.rows - 1, r));
+    }
+    
+    /**
+     * Returns the index of the last rendered face in the grid that contains
+     * the point {@code (x, y)}, or {@code -1}.  Label faces are not 
+     * considered (see {@link #getLabelFaces()}).
+     * 
+     * @param x  the x-coordinate (in the same space as the projected points).
+     * @param y  the y-coordinate.
+     * 
+     * @return The face index or {@code -1}.
+     */
+    int findFace(double x, double y) {
+        if (this.columns == 0 || x < this.minX || y < this.minY 
+                || x > this.maxX || y > this.maxY) {
+            return -1;
+        }
+        int cell = row(y) * this.columns + column(x);
+        for (int k = this.cellStart[cell + 1] - 1; 
+                k >= this.cellStart[cell]; k--) {
+            int i = this.cellFaces[k];
+            int b = i * 4;
+            if (x < this.bounds[b] || y < this.bounds[b + 1] 
+                    || x > this.bounds[b + 2] || y > this.bounds[b + 3]) {
+                continue;
+            }
+            Face f = this.faces.get(i);
+            if (f instanceof PointFace) {
+                int p = pointIndex(i, 0);
+                if (((PointFace) f).getGlyph().contains(x - this.points[p], 
+                        y - this.points[p + 1])) {
+                    return i;
+                }
+                continue;
+            }
+            if (createPath(i).contains(x, y)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Returns the index in the packed points of the x-coordinate for a 
+     * vertex of a face.
+     * 
+     * @param i  the face index.
+     * @param v  the vertex index within the face.
+     * 
+     * @return The index.
+     */
+    private int pointIndex(int i, int v) {
+        return this.vertexIndices[this.vertexStart[i] + v] * 2;
+    }
+    
+    /**
+     * Creates a path for the face from the packed points (with float 
+     * coordinates, as in {@link Face#createPath(Point2D[])}).
+     * 
+     * @param i  the face index.
+     * 
+     * @return The path. 
+     */
+    private Path2D createPath(int i) {
+        Path2D path = new Path2D.Float();
+        int vertexCount = this.vertexStart[i + 1] - this.vertexStart[i];
+        for (int v = 0; v < vertexCount; v++) {
+            int p = pointIndex(i, v);
+            if (v == 0) {
+                path.moveTo(this.points[p], this.points[p + 1]);
+            } else {
+                path.lineTo(this.points[p], this.points[p + 1]);
+            }
+        }
+        path.closePath();
+        return path;
+    }
+    
+    /**
+     * Returns the indices of the label faces, in rendering order.  The 
+     * caller should not modify the array.
+     * 
+     * @return The indices (never {@code null}).
+     */
+    int[] getLabelFaces() {
+        return this.labelFaces;
+    }
+
+}
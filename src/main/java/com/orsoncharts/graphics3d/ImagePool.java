@@ -0,0 +1,128 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * A pool of {@code BufferedImage} instances, so that an image of a given 
+ * size and type can be reused rather than allocated for each rendering.  
+ * The pool holds at most a fixed number of idle images, discarding the 
+ * least recently returned image when it is full.  Only image types backed 
+ * by an {@code int} array ({@code TYPE_INT_RGB} and {@code TYPE_INT_ARGB})
+ * are supported.  This class is safe for use by multiple threads.
+ * 
+ * @since 1.7
+ */
+final class ImagePool {
+    
+    /** The maximum number of idle images held by the pool. */
+    private final int capacity;
+    
+    /** The idle images, least recently returned first. */
+    private final LinkedList<BufferedImage> images;
+
+    /**
+     * Creates a new pool.
+     * 
+     * @param capacity  the maximum number of idle images.
+     */
+    ImagePool(int capacity) {
+        this.capacity = capacity;
+        this.images = new LinkedList<BufferedImage>();
+    }
+
+    /**
+     * Returns a cleared image with the specified size and type, either from
+     * the pool or newly created.
+     * 
+     * @param width  the width.
+     * @param height  the height.
+     * @param imageType  the image type.
+     * 
+     * @return An image (never {@code null}). 
+     */
+    BufferedImage acquire(int width, int height, int imageType) {
+        BufferedImage result = null;
+        synchronized (this.images) {
+            Iterator<BufferedImage> iterator = this.images.descendingIterator();
+            while (iterator.hasNext()) {
+                BufferedImage image = iterator.next();
+                if (image.getWidth() == width && image.getHeight() == height
+                        && image.getType() == imageType) {
+                    iterator.remove();
+                    result = image;
+                    break;
+                }
+            }
+        }
+        if (result == null) {
+            return new BufferedImage(width, height, imageType);
+        }
+        int[] pixels = ((DataBufferInt) result.getRaster().getDataBuffer())
+                .getData();
+        Arrays.fill(pixels, 0);
+        return result;
+    }
+
+    /**
+     * Returns an image to the pool.  The caller must not use the image 
+     * afterwards.
+     * 
+     * @param image  the image ({@code null} not permitted).
+     */
+    void release(BufferedImage image) {
+        synchronized (this.images) {
+            if (this.images.size() >= this.capacity) {
+                this.images.removeFirst();
+            }
+            this.images.addLast(image);
+        }
+    }
+
+    /**
+     * Returns the number of idle images in the pool.
+     * 
+     * @return The number of idle images. 
+     */
+    int getIdleCount() {
+        synchronized (this.images) {
+            return this.images.size();
+        }
+    }
+
+}
@@ -0,0 +1,297 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.util.Arrays;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A 3D object that holds the geometry for many data items (typically all 
+ * the items in one series) in a single indexed mesh.  Each item is added as
+ * a <em>part</em> (see {@link #beginPart(Object)}): the vertices for a part 
+ * are numbered from zero, and any vertex that exactly matches a vertex in 
+ * the previous part (the joints between adjacent segments in a line or area 
+ * chart, for example) is shared rather than duplicated.  The color and item 
+ * key for each face are recorded as indices in primitive arrays, so no 
+ * per-item objects or properties are required.
+ * 
+ * @since 1.7
+ */
+public class IndexedMesh3D extends Object3D {
+
+    /** The index of the first vertex in the previous part. */
+    private int prevPartStart;
+    
+    /** The index of the first vertex in the current part. */
+    private int partStart;
+    
+    /** Maps the vertex numbers in the current part to mesh vertices. */
+    private int[] partVertices;
+    
+    /** The number of vertices added in the current part. */
+    private int partVertexCount;
+    
+    /** The item keys for the parts (indexed by part). */
+    private Object[] itemKeys;
+    
+    /** The number of parts. */
+    private int partCount;
+    
+    /** The distinct face colors (a small palette). */
+    private Color[] colors;
+    
+    /** The number of colors in the palette. */
+    private int colorCount;
+    
+    /** The palette index of the color for each face. */
+    private int[] faceColors;
+    
+    /** The part index for each face. */
+    private int[] faceParts;
+    
+    /**
+     * Creates a new (empty) mesh.
+     * 
+     * @param color  the default color ({@code null} not permitted).
+     * @param outline  draw the face outlines?
+     */
+    public IndexedMesh3D(Color color, boolean outline) {
+        super(color, outline);
+        this.partVertices = new int[16];
+        this.itemKeys = new Object[16];
+        this.colors = new Color[4];
+        this.faceColors = new int[64];
+        this.faceParts = new int[64];
+    }
+    
+    /**
+     * Returns the number of parts in the mesh.
+     * 
+     * @return The number of parts. 
+     */
+    public int getPartCount() {
+        return this.partCount;
+    }
+    
+    /**
+     * Starts a new part in the mesh.  Vertices added with 
+     * {@link #addPartVertex(double, double, double)} after this call are 
+     * numbered from zero, and faces added with 
+     * {@link #addPartFace(int[], Color)} refer to vertices using these 
+     * numbers.
+     * 
+     * @param itemKey  the key for the data item that the part represents 
+     *     ({@code null} permitted).
+     */
+    public void beginPart(Object itemKey) {
+        if (this.partCount == this.itemKeys.length) {
+            this.itemKeys = Arrays.copyOf(this.itemKeys, this.partCount * 2);
+        }
+        this.itemKeys[this.partCount++] = itemKey;
+        this.prevPartStart = this.partStart;
+        this.partStart = getVertexCount();
+        this.partVertexCount = 0;
+    }
+    
+    /**
+     * Returns the number of vertices that have been added to the current 
+     * part (including vertices that are shared with the previous part).
+     * 
+     * @return The vertex count.
+     */
+    public int getPartVertexCount() {
+        return this.partVertexCount;
+    }
+    
+    /**
+     * Adds a vertex to the current part and returns its number within the 
+     * part.  If the previous part has a vertex with exactly the same
+     * coordinates, that vertex is reused.
+     * 
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * @param z  the z-coordinate.
+     * 
+     * @return The vertex number within the current part.
+     */
+    public int addPartVertex(double x, double y, double z) {
+        int index = -1;
+        double[] data = getVertexData();
+        for (int v = this.prevPartStart; v < this.partStart; v++) {
+            int i = v * 3;
+            if (data[i] == x && data[i + 1] == y && data[i + 2] == z) {
+                index = v;
+                break;
+            }
+        }
+        if (index < 0) {
+            index = getVertexCount();
+            addVertex(x, y, z);
+        }
+        if (this.partVertexCount == this.partVertices.length) {
+            this.partVertices = Arrays.copyOf(this.partVertices, 
+                    this.partVertexCount * 2);
+        }
+        this.partVertices[this.partVertexCount] = index;
+        return this.partVertexCount++;
+    }
+    
+    /**
+     * Adds a face to the current part.
+     * 
+     * @param vertices  the vertex numbers within the current part.
+     * @param color  the face color ({@code null} not permitted).
+     */
+    public void addPartFace(int[] vertices, Color color) {
+        ArgChecks.nullNotPermitted(color, "color");
+        if (this.partCount == 0) {
+            throw new IllegalStateException("No part has been started.");
+        }
+        int[] indices = new int[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            indices[i] = this.partVertices[vertices[i]];
+        }
+        int face = getFaceCount();
+        if (face == this.faceColors.length) {
+            this.faceColors = Arrays.copyOf(this.faceColors, face * 2);
+            this.faceParts = Arrays.copyOf(this.faceParts, face * 2);
+        }
+        this.faceColors[face] = colorIndex(color);
+        this.faceParts[face] = this.partCount - 1;
+        addFace(new MeshFace(this, indices, face));
+    }
+    
+    /**
+     * Returns the palette index for the specified color, adding it to the
+     * palette if necessary.
+     * 
+     * @param color  the color ({@code null} not permitted).
+     * 
+     * @return The palette index.
+     */
+    private int colorIndex(Color color) {
+        for (int i = this.colorCount - 1; i >= 0; i--) {
+            if (this.colors[i].equals(color)) {
+                return i;
+            }
+        }
+        if (this.colorCount == this.colors.length) {
+            this.colors = Arrays.copyOf(this.colors, this.colorCount * 2);
+        }
+        this.colors[this.colorCount] = color;
+        return this.colorCount++;
+    }
+    
+    /**
+     * Returns the color for the specified face.
+     * 
+     * @param face  the face ({@code null} not permitted).
+     * 
+     * @return The color (never {@code null}). 
+     */
+    @Override
+    public Color getColor(Face face) {
+        if (face instanceof MeshFace && face.getOwner() == this) {
+            return this.colors[this.faceColors[((MeshFace) face).index]];
+        }
+        return super.getColor(face);
+    }
+    
+    /**
+     * Returns the key for the data item that the specified face belongs 
+     * to.  For faces that were not added as part of the mesh, this method 
+     * returns the {@link Object3D#ITEM_KEY} property of the mesh.
+     * 
+     * @param face  the face ({@code null} not permitted).
+     * 
+     * @return The item key (possibly {@code null}). 
+     */
+    public Object getItemKey(Face face) {
+        if (face instanceof MeshFace && face.getOwner() == this) {
+            return this.itemKeys[this.faceParts[((MeshFace) face).index]];
+        }
+        return getProperty(ITEM_KEY);
+    }
+    
+    /**
+     * Creates an object that represents the specified face on its own, with
+     * the key for its data item (if any) stored as the 
+     * {@link Object3D#ITEM_KEY} property.  This is used to report the face 
+     * in the results of hit testing (see 
+     * {@link RenderingInfo#fetchObjectAt(double, double)}) since the mesh 
+     * contains many data items.
+     * 
+     * @param face  the face ({@code null} not permitted).
+     * 
+     * @return A new object (never {@code null}). 
+     */
+    public Object3D createItemObject(Face face) {
+        Object3D result = new Object3D(getColor(face), getOutline(face));
+        int count = face.getVertexCount();
+        int[] vertices = new int[count];
+        for (int i = 0; i < count; i++) {
+            result.addVertex(getVertex(face.getVertexIndex(i) 
+                    - face.getOffset()));
+            vertices[i] = i;
+        }
+        result.addFace(vertices);
+        Object itemKey = getItemKey(face);
+        if (itemKey != null) {
+            result.setProperty(ITEM_KEY, itemKey);
+        }
+        return result;
+    }
+    
+    /**
+     * A face in the mesh, which records its own position so that the 
+     * per-face attributes can be looked up.
+     */
+    private static final class MeshFace extends Face {
+        
+        /** The index of the face in the mesh. */
+        final int index;
+        
+        /**
+         * Creates a new face.
+         * 
+         * @param owner  the mesh.
+         * @param vertices  the vertices.
+         * @param index  the face index.
+         */
+        MeshFace(Object3D owner, int[] vertices, int index) {
+            super(owner, vertices);
+            this.index = index;
+        }
+    }
+}
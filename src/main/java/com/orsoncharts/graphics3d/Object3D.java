@@ -36,6 +36,7 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,8 +74,14 @@ public class Object3D {
      */
     public static final String COLOR_PREFIX = "color/";
     
-    /** World coordinates. */
-    private List<Point3D> vertices;
+    /** 
+     * World coordinates, packed as (x, y, z) triples.  The array is grown as
+     * required, so only the first {@code vertexCount} triples are valid.
+     */
+    private double[] vertices;
+    
+    /** The number of vertices. */
+    private int vertexCount;
 
     /** Faces for the object, specified by indices to the world coords. */
     private List<Face> faces;
@@ -120,7 +127,8 @@ public class Object3D {
         ArgChecks.nullNotPermitted(color, "color");
         this.color = color;
         this.outline = outline;
-        this.vertices = new java.util.ArrayList<Point3D>();
+        this.vertices = new double[8 * 3];
+        this.vertexCount = 0;
         this.faces = new java.util.ArrayList<Face>();
     }
 
@@ -239,9 +247,54 @@ public class Object3D {
      * @return The number of vertices.
      */
     public int getVertexCount() {
-        return this.vertices.size();
+        return this.vertexCount;
+    }
+
+    /**
+     * Returns the vertex with the specified index.
+     * 
+     * @param index  the vertex index (in the range {@code 0} to 
+     *     {@code getVertexCount() - 1}).
+     * 
+     * @return A new point (never {@code null}).
+     * 
+     * @since 1.7
+     */
+    public Point3D getVertex(int index) {
+        if (index < 0 || index >= this.vertexCount) {
+            throw new IndexOutOfBoundsException("Invalid index " + index);
+        }
+        int i = index * 3;
+        return new Point3D(this.vertices[i], this.vertices[i + 1], 
+                this.vertices[i + 2]);
+    }
+    
+    /**
+     * Copies the (packed) world coordinates for the vertices of this object
+     * into the specified array.
+     * 
+     * @param dest  the destination array ({@code null} not permitted).
+     * @param destIndex  the index of the first vertex in the destination
+     *     array (each vertex occupies three array elements).
+     * 
+     * @since 1.7
+     */
+    public void copyVertices(double[] dest, int destIndex) {
+        System.arraycopy(this.vertices, 0, dest, destIndex * 3, 
+                this.vertexCount * 3);
     }
 
+    /**
+     * Returns a direct reference to the packed world coordinates for this
+     * object (only the first {@code getVertexCount() * 3} elements are 
+     * valid).  This is for use by the {@link World} class only.
+     * 
+     * @return The packed vertices. 
+     */
+    double[] getVertexData() {
+        return this.vertices;
+    }
+    
     /**
      * Adds a new object vertex with the specified coordinates.
      * 
@@ -250,7 +303,14 @@ public class Object3D {
      * @param z  the z-coordinate.
      */
     public void addVertex(double x, double y, double z) {
-        addVertex(new Point3D(x, y, z));    
+        int i = this.vertexCount * 3;
+        if (i == this.vertices.length) {
+            this.vertices = Arrays.copyOf(this.vertices, i * 2);
+        }
+        this.vertices[i] = x;
+        this.vertices[i + 1] = y;
+        this.vertices[i + 2] = z;
+        this.vertexCount++;
     }
     
     /**
@@ -260,7 +320,7 @@ public class Object3D {
      */
     public void addVertex(Point3D vertex) {
         ArgChecks.nullNotPermitted(vertex, "vertex");
-        this.vertices.add(vertex);
+        addVertex(vertex.x, vertex.y, vertex.z);
     }
 
     /**
@@ -341,11 +401,11 @@ public class Object3D {
      */
     public Point2D[] calculateProjectedPoints(ViewPoint3D viewPoint, double d) {
         ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
-        Point2D[] result = new Point2D[this.vertices.size()];
-        int vertexCount = this.vertices.size();
-        for (int i = 0; i < vertexCount; i++) {
-            Point3D p = this.vertices.get(i);
-            result[i] = viewPoint.worldToScreen(p, d);
+        double[] pts = new double[this.vertexCount * 2];
+        viewPoint.worldToScreen(this.vertices, 0, pts, 0, this.vertexCount, d);
+        Point2D[] result = new Point2D[this.vertexCount];
+        for (int i = 0; i < this.vertexCount; i++) {
+            result[i] = new Point2D.Double(pts[i * 2], pts[i * 2 + 1]);
         }
         return result;
     }
@@ -359,15 +419,50 @@ public class Object3D {
      */
     public Point3D[] calculateEyeCoordinates(ViewPoint3D viewPoint) {
         ArgChecks.nullNotPermitted(viewPoint, "viewPoint");
-        Point3D[] result = new Point3D[this.vertices.size()];
-        int i = 0;
-        for (Point3D vertex : this.vertices) {
-            result[i] = viewPoint.worldToEye(vertex);
-            i++;
+        double[] eye = new double[this.vertexCount * 3];
+        viewPoint.worldToEye(this.vertices, 0, eye, 0, this.vertexCount);
+        Point3D[] result = new Point3D[this.vertexCount];
+        for (int i = 0; i < this.vertexCount; i++) {
+            result[i] = new Point3D(eye[i * 3], eye[i * 3 + 1], eye[i * 3 + 2]);
         }
         return result;
     }
     
+    /**
+     * Calculates the eye coordinates for the object's vertices and writes
+     * them, packed as (x, y, z) triples, into the supplied array.
+     * 
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param dest  the destination array ({@code null} not permitted).
+     * @param destIndex  the index of the first vertex in the destination
+     *     array.
+     * 
+     * @since 1.7
+     */
+    public void calculateEyeCoordinates(ViewPoint3D viewPoint, double[] dest,
+            int destIndex) {
+        viewPoint.worldToEye(this.vertices, 0, dest, destIndex, 
+                this.vertexCount);
+    }
+    
+    /**
+     * Calculates the projected points for the object's vertices and writes
+     * them, packed as (x, y) pairs, into the supplied array.
+     * 
+     * @param viewPoint  the view point ({@code null} not permitted).
+     * @param d  the projection distance.
+     * @param dest  the destination array ({@code null} not permitted).
+     * @param destIndex  the index of the first vertex in the destination
+     *     array.
+     * 
+     * @since 1.7
+     */
+    public void calculateProjectedPoints(ViewPoint3D viewPoint, double d, 
+            double[] dest, int destIndex) {
+        viewPoint.worldToScreen(this.vertices, 0, dest, destIndex, 
+                this.vertexCount, d);
+    }
+    
     /**
      * Creates a square flat surface in the x-z plane (constant y) with a 
      * single face.
@@ -421,6 +516,31 @@ public class Object3D {
         return sheet;
     }
 
+    /**
+     * Creates an object consisting of a single point at {@code (x, y, z)}.
+     * The point has no size in the 3D world, it is rendered as a small 
+     * marker (a fixed number of pixels) on the screen.  This is much cheaper
+     * to render than a cube, so it is used for scatter items when a draft
+     * rendering is requested (see {@link World#isDraft()}).
+     * 
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * @param z  the z-coordinate.
+     * @param color  the color ({@code null} not permitted).
+     * 
+     * @return The point (never {@code null}).
+     * 
+     * @since 1.7
+     */
+    public static Object3D createPoint(double x, double y, double z, 
+            Color color) {
+        ArgChecks.nullNotPermitted(color, "color");
+        Object3D point = new Object3D(color);
+        point.addVertex(x, y, z);
+        point.addFace(new int[] {0});
+        return point;
+    }
+    
     /**  
      * Creates a cube centered on {@code (x, y, z)} with the specified 
      * {@code size}.
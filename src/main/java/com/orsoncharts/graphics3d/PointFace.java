@@ -0,0 +1,141 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.awt.Shape;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A face consisting of a single vertex that is drawn as a glyph (a 
+ * {@code Shape} centered on the projected point, with a fixed size in 
+ * Java2D units) rather than as a polygon.  This is much cheaper to render
+ * than a solid object, so it is used for large point clouds.  Many faces 
+ * will typically share the same glyph instance.
+ * 
+ * @since 1.7
+ */
+public class PointFace extends Face {
+    
+    /** The glyph, centered on (0, 0). */
+    private Shape glyph;
+    
+    /** The color. */
+    private Color color;
+    
+    /** The key for the data item that the point represents (if any). */
+    private Object itemKey;
+    
+    /**
+     * Creates a new instance.
+     * 
+     * @param owner  the object that owns the face ({@code null} not 
+     *     permitted).
+     * @param vertex  the index of the vertex in the owner.
+     * @param glyph  the glyph, centered on (0, 0) ({@code null} not 
+     *     permitted).
+     * @param color  the color ({@code null} not permitted).
+     * @param itemKey  the key for the data item that the point represents
+     *     ({@code null} permitted).
+     */
+    public PointFace(Object3D owner, int vertex, Shape glyph, Color color, 
+            Object itemKey) {
+        super(owner, new int[] {vertex});
+        ArgChecks.nullNotPermitted(glyph, "glyph");
+        ArgChecks.nullNotPermitted(color, "color");
+        this.glyph = glyph;
+        this.color = color;
+        this.itemKey = itemKey;
+    }
+    
+    /**
+     * Creates a new instance for a subclass that supplies the glyph, color
+     * and item key by overriding {@link #getGlyph()}, {@link #getColor()} 
+     * and {@link #getItemKey()} (see {@link PointSet3D}).
+     * 
+     * @param owner  the object that owns the face ({@code null} not 
+     *     permitted).
+     * @param vertex  the index of the vertex in the owner.
+     */
+    protected PointFace(Object3D owner, int vertex) {
+        super(owner, new int[] {vertex});
+    }
+    
+    /**
+     * Returns the glyph that is drawn at the projected point.
+     * 
+     * @return The glyph (never {@code null}). 
+     */
+    public Shape getGlyph() {
+        return this.glyph;
+    }
+    
+    /**
+     * Returns the color for the point.
+     * 
+     * @return The color (never {@code null}). 
+     */
+    @Override
+    public Color getColor() {
+        return this.color;
+    }
+    
+    /**
+     * Returns the key for the data item that the point represents.
+     * 
+     * @return The item key (possibly {@code null}). 
+     */
+    public Object getItemKey() {
+        return this.itemKey;
+    }
+    
+    /**
+     * Creates an object that represents this point on its own, with the 
+     * item key (if any) stored as the {@link Object3D#ITEM_KEY} property.
+     * This is used to report the point in the results of hit testing (see
+     * {@link RenderingInfo#fetchObjectAt(double, double)}) since the owner 
+     * will usually contain many points.
+     * 
+     * @return A new object (never {@code null}).
+     */
+    public Object3D createItemObject() {
+        Point3D p = getOwner().getVertex(getVertexIndex(0) - getOffset());
+        Object3D result = Object3D.createPoint(p.x, p.y, p.z, getColor());
+        Object key = getItemKey();
+        if (key != null) {
+            result.setProperty(Object3D.ITEM_KEY, key);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,184 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.awt.Shape;
+import java.util.Arrays;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A 3D object that holds many points (typically all the items in one 
+ * series) that are drawn with a single shared glyph.  Each point is added 
+ * with {@link #addPoint(double, double, double, Color, int)} and becomes a
+ * {@link PointFace} that reads its glyph from this object and its color 
+ * and item index from primitive arrays, so the only per-point object is the
+ * face itself.  The item key for a point is only created when it is 
+ * requested (for example, when hit testing), by calling 
+ * {@link #createItemKey(int)} with the item index.
+ * 
+ * @since 1.7
+ */
+public class PointSet3D extends Object3D {
+    
+    /** The glyph shared by all points, centered on (0, 0). */
+    private Shape glyph;
+    
+    /** The color for each point. */
+    private Color[] pointColors;
+    
+    /** The item index for each point. */
+    private int[] items;
+    
+    /** The number of points. */
+    private int pointCount;
+    
+    /**
+     * Creates a new (empty) point set.
+     * 
+     * @param color  the default color ({@code null} not permitted).
+     * @param glyph  the glyph, centered on (0, 0) ({@code null} not 
+     *     permitted).
+     */
+    public PointSet3D(Color color, Shape glyph) {
+        super(color);
+        ArgChecks.nullNotPermitted(glyph, "glyph");
+        this.glyph = glyph;
+        this.pointColors = new Color[64];
+        this.items = new int[64];
+    }
+    
+    /**
+     * Returns the glyph that is drawn for every point.
+     * 
+     * @return The glyph (never {@code null}). 
+     */
+    public Shape getGlyph() {
+        return this.glyph;
+    }
+    
+    /**
+     * Returns the number of points in the set.
+     * 
+     * @return The number of points. 
+     */
+    public int getPointCount() {
+        return this.pointCount;
+    }
+    
+    /**
+     * Adds a point to the set.
+     * 
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * @param z  the z-coordinate.
+     * @param color  the color ({@code null} not permitted).
+     * @param item  the index of the data item that the point represents.
+     */
+    public void addPoint(double x, double y, double z, Color color, 
+            int item) {
+        ArgChecks.nullNotPermitted(color, "color");
+        if (this.pointCount == this.items.length) {
+            this.items = Arrays.copyOf(this.items, this.pointCount * 2);
+            this.pointColors = Arrays.copyOf(this.pointColors, 
+                    this.pointCount * 2);
+        }
+        this.items[this.pointCount] = item;
+        this.pointColors[this.pointCount] = color;
+        addVertex(x, y, z);
+        addFace(new SetPointFace(this, getVertexCount() - 1, 
+                this.pointCount));
+        this.pointCount++;
+    }
+    
+    /**
+     * Returns the item index for the specified point.
+     * 
+     * @param point  the point index.
+     * 
+     * @return The item index. 
+     */
+    public int getItem(int point) {
+        return this.items[point];
+    }
+    
+    /**
+     * Creates the key for the data item with the specified index.  This 
+     * implementation returns {@code null}, subclasses can override it to 
+     * create keys on demand.
+     * 
+     * @param item  the item index.
+     * 
+     * @return The item key (possibly {@code null}). 
+     */
+    protected Object createItemKey(int item) {
+        return null;
+    }
+    
+    /**
+     * A point in the set.
+     */
+    private static final class SetPointFace extends PointFace {
+        
+        /** The index of the point in the set. */
+        final int index;
+        
+        /**
+         * Creates a new face.
+         * 
+         * @param owner  the point set.
+         * @param vertex  the vertex index.
+         * @param index  the point index.
+         */
+        SetPointFace(PointSet3D owner, int vertex, int index) {
+            super(owner, vertex);
+            this.index = index;
+        }
+
+        @Override
+        public Shape getGlyph() {
+            return ((PointSet3D) getOwner()).glyph;
+        }
+
+        @Override
+        public Color getColor() {
+            return ((PointSet3D) getOwner()).pointColors[this.index];
+        }
+
+        @Override
+        public Object getItemKey() {
+            PointSet3D owner = (PointSet3D) getOwner();
+            return owner.createItemKey(owner.items[this.index]);
+        }
+    }
+}
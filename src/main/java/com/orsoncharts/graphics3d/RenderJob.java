@@ -0,0 +1,180 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.util.ExportFormat;
+
+/**
+ * A request to draw a {@link Drawable3D} as an image of a given size and 
+ * format, and to write the image to an output stream or a byte buffer.  
+ * Jobs are submitted to a {@link BatchRenderer}.  Instances of this class
+ * are immutable, but the output target is not copied, so it must not be 
+ * used elsewhere until the job has completed.
+ * 
+ * @since 1.7
+ */
+public final class RenderJob {
+    
+    /** The drawable. */
+    private final Drawable3D drawable;
+    
+    /** The image width in pixels. */
+    private final int width;
+    
+    /** The image height in pixels. */
+    private final int height;
+    
+    /** The image format (PNG or JPEG). */
+    private final ExportFormat format;
+    
+    /** The output stream ({@code null} if the output is a buffer). */
+    private final OutputStream outputStream;
+    
+    /** The output buffer ({@code null} if the output is a stream). */
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a new job that writes the image to an output stream.  The
+     * stream is not closed when the job completes.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param width  the image width in pixels.
+     * @param height  the image height in pixels.
+     * @param format  the image format ({@link ExportFormat#PNG} or 
+     *     {@link ExportFormat#JPEG}).
+     * @param out  the output stream ({@code null} not permitted).
+     */
+    public RenderJob(Drawable3D drawable, int width, int height, 
+            ExportFormat format, OutputStream out) {
+        this(drawable, width, height, format, out, null);
+        ArgChecks.nullNotPermitted(out, "out");
+    }
+
+    /**
+     * Creates a new job that writes the image into a byte buffer, starting 
+     * at the current position of the buffer.  When the job completes, the 
+     * position of the buffer is just after the last byte of the image.  If 
+     * the image does not fit in the remaining space, the job fails with an
+     * {@code IOException}.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param width  the image width in pixels.
+     * @param height  the image height in pixels.
+     * @param format  the image format ({@link ExportFormat#PNG} or 
+     *     {@link ExportFormat#JPEG}).
+     * @param buffer  the output buffer ({@code null} not permitted).
+     */
+    public RenderJob(Drawable3D drawable, int width, int height, 
+            ExportFormat format, ByteBuffer buffer) {
+        this(drawable, width, height, format, null, buffer);
+        ArgChecks.nullNotPermitted(buffer, "buffer");
+    }
+
+    private RenderJob(Drawable3D drawable, int width, int height, 
+            ExportFormat format, OutputStream out, ByteBuffer buffer) {
+        ArgChecks.nullNotPermitted(drawable, "drawable");
+        ArgChecks.positiveRequired(width, "width");
+        ArgChecks.positiveRequired(height, "height");
+        ArgChecks.nullNotPermitted(format, "format");
+        if (format != ExportFormat.PNG && format != ExportFormat.JPEG) {
+            throw new IllegalArgumentException(
+                    "Only PNG and JPEG formats are supported.");
+        }
+        this.drawable = drawable;
+        this.width = width;
+        this.height = height;
+        this.format = format;
+        this.outputStream = out;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the drawable.
+     * 
+     * @return The drawable (never {@code null}). 
+     */
+    public Drawable3D getDrawable() {
+        return this.drawable;
+    }
+
+    /**
+     * Returns the image width in pixels.
+     * 
+     * @return The image width. 
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the image height in pixels.
+     * 
+     * @return The image height. 
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Returns the image format.
+     * 
+     * @return The image format (never {@code null}).
+     */
+    public ExportFormat getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Returns the output stream that the image is written to, or 
+     * {@code null} if the image is written to a byte buffer.
+     * 
+     * @return The output stream (possibly {@code null}). 
+     */
+    public OutputStream getOutputStream() {
+        return this.outputStream;
+    }
+
+    /**
+     * Returns the byte buffer that the image is written to, or 
+     * {@code null} if the image is written to an output stream.
+     * 
+     * @return The byte buffer (possibly {@code null}). 
+     */
+    public ByteBuffer getBuffer() {
+        return this.buffer;
+    }
+
+}
@@ -0,0 +1,149 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+/**
+ * The result of a {@link RenderJob} that has been completed by a 
+ * {@link BatchRenderer}, including the time spent waiting in the queue and
+ * the time spent drawing and encoding the image.
+ * 
+ * @since 1.7
+ */
+public final class RenderResult {
+    
+    /** The job. */
+    private final RenderJob job;
+    
+    /** The rendering info returned when the drawable was drawn. */
+    private final RenderingInfo renderingInfo;
+    
+    /** The number of bytes written. */
+    private final long byteCount;
+    
+    /** The time (in nanoseconds) that the job waited to be started. */
+    private final long queueTime;
+    
+    /** The time (in nanoseconds) taken to draw and encode the image. */
+    private final long renderTime;
+
+    /**
+     * Creates a new result.
+     * 
+     * @param job  the job.
+     * @param renderingInfo  the rendering info.
+     * @param byteCount  the number of bytes written.
+     * @param queueTime  the queue time (in nanoseconds).
+     * @param renderTime  the render time (in nanoseconds).
+     */
+    RenderResult(RenderJob job, RenderingInfo renderingInfo, long byteCount, 
+            long queueTime, long renderTime) {
+        this.job = job;
+        this.renderingInfo = renderingInfo;
+        this.byteCount = byteCount;
+        this.queueTime = queueTime;
+        this.renderTime = renderTime;
+    }
+
+    /**
+     * Returns the job.
+     * 
+     * @return The job (never {@code null}). 
+     */
+    public RenderJob getJob() {
+        return this.job;
+    }
+
+    /**
+     * Returns the rendering info returned by the drawable.
+     * 
+     * @return The rendering info (possibly {@code null}). 
+     */
+    public RenderingInfo getRenderingInfo() {
+        return this.renderingInfo;
+    }
+
+    /**
+     * Returns the number of bytes written to the job's output.
+     * 
+     * @return The number of bytes written. 
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * Returns the time (in nanoseconds) between the job being submitted 
+     * and a worker starting it.
+     * 
+     * @return The queue time in nanoseconds. 
+     */
+    public long getQueueTime() {
+        return this.queueTime;
+    }
+
+    /**
+     * Returns the time (in nanoseconds) that the worker spent drawing and
+     * encoding the image.
+     * 
+     * @return The render time in nanoseconds. 
+     */
+    public long getRenderTime() {
+        return this.renderTime;
+    }
+
+    /**
+     * Returns the latency of the job (in nanoseconds), that is the time 
+     * between the job being submitted and its output being written.  This
+     * is the sum of the queue time and the render time.
+     * 
+     * @return The latency in nanoseconds. 
+     */
+    public long getLatency() {
+        return this.queueTime + this.renderTime;
+    }
+
+    /**
+     * Returns a string representation of this result, primarily for 
+     * debugging purposes.
+     * 
+     * @return A string (never {@code null}). 
+     */
+    @Override
+    public String toString() {
+        return "RenderResult[" + this.job.getFormat() + " " 
+                + this.job.getWidth() + "x" + this.job.getHeight() 
+                + ", bytes=" + this.byteCount + ", queueTime=" 
+                + this.queueTime + ", renderTime=" + this.renderTime + "]";
+    }
+
+}
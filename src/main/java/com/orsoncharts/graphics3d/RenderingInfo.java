@@ -33,7 +33,6 @@
 package com.orsoncharts.graphics3d;
 
 import java.awt.Shape;
-import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.util.List;
@@ -52,8 +51,28 @@ public class RenderingInfo {
      */
     private List<Face> faces;
     
-    /** The projected points for the vertices in the faces. */
-    Point2D[] projPts;
+    /** 
+     * The projected points for the vertices in the faces, packed as 
+     * (x, y) pairs.  This is a copy owned by this instance, since the chart
+     * updates its own points in place each time it is drawn.
+     */
+    private double[] points;
+    
+    /** 
+     * The point indices for the vertices of all faces, as they were at the 
+     * time of rendering (the offsets stored in the faces change if the 
+     * world is updated afterwards, possibly on another thread).
+     */
+    private int[] vertexIndices;
+    
+    /** 
+     * The start of the entries for each face in {@code vertexIndices} (with
+     * an extra entry marking the end of the last face).
+     */
+    private int[] vertexStart;
+    
+    /** The projected points as {@code Point2D} instances (created lazily). */
+    private Point2D[] projPts;
     
     /** The x-translation. */
     private double dx;
@@ -69,8 +88,15 @@ public class RenderingInfo {
 
     List<RenderedElement> otherOffsetElements;
     
+    /** 
+     * A spatial index for the faces, built from the points owned by this
+     * instance on the first call to {@link #fetchObjectAt(double, double)}.
+     */
+    private FaceGrid faceGrid;
+    
     /**
-     * Creates a new instance.
+     * Creates a new instance.  The projected points are copied, so the 
+     * caller can reuse the array for subsequent renderings.
      * 
      * @param faces  the rendered faces (in order of rendering).
      * @param projPts  the projected points for all vertices in the 3D model.
@@ -80,7 +106,25 @@ public class RenderingInfo {
     public RenderingInfo(List<Face> faces, Point2D[] projPts, double dx, 
             double dy) {
         this.faces = faces;
-        this.projPts = projPts;
+        this.points = new double[projPts.length * 2];
+        for (int i = 0; i < projPts.length; i++) {
+            this.points[i * 2] = projPts[i].getX();
+            this.points[i * 2 + 1] = projPts[i].getY();
+        }
+        int n = faces.size();
+        this.vertexStart = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            this.vertexStart[i + 1] = this.vertexStart[i] 
+                    + faces.get(i).getVertexCount();
+        }
+        this.vertexIndices = new int[this.vertexStart[n]];
+        for (int i = 0; i < n; i++) {
+            Face f = faces.get(i);
+            int start = this.vertexStart[i];
+            for (int v = 0; v < f.getVertexCount(); v++) {
+                this.vertexIndices[start + v] = f.getVertexIndex(v);
+            }
+        }
         this.dx = dx;
         this.dy = dy;
         this.otherElements = new ArrayList<RenderedElement>();
@@ -97,11 +141,21 @@ public class RenderingInfo {
     }
     
     /**
-     * Returns the projected points.
+     * Returns the projected points.  These are not affected by later 
+     * renderings of the chart.
      * 
      * @return The projected points. 
      */
-    public Point2D[] getProjectedPoints() {
+    public synchronized Point2D[] getProjectedPoints() {
+        if (this.projPts == null) {
+            int count = this.points.length / 2;
+            Point2D[] pts = new Point2D[count];
+            for (int i = 0; i < count; i++) {
+                pts[i] = new Point2D.Double(this.points[i * 2], 
+                        this.points[i * 2 + 1]);
+            }
+            this.projPts = pts;
+        }
         return this.projPts;
     }
     
@@ -147,7 +201,14 @@ public class RenderingInfo {
     }
     
     /**
-     * Fetches the object, if any, that is rendered at {@code (x, y)}.
+     * Fetches the object, if any, that is rendered at {@code (x, y)}.  The
+     * first call to this method builds a spatial index of the faces in 
+     * screen space, so that subsequent calls only need to test the faces 
+     * near to {@code (x, y)}.  If the point lies on a {@link PointFace}, 
+     * the result is the object created by 
+     * {@link PointFace#createItemObject()}, and for a face in an 
+     * {@link IndexedMesh3D} it is the object created by 
+     * {@link IndexedMesh3D#createItemObject(Face)}.
      * 
      * @param x  the x-coordinate.
      * @param y  the y-coordinate.
@@ -155,22 +216,46 @@ public class RenderingInfo {
      * @return The object (or {@code null}). 
      */
     public Object3D fetchObjectAt(double x, double y) {
-        for (int i = this.faces.size() - 1; i >= 0; i--) {
-            Face f = this.faces.get(i);
-            if (f instanceof LabelFace) {
-                Rectangle2D bounds 
-                        = (Rectangle2D) f.getOwner().getProperty("labelBounds");
-                if (bounds != null && bounds.contains(x - dx, y - dy)) {
-                    return f.getOwner();
-                }
-            } else {
-                Path2D p = f.createPath(this.projPts);
-                if (p.contains(x - dx, y - dy)) {
-                    return f.getOwner();
-                }
+        FaceGrid grid = getFaceGrid();
+        double xx = x - this.dx;
+        double yy = y - this.dy;
+        int hit = grid.findFace(xx, yy);
+        
+        // a label rendered after the face that was found takes precedence
+        int[] labels = grid.getLabelFaces();
+        for (int i = labels.length - 1; i >= 0 && labels[i] > hit; i--) {
+            Face f = this.faces.get(labels[i]);
+            Rectangle2D bounds 
+                    = (Rectangle2D) f.getOwner().getProperty("labelBounds");
+            if (bounds != null && bounds.contains(xx, yy)) {
+                return f.getOwner();
             }
         }
-        return null;
+        if (hit < 0) {
+            return null;
+        }
+        Face f = this.faces.get(hit);
+        if (f instanceof PointFace) {
+            return ((PointFace) f).createItemObject();
+        }
+        if (f.getOwner() instanceof IndexedMesh3D) {
+            return ((IndexedMesh3D) f.getOwner()).createItemObject(f);
+        }
+        return f.getOwner();
+    }
+    
+    /**
+     * Returns the spatial index for the faces, building it from the points
+     * owned by this instance if necessary.
+     * 
+     * @return The face grid (never {@code null}). 
+     */
+    private synchronized FaceGrid getFaceGrid() {
+        if (this.faceGrid == null) {
+            this.faceGrid = new FaceGrid(this.faces, this.vertexIndices, 
+                    this.vertexStart, this.points);
+        }
+        return this.faceGrid;
     }
     
     /**
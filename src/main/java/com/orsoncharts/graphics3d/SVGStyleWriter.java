@@ -0,0 +1,225 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes SVG content to a {@code Writer}, replacing each {@code style} 
+ * attribute with a reference to a CSS class so that repeated styles (the
+ * shaded colors of faces in a chart, for example) are only written once.  
+ * The class definitions are written by {@link #writeStyleElement()}, which
+ * should be called before the end of the {@code svg} element.  The content
+ * must not already have {@code class} attributes on elements that have a
+ * {@code style} attribute (this is the case for the output of JFreeSVG).
+ * 
+ * @since 1.7
+ */
+final class SVGStyleWriter {
+
+    private static final String STYLE = "style=\"";
+    
+    /** The destination. */
+    private final Writer out;
+    
+    /** The prefix for the class names. */
+    private final String classPrefix;
+    
+    /** The class name for each distinct style, in order of first use. */
+    private final Map<String, String> classes;
+    
+    /** A buffer for the output. */
+    private final char[] buffer;
+    
+    /** The number of characters in the buffer. */
+    private int count;
+
+    /**
+     * Creates a new writer.
+     * 
+     * @param out  the destination ({@code null} not permitted).
+     * @param classPrefix  the prefix for the generated class names, which
+     *     should make them unique within the document that the content is 
+     *     included in ({@code null} not permitted).
+     */
+    SVGStyleWriter(Writer out, String classPrefix) {
+        this.out = out;
+        this.classPrefix = classPrefix;
+        this.classes = new LinkedHashMap<String, String>();
+        this.buffer = new char[8192];
+    }
+
+    /**
+     * Returns the number of distinct styles written so far.
+     * 
+     * @return The number of distinct styles. 
+     */
+    int getClassCount() {
+        return this.classes.size();
+    }
+
+    /**
+     * Writes SVG content, which must consist of complete elements.
+     * 
+     * @param content  the content ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    void write(CharSequence content) throws IOException {
+        boolean inTag = false;
+        char quote = 0;
+        int length = content.length();
+        int runStart = 0;
+        for (int i = 0; i < length; i++) {
+            char c = content.charAt(i);
+            if (inTag) {
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '>') {
+                    inTag = false;
+                } else if (c == 's' && Character.isWhitespace(
+                        content.charAt(i - 1)) && startsWith(content, i, 
+                        STYLE)) {
+                    int start = i + STYLE.length();
+                    int end = start;
+                    while (end < length && content.charAt(end) != '"') {
+                        end++;
+                    }
+                    write(content, runStart, i);
+                    String style = content.subSequence(start, end).toString();
+                    write("class=\"");
+                    write(classFor(style));
+                    write('"');
+                    i = end;
+                    runStart = end + 1;
+                }
+            } else if (c == '<') {
+                inTag = true;
+            }
+        }
+        write(content, runStart, length);
+        flushBuffer();
+    }
+
+    /**
+     * Writes a {@code style} element containing the definitions of the 
+     * classes for all the styles written so far.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    void writeStyleElement() throws IOException {
+        write("<style type=\"text/css\">\n");
+        for (Map.Entry<String, String> entry : this.classes.entrySet()) {
+            write('.');
+            write(entry.getValue());
+            write(" { ");
+            write(entry.getKey());
+            write(" }\n");
+        }
+        write("</style>\n");
+        flushBuffer();
+    }
+
+    private String classFor(String style) {
+        String result = this.classes.get(style);
+        if (result == null) {
+            result = this.classPrefix + this.classes.size();
+            this.classes.put(style, result);
+        }
+        return result;
+    }
+
+    private static boolean startsWith(CharSequence content, int index, 
+            String s) {
+        if (index + s.length() > content.length()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (content.charAt(index + i) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void write(char c) throws IOException {
+        if (this.count == this.buffer.length) {
+            flushBuffer();
+        }
+        this.buffer[this.count++] = c;
+    }
+
+    private void write(String s) throws IOException {
+        write(s, 0, s.length());
+    }
+
+    /**
+     * Writes the characters from {@code start} (inclusive) to {@code end}
+     * (exclusive) in {@code s}, copying in bulk where possible.
+     */
+    private void write(CharSequence s, int start, int end) 
+            throws IOException {
+        int i = start;
+        while (i < end) {
+            if (this.count == this.buffer.length) {
+                flushBuffer();
+            }
+            int n = Math.min(end - i, this.buffer.length - this.count);
+            if (s instanceof StringBuilder) {
+                ((StringBuilder) s).getChars(i, i + n, this.buffer, 
+                        this.count);
+            } else if (s instanceof String) {
+                ((String) s).getChars(i, i + n, this.buffer, this.count);
+            } else {
+                for (int j = 0; j < n; j++) {
+                    this.buffer[this.count + j] = s.charAt(i + j);
+                }
+            }
+            this.count += n;
+            i += n;
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        this.out.write(this.buffer, 0, this.count);
+        this.count = 0;
+    }
+
+}
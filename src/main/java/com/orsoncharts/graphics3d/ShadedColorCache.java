@@ -0,0 +1,118 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Color;
+import java.util.HashMap;
+import java.util.Map;
+import com.orsoncharts.util.ArgChecks;
+
+/**
+ * A cache of shaded colors.  When faces are rendered, the base color for 
+ * each face is darkened according to the angle between the face and the
+ * light source.  Rather than creating a new {@code Color} for every face 
+ * each time the chart is drawn, the shade is quantized to one of 
+ * {@link #LEVELS} + 1 levels and the shaded colors are looked up in a table 
+ * for the base color (tables are created on demand).
+ * <br><br>
+ * Instances of this class are not thread-safe.
+ * 
+ * @since 1.7
+ */
+public class ShadedColorCache {
+    
+    /** The number of quantization steps for the shade. */
+    public static final int LEVELS = 255;
+    
+    /** 
+     * The maximum number of base colors to retain, after which the cache is 
+     * cleared (this bounds the memory used when a chart has many distinct
+     * colors, for example a surface with a gradient color scale).
+     */
+    private static final int MAX_BASE_COLORS = 4096;
+    
+    /** The tables of shaded colors, for each base color. */
+    private final Map<Color, Color[]> tables;
+    
+    /**
+     * Creates a new (empty) cache.
+     */
+    public ShadedColorCache() {
+        this.tables = new HashMap<Color, Color[]>();
+    }
+    
+    /**
+     * Returns the base color shaded by the specified amount.  The red, green
+     * and blue components of the base color are multiplied by the shade 
+     * (after it is quantized) while the alpha component is unchanged.
+     * 
+     * @param base  the base color ({@code null} not permitted).
+     * @param shade  the shade (in the range 0.0 to 1.0).
+     * 
+     * @return The shaded color (never {@code null}).
+     */
+    public Color getShadedColor(Color base, double shade) {
+        ArgChecks.nullNotPermitted(base, "base");
+        int level = (int) (shade * LEVELS + 0.5);
+        if (level < 0) {
+            level = 0;
+        } else if (level > LEVELS) {
+            level = LEVELS;
+        }
+        Color[] table = this.tables.get(base);
+        if (table == null) {
+            if (this.tables.size() >= MAX_BASE_COLORS) {
+                this.tables.clear();
+            }
+            table = new Color[LEVELS + 1];
+            this.tables.put(base, table);
+        }
+        Color result = table[level];
+        if (result == null) {
+            double s = (double) level / LEVELS;
+            result = new Color((int) (base.getRed() * s), 
+                    (int) (base.getGreen() * s), (int) (base.getBlue() * s), 
+                    base.getAlpha());
+            table[level] = result;
+        }
+        return result;
+    }
+    
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        this.tables.clear();
+    }
+    
+}
@@ -0,0 +1,464 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import com.orsoncharts.Chart3DHints;
+
+/**
+ * Writes a {@link Drawable3D} in PNG format one horizontal tile at a time, 
+ * so that the memory required is proportional to the tile size rather than 
+ * the image size.  Each tile spans the full width of the image (PNG stores 
+ * the image row by row) and is drawn with the graphics target translated 
+ * and clipped to the tile, so faces outside the tile are culled.  All the
+ * tiles carry the same {@link Chart3DHints#KEY_FRAME} hint and the drawable
+ * is locked while they are drawn, so a chart projects and sorts its faces 
+ * once for the whole image.  The tiles are drawn in sequence on the 
+ * calling thread (a drawable is not safe to draw from several threads at 
+ * once) while the filtering and compression of completed tiles runs in 
+ * parallel.  Each tile is 
+ * compressed separately and ends on a byte boundary, so the compressed 
+ * tiles are simply concatenated to form the single zlib stream that the 
+ * PNG format requires.
+ * 
+ * @since 1.7
+ */
+final class TiledPNGWriter {
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = { (byte) 137, 80, 78, 71, 13, 10, 
+            26, 10 };
+
+    private static final byte[] IHDR = { 'I', 'H', 'D', 'R' };
+
+    private static final byte[] IDAT = { 'I', 'D', 'A', 'T' };
+
+    private static final byte[] IEND = { 'I', 'E', 'N', 'D' };
+
+    /** The zlib header for a deflate stream with the default settings. */
+    private static final byte[] ZLIB_HEADER = { 0x78, (byte) 0x9C };
+
+    /** The number of bytes per pixel (8-bit RGBA). */
+    private static final int BPP = 4;
+
+    /** The modulus used in the Adler-32 checksum. */
+    private static final int ADLER_BASE = 65521;
+
+    private TiledPNGWriter() {
+        // no need to instantiate this
+    }
+
+    /**
+     * Draws {@code drawable} in tiles and writes the result to 
+     * {@code out} in PNG format.  The stream is flushed but not closed.
+     * 
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param width  the image width in pixels.
+     * @param height  the image height in pixels.
+     * @param tileHeight  the height of each tile in pixels.
+     * @param out  the output stream ({@code null} not permitted).
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    static void write(Drawable3D drawable, int width, int height, 
+            int tileHeight, OutputStream out) throws IOException {
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.write(SIGNATURE);
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8; // bit depth
+        header[9] = 6; // color type RGBA
+        writeChunk(dos, IHDR, header, 0, header.length);
+        writeChunk(dos, IDAT, ZLIB_HEADER, 0, ZLIB_HEADER.length);
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        boolean parallel = processors > 1 && height > tileHeight;
+        int maxPending = parallel ? processors + 1 : 1;
+        BlockingQueue<BufferedImage> spareImages 
+                = new ArrayBlockingQueue<BufferedImage>(maxPending + 1);
+        Deque<Future<EncodedTile>> pending 
+                = new ArrayDeque<Future<EncodedTile>>();
+        long adler = 1L;
+        int[] previousRow = null;
+        Object frame = new Object();
+        try {
+            synchronized (drawable) {
+                for (int y = 0; y < height; y += tileHeight) {
+                    int rows = Math.min(tileHeight, height - y);
+                    BufferedImage image = spareImages.poll();
+                    if (image == null) {
+                        image = new BufferedImage(width, 
+                                Math.min(tileHeight, height), 
+                                BufferedImage.TYPE_INT_ARGB);
+                    } else {
+                        Arrays.fill(getPixels(image), 0);
+                    }
+                    Graphics2D g2 = image.createGraphics();
+                    try {
+                        g2.setRenderingHint(Chart3DHints.KEY_FRAME, frame);
+                        g2.translate(0, -y);
+                        g2.clip(new Rectangle(0, y, width, rows));
+                        drawable.draw(g2, new Rectangle(width, height));
+                    } finally {
+                        g2.dispose();
+                    }
+                    int[] lastRow = Arrays.copyOfRange(getPixels(image), 
+                            (rows - 1) * width, rows * width);
+                    TileEncoder encoder = new TileEncoder(image, rows, 
+                            previousRow, y + rows == height, spareImages);
+                    previousRow = lastRow;
+                    if (parallel) {
+                        pending.add(ForkJoinPool.commonPool().submit(encoder));
+                    } else {
+                        FutureTask<EncodedTile> task 
+                                = new FutureTask<EncodedTile>(encoder);
+                        task.run();
+                        pending.add(task);
+                    }
+                    while (pending.size() >= maxPending) {
+                        adler = writeTile(dos, pending.removeFirst(), adler);
+                    }
+                }
+            }
+            while (!pending.isEmpty()) {
+                adler = writeTile(dos, pending.removeFirst(), adler);
+            }
+        } finally {
+            for (Future<EncodedTile> f : pending) {
+                f.cancel(false);
+            }
+        }
+        byte[] trailer = new byte[4];
+        putInt(trailer, 0, (int) adler);
+        writeChunk(dos, IDAT, trailer, 0, trailer.length);
+        writeChunk(dos, IEND, trailer, 0, 0);
+        dos.flush();
+    }
+
+    /**
+     * Waits for a tile to be encoded, writes it as an IDAT chunk and 
+     * returns the Adler-32 checksum of all the image data so far.
+     * 
+     * @param out  the output stream.
+     * @param future  the encoded tile.
+     * @param adler  the checksum of the image data before this tile.
+     * 
+     * @return The updated checksum.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static long writeTile(DataOutputStream out, 
+            Future<EncodedTile> future, long adler) throws IOException {
+        EncodedTile tile;
+        try {
+            tile = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        writeChunk(out, IDAT, tile.data, 0, tile.length);
+        return combineAdler32(adler, tile.adler, tile.rawLength);
+    }
+
+    /**
+     * Writes a PNG chunk.
+     * 
+     * @param out  the output stream.
+     * @param type  the chunk type (four ASCII characters).
+     * @param data  the chunk data.
+     * @param offset  the offset of the first byte of the data.
+     * @param length  the length of the data.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeChunk(DataOutputStream out, byte[] type, 
+            byte[] data, int offset, int length) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(data, offset, length);
+        out.writeInt(length);
+        out.write(type);
+        out.write(data, offset, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Returns the Adler-32 checksum of the concatenation of two byte 
+     * sequences, given the checksum of each one.
+     * 
+     * @param adler1  the checksum of the first sequence.
+     * @param adler2  the checksum of the second sequence.
+     * @param length2  the length of the second sequence.
+     * 
+     * @return The combined checksum.
+     */
+    static long combineAdler32(long adler1, long adler2, long length2) {
+        long rem = length2 % ADLER_BASE;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (rem * sum1) % ADLER_BASE;
+        sum1 += (adler2 & 0xFFFF) + ADLER_BASE - 1;
+        sum2 += ((adler1 >> 16) & 0xFFFF) + ((adler2 >> 16) & 0xFFFF) 
+                + ADLER_BASE - rem;
+        sum1 %= ADLER_BASE;
+        sum2 %= ADLER_BASE;
+        return sum1 | (sum2 << 16);
+    }
+
+    private static int[] getPixels(BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    private static void putInt(byte[] b, int offset, int value) {
+        b[offset] = (byte) (value >>> 24);
+        b[offset + 1] = (byte) (value >>> 16);
+        b[offset + 2] = (byte) (value >>> 8);
+        b[offset + 3] = (byte) value;
+    }
+
+    /**
+     * The compressed data for one tile.
+     */
+    private static final class EncodedTile {
+        
+        /** The compressed data (possibly with unused space at the end). */
+        private final byte[] data;
+        
+        /** The number of bytes used in {@code data}. */
+        private final int length;
+        
+        /** The Adler-32 checksum of the uncompressed (filtered) data. */
+        private final long adler;
+        
+        /** The length of the uncompressed (filtered) data. */
+        private final long rawLength;
+
+        private EncodedTile(byte[] data, int length, long adler, 
+                long rawLength) {
+            this.data = data;
+            this.length = length;
+            this.adler = adler;
+            this.rawLength = rawLength;
+        }
+    }
+
+    /**
+     * A task that filters and compresses the rows of one tile.  The tile 
+     * image is returned to the queue of spare images as soon as its pixels 
+     * have been read.
+     */
+    private static final class TileEncoder implements Callable<EncodedTile> {
+        
+        private final BufferedImage image;
+        
+        private final int rows;
+        
+        /** The last row of the previous tile ({@code null} for the first). */
+        private final int[] previousRow;
+        
+        /** Is this the last tile in the image? */
+        private final boolean last;
+        
+        private final BlockingQueue<BufferedImage> spareImages;
+
+        TileEncoder(BufferedImage image, int rows, int[] previousRow, 
+                boolean last, BlockingQueue<BufferedImage> spareImages) {
+            this.image = image;
+            this.rows = rows;
+            this.previousRow = previousRow;
+            this.last = last;
+            this.spareImages = spareImages;
+        }
+
+        @Override
+        public EncodedTile call() {
+            int width = this.image.getWidth();
+            int[] pixels = getPixels(this.image);
+            int stride = width * BPP + 1;
+            byte[] raw = new byte[stride * this.rows];
+            byte[] prev = new byte[width * BPP];
+            byte[] curr = new byte[width * BPP];
+            if (this.previousRow != null) {
+                toRGBA(this.previousRow, 0, width, prev);
+            }
+            for (int r = 0; r < this.rows; r++) {
+                toRGBA(pixels, r * width, width, curr);
+                filterRow(curr, prev, raw, r * stride);
+                byte[] temp = prev;
+                prev = curr;
+                curr = temp;
+            }
+            this.spareImages.offer(this.image);
+            
+            Adler32 adler = new Adler32();
+            adler.update(raw);
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, 
+                    true);
+            byte[] out = new byte[raw.length / 4 + 64];
+            int n = 0;
+            try {
+                deflater.setInput(raw);
+                if (this.last) {
+                    deflater.finish();
+                }
+                // a sync flush ends the output on a byte boundary, without
+                // marking the final block, so the next tile can follow on
+                int flush = this.last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH;
+                do {
+                    if (n == out.length) {
+                        out = Arrays.copyOf(out, out.length * 2);
+                    }
+                    n += deflater.deflate(out, n, out.length - n, flush);
+                } while (this.last ? !deflater.finished() : n == out.length);
+            } finally {
+                deflater.end();
+            }
+            return new EncodedTile(out, n, adler.getValue(), raw.length);
+        }
+    }
+
+    /**
+     * Converts a row of ARGB pixels to RGBA bytes.
+     * 
+     * @param pixels  the pixels.
+     * @param offset  the index of the first pixel in the row.
+     * @param width  the number of pixels.
+     * @param rgba  the array to hold the bytes.
+     */
+    private static void toRGBA(int[] pixels, int offset, int width, 
+            byte[] rgba) {
+        for (int i = 0; i < width; i++) {
+            int argb = pixels[offset + i];
+            rgba[i * 4] = (byte) (argb >> 16);
+            rgba[i * 4 + 1] = (byte) (argb >> 8);
+            rgba[i * 4 + 2] = (byte) argb;
+            rgba[i * 4 + 3] = (byte) (argb >>> 24);
+        }
+    }
+
+    /**
+     * Filters a row of image data, choosing the filter type (none, sub, up 
+     * or Paeth) that gives the smallest sum of absolute differences, which 
+     * is the usual heuristic for good compression.
+     * 
+     * @param curr  the current row.
+     * @param prev  the previous row (all zero for the first row).
+     * @param out  the output array.
+     * @param offset  the offset for the filter type byte in {@code out}, 
+     *     which is followed by the filtered row.
+     */
+    private static void filterRow(byte[] curr, byte[] prev, byte[] out, 
+            int offset) {
+        long sumNone = 0;
+        long sumSub = 0;
+        long sumUp = 0;
+        long sumPaeth = 0;
+        for (int i = 0; i < curr.length; i++) {
+            int x = curr[i] & 0xFF;
+            int a = i >= BPP ? curr[i - BPP] & 0xFF : 0;
+            int b = prev[i] & 0xFF;
+            int c = i >= BPP ? prev[i - BPP] & 0xFF : 0;
+            sumNone += Math.abs((byte) x);
+            sumSub += Math.abs((byte) (x - a));
+            sumUp += Math.abs((byte) (x - b));
+            sumPaeth += Math.abs((byte) (x - paeth(a, b, c)));
+        }
+        int type = 0;
+        long min = sumNone;
+        if (sumSub < min) {
+            type = 1;
+            min = sumSub;
+        }
+        if (sumUp < min) {
+            type = 2;
+            min = sumUp;
+        }
+        if (sumPaeth < min) {
+            type = 4;
+        }
+        out[offset] = (byte) type;
+        for (int i = 0; i < curr.length; i++) {
+            int x = curr[i] & 0xFF;
+            int a = i >= BPP ? curr[i - BPP] & 0xFF : 0;
+            int b = prev[i] & 0xFF;
+            int c = i >= BPP ? prev[i - BPP] & 0xFF : 0;
+            int predictor;
+            switch (type) {
+                case 1: predictor = a; break;
+                case 2: predictor = b; break;
+                case 4: predictor = paeth(a, b, c); break;
+                default: predictor = 0;
+            }
+            out[offset + 1 + i] = (byte) (x - predictor);
+        }
+    }
+
+    /**
+     * The Paeth predictor from the PNG specification.
+     */
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a);
+        int pb = Math.abs(p - b);
+        int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) {
+            return a;
+        }
+        return pb <= pc ? b : c;
+    }
+
+}
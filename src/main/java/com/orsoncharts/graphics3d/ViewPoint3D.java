@@ -38,6 +38,8 @@ import java.awt.geom.Dimension2D;
 import java.awt.geom.Point2D;
 import java.io.Serializable;
 
+import com.orsoncharts.util.ArgChecks;
+
 /**
  * Specifies the location and orientation of the view point in 3D space.  
  * Assumes the eye looks towards the origin in world coordinates.
@@ -58,9 +60,15 @@ import java.io.Serializable;
  * to change in future releases and should not be relied upon for persisting 
  * instances of this class. 
  */
-@SuppressWarnings("serial")
 public class ViewPoint3D implements Serializable {
 
+    /** 
+     * Fixed at the value computed for version 1.6, so that view points 
+     * serialized by that version (which also include a workspace array 
+     * that is no longer used, and is ignored) can still be read.
+     */
+    private static final long serialVersionUID = 8577997208238984376L;
+
     /**
      * Creates and returns a view point for looking at a chart from the 
      * front and above.
@@ -122,8 +130,6 @@ public class ViewPoint3D implements Serializable {
     /** Applies the rotation for the orientation of the view. */
     private Rotate3D rotation;
     
-    /** A workspace for calling the Rotate3D class. */
-    private double[] workspace;
     
     /**
      * Creates a new viewing point.
@@ -145,7 +151,6 @@ public class ViewPoint3D implements Serializable {
                 orientation);
         this.up = this.rotation.applyRotation(Point3D.createPoint3D(this.theta, 
                 this.phi - Math.PI / 2, this.rho));
-        this.workspace = new double[3];
     }
     
     /**
@@ -165,7 +170,27 @@ public class ViewPoint3D implements Serializable {
                 orientation);
         this.up = this.rotation.applyRotation(Point3D.createPoint3D(this.theta, 
                 this.phi - Math.PI / 2, this.rho));
-        this.workspace = new double[3];
+    }
+
+    /**
+     * Creates a new view point that is a copy of the specified view point.
+     * A renderer can take a copy while holding the lock on {@code source}
+     * and then render from the copy, so that the source can be updated in
+     * place while the rendering is in progress.
+     *
+     * @param source  the view point to copy ({@code null} not permitted).
+     *
+     * @since 1.7
+     */
+    public ViewPoint3D(ViewPoint3D source) {
+        ArgChecks.nullNotPermitted(source, "source");
+        this.theta = source.theta;
+        this.phi = source.phi;
+        this.rho = source.rho;
+        updateMatrixElements();
+        this.rotation = new Rotate3D(Point3D.ORIGIN, Point3D.UNIT_Z,
+                source.rotation.getAngle());
+        this.up = new Point3D(source.up.x, source.up.y, source.up.z);
     }
 
    /**
@@ -332,8 +357,10 @@ public class ViewPoint3D implements Serializable {
         double x = this.v11 * p.x + this.v21 * p.y;
         double y = this.v12 * p.x + this.v22 * p.y + this.v32 * p.z;
         double z = this.v13 * p.x + this.v23 * p.y + this.v33 * p.z + this.v43;
-        double[] rotated = this.rotation.applyRotation(x, y, z, this.workspace);
-        return new Point3D(rotated[0], rotated[1], rotated[2]);
+        Rotate3D r = this.rotation;
+        return new Point3D(x * r.r11 + y * r.r21 + z * r.r31 + r.r41,
+                x * r.r12 + y * r.r22 + z * r.r32 + r.r42,
+                x * r.r13 + y * r.r23 + z * r.r33 + r.r43);
     }
 
     /**
@@ -349,9 +376,113 @@ public class ViewPoint3D implements Serializable {
         double x = this.v11 * p.x + this.v21 * p.y;
         double y = this.v12 * p.x + this.v22 * p.y + this.v32 * p.z;
         double z = this.v13 * p.x + this.v23 * p.y + this.v33 * p.z + this.v43;
-        double[] rotated = this.rotation.applyRotation(x, y, z, this.workspace);        
-        return new Point2D.Double(-d * rotated[0] / rotated[2], 
-                -d * rotated[1] / rotated[2]);
+        Rotate3D r = this.rotation;
+        double rx = x * r.r11 + y * r.r21 + z * r.r31 + r.r41;
+        double ry = x * r.r12 + y * r.r22 + z * r.r32 + r.r42;
+        double rz = x * r.r13 + y * r.r23 + z * r.r33 + r.r43;
+        return new Point2D.Double(-d * rx / rz, -d * ry / rz);
+    }
+
+    /**
+     * Converts a block of points in world coordinates to eye coordinates.
+     * The points are packed as (x, y, z) triples in the {@code src} array 
+     * and the results are written, in the same layout, to the {@code dest}
+     * array.  No objects are allocated by this method and it does not use 
+     * any shared workspace, so it can safely be called for disjoint ranges
+     * from several threads at once.
+     * 
+     * @param src  the world coordinates ({@code null} not permitted).
+     * @param srcIndex  the index of the first point in {@code src}.
+     * @param dest  the array for the eye coordinates ({@code null} not 
+     *     permitted).
+     * @param destIndex  the index of the first point in {@code dest}.
+     * @param count  the number of points to convert.
+     * 
+     * @since 1.7
+     */
+    public void worldToEye(double[] src, int srcIndex, double[] dest, 
+            int destIndex, int count) {
+        Rotate3D r = this.rotation;
+        int s = srcIndex * 3;
+        int t = destIndex * 3;
+        for (int i = 0; i < count; i++) {
+            double px = src[s++];
+            double py = src[s++];
+            double pz = src[s++];
+            double x = this.v11 * px + this.v21 * py;
+            double y = this.v12 * px + this.v22 * py + this.v32 * pz;
+            double z = this.v13 * px + this.v23 * py + this.v33 * pz 
+                    + this.v43;
+            dest[t++] = x * r.r11 + y * r.r21 + z * r.r31 + r.r41;
+            dest[t++] = x * r.r12 + y * r.r22 + z * r.r32 + r.r42;
+            dest[t++] = x * r.r13 + y * r.r23 + z * r.r33 + r.r43;
+        }
+    }
+
+    /**
+     * Calculates the screen coordinates for a block of points in world 
+     * coordinates.  The points are packed as (x, y, z) triples in the 
+     * {@code src} array and the results are written as (x, y) pairs to the
+     * {@code dest} array.  Like 
+     * {@link #worldToEye(double[], int, double[], int, int)}, this method 
+     * allocates nothing and is safe to call concurrently for disjoint ranges.
+     * 
+     * @param src  the world coordinates ({@code null} not permitted).
+     * @param srcIndex  the index of the first point in {@code src}.
+     * @param dest  the array for the screen coordinates ({@code null} not 
+     *     permitted).
+     * @param destIndex  the index of the first point in {@code dest}.
+     * @param count  the number of points to convert.
+     * @param d  the projection distance.
+     * 
+     * @since 1.7
+     */
+    public void worldToScreen(double[] src, int srcIndex, double[] dest, 
+            int destIndex, int count, double d) {
+        Rotate3D r = this.rotation;
+        int s = srcIndex * 3;
+        int t = destIndex * 2;
+        for (int i = 0; i < count; i++) {
+            double px = src[s++];
+            double py = src[s++];
+            double pz = src[s++];
+            double x = this.v11 * px + this.v21 * py;
+            double y = this.v12 * px + this.v22 * py + this.v32 * pz;
+            double z = this.v13 * px + this.v23 * py + this.v33 * pz 
+                    + this.v43;
+            double rx = x * r.r11 + y * r.r21 + z * r.r31 + r.r41;
+            double ry = x * r.r12 + y * r.r22 + z * r.r32 + r.r42;
+            double rz = x * r.r13 + y * r.r23 + z * r.r33 + r.r43;
+            dest[t++] = -d * rx / rz;
+            dest[t++] = -d * ry / rz;
+        }
+    }
+
+    /**
+     * Converts a direction vector in eye coordinates to the equivalent 
+     * direction in world coordinates.  This is the inverse of the rotation
+     * applied by {@link #worldToEye(Point3D)} (translation is ignored since
+     * the argument is a direction rather than a point).  It can be used, for
+     * example, to express a light source that is fixed relative to the 
+     * viewer in world coordinates, so that world space face normals can be
+     * used for shading.
+     * 
+     * @param x  the x-component of the direction.
+     * @param y  the y-component of the direction.
+     * @param z  the z-component of the direction.
+     * 
+     * @return The direction in world coordinates.
+     * 
+     * @since 1.7
+     */
+    public Point3D eyeToWorldDirection(double x, double y, double z) {
+        Rotate3D r = this.rotation;
+        double x1 = r.r11 * x + r.r12 * y + r.r13 * z;
+        double y1 = r.r21 * x + r.r22 * y + r.r23 * z;
+        double z1 = r.r31 * x + r.r32 * y + r.r33 * z;
+        return new Point3D(this.v11 * x1 + this.v12 * y1 + this.v13 * z1,
+                this.v21 * x1 + this.v22 * y1 + this.v23 * z1,
+                this.v32 * y1 + this.v33 * z1);
     }
 
     /**
@@ -34,10 +34,13 @@ package com.orsoncharts.graphics3d;
 
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -57,6 +60,21 @@ public class World {
      */
     public static final String DEFAULT_PARTITION_KEY = "default";
     
+    /**
+     * The minimum number of vertices in the world for the eye coordinate
+     * and projection calculations to be split across multiple threads, when
+     * the parallel flag is set.
+     * 
+     * @since 1.7
+     */
+    public static final int PARALLEL_THRESHOLD = 20000;
+    
+    /** 
+     * The number of vertices below which a parallel task is not split 
+     * further.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 4096;
+    
     /** The sunlight vector. */
     private double sunX;
     private double sunY;
@@ -69,6 +87,25 @@ public class World {
      */
     private Map<String, List<Object3D>> objects;
     
+    /** 
+     * A reusable buffer for packed eye coordinates or projected points (used
+     * by the {@code updateXXX()} methods).
+     */
+    private double[] buffer;
+    
+    /** 
+     * A flag that controls whether the eye coordinate and projection 
+     * calculations are split across the threads of a {@code ForkJoinPool}
+     * for large worlds.
+     */
+    private boolean parallel;
+    
+    /** 
+     * A flag that indicates that the world holds a draft (reduced detail)
+     * version of the scene.
+     */
+    private boolean draft;
+    
     /**
      * Creates a new empty world.
      */
@@ -134,6 +171,62 @@ public class World {
         this.sunZ = normal.getZ();
     }
     
+    /**
+     * Returns the flag that controls whether or not the eye coordinates and
+     * projected points are calculated in parallel (using the common 
+     * {@code ForkJoinPool}) for worlds with at least 
+     * {@link #PARALLEL_THRESHOLD} vertices.  The default value is 
+     * {@code false}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.7
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not the eye coordinates and
+     * projected points are calculated in parallel.  The results are exactly
+     * the same either way.
+     * 
+     * @param parallel  the new flag value.
+     * 
+     * @since 1.7
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+    
+    /**
+     * Returns the flag that indicates that this world holds a draft (reduced
+     * detail) version of the scene, typically used to keep rendering 
+     * responsive while the user is rotating or zooming the view.  Renderers
+     * can check this flag when composing items and substitute cheaper 
+     * representations (for example, fewer samples or simpler shapes).  The
+     * default value is {@code false}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.7
+     */
+    public boolean isDraft() {
+        return this.draft;
+    }
+    
+    /**
+     * Sets the flag that indicates that this world holds a draft version
+     * of the scene.  The flag should be set before any objects are added.
+     * 
+     * @param draft  the new flag value.
+     * 
+     * @since 1.7
+     */
+    public void setDraft(boolean draft) {
+        this.draft = draft;
+    }
+    
     /**
      * Adds an object to the world in the default partition.
      *
@@ -185,7 +278,29 @@ public class World {
      */
     public void clear(String partitionKey) {
         ArgChecks.nullNotPermitted(partitionKey, "partitionKey");
-        this.objects.put(partitionKey, null);
+        List<Object3D> list = this.objects.get(partitionKey);
+        if (list != null) {
+            list.clear();
+        }
+    }
+    
+    /**
+     * Returns a newly created list containing the objects in the specified
+     * partition (the list is empty if the partition does not exist).
+     * 
+     * @param partitionKey  the partition key ({@code null} not permitted).
+     * 
+     * @return The list of objects.
+     * 
+     * @since 1.7
+     */
+    public List<Object3D> getObjects(String partitionKey) {
+        ArgChecks.nullNotPermitted(partitionKey, "partitionKey");
+        List<Object3D> list = this.objects.get(partitionKey);
+        if (list == null) {
+            return new ArrayList<Object3D>();
+        }
+        return new ArrayList<Object3D>(list);
     }
     
     /**
@@ -249,6 +364,253 @@ public class World {
         return result;
     }
 
+    /**
+     * Calculates the eye coordinates for all the vertices of the objects in
+     * the world and writes them, packed as (x, y, z) triples, to the 
+     * {@code result} array.  If {@code result} is {@code null} or too small,
+     * a new array is allocated.  Reusing the same array from one call to the 
+     * next means that no objects are allocated per vertex.
+     * 
+     * @param vp  the view point ({@code null} not permitted).
+     * @param result  the array for the results ({@code null} permitted).
+     * 
+     * @return The packed eye coordinates (possibly the same array as 
+     *     {@code result}).
+     * 
+     * @since 1.7
+     */
+    public double[] calculateEyeCoordinates(ViewPoint3D vp, double[] result) {
+        ArgChecks.nullNotPermitted(vp, "vp");
+        int count = getVertexCount();
+        if (result == null || result.length < count * 3) {
+            result = new double[count * 3];
+        }
+        if (this.parallel && count >= PARALLEL_THRESHOLD) {
+            transformInParallel(vp, 0.0, false, result, count);
+            return result;
+        }
+        int index = 0;
+        for (Entry<String, List<Object3D>> entry : this.objects.entrySet()) {
+            List<Object3D> objs = entry.getValue();    
+            for (Object3D object : objs) {
+                object.calculateEyeCoordinates(vp, result, index);
+                index += object.getVertexCount();
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Calculates the projected points for all the vertices of the objects in
+     * the world and writes them, packed as (x, y) pairs, to the 
+     * {@code result} array.  If {@code result} is {@code null} or too small,
+     * a new array is allocated.
+     * 
+     * @param vp  the view point ({@code null} not permitted).
+     * @param d  the projection distance.
+     * @param result  the array for the results ({@code null} permitted).
+     * 
+     * @return The packed projected points (possibly the same array as 
+     *     {@code result}).
+     * 
+     * @since 1.7
+     */
+    public double[] calculateProjectedPoints(ViewPoint3D vp, double d, 
+            double[] result) {
+        ArgChecks.nullNotPermitted(vp, "vp");
+        int count = getVertexCount();
+        if (result == null || result.length < count * 2) {
+            result = new double[count * 2];
+        }
+        if (this.parallel && count >= PARALLEL_THRESHOLD) {
+            transformInParallel(vp, d, true, result, count);
+            return result;
+        }
+        int index = 0;
+        for (Entry<String, List<Object3D>> entry : this.objects.entrySet()) {
+            List<Object3D> objs = entry.getValue();    
+            for (Object3D object : objs) {
+                object.calculateProjectedPoints(vp, d, result, index);
+                index += object.getVertexCount();
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Calculates the eye coordinates or projected points for all the 
+     * vertices in the world, splitting the work into ranges of vertices that
+     * are processed by the common {@code ForkJoinPool}.
+     * 
+     * @param vp  the view point.
+     * @param d  the projection distance (ignored for eye coordinates).
+     * @param project  project the points ({@code true}) or calculate eye 
+     *     coordinates ({@code false}).
+     * @param result  the array for the results.
+     * @param count  the total number of vertices.
+     */
+    private void transformInParallel(ViewPoint3D vp, double d, 
+            boolean project, double[] result, int count) {
+        List<Object3D> objs = getObjects();
+        Object3D[] objArray = objs.toArray(new Object3D[objs.size()]);
+        int[] starts = new int[objArray.length];
+        int index = 0;
+        for (int i = 0; i < objArray.length; i++) {
+            starts[i] = index;
+            index += objArray[i].getVertexCount();
+        }
+        ForkJoinPool.commonPool().invoke(new TransformTask(vp, d, project, 
+                objArray, starts, result, 0, count));
+    }
+    
+    /**
+     * A task that calculates the eye coordinates or projected points for a 
+     * range of vertices in the world.  The task splits itself in two until
+     * the range is small enough to process directly.
+     */
+    @SuppressWarnings("serial")
+    private static final class TransformTask extends RecursiveAction {
+        
+        private final ViewPoint3D vp;
+        
+        private final double d;
+        
+        private final boolean project;
+        
+        /** The objects in the world. */
+        private final Object3D[] objs;
+        
+        /** The index of the first vertex for each object. */
+        private final int[] starts;
+        
+        private final double[] result;
+        
+        /** The first vertex in the range (inclusive). */
+        private final int from;
+        
+        /** The last vertex in the range (exclusive). */
+        private final int to;
+        
+        TransformTask(ViewPoint3D vp, double d, boolean project, 
+                Object3D[] objs, int[] starts, double[] result, int from, 
+                int to) {
+            this.vp = vp;
+            this.d = d;
+            this.project = project;
+            this.objs = objs;
+            this.starts = starts;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > PARALLEL_CHUNK_SIZE) {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new TransformTask(this.vp, this.d, this.project, 
+                        this.objs, this.starts, this.result, this.from, mid),
+                        new TransformTask(this.vp, this.d, this.project, 
+                        this.objs, this.starts, this.result, mid, this.to));
+                return;
+            }
+            // find the last object starting at or before 'from' (empty 
+            // objects share a start index, so step past them)
+            int i = Arrays.binarySearch(this.starts, this.from);
+            if (i < 0) {
+                i = -i - 2;
+            }
+            while (i < this.objs.length - 1 
+                    && this.starts[i + 1] <= this.from) {
+                i++;
+            }
+            int v = this.from;
+            while (v < this.to) {
+                Object3D obj = this.objs[i];
+                int offset = v - this.starts[i];
+                int n = Math.min(obj.getVertexCount() - offset, this.to - v);
+                if (this.project) {
+                    this.vp.worldToScreen(obj.getVertexData(), offset, 
+                            this.result, v, n, this.d);
+                } else {
+                    this.vp.worldToEye(obj.getVertexData(), offset, 
+                            this.result, v, n);
+                }
+                v += n;
+                i++;
+            }
+        }
+    }
+    
+    /**
+     * Updates the supplied array of eye coordinates for the current state of
+     * the world.  If {@code pts} has the same length as the number of 
+     * vertices in the world, the points it contains are updated in place and
+     * the same array is returned, otherwise a new array is created.  This 
+     * gives the same results as {@link #calculateEyeCoordinates(ViewPoint3D)}
+     * without allocating new points on every call.
+     * 
+     * @param vp  the view point ({@code null} not permitted).
+     * @param pts  the points to update ({@code null} permitted).
+     * 
+     * @return The eye coordinates.
+     * 
+     * @since 1.7
+     */
+    public Point3D[] updateEyeCoordinates(ViewPoint3D vp, Point3D[] pts) {
+        int count = getVertexCount();
+        this.buffer = calculateEyeCoordinates(vp, this.buffer);
+        if (pts == null || pts.length != count) {
+            pts = new Point3D[count];
+        }
+        for (int i = 0; i < count; i++) {
+            int j = i * 3;
+            Point3D p = pts[i];
+            if (p == null) {
+                pts[i] = new Point3D(this.buffer[j], this.buffer[j + 1], 
+                        this.buffer[j + 2]);
+            } else {
+                p.x = this.buffer[j];
+                p.y = this.buffer[j + 1];
+                p.z = this.buffer[j + 2];
+            }
+        }
+        return pts;
+    }
+    
+    /**
+     * Updates the supplied array of projected points for the current state
+     * of the world.  If {@code pts} has the same length as the number of 
+     * vertices in the world, the points it contains are updated in place and
+     * the same array is returned, otherwise a new array is created.
+     * 
+     * @param vp  the view point ({@code null} not permitted).
+     * @param d  the projection distance.
+     * @param pts  the points to update ({@code null} permitted).
+     * 
+     * @return The projected points.
+     * 
+     * @since 1.7
+     */
+    public Point2D[] updateProjectedPoints(ViewPoint3D vp, double d, 
+            Point2D[] pts) {
+        int count = getVertexCount();
+        this.buffer = calculateProjectedPoints(vp, d, this.buffer);
+        if (pts == null || pts.length != count) {
+            pts = new Point2D[count];
+        }
+        for (int i = 0; i < count; i++) {
+            int j = i * 2;
+            Point2D p = pts[i];
+            if (p == null) {
+                pts[i] = new Point2D.Double(this.buffer[j], this.buffer[j + 1]);
+            } else {
+                p.setLocation(this.buffer[j], this.buffer[j + 1]);
+            }
+        }
+        return pts;
+    }
+
     /**
      * Fetches the faces for all the objects in this world, updating the
      * offset to match the current position.
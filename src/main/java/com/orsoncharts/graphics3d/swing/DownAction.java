@@ -36,6 +36,7 @@ import java.awt.event.ActionEvent;
 import javax.swing.AbstractAction;
 import javax.swing.Action;
 import com.orsoncharts.Resources;
+import com.orsoncharts.graphics3d.ViewPoint3D;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -66,8 +67,11 @@ public class DownAction extends AbstractAction {
     @Override
     public void actionPerformed(ActionEvent e) {
         double delta = this.panel.getRotateIncrement();
-        this.panel.getViewPoint().moveUpDown(-delta);
-        this.panel.repaint();
+        ViewPoint3D vp = this.panel.getViewPoint();
+        synchronized (vp) {
+            vp.moveUpDown(-delta);
+        }
+        this.panel.interactiveRepaint();
     }
     
 }
@@ -38,6 +38,7 @@ import javax.swing.AbstractAction;
 import javax.swing.Action;
 
 import com.orsoncharts.Resources;
+import com.orsoncharts.graphics3d.ViewPoint3D;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -69,7 +70,11 @@ public class LeftAction extends AbstractAction {
 
     @Override
     public void actionPerformed(ActionEvent e) {
-        this.panel.panLeftRight(this.panel.getPanIncrement());
+        ViewPoint3D vp = this.panel.getViewPoint();
+        synchronized (vp) {
+            vp.panLeftRight(this.panel.getPanIncrement());
+        }
+        this.panel.interactiveRepaint();
     }
     
 }
@@ -33,6 +33,7 @@
 package com.orsoncharts.graphics3d.swing;
 
 import java.awt.BorderLayout;
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -40,6 +41,9 @@ import java.awt.Insets;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
@@ -47,10 +51,18 @@ import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
 import java.awt.geom.Dimension2D;
 import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.ToolTipManager;
 
+import com.orsoncharts.Chart3DHints;
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.graphics3d.Drawable3D;
 import com.orsoncharts.graphics3d.Offset2D;
@@ -119,6 +131,62 @@ public class Panel3D extends JPanel implements MouseListener,
     
     private RenderingInfo renderingInfo;
     
+    /** 
+     * The minimum time (in milliseconds) taken by a full quality rendering
+     * for draft rendering to be used while the user is interacting with the
+     * view (a negative value disables draft rendering).
+     */
+    private int draftThreshold;
+    
+    /** 
+     * The time (in milliseconds) after the last user interaction before a 
+     * full quality rendering is performed.
+     */
+    private int draftIdleDelay;
+    
+    /** The time (in milliseconds) taken by the last full quality rendering. */
+    private transient long fullRenderTime;
+    
+    /** A flag that indicates that the next rendering should be a draft. */
+    private transient boolean draft;
+    
+    /** The timer that triggers the full quality rendering after a draft. */
+    private transient Timer idleTimer;
+    
+    /** 
+     * A flag that controls whether the drawable is rendered to an offscreen
+     * image on a background thread (rather than directly on the event 
+     * dispatch thread).
+     */
+    private boolean asyncRendering;
+    
+    /** The executor for asynchronous rendering (created when required). */
+    private transient ExecutorService renderExecutor;
+    
+    /** The pending asynchronous rendering, if any. */
+    private transient Future<?> pendingRender;
+    
+    /** 
+     * The number of the most recently requested frame (written only on the
+     * event dispatch thread).
+     */
+    private transient volatile int requestedFrame;
+    
+    /** The number of the frame currently displayed. */
+    private transient int displayedFrame;
+    
+    /** The most recently completed frame (asynchronous rendering only). */
+    private transient BufferedImage frontBuffer;
+    
+    /** An image that can be reused by the rendering thread. */
+    private transient AtomicReference<BufferedImage> spareBuffer;
+    
+    /** 
+     * A flag that indicates that the next paint is a result of a completed 
+     * asynchronous rendering (so no new rendering is required).
+     */
+    private transient boolean frameReady;
+    
     /**
      * Creates a new panel with the specified {@link Drawable3D} to
      * display.
@@ -137,6 +205,8 @@ public class Panel3D extends JPanel implements MouseListener,
         this.panIncrement = Math.PI / 60;
         this.rotateIncrement = Math.PI / 60;
         this.rollIncrement = Math.PI / 60;
+        this.draftThreshold = 40;
+        this.draftIdleDelay = 250;
         addMouseListener(this);
         addMouseMotionListener(this);
         addMouseWheelListener(this);
@@ -269,9 +339,111 @@ public class Panel3D extends JPanel implements MouseListener,
         this.rollIncrement = rollIncrement;
     }
     
+    /**
+     * Returns the minimum time (in milliseconds) taken by a full quality 
+     * rendering for draft rendering to be used while the user is rotating or
+     * zooming the view (see {@link #interactiveRepaint()}).  The default 
+     * value is {@code 40}.  A value of {@code 0} means that draft rendering 
+     * is always used during interaction, and a negative value disables it.
+     * 
+     * @return The threshold (in milliseconds).
+     * 
+     * @since 1.7
+     */
+    public int getDraftThreshold() {
+        return this.draftThreshold;
+    }
+    
+    /**
+     * Sets the minimum time (in milliseconds) taken by a full quality 
+     * rendering for draft rendering to be used while the user is rotating or
+     * zooming the view.
+     * 
+     * @param threshold  the threshold (in milliseconds, negative to disable
+     *     draft rendering).
+     * 
+     * @since 1.7
+     */
+    public void setDraftThreshold(int threshold) {
+        this.draftThreshold = threshold;
+    }
+    
+    /**
+     * Returns the time (in milliseconds) after the last user interaction 
+     * before the panel is repainted at full quality following a draft 
+     * rendering.  The default value is {@code 250}.
+     * 
+     * @return The delay (in milliseconds).
+     * 
+     * @since 1.7
+     */
+    public int getDraftIdleDelay() {
+        return this.draftIdleDelay;
+    }
+    
+    /**
+     * Sets the time (in milliseconds) after the last user interaction before 
+     * the panel is repainted at full quality following a draft rendering.
+     * 
+     * @param delay  the delay (in milliseconds, must be &gt;= 0).
+     * 
+     * @since 1.7
+     */
+    public void setDraftIdleDelay(int delay) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Requires 'delay' >= 0.");
+        }
+        this.draftIdleDelay = delay;
+    }
+    
+    /**
+     * Returns the flag that controls whether or not the drawable is rendered
+     * asynchronously.  The default value is {@code false}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.7
+     * 
+     * @see #setAsyncRendering(boolean) 
+     */
+    public boolean isAsyncRendering() {
+        return this.asyncRendering;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not the drawable is rendered
+     * asynchronously and repaints the panel.  When this is {@code true}, the 
+     * drawable is rendered to an offscreen image on a background thread and
+     * the event dispatch thread only paints the most recently completed 
+     * image, so that a slow rendering does not block the user interface.  A 
+     * rendering request that has not started when a newer request arrives 
+     * (for example, following a change to the view point) is cancelled.
+     * <br><br>
+     * The background thread holds the lock on the drawable while it is 
+     * rendering, so other threads that modify the drawable (or the data it 
+     * displays) must synchronize on it too.  The panel (and the navigation 
+     * actions) do not take that lock when the user changes the view: the 
+     * view point is updated in place while holding the lock on the view 
+     * point only, and the drawable copies the view point (under the same 
+     * lock) at the start of each rendering, so that the event dispatch 
+     * thread is never blocked by a rendering in progress.
+     * 
+     * @param async  the new flag value.
+     * 
+     * @since 1.7
+     */
+    public void setAsyncRendering(boolean async) {
+        this.asyncRendering = async;
+        if (!async) {
+            shutdownRenderExecutor();
+        }
+        repaint();
+    }
+    
     /**
      * Returns the view point that is maintained by the {@link Drawable3D}
-     * instance on display.
+     * instance on display.  Code that modifies the view point in place 
+     * should hold the lock on the view point while doing so.
      *
      * @return  The view point (never {@code null}).
      */
@@ -286,7 +458,7 @@ public class Panel3D extends JPanel implements MouseListener,
      */
     public void setViewPoint(ViewPoint3D vp) {
         ArgChecks.nullNotPermitted(vp, "vp");
-        this.drawable.setViewPoint(vp);  // 
+        this.drawable.setViewPoint(vp);
         repaint();
     }
     
@@ -317,10 +489,44 @@ public class Panel3D extends JPanel implements MouseListener,
      * @param angle  the angle of rotation (in radians).
      */
     public void panLeftRight(double angle) {
-        this.drawable.getViewPoint().panLeftRight(angle);
+        ViewPoint3D vp = this.drawable.getViewPoint();
+        synchronized (vp) {
+            vp.panLeftRight(angle);
+        }
         repaint();
     }
 
+    /**
+     * Repaints the panel following a change made by the user (for example, 
+     * rotating the view by dragging the mouse).  If the last full quality 
+     * rendering took at least {@link #getDraftThreshold()} milliseconds, the
+     * drawable is asked to render a draft (see {@link Chart3DHints#KEY_DRAFT})
+     * and a full quality repaint is scheduled for when there has been no 
+     * further interaction for {@link #getDraftIdleDelay()} milliseconds.
+     * 
+     * @since 1.7
+     */
+    public void interactiveRepaint() {
+        if (this.draftThreshold >= 0 
+                && this.fullRenderTime >= this.draftThreshold) {
+            this.draft = true;
+            if (this.idleTimer == null) {
+                this.idleTimer = new Timer(this.draftIdleDelay, 
+                        new ActionListener() {
+                    @Override
+                    public void actionPerformed(ActionEvent e) {
+                        draft = false;
+                        repaint();
+                    }
+                });
+                this.idleTimer.setRepeats(false);
+            }
+            this.idleTimer.setInitialDelay(this.draftIdleDelay);
+            this.idleTimer.restart();
+        }
+        repaint();
+    }
+    
     /**
      * Adjusts the viewing distance so that the chart fits the current panel
      * size.  A margin is left (see {@link #getMargin()} around the edges to 
@@ -342,15 +548,19 @@ public class Panel3D extends JPanel implements MouseListener,
         int h = (int) (size.getHeight() * (1.0 - this.margin));
         Dimension2D target = new Dimension(w, h);
         Dimension3D d3d = this.drawable.getDimensions();
-        float distance = this.drawable.getViewPoint().optimalDistance(target, 
-                d3d, this.drawable.getProjDistance());
-        this.drawable.getViewPoint().setRho(distance);
-        repaint();        
+        ViewPoint3D vp = this.drawable.getViewPoint();
+        synchronized (vp) {
+            float distance = vp.optimalDistance(target, d3d, 
+                    this.drawable.getProjDistance());
+            vp.setRho(distance);
+        }
+        repaint();
     }
 
     /**
      * Paints the panel by asking the drawable to render a 2D projection of the 
-     * objects it is managing.
+     * objects it is managing.  During user interaction this may be a draft 
+     * rendering (see {@link #interactiveRepaint()}).
      *
      * @param g  the graphics target ({@code null} not permitted, assumed to be
      *     an instance of {@code Graphics2D}).
@@ -359,15 +569,187 @@ public class Panel3D extends JPanel implements MouseListener,
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
         Graphics2D g2 = (Graphics2D) g;
-        AffineTransform saved = g2.getTransform();
         Dimension size = getSize();
         Insets insets = getInsets();
         Rectangle drawArea = new Rectangle(insets.left, insets.top, 
                 size.width - insets.left - insets.right, 
                 size.height - insets.top - insets.bottom);
-        this.renderingInfo = this.drawable.draw(g2, drawArea);
+        if (this.asyncRendering) {
+            if (this.frameReady) {
+                this.frameReady = false;
+            } else {
+                requestFrame(size, drawArea, g2.getTransform().getScaleX());
+            }
+            if (this.frontBuffer != null) {
+                g2.drawImage(this.frontBuffer, 0, 0, size.width, size.height, 
+                        null);
+            }
+            return;
+        }
+        AffineTransform saved = g2.getTransform();
+        g2.setRenderingHint(Chart3DHints.KEY_DRAFT, this.draft);
+        synchronized (this.drawable) {
+            if (this.draft) {
+                this.renderingInfo = this.drawable.draw(g2, drawArea);
+            } else {
+                long start = System.nanoTime();
+                this.renderingInfo = this.drawable.draw(g2, drawArea);
+                this.fullRenderTime = (System.nanoTime() - start) / 1000000L;
+            }
+        }
         g2.setTransform(saved);
     }
+    
+    /**
+     * Requests an asynchronous rendering of the drawable.  Any earlier 
+     * request that has not yet started is cancelled.  This method is called 
+     * on the event dispatch thread.
+     * 
+     * @param size  the panel size.
+     * @param drawArea  the area within the panel for the drawable.
+     * @param scale  the scale factor from panel to device coordinates (the
+     *     image is rendered at device resolution).
+     */
+    private void requestFrame(Dimension size, final Rectangle drawArea,
+            final double scale) {
+        if (drawArea.width <= 0 || drawArea.height <= 0) {
+            return;
+        }
+        if (this.renderExecutor == null) {
+            this.renderExecutor = Executors.newSingleThreadExecutor(
+                    new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "Panel3D-renderer");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+            this.spareBuffer = new AtomicReference<BufferedImage>();
+        }
+        if (this.pendingRender != null) {
+            this.pendingRender.cancel(false);
+        }
+        final int frame = ++this.requestedFrame;
+        final int width = (int) Math.ceil(size.width * scale);
+        final int height = (int) Math.ceil(size.height * scale);
+        final boolean draftFrame = this.draft;
+        final AtomicReference<BufferedImage> spare = this.spareBuffer;
+        this.pendingRender = this.renderExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                renderFrame(frame, width, height, scale, drawArea, draftFrame,
+                        spare);
+            }
+        });
+    }
+    
+    /**
+     * Renders the drawable to an offscreen image and passes the result to
+     * the event dispatch thread.  This method is called on the rendering 
+     * thread.
+     * 
+     * @param frame  the frame number.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param scale  the scale factor from panel to image coordinates.
+     * @param drawArea  the area (in panel coordinates) for the drawable.
+     * @param draftFrame  render a draft?
+     * @param spare  a holder for an image that can be reused.
+     */
+    private void renderFrame(final int frame, int width, int height, 
+            double scale, Rectangle drawArea, boolean draftFrame, 
+            final AtomicReference<BufferedImage> spare) {
+        if (frame != this.requestedFrame) {
+            return;  // a newer frame has been requested in the meantime
+        }
+        BufferedImage image = spare.getAndSet(null);
+        if (image == null || image.getWidth() != width 
+                || image.getHeight() != height) {
+            image = new BufferedImage(width, height, 
+                    BufferedImage.TYPE_INT_ARGB);
+        }
+        Graphics2D g2 = image.createGraphics();
+        g2.setBackground(new Color(0, 0, 0, 0));
+        g2.clearRect(0, 0, width, height);
+        g2.scale(scale, scale);
+        g2.setRenderingHint(Chart3DHints.KEY_DRAFT, draftFrame);
+        final RenderingInfo info;
+        long start = System.nanoTime();
+        synchronized (this.drawable) {
+            info = this.drawable.draw(g2, drawArea);
+        }
+        final long time = draftFrame ? -1L 
+                : (System.nanoTime() - start) / 1000000L;
+        g2.dispose();
+        final BufferedImage result = image;
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                publishFrame(frame, result, info, time, spare);
+            }
+        });
+    }
+    
+    /**
+     * Makes a completed frame the current frame (unless a later frame has
+     * already been displayed) and repaints the panel.  This method is called 
+     * on the event dispatch thread.
+     * 
+     * @param frame  the frame number.
+     * @param image  the image.
+     * @param info  the rendering info.
+     * @param time  the rendering time in milliseconds (negative for a draft).
+     * @param spare  the holder for an image that can be reused.
+     */
+    private void publishFrame(int frame, BufferedImage image, 
+            RenderingInfo info, long time, 
+            AtomicReference<BufferedImage> spare) {
+        if (spare != this.spareBuffer) {
+            return;  // asynchronous rendering was switched off
+        }
+        if (frame <= this.displayedFrame) {
+            spare.set(image);
+            return;
+        }
+        if (this.frontBuffer != null) {
+            this.spareBuffer.set(this.frontBuffer);
+        }
+        this.frontBuffer = image;
+        this.displayedFrame = frame;
+        this.renderingInfo = info;
+        if (time >= 0) {
+            this.fullRenderTime = time;
+        }
+        this.frameReady = true;
+        repaint();
+    }
+    
+    /**
+     * Shuts down the rendering thread used for asynchronous rendering (if
+     * there is one) and discards the offscreen images.
+     */
+    private void shutdownRenderExecutor() {
+        if (this.renderExecutor != null) {
+            this.renderExecutor.shutdownNow();
+            this.renderExecutor = null;
+            this.pendingRender = null;
+            this.spareBuffer = null;
+        }
+        this.frontBuffer = null;
+        this.frameReady = false;
+    }
+    
+    /**
+     * Releases the rendering thread used for asynchronous rendering when the
+     * panel is removed from its container (a new thread is created if 
+     * the panel is displayed again).
+     */
+    @Override
+    public void removeNotify() {
+        shutdownRenderExecutor();
+        super.removeNotify();
+    }
   
     /**
      * Registers this component with the tool tip manager.
@@ -446,9 +828,12 @@ public class Panel3D extends JPanel implements MouseListener,
             int dx = currPt.x - this.lastMovePoint.x;
             int dy = currPt.y - this.lastMovePoint.y;
             this.lastMovePoint = currPt;
-            this.drawable.getViewPoint().panLeftRight(-dx * Math.PI / 120);
-            this.drawable.getViewPoint().moveUpDown(-dy * Math.PI / 120);
-            repaint();
+            ViewPoint3D vp = this.drawable.getViewPoint();
+            synchronized (vp) {
+                vp.panLeftRight(-dx * Math.PI / 120);
+                vp.moveUpDown(-dy * Math.PI / 120);
+            }
+            interactiveRepaint();
         }
     }
 
@@ -471,11 +856,13 @@ public class Panel3D extends JPanel implements MouseListener,
         float units = mwe.getUnitsToScroll();
         double maxViewingDistance = this.maxViewingDistanceMultiplier 
                 * this.minViewingDistance;
-        double valRho = Math.max(this.minViewingDistance, 
-                Math.min(maxViewingDistance, 
-                this.drawable.getViewPoint().getRho() + units));
-        this.drawable.getViewPoint().setRho(valRho);
-        repaint();
+        ViewPoint3D vp = this.drawable.getViewPoint();
+        synchronized (vp) {
+            double valRho = Math.max(this.minViewingDistance, 
+                    Math.min(maxViewingDistance, vp.getRho() + units));
+            vp.setRho(valRho);
+        }
+        interactiveRepaint();
     }
     
     /**
@@ -38,6 +38,7 @@ import javax.swing.AbstractAction;
 import javax.swing.Action;
 
 import com.orsoncharts.Resources;
+import com.orsoncharts.graphics3d.ViewPoint3D;
 import com.orsoncharts.util.ArgChecks;
 
 /**
@@ -73,8 +74,11 @@ public class RollRightAction extends AbstractAction {
      */
     @Override
     public void actionPerformed(ActionEvent e) {
-        this.panel.getViewPoint().roll(this.panel.getRollIncrement());
-        this.panel.repaint();
+        ViewPoint3D vp = this.panel.getViewPoint();
+        synchronized (vp) {
+            vp.roll(this.panel.getRollIncrement());
+        }
+        this.panel.interactiveRepaint();
     }
     
 }
@@ -33,6 +33,7 @@
 package com.orsoncharts.graphics3d.swing;
 
 import com.orsoncharts.Resources;
+import com.orsoncharts.graphics3d.ViewPoint3D;
 import com.orsoncharts.util.ArgChecks;
 
 import java.awt.event.ActionEvent;
@@ -74,8 +75,11 @@ public class UpAction extends AbstractAction {
     @Override
     public void actionPerformed(ActionEvent e) {
         double delta = this.panel.getRotateIncrement();
-        this.panel.getViewPoint().moveUpDown(delta);
-        this.panel.repaint();
+        ViewPoint3D vp = this.panel.getViewPoint();
+        synchronized (vp) {
+            vp.moveUpDown(delta);
+        }
+        this.panel.interactiveRepaint();
     }
     
 }
@@ -108,14 +108,16 @@ public class ZoomInAction extends AbstractAction {
      */
     @Override
     public void actionPerformed(ActionEvent e) {
-        ViewPoint3D viewPt = this.panel.getViewPoint();
         double minDistance = this.panel.getMinViewingDistance();
         double maxDistance = minDistance 
                 * this.panel.getMaxViewingDistanceMultiplier();
-        double valRho = Math.max(minDistance, 
-                Math.min(maxDistance, viewPt.getRho() * this.zoomMultiplier));
-        this.panel.getViewPoint().setRho(valRho);
-        this.panel.repaint();
+        ViewPoint3D viewPt = this.panel.getViewPoint();
+        synchronized (viewPt) {
+            double valRho = Math.max(minDistance, Math.min(maxDistance, 
+                    viewPt.getRho() * this.zoomMultiplier));
+            viewPt.setRho(valRho);
+        }
+        this.panel.interactiveRepaint();
     }
     
 }
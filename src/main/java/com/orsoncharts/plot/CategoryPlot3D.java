@@ -49,9 +49,12 @@ import com.orsoncharts.axis.Axis3DChangeEvent;
 import com.orsoncharts.axis.Axis3DChangeListener;
 import com.orsoncharts.axis.CategoryAxis3D;
 import com.orsoncharts.axis.ValueAxis3D;
+import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.Dataset3DChangeEvent;
 import com.orsoncharts.data.ItemKey;
 import com.orsoncharts.data.KeyedValues3DItemKey;
+import com.orsoncharts.data.Values3D;
+import com.orsoncharts.data.Values3DSummary;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.World;
@@ -96,6 +99,12 @@ public class CategoryPlot3D extends AbstractPlot3D
     /** The dataset. */
     private CategoryDataset3D dataset;
     
+    /** 
+     * Summary statistics for the dataset (computed when first required and
+     * discarded when the dataset changes). 
+     */
+    private transient Values3DSummary dataSummary;
+    
     /** The renderer (never {@code null}). */
     private CategoryRenderer3D renderer;
 
@@ -259,6 +268,26 @@ public class CategoryPlot3D extends AbstractPlot3D
         datasetChanged(new Dataset3DChangeEvent(this, this.dataset));
     }
     
+    /**
+     * Returns summary statistics for the plot's dataset, computed in a 
+     * single pass over the data by {@link DataUtils#summarize(Values3D)}.
+     * The summary is computed when this method is first called and is reused
+     * until the plot receives a change event from the dataset, so the 
+     * renderer can find the value range (stacked or not) for the value axis
+     * without scanning the data again.
+     * 
+     * @return The summary (never {@code null}).
+     * 
+     * @since 1.7
+     */
+    @SuppressWarnings("unchecked")
+    public Values3DSummary getDataSummary() {
+        if (this.dataSummary == null) {
+            this.dataSummary = DataUtils.summarize(this.dataset);
+        }
+        return this.dataSummary;
+    }
+    
     /**
      * Returns the renderer (very often you will need to cast this to a 
      * specific class to make customisations).
@@ -787,6 +816,7 @@ public class CategoryPlot3D extends AbstractPlot3D
      */
     @Override
     public void datasetChanged(Dataset3DChangeEvent event) {
+        this.dataSummary = null;
         // update the category axis labels 
         // and the value axis range
         if (this.autoAdjustDimensions) {
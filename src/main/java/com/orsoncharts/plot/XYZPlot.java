@@ -47,11 +47,14 @@ import com.orsoncharts.ChartElementVisitor;
 import com.orsoncharts.axis.Axis3DChangeEvent;
 import com.orsoncharts.axis.Axis3DChangeListener;
 import com.orsoncharts.axis.ValueAxis3D;
+import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.Dataset3DChangeEvent;
 import com.orsoncharts.data.Dataset3DChangeListener;
 import com.orsoncharts.data.ItemKey;
+import com.orsoncharts.data.XYZDataSummary;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZItemKey;
+import com.orsoncharts.renderer.xyz.XYZBlockRenderer;
 import com.orsoncharts.renderer.xyz.XYZRenderer;
 import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.graphics3d.Dimension3D;
@@ -86,6 +89,12 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
 
     /** The dataset. */
     private XYZDataset dataset;
+    
+    /** 
+     * Summary statistics for the dataset (computed when first required and
+     * discarded when the dataset changes). 
+     */
+    private transient XYZDataSummary dataSummary;
 
     /** The renderer. */
     private XYZRenderer renderer;
@@ -208,8 +217,28 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
         this.dataset.removeChangeListener(this);
         this.dataset = dataset;
         this.dataset.addChangeListener(this);
+        this.dataSummary = null;
         fireChangeEvent(true);
     }
+    
+    /**
+     * Returns summary statistics for the plot's dataset, computed in a 
+     * single pass over the data by {@link DataUtils#summarize(XYZDataset)}.
+     * The summary is computed when this method is first called and is reused
+     * until the plot receives a change event from the dataset, so the 
+     * renderer can find the x, y and z-ranges for the axes without scanning
+     * the data three times.
+     * 
+     * @return The summary (never {@code null}).
+     * 
+     * @since 1.7
+     */
+    public XYZDataSummary getDataSummary() {
+        if (this.dataSummary == null) {
+            this.dataSummary = DataUtils.summarize(this.dataset);
+        }
+        return this.dataSummary;
+    }
 
     /**
      * Returns the x-axis.
@@ -571,9 +600,9 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
             int seriesCount = this.dataset.getSeriesCount();
             for (int series = 0; series < seriesCount; series++) {
                 int itemCount = this.dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    this.renderer.composeItem(this.dataset, series, item, world, 
-                            this.dimensions, xOffset, yOffset, zOffset);
+                if (itemCount > 0) {
+                    composeItems(world, series, 0, itemCount - 1, xOffset, 
+                            yOffset, zOffset);
                 }
             }
         } else {
@@ -582,6 +611,44 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
                     + this.renderer.getComposeType());
         }
     }
+    
+    /**
+     * Adds 3D objects representing a range of items in one series to the 
+     * specified world.  This method is used by {@link #compose}, and also by 
+     * the chart to add items that have been appended to a series without 
+     * recomposing the entire world.  It applies only when the renderer's 
+     * compose type is {@link ComposeType#PER_ITEM}.  If the renderer 
+     * implements {@link XYZBlockRenderer}, the whole range of items is passed
+     * to the renderer in a single call.
+     * 
+     * @param world  the world ({@code null} not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item (inclusive).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.7
+     */
+    public void composeItems(World world, int series, int firstItem, 
+            int lastItem, double xOffset, double yOffset, double zOffset) {
+        ArgChecks.nullNotPermitted(world, "world");
+        if (this.renderer.getComposeType() != ComposeType.PER_ITEM) {
+            throw new IllegalStateException(
+                    "Requires a renderer with ComposeType.PER_ITEM.");
+        }
+        if (this.renderer instanceof XYZBlockRenderer) {
+            ((XYZBlockRenderer) this.renderer).composeItems(this.dataset, 
+                    series, firstItem, lastItem, world, this.dimensions, 
+                    xOffset, yOffset, zOffset);
+            return;
+        }
+        for (int item = firstItem; item <= lastItem; item++) {
+            this.renderer.composeItem(this.dataset, series, item, world, 
+                    this.dimensions, xOffset, yOffset, zOffset);
+        }
+    }
 
     @Override
     public String generateToolTipText(ItemKey itemKey) {
@@ -707,6 +774,7 @@ public class XYZPlot extends AbstractPlot3D implements Dataset3DChangeListener,
      */
     @Override
     public void datasetChanged(Dataset3DChangeEvent event) {
+        this.dataSummary = null;
         this.xAxis.configureAsXAxis(this);
         this.yAxis.configureAsYAxis(this);
         this.zAxis.configureAsZAxis(this);
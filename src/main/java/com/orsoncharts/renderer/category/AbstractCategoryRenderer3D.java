@@ -38,6 +38,7 @@ import com.orsoncharts.util.ArgChecks;
 import com.orsoncharts.Range;
 import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.Values3D;
+import com.orsoncharts.data.Values3DSummary;
 import com.orsoncharts.graphics3d.Offset3D;
 import com.orsoncharts.label.CategoryItemLabelGenerator;
 import com.orsoncharts.plot.CategoryPlot3D;
@@ -200,9 +201,35 @@ public abstract class AbstractCategoryRenderer3D extends AbstractRenderer3D
      */
     @Override
     public Range findValueRange(Values3D<? extends Number> data) {
+        Values3DSummary summary = getDataSummary(data);
+        if (summary != null) {
+            return summary.getValueRange();
+        }
         return DataUtils.findValueRange(data);
     }
     
+    /**
+     * Returns the summary statistics for the specified data if it is the 
+     * dataset for the plot that this renderer is assigned to (see 
+     * {@link CategoryPlot3D#getDataSummary()}), otherwise {@code null}.
+     * Using the summary avoids scanning the data each time a range is 
+     * required.
+     * 
+     * @param data  the data ({@code null} not permitted).
+     * 
+     * @return The summary (possibly {@code null}). 
+     * 
+     * @since 1.7
+     */
+    protected Values3DSummary getDataSummary(Values3D<? extends Number> data) {
+        ArgChecks.nullNotPermitted(data, "data");
+        CategoryPlot3D plot = getPlot();
+        if (plot != null && plot.getDataset() == data) {
+            return plot.getDataSummary();
+        }
+        return null;
+    }
+    
     /**
      * Tests this renderer for equality with an arbitrary object.
      * 
@@ -34,7 +34,6 @@ package com.orsoncharts.renderer.category;
 
 import java.awt.Color;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.List;
 
 import com.orsoncharts.axis.CategoryAxis3D;
@@ -44,8 +43,10 @@ import com.orsoncharts.axis.ValueAxis3D;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.Values3D;
+import com.orsoncharts.data.Values3DSummary;
 import com.orsoncharts.data.KeyedValues3DItemKey;
 import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.IndexedMesh3D;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.Offset3D;
 import com.orsoncharts.graphics3d.Utils2D;
@@ -110,6 +111,16 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
      */
     private boolean drawFaceOutlines;
     
+    /** 
+     * The world partition that holds the series meshes.  Each mesh carries 
+     * its series key as a property, so that it can be looked up in the 
+     * world while the items in a series are composed.
+     */
+    private static final String MESH_PARTITION = "area-series";
+    
+    /** The property key for the series key of a series mesh. */
+    private static final String SERIES_KEY = "series";
+    
     /**
      * Default constructor.
      */
@@ -261,6 +272,10 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
      */
     @Override
     public Range findValueRange(Values3D<? extends Number> data) {
+        Values3DSummary summary = getDataSummary(data);
+        if (summary != null) {
+            return summary.getValueRange(this.base);
+        }
         return DataUtils.findValueRange(data, this.base);
     }
 
@@ -394,14 +409,9 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
             double yprevw = valueAxis.translateToWorld(yprev.doubleValue(), hh) 
                     + yOffset; 
             double yl = (yprevw + yw) / 2.0;
-            List<Object3D> leftObjs = createSegment(xl, yl, xw, yw, zw, 
-                    basew, ywmin, ywmax, color, this.baseColor, clipColor, 
+            createSegment(seriesMesh(world, seriesKey, color), itemKey, xl, yl, xw, yw, 
+                    zw, basew, ywmin, ywmax, color, this.baseColor, clipColor, 
                     leftOpen, leftClose);
-            for (Object3D obj : leftObjs) {
-                obj.setProperty(Object3D.ITEM_KEY, itemKey);
-                obj.setOutline(this.drawFaceOutlines);
-                world.add(obj);
-            }
         }
 
         if (createRightSegment) {
@@ -415,14 +425,9 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
             double ynextw = valueAxis.translateToWorld(ynext.doubleValue(), hh) 
                     + yOffset; 
             double yr = (ynextw + yw) / 2.0;
-            List<Object3D> rightObjs = createSegment(xw, yw, xr, yr, zw, 
-                    basew, ywmin, ywmax, color, this.baseColor, clipColor, 
+            createSegment(seriesMesh(world, seriesKey, color), itemKey, xw, yw, xr, yr, 
+                    zw, basew, ywmin, ywmax, color, this.baseColor, clipColor, 
                     rightOpen, rightClose);
-            for (Object3D obj : rightObjs) {
-                obj.setProperty(Object3D.ITEM_KEY, itemKey);
-                obj.setOutline(this.drawFaceOutlines);
-                world.add(obj);
-            }
         }
 
         if (createIsolatedSegment) {
@@ -477,9 +482,41 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
     }
 
     /**
-     * Creates objects to represent the area segment between (x0, y0) and
-     * (x1, y1).
+     * Returns the mesh for a series, looking it up in the world and 
+     * creating it (and adding it to the world) if necessary.  All the area 
+     * segments in a series go into one mesh, so that the vertices at the 
+     * joints are shared and the faces carry their own colors and item keys.
+     * The renderer keeps no reference to the mesh, so it can be shared 
+     * between charts.
+     * 
+     * @param world  the world.
+     * @param seriesKey  the series key.
+     * @param color  the default color for the mesh.
+     * 
+     * @return The mesh. 
+     */
+    private IndexedMesh3D seriesMesh(World world, Comparable<?> seriesKey, 
+            Color color) {
+        List<Object3D> meshes = world.getObjects(MESH_PARTITION);
+        // the series being composed is usually the last one added
+        for (int i = meshes.size() - 1; i >= 0; i--) {
+            Object3D obj = meshes.get(i);
+            if (seriesKey.equals(obj.getProperty(SERIES_KEY))) {
+                return (IndexedMesh3D) obj;
+            }
+        }
+        IndexedMesh3D mesh = new IndexedMesh3D(color, this.drawFaceOutlines);
+        mesh.setProperty(SERIES_KEY, seriesKey);
+        world.add(MESH_PARTITION, mesh);
+        return mesh;
+    }
+    
+    /**
+     * Adds the faces representing the area segment between (x0, y0) and
+     * (x1, y1) to the mesh.
      * 
+     * @param mesh  the mesh for the series.
+     * @param itemKey  the key for the data item.
      * @param x0
      * @param y0
      * @param x1
@@ -493,27 +530,22 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
      * @param clipColor
      * @param openingFace
      * @param closingFace
-     * 
-     * @return A list of objects making up the segment. 
      */
-    private List<Object3D> createSegment(double x0, double y0, double x1, 
-            double y1, double z, double base, double ymin, double ymax, 
-            Color color, Color baseColor, Color clipColor, boolean openingFace, 
-            boolean closingFace) {
+    private void createSegment(IndexedMesh3D mesh, Object itemKey, 
+            double x0, double y0, double x1, double y1, double z, double base, 
+            double ymin, double ymax, Color color, Color baseColor, 
+            Color clipColor, boolean openingFace, boolean closingFace) {
         
-        List<Object3D> result = new ArrayList<Object3D>(2);
         // either there is a crossing or there is not
         if (!isBaselineCrossed(y0, y1, base)) {
-            Object3D segment = createSegmentWithoutCrossing(x0, y0, x1, y1, 
-                    z, base, ymin, ymax, color, baseColor, clipColor, 
+            createSegmentWithoutCrossing(mesh, itemKey, x0, y0, x1, y1, z, 
+                    base, ymin, ymax, color, baseColor, clipColor, 
                     openingFace, closingFace);
-            result.add(segment);
         } else {
-            result.addAll(createSegmentWithCrossing(x0, y0, x1, y1, 
-                    z, base, ymin, ymax, color, baseColor, clipColor, 
-                    openingFace, closingFace));
+            createSegmentWithCrossing(mesh, itemKey, x0, y0, x1, y1, z, 
+                    base, ymin, ymax, color, baseColor, clipColor, 
+                    openingFace, closingFace);
         }
-        return result;    
     }
 
     /**
@@ -533,29 +565,27 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
                 || (y0 < baseline && y1 > baseline);
     }
     
-    private Object3D createSegmentWithoutCrossing(double x0, double y0, 
-            double x1, double y1, double z, double base, double ymin, 
-            double ymax, Color color, Color baseColor, Color clipColor, 
-            boolean openingFace, boolean closingFace) {
+    private void createSegmentWithoutCrossing(IndexedMesh3D mesh, 
+            Object itemKey, double x0, double y0, double x1, double y1, 
+            double z, double base, double ymin, double ymax, Color color, 
+            Color baseColor, Color clipColor, boolean openingFace, 
+            boolean closingFace) {
    
         boolean positive = y0 > base || y1 > base;
         if (positive) {            
-            Object3D pos = createPositiveArea(x0, y0, x1, y1, base, 
-                    z, new Range(ymin, ymax), color, openingFace, 
-                    closingFace);
-            return pos;
+            createPositiveArea(mesh, itemKey, x0, y0, x1, y1, base, z, 
+                    new Range(ymin, ymax), color, openingFace, closingFace);
         } else {
-            Object3D neg = createNegativeArea(x0, y0, x1, y1, base, z, 
+            createNegativeArea(mesh, itemKey, x0, y0, x1, y1, base, z, 
                     new Range(ymin, ymax), color, openingFace, closingFace);
-            return neg;
         }
     }
     
-    private List<Object3D> createSegmentWithCrossing(double x0, double y0, 
-            double x1, double y1, double z, double base, double ymin, 
-            double ymax, Color color, Color baseColor, Color clipColor, 
-            boolean openingFace, boolean closingFace) {
-        List<Object3D> result = new ArrayList<Object3D>(2);
+    private void createSegmentWithCrossing(IndexedMesh3D mesh, 
+            Object itemKey, double x0, double y0, double x1, double y1, 
+            double z, double base, double ymin, double ymax, Color color, 
+            Color baseColor, Color clipColor, boolean openingFace, 
+            boolean closingFace) {
         Range range = new Range(ymin, ymax);
         // find the crossing point
         double ydelta = Math.abs(y1 - y0);
@@ -565,29 +595,16 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
         }
         double xcross = x0 + factor * (x1 - x0);
         if (y0 > base) {
-            Object3D pos = createPositiveArea(x0, y0, xcross, base, base, z, 
+            createPositiveArea(mesh, itemKey, x0, y0, xcross, base, base, z, 
+                    range, color, openingFace, closingFace);
+            createNegativeArea(mesh, itemKey, xcross, base, x1, y1, base, z, 
                     range, color, openingFace, closingFace);
-            if (pos != null) {
-                result.add(pos);
-            }
-            Object3D neg = createNegativeArea(xcross, base, x1, y1, 
-                    base, z, range, color, openingFace, closingFace);
-            if (neg != null) {
-                result.add(neg);
-            }
         } else {
-            Object3D neg = createNegativeArea(x0, y0, xcross, base, 
-                    base, z, range, color, openingFace, closingFace);
-            if (neg != null) {
-                result.add(neg);
-            }
-            Object3D pos = createPositiveArea(xcross, base, x1, y1, base, 
-                    z, range, color, openingFace, closingFace);
-            if (pos != null) {
-                result.add(pos);
-            }
+            createNegativeArea(mesh, itemKey, x0, y0, xcross, base, base, z, 
+                    range, color, openingFace, closingFace);
+            createPositiveArea(mesh, itemKey, xcross, base, x1, y1, base, z, 
+                    range, color, openingFace, closingFace);
         }
-        return result;
     }
     
     /**
@@ -614,9 +631,12 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
     private static final double EPSILON = 0.001;
     
     /**
-     * Creates a 3D object to represent a positive "area", taking into account
-     * that the visible range can be restricted.
+     * Adds a new part to the mesh to represent a positive "area", taking into
+     * account that the visible range can be restricted.  Nothing is added if
+     * the area is outside the visible range.
      * 
+     * @param mesh  the mesh for the series.
+     * @param itemKey  the key for the data item.
      * @param color  the color ({@code null} not permitted).
      * @param wx0
      * @param wy0
@@ -627,15 +647,14 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
      * @param range
      * @param openingFace
      * @param closingFace
-     * 
-     * @return A 3D object or {@code null}. 
      */
-    private Object3D createPositiveArea(double wx0, double wy0, 
-            double wx1, double wy1, double wbase, double wz, Range range,
-            Color color, boolean openingFace, boolean closingFace) {
+    private void createPositiveArea(IndexedMesh3D mesh, Object itemKey, 
+            double wx0, double wy0, double wx1, double wy1, double wbase, 
+            double wz, Range range, Color color, boolean openingFace, 
+            boolean closingFace) {
 
         if (!range.intersects(wy0, wbase) && !range.intersects(wy1, wbase)) {
-            return null;
+            return;
         }
         double wy00 = range.peggedValue(wy0);
         double wy11 = range.peggedValue(wy1);
@@ -658,84 +677,86 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
         double delta = this.depth / 2.0;
                         
         // create an area shape
-        Object3D obj = new Object3D(color, true);
-        obj.addVertex(wx00, wbb, wz - delta);
-        obj.addVertex(wx00, wbb, wz + delta);
+        mesh.beginPart(itemKey);
+        mesh.addPartVertex(wx00, wbb, wz - delta);
+        mesh.addPartVertex(wx00, wbb, wz + delta);
         boolean leftSide = false;
         if (Math.abs(wy00 - wbb) > EPSILON) {
             leftSide = true;
-            obj.addVertex(wx00, wy00, wz - delta);
-            obj.addVertex(wx00, wy00, wz + delta);
+            mesh.addPartVertex(wx00, wy00, wz - delta);
+            mesh.addPartVertex(wx00, wy00, wz + delta);
         }
         if (p2required) {
-            obj.addVertex(wx22, range.getMax(), wz - delta);
-            obj.addVertex(wx22, range.getMax(), wz + delta);
+            mesh.addPartVertex(wx22, range.getMax(), wz - delta);
+            mesh.addPartVertex(wx22, range.getMax(), wz + delta);
         }
-        obj.addVertex(wx11, wy11, wz - delta);
-        obj.addVertex(wx11, wy11, wz + delta);
+        mesh.addPartVertex(wx11, wy11, wz - delta);
+        mesh.addPartVertex(wx11, wy11, wz + delta);
         boolean rightSide = false;
         if (Math.abs(wy11 - wbb) > EPSILON) {
             rightSide = true;
-            obj.addVertex(wx11, wbb, wz - delta);
-            obj.addVertex(wx11, wbb, wz + delta);
+            mesh.addPartVertex(wx11, wbb, wz - delta);
+            mesh.addPartVertex(wx11, wbb, wz + delta);
         }
-        int vertices = obj.getVertexCount();
+        int vertices = mesh.getPartVertexCount();
         
         if (vertices == 10) {
-            obj.addFace(new int[] {0, 2, 4, 6, 8});  // front
-            obj.addFace(new int[] {1, 9, 7, 5, 3});  // rear
-            obj.addFace(new int[] {0, 8, 9, 1});  // base
-            obj.addFace(new int[] {2, 3, 5, 4}); // top 1
-            obj.addFace(new int[] {4, 5, 7, 6});  // top 2
+            mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color);  // front
+            mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color);  // rear
+            mesh.addPartFace(new int[] {0, 8, 9, 1}, color);  // base
+            mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top 1
+            mesh.addPartFace(new int[] {4, 5, 7, 6}, color);  // top 2
             if (openingFace) {
-                obj.addFace(new int[] {0, 1, 3, 2});
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
             }
             if (closingFace) {
-                obj.addFace(new int[] {6, 7, 9, 8});
+                mesh.addPartFace(new int[] {6, 7, 9, 8}, color);
             }
         } else if (vertices == 8) {
-            obj.addFace(new int[] {0, 2, 4, 6});  // front
-            obj.addFace(new int[] {7, 5, 3, 1});  // rear
+            mesh.addPartFace(new int[] {0, 2, 4, 6}, color);  // front
+            mesh.addPartFace(new int[] {7, 5, 3, 1}, color);  // rear
             if (!leftSide) {
-                obj.addFace(new int[] {0, 1, 3, 2});  // top left
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color);  // top left
             }
-            obj.addFace(new int[] {2, 3, 5, 4});  // top 1
+            mesh.addPartFace(new int[] {2, 3, 5, 4}, color);  // top 1
             if (!rightSide) {
-                obj.addFace(new int[] {4, 5, 7, 6}); // top 2 
+                mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // top 2 
             }
-            obj.addFace(new int[] {1, 0, 6, 7}); // base
+            mesh.addPartFace(new int[] {1, 0, 6, 7}, color); // base
             if (openingFace) {
-                obj.addFace(new int[] {0, 1, 3, 2});
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
             }
             if (closingFace) {
-                obj.addFace(new int[] {4, 5, 7, 6});
+                mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
             }
         } else if (vertices == 6) {
-            obj.addFace(new int[] {0, 2, 4}); // front
-            obj.addFace(new int[] {5, 3, 1}); // rear
+            mesh.addPartFace(new int[] {0, 2, 4}, color); // front
+            mesh.addPartFace(new int[] {5, 3, 1}, color); // rear
             if (leftSide) {
-                obj.addFace(new int[] {3, 5, 4, 2}); // top            
+                mesh.addPartFace(new int[] {3, 5, 4, 2}, color); // top
                 if (openingFace) {
-                    obj.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
             } else {
-                obj.addFace(new int[] {0, 1, 3, 2}); // top
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color); // top
                 if (closingFace) {
-                    obj.addFace(new int[] {2, 3, 5, 4});
+                    mesh.addPartFace(new int[] {2, 3, 5, 4}, color);
                 }
             }
-            obj.addFace(new int[] {0, 4, 5, 1}); // base            
+            mesh.addPartFace(new int[] {0, 4, 5, 1}, color); // base            
         } else {
-            obj.addFace(new int[] {0, 1, 3, 2});
-            obj.addFace(new int[] {2, 3, 1, 0});
+            mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
+            mesh.addPartFace(new int[] {2, 3, 1, 0}, color);
         }
-        return obj;
     }
     
     /**
-     * Creates a negative area shape from (wx0, wy0) to (wx1, wy1) with the
-     * base at wbase (it is assumed that both wy0 and wy1 are less than wbase).
+     * Adds a new part to the mesh for a negative area shape from (wx0, wy0) 
+     * to (wx1, wy1) with the base at wbase (it is assumed that both wy0 and 
+     * wy1 are less than wbase).
      * 
+     * @param mesh  the mesh for the series.
+     * @param itemKey  the key for the data item.
      * @param wx0
      * @param wy0
      * @param wx1
@@ -746,15 +767,14 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
      * @param color
      * @param openingFace
      * @param closingFace
-     * 
-     * @return An object representing the area shape (or {@code null}). 
      */
-    private Object3D createNegativeArea(double wx0, double wy0, 
-            double wx1, double wy1, double wbase, double wz, Range range,
-            Color color, boolean openingFace, boolean closingFace) {
+    private void createNegativeArea(IndexedMesh3D mesh, Object itemKey, 
+            double wx0, double wy0, double wx1, double wy1, double wbase, 
+            double wz, Range range, Color color, boolean openingFace, 
+            boolean closingFace) {
         
         if (!range.intersects(wy0, wbase) && !range.intersects(wy1, wbase)) {
-            return null;
+            return;
         }
         double wy00 = range.peggedValue(wy0);
         double wy11 = range.peggedValue(wy1);
@@ -777,76 +797,77 @@ public class AreaRenderer3D extends AbstractCategoryRenderer3D
         double delta = this.depth / 2.0;
 
         // create an area shape
-        Object3D obj = new Object3D(color, true);
-        obj.addVertex(wx00, wbb, wz - delta);
-        obj.addVertex(wx00, wbb, wz + delta);
+        mesh.beginPart(itemKey);
+        mesh.addPartVertex(wx00, wbb, wz - delta);
+        mesh.addPartVertex(wx00, wbb, wz + delta);
         boolean leftSide = false;
         if (Math.abs(wy00 - wbb) > EPSILON) {
             leftSide = true;
-            obj.addVertex(wx00, wy00, wz - delta);
-            obj.addVertex(wx00, wy00, wz + delta);
+            mesh.addPartVertex(wx00, wy00, wz - delta);
+            mesh.addPartVertex(wx00, wy00, wz + delta);
         }
         if (p2required) {
-            obj.addVertex(wx22, range.getMin(), wz - delta);
-            obj.addVertex(wx22, range.getMin(), wz + delta);
+            mesh.addPartVertex(wx22, range.getMin(), wz - delta);
+            mesh.addPartVertex(wx22, range.getMin(), wz + delta);
         }
-        obj.addVertex(wx11, wy11, wz - delta);
-        obj.addVertex(wx11, wy11, wz + delta);
+        mesh.addPartVertex(wx11, wy11, wz - delta);
+        mesh.addPartVertex(wx11, wy11, wz + delta);
         boolean rightSide = false;
         if (Math.abs(wy11 - wbb) > EPSILON) {
-            obj.addVertex(wx11, wbb, wz - delta);
-            obj.addVertex(wx11, wbb, wz + delta);
+            mesh.addPartVertex(wx11, wbb, wz - delta);
+            mesh.addPartVertex(wx11, wbb, wz + delta);
         }
-        int vertices = obj.getVertexCount();
+        int vertices = mesh.getPartVertexCount();
         if (vertices == 10) {
-            obj.addFace(new int[] {8, 6, 4, 2, 0});  // front
-            obj.addFace(new int[] {1, 3, 5, 7, 9});  // rear
-            obj.addFace(new int[] {1, 9, 8, 0});  // base
-            obj.addFace(new int[] {4, 5, 3, 2}); // top 1
-            obj.addFace(new int[] {6, 7, 5, 4});  // top 2
+            mesh.addPartFace(new int[] {8, 6, 4, 2, 0}, color);  // front
+            mesh.addPartFace(new int[] {1, 3, 5, 7, 9}, color);  // rear
+            mesh.addPartFace(new int[] {1, 9, 8, 0}, color);  // base
+            mesh.addPartFace(new int[] {4, 5, 3, 2}, color); // top 1
+            mesh.addPartFace(new int[] {6, 7, 5, 4}, color);  // top 2
             if (openingFace) {
-                obj.addFace(new int[] {2, 3, 1, 0});
+                mesh.addPartFace(new int[] {2, 3, 1, 0}, color);
             }
             if (closingFace) {
-                obj.addFace(new int[] {8, 9, 7, 6});
+                mesh.addPartFace(new int[] {8, 9, 7, 6}, color);
             }
         } else if (vertices == 8) {
-            obj.addFace(new int[] {2, 0, 6, 4});  // front
-            obj.addFace(new int[] {1, 3, 5, 7});  // rear
-            obj.addFace(new int[] {0, 1, 7, 6});  // base
+            mesh.addPartFace(new int[] {2, 0, 6, 4}, color);  // front
+            mesh.addPartFace(new int[] {1, 3, 5, 7}, color);  // rear
+            mesh.addPartFace(new int[] {0, 1, 7, 6}, color);  // base
             if (!leftSide) {
-                obj.addFace(new int[] {2, 3, 1, 0});            
+                mesh.addPartFace(new int[] {2, 3, 1, 0}, color);
             }
-            obj.addFace(new int[] {3, 2, 4, 5});  // negative top
+            mesh.addPartFace(new int[] {3, 2, 4, 5}, color);  // negative top
             if (!rightSide) {
-                obj.addFace(new int[] {6, 7, 5, 4});
+                mesh.addPartFace(new int[] {6, 7, 5, 4}, color);
             }
             if (openingFace) {
-                obj.addFace(new int[] {1, 0, 2, 3});
+                mesh.addPartFace(new int[] {1, 0, 2, 3}, color);
             }
             if (closingFace) {
-                obj.addFace(new int[] {5, 4, 6, 7});
+                mesh.addPartFace(new int[] {5, 4, 6, 7}, color);
             }
         } else if (vertices == 6) {
-            obj.addFace(new int[] {4, 2, 0});  // front  
-            obj.addFace(new int[] {1, 3, 5});  // rear
+            mesh.addPartFace(new int[] {4, 2, 0}, color);  // front  
+            mesh.addPartFace(new int[] {1, 3, 5}, color);  // rear
             if (leftSide) {
-                obj.addFace(new int[] {4, 5, 3, 2});  // negative top
+                // negative top
+                mesh.addPartFace(new int[] {4, 5, 3, 2}, color);
                 if (openingFace) {
-                    obj.addFace(new int[] {1, 0, 2, 3});
+                    mesh.addPartFace(new int[] {1, 0, 2, 3}, color);
                 }
             } else {
-                obj.addFace(new int[] {2, 3, 1, 0}); // negative top               
+                // negative top
+                mesh.addPartFace(new int[] {2, 3, 1, 0}, color);
                 if (closingFace) {
-                    obj.addFace(new int[] {3, 2, 4, 5});
+                    mesh.addPartFace(new int[] {3, 2, 4, 5}, color);
                 }
             }
-            obj.addFace(new int[] {0, 1, 5, 4});  // base
+            mesh.addPartFace(new int[] {0, 1, 5, 4}, color);  // base
         } else {
-            obj.addFace(new int[] {0, 1, 3, 2});
-            obj.addFace(new int[] {2, 3, 1, 0});
+            mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
+            mesh.addPartFace(new int[] {2, 3, 1, 0}, color);
         }
-        return obj;
     }
     
     /**
@@ -43,6 +43,7 @@ import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.KeyedValues3DItemKey;
 import com.orsoncharts.data.Values3D;
+import com.orsoncharts.data.Values3DSummary;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.World;
@@ -252,6 +253,10 @@ public class BarRenderer3D extends AbstractCategoryRenderer3D
      */
     @Override
     public Range findValueRange(Values3D<? extends Number> data) {
+        Values3DSummary summary = getDataSummary(data);
+        if (summary != null) {
+            return summary.getValueRange(this.base);
+        }
         return DataUtils.findValueRange(data, this.base);
     }
 
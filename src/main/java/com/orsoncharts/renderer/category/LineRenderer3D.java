@@ -34,6 +34,7 @@ package com.orsoncharts.renderer.category;
 
 import java.awt.Color;
 import java.io.Serializable;
+import java.util.List;
 
 import com.orsoncharts.Chart3D;
 import com.orsoncharts.Chart3DFactory;
@@ -43,6 +44,7 @@ import com.orsoncharts.axis.ValueAxis3D;
 import com.orsoncharts.data.KeyedValues3DItemKey;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.IndexedMesh3D;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.Offset3D;
 import com.orsoncharts.graphics3d.World;
@@ -97,6 +99,16 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      */
     private CategoryColorSource clipColorSource;
     
+    /** 
+     * The world partition that holds the series meshes.  Each mesh carries 
+     * its series key as a property, so that it can be looked up in the 
+     * world while the items in a series are composed.
+     */
+    private static final String MESH_PARTITION = "line-series";
+    
+    /** The property key for the series key of a series mesh. */
+    private static final String SERIES_KEY = "series";
+    
     /**
      * Creates a new instance with default attribute values.
      */
@@ -316,13 +328,11 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
             double yprevw = valueAxis.translateToWorld(yprev.doubleValue(), hh) 
                     + yOffset; 
             double yl = (yprevw + yw) / 2.0;
-            Object3D left = createSegment(xl, yl, xw, yw, zw, this.lineWidth, 
+            IndexedMesh3D seriesMesh = seriesMesh(world, seriesKey, color);
+            seriesMesh.beginPart(itemKey);
+            createSegment(seriesMesh, xl, yl, xw, yw, zw, this.lineWidth, 
                     this.lineHeight, ywmin, ywmax, color, clipColor, leftOpen, 
                     leftClose);
-            if (left != null) {
-                left.setProperty(Object3D.ITEM_KEY, itemKey);
-                world.add(left);
-            }
         }
         if (createRightSegment) {
             Comparable<?> nextColumnKey = dataset.getColumnKey(column + 1);
@@ -333,13 +343,11 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
             double ynextw = valueAxis.translateToWorld(ynext.doubleValue(), hh) 
                     + yOffset; 
             double yr = (ynextw + yw) / 2.0;
-            Object3D right = createSegment(xw, yw, xr, yr, zw, this.lineWidth, 
+            IndexedMesh3D seriesMesh = seriesMesh(world, seriesKey, color);
+            seriesMesh.beginPart(itemKey);
+            createSegment(seriesMesh, xw, yw, xr, yr, zw, this.lineWidth, 
                     this.lineHeight, ywmin, ywmax, color, clipColor, rightOpen, 
                     rightClose);
-            if (right != null) {
-                right.setProperty(Object3D.ITEM_KEY, itemKey);
-                world.add(right);
-            }
         }
         if (createIsolatedSegment) {
             double cw = columnAxis.getCategoryWidth() 
@@ -389,11 +397,43 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
     }
 
     /**
-     * Creates a segment of a line between (x0, y0, z) and (x1, y1, z), with
-     * the specified line width and height, taking into account the minimum
-     * and maximum world coordinates (in the y-direction, because it is assumed
-     * that we have the full x and z-range required).
+     * Returns the mesh for a series, looking it up in the world and 
+     * creating it (and adding it to the world) if necessary.  All the line 
+     * segments in a series go into one mesh, so that the vertices at the 
+     * joints are shared and the faces carry their own colors and item keys.
+     * The renderer keeps no reference to the mesh, so it can be shared 
+     * between charts.
      * 
+     * @param world  the world.
+     * @param seriesKey  the series key.
+     * @param color  the default color for the mesh.
+     * 
+     * @return The mesh. 
+     */
+    private IndexedMesh3D seriesMesh(World world, Comparable<?> seriesKey, 
+            Color color) {
+        List<Object3D> meshes = world.getObjects(MESH_PARTITION);
+        // the series being composed is usually the last one added
+        for (int i = meshes.size() - 1; i >= 0; i--) {
+            Object3D obj = meshes.get(i);
+            if (seriesKey.equals(obj.getProperty(SERIES_KEY))) {
+                return (IndexedMesh3D) obj;
+            }
+        }
+        IndexedMesh3D mesh = new IndexedMesh3D(color, true);
+        mesh.setProperty(SERIES_KEY, seriesKey);
+        world.add(MESH_PARTITION, mesh);
+        return mesh;
+    }
+    
+    /**
+     * Adds a segment of a line between (x0, y0, z) and (x1, y1, z), with
+     * the specified line width and height, to the current part of the mesh,
+     * taking into account the minimum and maximum world coordinates (in the 
+     * y-direction, because it is assumed that we have the full x and z-range 
+     * required).  Nothing is added if the segment is entirely clipped.
+     * 
+     * @param mesh  the mesh for the series.
      * @param x0  the starting x-coordinate.
      * @param y0  the starting x-coordinate.
      * @param x1  the ending x-coordinate.
@@ -408,13 +448,11 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      *     clipped against the edge of the world).
      * @param openingFace  is an opening face required?
      * @param closingFace  is a closing face required?
-     * 
-     * @return A 3D object that is a segment in a line.
      */
-    private Object3D createSegment(double x0, double y0, double x1, double y1,
-            double z, double lineWidth, double lineHeight, double ymin, 
-            double ymax, Color color, Color clipColor, boolean openingFace,
-            boolean closingFace) {
+    private void createSegment(IndexedMesh3D mesh, double x0, double y0, 
+            double x1, double y1, double z, double lineWidth, 
+            double lineHeight, double ymin, double ymax, Color color, 
+            Color clipColor, boolean openingFace, boolean closingFace) {
         double wdelta = lineWidth / 2.0;
         double hdelta = lineHeight / 2.0;
         double y0b = y0 - hdelta;
@@ -424,27 +462,25 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
         double zf = z - wdelta;
         double zb = z + wdelta;
         double[] xpts = calcCrossPoints(x0, x1, y0b, y0t, y1b, y1t, ymin, ymax);
-        Object3D seg = null;
         if (y0b >= ymax) {  // CASE A 
-            seg = createSegmentA(x0, x1, xpts, y0b, y0t, y1b, y1t, 
-            ymin, ymax, zf, zb, color, clipColor, false, closingFace);
+            createSegmentA(mesh, x0, x1, xpts, y0b, y0t, y1b, y1t, 
+                    ymin, ymax, zf, zb, color, clipColor, false, closingFace);
         } else if (y0t > ymax && y0b > ymin) {  // CASE B
-            seg = createSegmentB(x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, ymax, 
-                    zf, zb, color, clipColor, openingFace, closingFace);
+            createSegmentB(mesh, x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, 
+                    ymax, zf, zb, color, clipColor, openingFace, closingFace);
         } else if (y0t > ymax && y0b <= ymin) {  // CASE C
-            seg = createSegmentC(x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, ymax, 
-                    zf, zb, color, clipColor, openingFace, closingFace);
+            createSegmentC(mesh, x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, 
+                    ymax, zf, zb, color, clipColor, openingFace, closingFace);
         } else if (y0t > ymin && y0b >= ymin) { // CASE D
-            seg = createSegmentD(x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, ymax, 
-                    zf, zb, color, clipColor, openingFace, closingFace);                    
+            createSegmentD(mesh, x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, 
+                    ymax, zf, zb, color, clipColor, openingFace, closingFace);
         } else if (y0t > ymin && y0b < ymin) { // CASE E
-            seg = createSegmentE(x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, ymax, 
-                    zf, zb, color, clipColor, openingFace, closingFace);                    
+            createSegmentE(mesh, x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, 
+                    ymax, zf, zb, color, clipColor, openingFace, closingFace);
         } else if (y0t <= ymin) {  // CASE F
-            seg = createSegmentF(x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, ymax, 
-                    zf, zb, color, clipColor, false, closingFace);                   
+            createSegmentF(mesh, x0, x1, xpts, y0b, y0t, y1b, y1t, ymin, 
+                    ymax, zf, zb, color, clipColor, false, closingFace);
         }
-        return seg;
     }
     
     /**
@@ -483,6 +519,7 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * completely above the upper bound of the axis at the left side of the
      * chart.
      * 
+     * @param mesh  the mesh for the series.
      * @param x0
      * @param x1
      * @param xpts
@@ -499,121 +536,106 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * @param openingFace  ignored because there is no opening face for this
      *     case.
      * @param closingFace
-     * 
-     * @return A segment ({@code null} if the segment is entirely clipped). 
      */
-    private Object3D createSegmentA(double x0, double x1, double[] xpts, 
-            double y0b, double y0t, double y1b, double y1t, double wmin, 
-            double wmax, double zf, double zb, Color color, Color clipColor, 
-            boolean openingFace, boolean closingFace) {
+    private void createSegmentA(IndexedMesh3D mesh, double x0, double x1, 
+            double[] xpts, double y0b, double y0t, double y1b, double y1t, 
+            double wmin, double wmax, double zf, double zb, Color color, 
+            Color clipColor, boolean openingFace, boolean closingFace) {
         if (y1b > wmax) {
-            return null;  // nothing is visible
+            return;  // nothing is visible
         }
         if (y1t > wmax) {
             if (y1b >= wmin) {
                 // create a triangle with the top and right
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(xpts[2], wmax, zf);
-                seg.addVertex(xpts[2], wmax, zb);
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addFace(new int[] {0, 2, 4}); // front
-                seg.addFace(new int[] {1, 5, 3}); // rear
-                seg.addFace(new int[] {0, 1, 3, 2}, "clip"); // clip top
-                seg.addFace(new int[] {4, 5, 1, 0}); // bottom
+                mesh.addPartVertex(xpts[2], wmax, zf);
+                mesh.addPartVertex(xpts[2], wmax, zb);
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartFace(new int[] {0, 2, 4}, color); // front
+                mesh.addPartFace(new int[] {1, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, clipColor); // clip top
+                mesh.addPartFace(new int[] {4, 5, 1, 0}, color); // bottom
                 if (closingFace) {
-                    seg.addFace(new int[] {2, 3, 5, 4});
+                    mesh.addPartFace(new int[] {2, 3, 5, 4}, color);
                 }
-                return seg;
             } else {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(xpts[2], wmax, zf);
-                seg.addVertex(xpts[2], wmax, zb);
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6}); // front
-                seg.addFace(new int[] {1, 7, 5, 3}); // rear
-                seg.addFace(new int[] {0, 1, 3, 2}); // clip top
-                seg.addFace(new int[] {4, 5, 7, 6}, "clip"); // clip bottom
-                seg.addFace(new int[] {6, 7, 1, 0}); // bottom
+                mesh.addPartVertex(xpts[2], wmax, zf);
+                mesh.addPartVertex(xpts[2], wmax, zb);
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+                mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color); // clip top
+                // clip bottom
+                mesh.addPartFace(new int[] {4, 5, 7, 6}, clipColor);
+                mesh.addPartFace(new int[] {6, 7, 1, 0}, color); // bottom
                 if (closingFace) {
-                    seg.addFace(new int[] {2, 3, 5, 4});
+                    mesh.addPartFace(new int[] {2, 3, 5, 4}, color);
                 }
-                return seg;
             }
         } else if (y1t >= wmin) {
             if (y1b >= wmin) {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(xpts[2], wmax, zf);
-                seg.addVertex(xpts[2], wmax, zb);
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, y1t, zf);
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addFace(new int[] {0, 2, 4, 6}); // front
-                seg.addFace(new int[] {1, 7, 5, 3}); // rear
-                seg.addFace(new int[] {0, 1, 3, 2}, "clip"); // clip top
-                seg.addFace(new int[] {2, 3, 5, 4}); // top
-                seg.addFace(new int[] {6, 7, 1, 0}); // bottom
+                mesh.addPartVertex(xpts[2], wmax, zf);
+                mesh.addPartVertex(xpts[2], wmax, zb);
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, y1t, zf);
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+                mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, clipColor); // clip top
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+                mesh.addPartFace(new int[] {6, 7, 1, 0}, color); // bottom
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
             } else {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(xpts[2], wmax, zf);
-                seg.addVertex(xpts[2], wmax, zb);
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, y1t, zf);
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4});
-                seg.addFace(new int[] {0, 1, 3, 2}, "clip"); // clip top
-                seg.addFace(new int[] {6, 7, 9, 8}, "clip"); // clip bottom
-                seg.addFace(new int[] {8, 9, 1, 0});
+                mesh.addPartVertex(xpts[2], wmax, zf);
+                mesh.addPartVertex(xpts[2], wmax, zb);
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, y1t, zf);
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color);
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, clipColor); // clip top
+                // clip bottom
+                mesh.addPartFace(new int[] {6, 7, 9, 8}, clipColor);
+                mesh.addPartFace(new int[] {8, 9, 1, 0}, color);
                 // there is no opening face in this case
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
             }
         } else {
-            Object3D seg = new Object3D(color, true);
-            seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-            seg.addVertex(xpts[2], wmax, zf);
-            seg.addVertex(xpts[2], wmax, zb);
-            seg.addVertex(xpts[3], wmax, zf);
-            seg.addVertex(xpts[3], wmax, zb);
-            seg.addVertex(xpts[1], wmin, zf);
-            seg.addVertex(xpts[1], wmin, zb);
-            seg.addVertex(xpts[0], wmin, zf);
-            seg.addVertex(xpts[0], wmin, zb);
-            seg.addFace(new int[] {0, 2, 4, 6}); // front
-            seg.addFace(new int[] {1, 7, 5, 3}); // rear
-            seg.addFace(new int[] {4, 2, 3, 5}); // top
-            seg.addFace(new int[] {0, 6, 7, 1}); // bottom
-            seg.addFace(new int[] {0, 1, 3, 2}, "clip"); // clip top
-            seg.addFace(new int[] {4, 5, 7, 6}, "clip"); // clip bottom
+            mesh.addPartVertex(xpts[2], wmax, zf);
+            mesh.addPartVertex(xpts[2], wmax, zb);
+            mesh.addPartVertex(xpts[3], wmax, zf);
+            mesh.addPartVertex(xpts[3], wmax, zb);
+            mesh.addPartVertex(xpts[1], wmin, zf);
+            mesh.addPartVertex(xpts[1], wmin, zb);
+            mesh.addPartVertex(xpts[0], wmin, zf);
+            mesh.addPartVertex(xpts[0], wmin, zb);
+            mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+            mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+            mesh.addPartFace(new int[] {4, 2, 3, 5}, color); // top
+            mesh.addPartFace(new int[] {0, 6, 7, 1}, color); // bottom
+            mesh.addPartFace(new int[] {0, 1, 3, 2}, clipColor); // clip top
+            mesh.addPartFace(new int[] {4, 5, 7, 6}, clipColor); // clip bottom
             // there are no opening or closing faces in this case
-            return seg;
         }
     }
     
@@ -621,6 +643,7 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * Creates a segment for the case where the left end of the line spans
      * the axis maximum on the left side of the chart.
      * 
+     * @param mesh  the mesh for the series.
      * @param x0
      * @param x1
      * @param xpts
@@ -636,168 +659,156 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * @param clipColor
      * @param openingFace
      * @param closingFace
-     * 
-     * @return A segment. 
      */
-    private Object3D createSegmentB(double x0, double x1, double[] xpts, 
-            double y0b, double y0t, double y1b, double y1t, double wmin, 
-            double wmax, double zf, double zb, Color color, Color clipColor, 
-            boolean openingFace, boolean closingFace) {
+    private void createSegmentB(IndexedMesh3D mesh, double x0, double x1, 
+            double[] xpts, double y0b, double y0t, double y1b, double y1t, 
+            double wmin, double wmax, double zf, double zb, Color color, 
+            Color clipColor, boolean openingFace, boolean closingFace) {
         
         if (y1b >= wmax) {
-            Object3D seg = new Object3D(color, true);
-            seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-            seg.addVertex(x0, y0b, zf);
-            seg.addVertex(x0, y0b, zb);
-            seg.addVertex(x0, wmax, zf);
-            seg.addVertex(x0, wmax, zb);
-            seg.addVertex(xpts[2], wmax, zf);
-            seg.addVertex(xpts[2], wmax, zb);
-            seg.addFace(new int[] {0, 2, 4}); // front
-            seg.addFace(new int[] {1, 5, 3});  // rear
-            seg.addFace(new int[] {0, 4, 5, 1}); // bottom
-            seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
+            mesh.addPartVertex(x0, y0b, zf);
+            mesh.addPartVertex(x0, y0b, zb);
+            mesh.addPartVertex(x0, wmax, zf);
+            mesh.addPartVertex(x0, wmax, zb);
+            mesh.addPartVertex(xpts[2], wmax, zf);
+            mesh.addPartVertex(xpts[2], wmax, zb);
+            mesh.addPartFace(new int[] {0, 2, 4}, color); // front
+            mesh.addPartFace(new int[] {1, 5, 3}, color);  // rear
+            mesh.addPartFace(new int[] {0, 4, 5, 1}, color); // bottom
+            mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
             if (openingFace) {
-                seg.addFace(new int[] {0, 1, 3, 2}); 
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color); 
             }
             // there is no closing face in this case
-            return seg; 
+            return;
         }
         if (y1t > wmax) {
             if (y1b >= wmin) {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(x0, y0b, zf);
-                seg.addVertex(x0, y0b, zb);
-                seg.addVertex(x0, wmax, zf);
-                seg.addVertex(x0, wmax, zb);
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addFace(new int[] {0, 2, 4, 6});  // front
-                seg.addFace(new int[] {1, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-                seg.addFace(new int[] {0, 6, 7, 1}); // bottom
+                mesh.addPartVertex(x0, y0b, zf);
+                mesh.addPartVertex(x0, y0b, zb);
+                mesh.addPartVertex(x0, wmax, zf);
+                mesh.addPartVertex(x0, wmax, zb);
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6}, color);  // front
+                mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+                mesh.addPartFace(new int[] {0, 6, 7, 1}, color); // bottom
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
+                return;
             } else {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(x0, y0b, zf);
-                seg.addVertex(x0, y0b, zb);
-                seg.addVertex(x0, wmax, zf);
-                seg.addVertex(x0, wmax, zb);
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8});  // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-                seg.addFace(new int[] {8, 6, 7, 9}, "clip"); // clip bottom
-                seg.addFace(new int[] {0, 8, 9, 1});
+                mesh.addPartVertex(x0, y0b, zf);
+                mesh.addPartVertex(x0, y0b, zb);
+                mesh.addPartVertex(x0, wmax, zf);
+                mesh.addPartVertex(x0, wmax, zb);
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color);  // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+                // clip bottom
+                mesh.addPartFace(new int[] {8, 6, 7, 9}, clipColor);
+                mesh.addPartFace(new int[] {0, 8, 9, 1}, color);
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
+                return;
             }
         }
         if (y1t > wmin) {
             if (y1b >= wmin) {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(x0, y0b, zf);
-                seg.addVertex(x0, y0b, zb);
-                seg.addVertex(x0, wmax, zf);
-                seg.addVertex(x0, wmax, zb);
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, y1t, zf);
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-                seg.addFace(new int[] {4, 5, 7, 6}); // top
-                seg.addFace(new int[] {0, 8, 9, 1}); // bottom
+                mesh.addPartVertex(x0, y0b, zf);
+                mesh.addPartVertex(x0, y0b, zb);
+                mesh.addPartVertex(x0, wmax, zf);
+                mesh.addPartVertex(x0, wmax, zb);
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, y1t, zf);
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+                mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // top
+                mesh.addPartFace(new int[] {0, 8, 9, 1}, color); // bottom
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {6, 7, 9, 8});
+                    mesh.addPartFace(new int[] {6, 7, 9, 8}, color);
                 }
-                return seg;
+                return;
             } else {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(x0, y0b, zf);
-                seg.addVertex(x0, y0b, zb);
-                seg.addVertex(x0, wmax, zf);
-                seg.addVertex(x0, wmax, zb);
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, y1t, zf);
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8, 10}); // front
-                seg.addFace(new int[] {1, 11, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-                seg.addFace(new int[] {4, 5, 7, 6}); // top
-                seg.addFace(new int[] {8, 9, 11, 10}, "clip"); // clip bottom
-                seg.addFace(new int[] {10, 11, 1, 0}); // bottom
+                mesh.addPartVertex(x0, y0b, zf);
+                mesh.addPartVertex(x0, y0b, zb);
+                mesh.addPartVertex(x0, wmax, zf);
+                mesh.addPartVertex(x0, wmax, zb);
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, y1t, zf);
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8, 10}, color); // front
+                mesh.addPartFace(new int[] {1, 11, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+                mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // top
+                // clip bottom
+                mesh.addPartFace(new int[] {8, 9, 11, 10}, clipColor);
+                mesh.addPartFace(new int[] {10, 11, 1, 0}, color); // bottom
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {6, 7, 9, 8});
+                    mesh.addPartFace(new int[] {6, 7, 9, 8}, color);
                 }
-                return seg;
+                return;
             }
         }
-        Object3D seg = new Object3D(color, true);
-        seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-        seg.addVertex(x0, y0b, zf);
-        seg.addVertex(x0, y0b, zb);
-        seg.addVertex(x0, wmax, zf);
-        seg.addVertex(x0, wmax, zb);
-        seg.addVertex(xpts[3], wmax, zf);
-        seg.addVertex(xpts[3], wmax, zb);
-        seg.addVertex(xpts[1], wmin, zf);
-        seg.addVertex(xpts[1], wmin, zb);
-        seg.addVertex(xpts[0], wmin, zf);
-        seg.addVertex(xpts[0], wmin, zb);
-        seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-        seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-        seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-        seg.addFace(new int[] {4, 5, 7, 6}); // top
-        seg.addFace(new int[] {6, 7, 9, 8}, "clip"); // clip bottom
-        seg.addFace(new int[] {8, 9, 1, 0}); // bottom
+        mesh.addPartVertex(x0, y0b, zf);
+        mesh.addPartVertex(x0, y0b, zb);
+        mesh.addPartVertex(x0, wmax, zf);
+        mesh.addPartVertex(x0, wmax, zb);
+        mesh.addPartVertex(xpts[3], wmax, zf);
+        mesh.addPartVertex(xpts[3], wmax, zb);
+        mesh.addPartVertex(xpts[1], wmin, zf);
+        mesh.addPartVertex(xpts[1], wmin, zb);
+        mesh.addPartVertex(xpts[0], wmin, zf);
+        mesh.addPartVertex(xpts[0], wmin, zb);
+        mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+        mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+        mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+        mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // top
+        mesh.addPartFace(new int[] {6, 7, 9, 8}, clipColor); // clip bottom
+        mesh.addPartFace(new int[] {8, 9, 1, 0}, color); // bottom
         if (openingFace) {
-            seg.addFace(new int[] {0, 1, 3, 2});
+            mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
         }
         // there is no closing face in this case
-        return seg;
     }
 
     /**
      * Creates a segment for the case where the line end spans the entire axis
      * range at the left side of the chart.
      * 
+     * @param mesh  the mesh for the series.
      * @param x0
      * @param x1
      * @param xpts
@@ -813,106 +824,105 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * @param clipColor
      * @param openingFace
      * @param closingFace
-     * 
-     * @return A segment. 
      */
-    private Object3D createSegmentC(double x0, double x1, double[] xpts, 
-            double y0b, double y0t, double y1b, double y1t, double wmin, 
-            double wmax, double zf, double zb, Color color, Color clipColor, 
-            boolean openingFace, boolean closingFace) {
+    private void createSegmentC(IndexedMesh3D mesh, double x0, double x1, 
+            double[] xpts, double y0b, double y0t, double y1b, double y1t, 
+            double wmin, double wmax, double zf, double zb, Color color, 
+            Color clipColor, boolean openingFace, boolean closingFace) {
 
         // the first 4 vertices and the opening face are common to all 
         // segments in this case
-        Object3D seg = new Object3D(color, true);
-        seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-        seg.addVertex(x0, wmin, zf);
-        seg.addVertex(x0, wmin, zb);
-        seg.addVertex(x0, wmax, zf);
-        seg.addVertex(x0, wmax, zb);
+        mesh.addPartVertex(x0, wmin, zf);
+        mesh.addPartVertex(x0, wmin, zb);
+        mesh.addPartVertex(x0, wmax, zf);
+        mesh.addPartVertex(x0, wmax, zb);
         if (openingFace) {
-            seg.addFace(new int[] {0, 1, 3, 2});
+            mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
         }
         
         if (y1b >= wmax) {
-            seg.addVertex(xpts[2], wmax, zf);
-            seg.addVertex(xpts[2], wmax, zb);
-            seg.addVertex(xpts[0], wmin, zf);
-            seg.addVertex(xpts[0], wmin, zb);
-            seg.addFace(new int[] {0, 2, 4, 6}); // front
-            seg.addFace(new int[] {1, 7, 5, 3}); // rear
-            seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-            seg.addFace(new int[] {4, 5, 7, 6}); // bottom
-            seg.addFace(new int[] {7, 1, 0, 6}, "clip"); // bottom clip
-            return seg;
+            mesh.addPartVertex(xpts[2], wmax, zf);
+            mesh.addPartVertex(xpts[2], wmax, zb);
+            mesh.addPartVertex(xpts[0], wmin, zf);
+            mesh.addPartVertex(xpts[0], wmin, zb);
+            mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+            mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+            mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+            mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // bottom
+            mesh.addPartFace(new int[] {7, 1, 0, 6}, clipColor); // bottom clip
+            return;
         }
         if (y1t > wmax) {
             if (y1b >= wmin) {
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // top clip
-                seg.addFace(new int[] {6, 7, 9, 8}); // bottom
-                seg.addFace(new int[] {8, 9, 1, 0}, "clip"); // clip bottom
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // top clip
+                mesh.addPartFace(new int[] {6, 7, 9, 8}, color); // bottom
+                // clip bottom
+                mesh.addPartFace(new int[] {8, 9, 1, 0}, clipColor);
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
+                return;
             } else {
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6}); // front
-                seg.addFace(new int[] {1, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-                seg.addFace(new int[] {4, 5, 7, 6}); // bottom
-                seg.addFace(new int[] {7, 1, 0, 6}, "clip"); // bottom clip
-                return seg;
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+                mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+                mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // bottom
+                // bottom clip
+                mesh.addPartFace(new int[] {7, 1, 0, 6}, clipColor);
+                return;
             }
         }
         if (y1t > wmin) {
             if (y1b >= wmin) {
-                return null; // in practice I don't think this case
-                             // can occur
+                return; // in practice I don't think this case
+                        // can occur
             } else {
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, y1t, zf);
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-                seg.addFace(new int[] {4, 5, 7, 6}); // top
-                seg.addFace(new int[] {9, 1, 0, 8}, "clip"); // clip bottom
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, y1t, zf);
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+                mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // top
+                // clip bottom
+                mesh.addPartFace(new int[] {9, 1, 0, 8}, clipColor);
                 if (closingFace) {
-                    seg.addFace(new int[] {6, 7, 9, 8});
+                    mesh.addPartFace(new int[] {6, 7, 9, 8}, color);
                 }
-                return seg; 
+                return;
             }
         }
-        seg.addVertex(xpts[3], wmax, zf);
-        seg.addVertex(xpts[3], wmax, zb);
-        seg.addVertex(xpts[1], wmin, zf);
-        seg.addVertex(xpts[1], wmin, zb);
-        seg.addFace(new int[] {0, 2, 4, 6}); // front
-        seg.addFace(new int[] {1, 7, 5, 3}); // rear
-        seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-        seg.addFace(new int[] {4, 5, 7, 6}); // top
-        seg.addFace(new int[] {6, 7, 1, 0}, "clip"); // clip bottom
-        return seg;
+        mesh.addPartVertex(xpts[3], wmax, zf);
+        mesh.addPartVertex(xpts[3], wmax, zb);
+        mesh.addPartVertex(xpts[1], wmin, zf);
+        mesh.addPartVertex(xpts[1], wmin, zb);
+        mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+        mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+        mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+        mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // top
+        mesh.addPartFace(new int[] {6, 7, 1, 0}, clipColor); // clip bottom
     }
     
     /**
      * Creates a segment for the case where the segment is contained within
      * the axis range at the left side.
      * 
+     * @param mesh  the mesh for the series.
      * @param x0
      * @param x1
      * @param xpts
@@ -928,113 +938,107 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * @param clipColor
      * @param openingFace
      * @param closingFace
-     * 
-     * @return A segment. 
      */
-    private Object3D createSegmentD(double x0, double x1, double[] xpts, 
-            double y0b, double y0t, double y1b, double y1t, double wmin, 
-            double wmax, double zf, double zb, Color color, Color clipColor, 
-            boolean openingFace, boolean closingFace) {
+    private void createSegmentD(IndexedMesh3D mesh, double x0, double x1, 
+            double[] xpts, double y0b, double y0t, double y1b, double y1t, 
+            double wmin, double wmax, double zf, double zb, Color color, 
+            Color clipColor, boolean openingFace, boolean closingFace) {
 
-        Object3D seg = new Object3D(color, true);
-        seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-        seg.addVertex(x0, y0b, zf);
-        seg.addVertex(x0, y0b, zb);
-        seg.addVertex(x0, y0t, zf);
-        seg.addVertex(x0, y0t, zb);
+        mesh.addPartVertex(x0, y0b, zf);
+        mesh.addPartVertex(x0, y0b, zb);
+        mesh.addPartVertex(x0, y0t, zf);
+        mesh.addPartVertex(x0, y0t, zb);
         if (y1b >= wmax) {
-            seg.addVertex(xpts[3], wmax, zf);
-            seg.addVertex(xpts[3], wmax, zb);
-            seg.addVertex(xpts[2], wmax, zf);
-            seg.addVertex(xpts[2], wmax, zb);
-            seg.addFace(new int[] {0, 2, 4, 6});  // front
-            seg.addFace(new int[] {1, 7, 5, 3});  // rear
-            seg.addFace(new int[] {2, 3, 5, 4});  // top
-            seg.addFace(new int[] {4, 5, 7, 6}, "clip"); // clip top
-            seg.addFace(new int[] {0, 6, 7, 1}); // bottom
+            mesh.addPartVertex(xpts[3], wmax, zf);
+            mesh.addPartVertex(xpts[3], wmax, zb);
+            mesh.addPartVertex(xpts[2], wmax, zf);
+            mesh.addPartVertex(xpts[2], wmax, zb);
+            mesh.addPartFace(new int[] {0, 2, 4, 6}, color);  // front
+            mesh.addPartFace(new int[] {1, 7, 5, 3}, color);  // rear
+            mesh.addPartFace(new int[] {2, 3, 5, 4}, color);  // top
+            mesh.addPartFace(new int[] {4, 5, 7, 6}, clipColor); // clip top
+            mesh.addPartFace(new int[] {0, 6, 7, 1}, color); // bottom
             if (openingFace) {
-                seg.addFace(new int[] {0, 1, 3, 2});
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
             }
             // there is no closing face in this case
-            return seg;
+            return;
         }
         if (y1t > wmax) {
             if (y1b >= wmin) {
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}); // top
-                seg.addFace(new int[] {4, 5, 7, 6}, "clip"); // clip top
-                seg.addFace(new int[] {0, 8, 9, 1});
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+                mesh.addPartFace(new int[] {4, 5, 7, 6}, clipColor); // clip top
+                mesh.addPartFace(new int[] {0, 8, 9, 1}, color);
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {6, 7, 9, 8});
+                    mesh.addPartFace(new int[] {6, 7, 9, 8}, color);
                 }
-                return seg;  
+                return;
             } else {
-                return null;  // this case should not be possible
+                return;  // this case should not be possible
             }
         }
         if (y1t > wmin) {
             if (y1b >= wmin) {
                 // this is the regular segment, no clipping
-                seg.addVertex(x1, y1t, zf);
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addFace(new int[] {0, 2, 4, 6});  // front
-                seg.addFace(new int[] {1, 7, 5, 3});  // rear
-                seg.addFace(new int[] {2, 3, 5, 4});  // top
-                seg.addFace(new int[] {0, 6, 7, 1});  // bottom
+                mesh.addPartVertex(x1, y1t, zf);
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6}, color);  // front
+                mesh.addPartFace(new int[] {1, 7, 5, 3}, color);  // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color);  // top
+                mesh.addPartFace(new int[] {0, 6, 7, 1}, color);  // bottom
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
             } else {
-                seg.addVertex(x1, y1t, zf);
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}); // top
-                seg.addFace(new int[] {0, 8, 9, 1});  // bottom
-                seg.addFace(new int[] {6, 7, 9, 8}, "clip"); // clip bottom
+                mesh.addPartVertex(x1, y1t, zf);
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+                mesh.addPartFace(new int[] {0, 8, 9, 1}, color);  // bottom
+                // clip bottom
+                mesh.addPartFace(new int[] {6, 7, 9, 8}, clipColor);
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
             }
         } else {
-            seg.addVertex(xpts[1], wmin, zf);
-            seg.addVertex(xpts[1], wmin, zb);
-            seg.addVertex(xpts[0], wmin, zf);
-            seg.addVertex(xpts[0], wmin, zb);
-            seg.addFace(new int[] {0, 2, 4, 6}); // front
-            seg.addFace(new int[] {1, 7, 5, 3}); // rear
-            seg.addFace(new int[] {2, 3, 5, 4}); // top
-            seg.addFace(new int[] {0, 6, 7, 1}); // bottom
-            seg.addFace(new int[] {4, 5, 7, 6}, "clip"); // clip bottom
+            mesh.addPartVertex(xpts[1], wmin, zf);
+            mesh.addPartVertex(xpts[1], wmin, zb);
+            mesh.addPartVertex(xpts[0], wmin, zf);
+            mesh.addPartVertex(xpts[0], wmin, zb);
+            mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+            mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+            mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+            mesh.addPartFace(new int[] {0, 6, 7, 1}, color); // bottom
+            mesh.addPartFace(new int[] {4, 5, 7, 6}, clipColor); // clip bottom
             if (openingFace) {
-                seg.addFace(new int[] {0, 1, 3, 2});
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
             }
             // there is no closing face in this case
-            return seg;
         }
     }
     
@@ -1042,6 +1046,7 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * Returns a segment for the case where the line height spans the lower 
      * bound of the axis range at the left side of the chart.
      * 
+     * @param mesh  the mesh for the series.
      * @param x0
      * @param x1
      * @param xpts
@@ -1057,166 +1062,155 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * @param clipColor
      * @param openingFace
      * @param closingFace
-     * 
-     * @return The segment. 
      */
-    private Object3D createSegmentE(double x0, double x1, double[] xpts, 
-            double y0b, double y0t, double y1b, double y1t, double wmin, 
-            double wmax, double zf, double zb, Color color, Color clipColor, 
-            boolean openingFace, boolean closingFace) {
+    private void createSegmentE(IndexedMesh3D mesh, double x0, double x1, 
+            double[] xpts, double y0b, double y0t, double y1b, double y1t, 
+            double wmin, double wmax, double zf, double zb, Color color, 
+            Color clipColor, boolean openingFace, boolean closingFace) {
         if (y1b > wmax) {
-            Object3D seg = new Object3D(color, true);
-            seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-            seg.addVertex(x0, wmin, zf);
-            seg.addVertex(x0, wmin, zb);
-            seg.addVertex(x0, y0t, zf);
-            seg.addVertex(x0, y0t, zb);
-            seg.addVertex(xpts[3], wmax, zf);
-            seg.addVertex(xpts[3], wmax, zb);
-            seg.addVertex(xpts[2], wmax, zf);
-            seg.addVertex(xpts[2], wmax, zb);
-            seg.addVertex(xpts[0], wmin, zf);
-            seg.addVertex(xpts[0], wmin, zb);
-            seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-            seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-            seg.addFace(new int[] {2, 3, 5, 4}); // top
-            seg.addFace(new int[] {4, 5, 7, 6}, "clip"); // clip top
-            seg.addFace(new int[] {6, 7, 9, 8}); // bottom
-            seg.addFace(new int[] {0, 8, 9, 1}, "clip"); // clip bottom
+            mesh.addPartVertex(x0, wmin, zf);
+            mesh.addPartVertex(x0, wmin, zb);
+            mesh.addPartVertex(x0, y0t, zf);
+            mesh.addPartVertex(x0, y0t, zb);
+            mesh.addPartVertex(xpts[3], wmax, zf);
+            mesh.addPartVertex(xpts[3], wmax, zb);
+            mesh.addPartVertex(xpts[2], wmax, zf);
+            mesh.addPartVertex(xpts[2], wmax, zb);
+            mesh.addPartVertex(xpts[0], wmin, zf);
+            mesh.addPartVertex(xpts[0], wmin, zb);
+            mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+            mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+            mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+            mesh.addPartFace(new int[] {4, 5, 7, 6}, clipColor); // clip top
+            mesh.addPartFace(new int[] {6, 7, 9, 8}, color); // bottom
+            mesh.addPartFace(new int[] {0, 8, 9, 1}, clipColor); // clip bottom
             if (openingFace) {
-                seg.addFace(new int[] {0, 1, 3, 2});
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
             }
-            return seg;
+            return;
         }
         if (y1t > wmax) {
             if (y1b >= wmin) {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(x0, wmin, zf);
-                seg.addVertex(x0, wmin, zb);
-                seg.addVertex(x0, y0t, zf);
-                seg.addVertex(x0, y0t, zb);
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8, 10}); // front
-                seg.addFace(new int[] {1, 11, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}); // top
-                seg.addFace(new int[] {5, 7, 6, 4}, "clip"); // clip top
-                seg.addFace(new int[] {8, 9, 11, 10}); // bottom
-                seg.addFace(new int[] {1, 0, 10, 11}, "clip");
+                mesh.addPartVertex(x0, wmin, zf);
+                mesh.addPartVertex(x0, wmin, zb);
+                mesh.addPartVertex(x0, y0t, zf);
+                mesh.addPartVertex(x0, y0t, zb);
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8, 10}, color); // front
+                mesh.addPartFace(new int[] {1, 11, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+                mesh.addPartFace(new int[] {5, 7, 6, 4}, clipColor); // clip top
+                mesh.addPartFace(new int[] {8, 9, 11, 10}, color); // bottom
+                mesh.addPartFace(new int[] {1, 0, 10, 11}, clipColor);
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2}); 
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color); 
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {6, 7, 9, 8}); 
+                    mesh.addPartFace(new int[] {6, 7, 9, 8}, color); 
                 }
-                return seg;
+                return;
             } else {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(x0, wmin, zf);
-                seg.addVertex(x0, wmin, zb);
-                seg.addVertex(x0, y0t, zf);
-                seg.addVertex(x0, y0t, zb);
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}); // top
-                seg.addFace(new int[] {5, 7, 6, 4}, "clip"); // clip top
-                seg.addFace(new int[] {0, 8, 9, 1}, "clip"); // clip bottom
+                mesh.addPartVertex(x0, wmin, zf);
+                mesh.addPartVertex(x0, wmin, zb);
+                mesh.addPartVertex(x0, y0t, zf);
+                mesh.addPartVertex(x0, y0t, zb);
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+                mesh.addPartFace(new int[] {5, 7, 6, 4}, clipColor); // clip top
+                // clip bottom
+                mesh.addPartFace(new int[] {0, 8, 9, 1}, clipColor);
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2}); 
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color); 
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {6, 7, 9, 8}); 
+                    mesh.addPartFace(new int[] {6, 7, 9, 8}, color); 
                 }
-                return seg;  
+                return;
             }
         }
         if (y1t > wmin) {
             if (y1b >= wmin) {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(x0, wmin, zf);
-                seg.addVertex(x0, wmin, zb);
-                seg.addVertex(x0, y0t, zf);
-                seg.addVertex(x0, y0t, zb);
-                seg.addVertex(x1, y1t, zf);                
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, y1b, zf);                
-                seg.addVertex(x1, y1b, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}); // top
-                seg.addFace(new int[] {6, 7, 9, 8}); // bottom
-                seg.addFace(new int[] {0, 8, 9, 1}, "clip"); // clip bottom
+                mesh.addPartVertex(x0, wmin, zf);
+                mesh.addPartVertex(x0, wmin, zb);
+                mesh.addPartVertex(x0, y0t, zf);
+                mesh.addPartVertex(x0, y0t, zb);
+                mesh.addPartVertex(x1, y1t, zf);                
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, y1b, zf);                
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+                mesh.addPartFace(new int[] {6, 7, 9, 8}, color); // bottom
+                // clip bottom
+                mesh.addPartFace(new int[] {0, 8, 9, 1}, clipColor);
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
+                return;
             } else {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(x0, wmin, zf);
-                seg.addVertex(x0, wmin, zb);
-                seg.addVertex(x0, y0t, zf);
-                seg.addVertex(x0, y0t, zb);
-                seg.addVertex(x1, y1t, zf);                
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6}); // front
-                seg.addFace(new int[] {1, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}); // top
-                seg.addFace(new int[] {0, 6, 7, 1}, "clip"); // clip bottom
+                mesh.addPartVertex(x0, wmin, zf);
+                mesh.addPartVertex(x0, wmin, zb);
+                mesh.addPartVertex(x0, y0t, zf);
+                mesh.addPartVertex(x0, y0t, zb);
+                mesh.addPartVertex(x1, y1t, zf);                
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+                mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+                // clip bottom
+                mesh.addPartFace(new int[] {0, 6, 7, 1}, clipColor);
                 if (openingFace) {
-                    seg.addFace(new int[] {0, 1, 3, 2});
+                    mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
                 }
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
+                return;
             }
         }
-        Object3D seg = new Object3D(color, true);
-        seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-        seg.addVertex(x0, wmin, zf);
-        seg.addVertex(x0, wmin, zb);
-        seg.addVertex(x0, y0t, zf);
-        seg.addVertex(x0, y0t, zb);
-        seg.addVertex(xpts[1], wmin, zf);
-        seg.addVertex(xpts[1], wmin, zb);
-        seg.addFace(new int[] {0, 2, 4}); // front
-        seg.addFace(new int[] {1, 5, 3}); // rear
-        seg.addFace(new int[] {2, 3, 5, 4}); // top
-        seg.addFace(new int[] {0, 4, 5, 1}, "clip"); // clip bottom
+        mesh.addPartVertex(x0, wmin, zf);
+        mesh.addPartVertex(x0, wmin, zb);
+        mesh.addPartVertex(x0, y0t, zf);
+        mesh.addPartVertex(x0, y0t, zb);
+        mesh.addPartVertex(xpts[1], wmin, zf);
+        mesh.addPartVertex(xpts[1], wmin, zb);
+        mesh.addPartFace(new int[] {0, 2, 4}, color); // front
+        mesh.addPartFace(new int[] {1, 5, 3}, color); // rear
+        mesh.addPartFace(new int[] {2, 3, 5, 4}, color); // top
+        mesh.addPartFace(new int[] {0, 4, 5, 1}, clipColor); // clip bottom
         if (openingFace) {
-            seg.addFace(new int[] {0, 1, 3, 2});
+            mesh.addPartFace(new int[] {0, 1, 3, 2}, color);
         }
         // there is no closing face in this case
-        return seg;
     }
     
     /**
-     * Creates and returns a segment for the case where the line is completely
+     * Creates a segment for the case where the line is completely
      * below the axis range at the left side.
      * 
+     * @param mesh  the mesh for the series.
      * @param x0
      * @param x1
      * @param xpts
@@ -1233,123 +1227,112 @@ public class LineRenderer3D extends AbstractCategoryRenderer3D
      * @param openingFace  ignored because there is no opening face in this 
      *     case.
      * @param closingFace
-     * 
-     * @return A segment. 
      */
-    private Object3D createSegmentF(double x0, double x1, double[] xpts, 
-            double y0b, double y0t, double y1b, double y1t, double wmin, 
-            double wmax, double zf, double zb, Color color, Color clipColor, 
-            boolean openingFace, boolean closingFace) {
+    private void createSegmentF(IndexedMesh3D mesh, double x0, double x1, 
+            double[] xpts, double y0b, double y0t, double y1b, double y1t, 
+            double wmin, double wmax, double zf, double zb, Color color, 
+            Color clipColor, boolean openingFace, boolean closingFace) {
 
         if (y1b > wmax) {
-            Object3D seg = new Object3D(color, true);
-            seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-            seg.addVertex(xpts[1], wmin, zf);
-            seg.addVertex(xpts[1], wmin, zb);
-            seg.addVertex(xpts[3], wmax, zf);
-            seg.addVertex(xpts[3], wmax, zb);
-            seg.addVertex(xpts[2], wmax, zf);
-            seg.addVertex(xpts[2], wmax, zb);
-            seg.addVertex(xpts[0], wmin, zf);
-            seg.addVertex(xpts[0], wmin, zb);
-            seg.addFace(new int[] {0, 2, 4, 6}); // front
-            seg.addFace(new int[] {1, 7, 5, 3}); // rear
-            seg.addFace(new int[] {0, 1, 3, 2}); // top
-            seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-            seg.addFace(new int[] {4, 5, 7, 6}); // bottom
-            seg.addFace(new int[] {0, 6, 7, 1}, "clip"); // clip bottom
+            mesh.addPartVertex(xpts[1], wmin, zf);
+            mesh.addPartVertex(xpts[1], wmin, zb);
+            mesh.addPartVertex(xpts[3], wmax, zf);
+            mesh.addPartVertex(xpts[3], wmax, zb);
+            mesh.addPartVertex(xpts[2], wmax, zf);
+            mesh.addPartVertex(xpts[2], wmax, zb);
+            mesh.addPartVertex(xpts[0], wmin, zf);
+            mesh.addPartVertex(xpts[0], wmin, zb);
+            mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+            mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+            mesh.addPartFace(new int[] {0, 1, 3, 2}, color); // top
+            mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+            mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // bottom
+            mesh.addPartFace(new int[] {0, 6, 7, 1}, clipColor); // clip bottom
             // there are no opening and closing faces for this case
-            return seg;
+            return;
         }
         if (y1t > wmax) {
             if (y1b > wmin) {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(xpts[1], wmin, zf);
-                seg.addVertex(xpts[1], wmin, zb);
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6, 8}); // front
-                seg.addFace(new int[] {1, 9, 7, 5, 3}); // rear
-                seg.addFace(new int[] {2, 3, 5, 4}); //clip top
-                seg.addFace(new int[] {0, 1, 3, 2}); // top
-                seg.addFace(new int[] {0, 8, 9, 1}, "clip"); // clip bottom
-                seg.addFace(new int[] {6, 7, 9, 8}); // bottom
+                mesh.addPartVertex(xpts[1], wmin, zf);
+                mesh.addPartVertex(xpts[1], wmin, zb);
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6, 8}, color); // front
+                mesh.addPartFace(new int[] {1, 9, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, color); //clip top
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color); // top
+                // clip bottom
+                mesh.addPartFace(new int[] {0, 8, 9, 1}, clipColor);
+                mesh.addPartFace(new int[] {6, 7, 9, 8}, color); // bottom
                 // there is no opening face in this case
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
+                return;
             } else {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(xpts[1], wmin, zf);
-                seg.addVertex(xpts[1], wmin, zb);
-                seg.addVertex(xpts[3], wmax, zf);
-                seg.addVertex(xpts[3], wmax, zb);
-                seg.addVertex(x1, wmax, zf);
-                seg.addVertex(x1, wmax, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addFace(new int[] {0, 2, 4, 6}); // front
-                seg.addFace(new int[] {1, 7, 5, 3}); // rear
-                seg.addFace(new int[] {0, 1, 3, 2}); // top
-                seg.addFace(new int[] {2, 3, 5, 4}, "clip"); // clip top
-                seg.addFace(new int[] {6, 7, 1, 0}, "clip"); // clip bottom
+                mesh.addPartVertex(xpts[1], wmin, zf);
+                mesh.addPartVertex(xpts[1], wmin, zb);
+                mesh.addPartVertex(xpts[3], wmax, zf);
+                mesh.addPartVertex(xpts[3], wmax, zb);
+                mesh.addPartVertex(x1, wmax, zf);
+                mesh.addPartVertex(x1, wmax, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+                mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color); // top
+                mesh.addPartFace(new int[] {2, 3, 5, 4}, clipColor); // clip top
+                // clip bottom
+                mesh.addPartFace(new int[] {6, 7, 1, 0}, clipColor);
                 if (closingFace) {
-                    seg.addFace(new int[] {4, 5, 7, 6});
+                    mesh.addPartFace(new int[] {4, 5, 7, 6}, color);
                 }
-                return seg;
+                return;
             }
         }
         if (y1t > wmin) {
             if (y1b >= wmin) {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(xpts[1], wmin, zf);
-                seg.addVertex(xpts[1], wmin, zb);
-                seg.addVertex(x1, y1t, zf);
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, y1b, zf);
-                seg.addVertex(x1, y1b, zb);
-                seg.addVertex(xpts[0], wmin, zf);
-                seg.addVertex(xpts[0], wmin, zb);                
-                seg.addFace(new int[] {0, 2, 4, 6}); // front
-                seg.addFace(new int[] {1, 7, 5, 3}); // rear
-                seg.addFace(new int[] {0, 1, 3, 2}); // top
-                seg.addFace(new int[] {4, 5, 7, 6}); // bottom
-                seg.addFace(new int[] {0, 6, 7, 1}, "clip"); // clip bottom
+                mesh.addPartVertex(xpts[1], wmin, zf);
+                mesh.addPartVertex(xpts[1], wmin, zb);
+                mesh.addPartVertex(x1, y1t, zf);
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, y1b, zf);
+                mesh.addPartVertex(x1, y1b, zb);
+                mesh.addPartVertex(xpts[0], wmin, zf);
+                mesh.addPartVertex(xpts[0], wmin, zb);                
+                mesh.addPartFace(new int[] {0, 2, 4, 6}, color); // front
+                mesh.addPartFace(new int[] {1, 7, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color); // top
+                mesh.addPartFace(new int[] {4, 5, 7, 6}, color); // bottom
+                // clip bottom
+                mesh.addPartFace(new int[] {0, 6, 7, 1}, clipColor);
                 if (closingFace) {
-                    seg.addFace(new int[] {2, 3, 5, 4});
+                    mesh.addPartFace(new int[] {2, 3, 5, 4}, color);
                 }
-                return seg;
             } else {
-                Object3D seg = new Object3D(color, true);
-                seg.setProperty(Object3D.COLOR_PREFIX + "clip", clipColor);
-                seg.addVertex(xpts[1], wmin, zf);
-                seg.addVertex(xpts[1], wmin, zb);
-                seg.addVertex(x1, y1t, zf);
-                seg.addVertex(x1, y1t, zb);
-                seg.addVertex(x1, wmin, zf);
-                seg.addVertex(x1, wmin, zb);
-                seg.addFace(new int[] {0, 2, 4}); // front
-                seg.addFace(new int[] {1, 5, 3}); // rear
-                seg.addFace(new int[] {0, 1, 3, 2}); // top
-                seg.addFace(new int[] {0, 4, 5, 1}, "clip"); // clip bottom
+                mesh.addPartVertex(xpts[1], wmin, zf);
+                mesh.addPartVertex(xpts[1], wmin, zb);
+                mesh.addPartVertex(x1, y1t, zf);
+                mesh.addPartVertex(x1, y1t, zb);
+                mesh.addPartVertex(x1, wmin, zf);
+                mesh.addPartVertex(x1, wmin, zb);
+                mesh.addPartFace(new int[] {0, 2, 4}, color); // front
+                mesh.addPartFace(new int[] {1, 5, 3}, color); // rear
+                mesh.addPartFace(new int[] {0, 1, 3, 2}, color); // top
+                // clip bottom
+                mesh.addPartFace(new int[] {0, 4, 5, 1}, clipColor);
                 // there is no opening face in this case
                 if (closingFace) {
-                    seg.addFace(new int[] {2, 3, 5, 4});
+                    mesh.addPartFace(new int[] {2, 3, 5, 4}, color);
                 }
-                return seg;
             }
         }
-        return null;  // nothing to see
     }
 
     /**
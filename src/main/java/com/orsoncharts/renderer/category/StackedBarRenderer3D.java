@@ -36,6 +36,7 @@ import com.orsoncharts.Range;
 import com.orsoncharts.data.category.CategoryDataset3D;
 import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.Values3D;
+import com.orsoncharts.data.Values3DSummary;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.World;
 import com.orsoncharts.plot.CategoryPlot3D;
@@ -88,6 +89,10 @@ public class StackedBarRenderer3D extends BarRenderer3D {
      */
     @Override
     public Range findValueRange(Values3D<? extends Number> data) {
+        Values3DSummary summary = getDataSummary(data);
+        if (summary != null) {
+            return summary.getStackedValueRange(0.0);
+        }
         return DataUtils.findStackedValueRange(data);
     }
     
@@ -36,6 +36,7 @@ import java.awt.Color;
 import com.orsoncharts.Range;
 import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZRangeInfo;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.World;
 import com.orsoncharts.label.XYZItemLabelGenerator;
@@ -52,6 +53,12 @@ import com.orsoncharts.util.ObjectUtils;
  */
 public class AbstractXYZRenderer extends AbstractRenderer3D {
 
+    /** 
+     * The number of items read from the dataset at a time by renderers that 
+     * implement {@link XYZBlockRenderer}.
+     */
+    static final int BLOCK_SIZE = 1024;
+    
     private XYZPlot plot;
   
     private XYZColorSource colorSource;
@@ -194,7 +201,8 @@ public class AbstractXYZRenderer extends AbstractRenderer3D {
      * @return The x-range. 
      */
     public Range findXRange(XYZDataset dataset) {
-        return DataUtils.findXRange(dataset);
+        XYZRangeInfo info = getRangeInfo(dataset);
+        return info != null ? info.getXRange() : DataUtils.findXRange(dataset);
     }
     
     /**
@@ -206,7 +214,8 @@ public class AbstractXYZRenderer extends AbstractRenderer3D {
      * @return The y-range. 
      */
     public Range findYRange(XYZDataset dataset) {
-        return DataUtils.findYRange(dataset);
+        XYZRangeInfo info = getRangeInfo(dataset);
+        return info != null ? info.getYRange() : DataUtils.findYRange(dataset);
     }
     
     /**
@@ -218,7 +227,33 @@ public class AbstractXYZRenderer extends AbstractRenderer3D {
      * @return The z-range. 
      */
     public Range findZRange(XYZDataset dataset) {
-        return DataUtils.findZRange(dataset);
+        XYZRangeInfo info = getRangeInfo(dataset);
+        return info != null ? info.getZRange() : DataUtils.findZRange(dataset);
+    }
+    
+    /**
+     * Returns an object that provides the (finite) x, y and z-ranges for 
+     * the specified dataset without a separate scan of the data for each
+     * range, or {@code null} if there is no such object.  This is the 
+     * dataset itself if it implements {@link XYZRangeInfo}, otherwise the 
+     * plot's data summary (see {@link XYZPlot#getDataSummary()}) if the
+     * dataset belongs to the plot that this renderer is assigned to.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * 
+     * @return The range info (possibly {@code null}). 
+     * 
+     * @since 1.7
+     */
+    protected XYZRangeInfo getRangeInfo(XYZDataset dataset) {
+        ArgChecks.nullNotPermitted(dataset, "dataset");
+        if (dataset instanceof XYZRangeInfo) {
+            return (XYZRangeInfo) dataset;
+        }
+        if (this.plot != null && this.plot.getDataset() == dataset) {
+            return this.plot.getDataSummary();
+        }
+        return null;
     }
     
     /**
@@ -37,7 +37,6 @@ import java.io.Serializable;
 
 import com.orsoncharts.axis.Axis3D;
 import com.orsoncharts.Range;
-import com.orsoncharts.data.DataUtils;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.graphics3d.Dimension3D;
@@ -237,7 +236,7 @@ public class BarXYZRenderer extends AbstractXYZRenderer implements XYZRenderer,
     @Override
     public Range findXRange(XYZDataset dataset) {
         // delegate argument check...
-        Range xRange = DataUtils.findXRange(dataset);
+        Range xRange = super.findXRange(dataset);
         if (xRange == null) {
             return null;
         }
@@ -256,7 +255,15 @@ public class BarXYZRenderer extends AbstractXYZRenderer implements XYZRenderer,
      */
     @Override
     public Range findYRange(XYZDataset dataset) {
-        return DataUtils.findYRange(dataset, this.base);
+        Range yRange = super.findYRange(dataset);
+        if (Double.isNaN(this.base)) {
+            return yRange;
+        }
+        if (yRange == null) {
+            return new Range(this.base, this.base);
+        }
+        return new Range(Math.min(yRange.getMin(), this.base), 
+                Math.max(yRange.getMax(), this.base));
     }
     
     /**
@@ -270,7 +277,7 @@ public class BarXYZRenderer extends AbstractXYZRenderer implements XYZRenderer,
      */
     @Override
     public Range findZRange(XYZDataset dataset) {
-        Range zRange = DataUtils.findZRange(dataset);
+        Range zRange = super.findZRange(dataset);
         if (zRange == null) {
             return null;
         }
@@ -37,6 +37,7 @@ import java.io.Serializable;
 
 import com.orsoncharts.axis.Axis3D;
 import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZDatasetUtils;
 import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.Line3D;
@@ -61,7 +62,7 @@ import com.orsoncharts.graphics3d.World;
  */
 @SuppressWarnings("serial")
 public class LineXYZRenderer extends AbstractXYZRenderer implements XYZRenderer,
-        Serializable {
+        XYZBlockRenderer, Serializable {
 
     /**
      * Creates a new default instance.
@@ -89,18 +90,86 @@ public class LineXYZRenderer extends AbstractXYZRenderer implements XYZRenderer,
         if (item == 0) { // we are connecting lines between points, so there
             return;      // is nothing to do for item 0
         }
+        composeLine(series, item, dataset.getX(series, item - 1), 
+                dataset.getY(series, item - 1), dataset.getZ(series, item - 1),
+                dataset.getX(series, item), dataset.getY(series, item), 
+                dataset.getZ(series, item), world, dimensions, xOffset, 
+                yOffset, zOffset);
+    }
+
+    /**
+     * Constructs and places a range of items in one series into the given
+     * world, reading the data values from the dataset in blocks.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item (inclusive).
+     * @param world  the world ({@code null} not permitted).
+     * @param dimensions  the dimensions ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.7
+     */
+    @Override
+    public void composeItems(XYZDataset dataset, int series, int firstItem, 
+            int lastItem, World world, Dimension3D dimensions, double xOffset, 
+            double yOffset, double zOffset) {
+        // each line segment connects an item to the previous item, so the 
+        // first block starts one item early
+        int start = Math.max(firstItem - 1, 0);
+        if (start >= lastItem) {
+            return;
+        }
+        double[] xs = new double[BLOCK_SIZE];
+        double[] ys = new double[BLOCK_SIZE];
+        double[] zs = new double[BLOCK_SIZE];
+        XYZDatasetUtils.getItems(dataset, series, start, 1, xs, ys, zs);
+        double x0 = xs[0];
+        double y0 = ys[0];
+        double z0 = zs[0];
+        for (int first = start + 1; first <= lastItem; first += BLOCK_SIZE) {
+            int count = Math.min(BLOCK_SIZE, lastItem - first + 1);
+            XYZDatasetUtils.getItems(dataset, series, first, count, xs, ys, 
+                    zs);
+            for (int i = 0; i < count; i++) {
+                composeLine(series, first + i, x0, y0, z0, xs[i], ys[i], 
+                        zs[i], world, dimensions, xOffset, yOffset, zOffset);
+                x0 = xs[i];
+                y0 = ys[i];
+                z0 = zs[i];
+            }
+        }
+    }
+
+    /**
+     * Constructs and places the line segment that connects an item to the 
+     * previous item in the series.
+     * 
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param x0  the x-value for the previous item.
+     * @param y0  the y-value for the previous item.
+     * @param z0  the z-value for the previous item.
+     * @param x1  the x-value for the item.
+     * @param y1  the y-value for the item.
+     * @param z1  the z-value for the item.
+     * @param world  the world.
+     * @param dimensions  the dimensions.
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     */
+    private void composeLine(int series, int item, double x0, double y0, 
+            double z0, double x1, double y1, double z1, World world, 
+            Dimension3D dimensions, double xOffset, double yOffset, 
+            double zOffset) {
         XYZPlot plot = getPlot();
         Axis3D xAxis = plot.getXAxis();
         Axis3D yAxis = plot.getYAxis();
         Axis3D zAxis = plot.getZAxis();
-        double x1 = dataset.getX(series, item);
-        double y1 = dataset.getY(series, item);
-        double z1 = dataset.getZ(series, item);
-
-        double x0 = dataset.getX(series, item - 1);
-        double y0 = dataset.getY(series, item - 1);
-        double z0 = dataset.getZ(series, item - 1);
-        
         double wx0 = xAxis.translateToWorld(x0, dimensions.getWidth());
         double wx1 = xAxis.translateToWorld(x1, dimensions.getWidth());
         double wy0 = yAxis.translateToWorld(y0, dimensions.getHeight());
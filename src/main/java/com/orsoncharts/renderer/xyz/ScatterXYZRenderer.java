@@ -33,19 +33,24 @@
 package com.orsoncharts.renderer.xyz;
 
 import java.awt.Color;
+import java.awt.Shape;
 import java.io.Serializable;
 
 import com.orsoncharts.Chart3DFactory;
 import com.orsoncharts.axis.Axis3D;
 import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.data.xyz.XYZDatasetUtils;
 import com.orsoncharts.data.xyz.XYZItemKey;
 import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.graphics3d.Dimension3D;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.Offset3D;
+import com.orsoncharts.graphics3d.PointSet3D;
 import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.renderer.ComposeType;
 import com.orsoncharts.renderer.Renderer3DChangeEvent;
 import com.orsoncharts.util.ArgChecks;
+import com.orsoncharts.util.ObjectUtils;
 
 /**
  * A renderer for 3D scatter plots.  This renderer is used with an
@@ -67,7 +72,7 @@ import com.orsoncharts.util.ArgChecks;
  */
 @SuppressWarnings("serial")
 public class ScatterXYZRenderer extends AbstractXYZRenderer 
-        implements XYZRenderer, Serializable {
+        implements XYZRenderer, XYZBlockRenderer, Serializable {
 
     /** The size of the cubes to render for each data point (in world units). */
     private double size;
@@ -75,6 +80,12 @@ public class ScatterXYZRenderer extends AbstractXYZRenderer
     /** The offsets for item labels, as a percentage of the size. */
     private Offset3D itemLabelOffsetPercent;
     
+    /** 
+     * The glyph used to draw each item in screen space, or {@code null} to
+     * draw each item as a cube.
+     */
+    private Shape glyph;
+    
     /**
      * Creates a new instance with default attribute values.
      */
@@ -132,6 +143,158 @@ public class ScatterXYZRenderer extends AbstractXYZRenderer
         fireChangeEvent(true);
     }
     
+    /**
+     * Returns the glyph used to draw each data item, or {@code null} if the
+     * items are drawn as cubes.  The default value is {@code null}.
+     * 
+     * @return The glyph (possibly {@code null}).
+     * 
+     * @since 1.7
+     */
+    public Shape getGlyph() {
+        return this.glyph;
+    }
+    
+    /**
+     * Sets the glyph used to draw each data item and sends a change event 
+     * to all registered listeners.  The glyph is a shape centered on 
+     * {@code (0, 0)} (for example {@code new Ellipse2D.Double(-3, -3, 6, 6)})
+     * that is drawn, in the item color, at the projected location of each 
+     * data item.  Its size is measured in Java2D units so it does not change
+     * when the chart is zoomed.  A single glyph instance is shared by all 
+     * items, which makes this mode much faster than drawing cubes and 
+     * suitable for large point clouds.  Set this to {@code null} to draw 
+     * each item as a cube with the size given by {@link #getSize()}.
+     * <br><br>
+     * To serialize the renderer, the glyph must be serializable (as the 
+     * standard Java2D shapes are).
+     * 
+     * @param glyph  the glyph ({@code null} permitted).
+     * 
+     * @since 1.7
+     */
+    public void setGlyph(Shape glyph) {
+        this.glyph = glyph;
+        fireChangeEvent(true);
+    }
+    
+    /**
+     * Returns the type of composition performed by this renderer, which is
+     * {@link ComposeType#ALL} when a glyph is set (so that the points for 
+     * each series can be composed into a single object) and 
+     * {@link ComposeType#PER_ITEM} otherwise.
+     * 
+     * @return The compose type (never {@code null}).
+     * 
+     * @since 1.7
+     */
+    @Override
+    public ComposeType getComposeType() {
+        return this.glyph != null ? ComposeType.ALL : ComposeType.PER_ITEM;
+    }
+    
+    /**
+     * Composes all the items in the plot's dataset into the given world. 
+     * This is used when a glyph is set (see {@link #setGlyph(Shape)}): the 
+     * items in each series are added as points to a single 
+     * {@link PointSet3D}, which shares the glyph and creates the item keys
+     * only when they are requested (for example, by hit testing).
+     * 
+     * @param plot  the plot ({@code null} not permitted).
+     * @param world  the world ({@code null} not permitted).
+     * @param dimensions  the dimensions ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.7
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void composeAll(XYZPlot plot, World world, Dimension3D dimensions, 
+            double xOffset, double yOffset, double zOffset) {
+        if (this.glyph == null) {
+            throw new IllegalStateException("No glyph is set.");
+        }
+        XYZDataset dataset = plot.getDataset();
+        Axis3D xAxis = plot.getXAxis();
+        Axis3D yAxis = plot.getYAxis();
+        Axis3D zAxis = plot.getZAxis();
+        Dimension3D dim = plot.getDimensions();
+        double w = dim.getWidth();
+        double h = dim.getHeight();
+        double d = dim.getDepth();
+        double[] xs = new double[BLOCK_SIZE];
+        double[] ys = new double[BLOCK_SIZE];
+        double[] zs = new double[BLOCK_SIZE];
+        for (int series = 0; series < dataset.getSeriesCount(); series++) {
+            final Comparable<?> seriesKey = dataset.getSeriesKey(series);
+            PointSet3D points = new PointSet3D(
+                    getColorSource().getLegendColor(series), this.glyph) {
+                @Override
+                protected Object createItemKey(int item) {
+                    return new XYZItemKey(seriesKey, item);
+                }
+            };
+            int itemCount = dataset.getItemCount(series);
+            for (int item = 0; item < itemCount; item++) {
+                int i = item % BLOCK_SIZE;
+                if (i == 0) {
+                    XYZDatasetUtils.getItems(dataset, series, item, 
+                            Math.min(BLOCK_SIZE, itemCount - item), xs, ys, 
+                            zs);
+                }
+                double xx = xAxis.translateToWorld(xs[i], w);
+                double yy = yAxis.translateToWorld(ys[i], h);
+                double zz = zAxis.translateToWorld(zs[i], d);
+                if (!(xx >= 0.0 && xx <= w && yy >= 0.0 && yy <= h 
+                        && zz >= 0.0 && zz <= d)) {
+                    continue;
+                }
+                double cx = xx + xOffset;
+                double cy = yy + yOffset;
+                double cz = zz + zOffset;
+                points.addPoint(cx, cy, cz, 
+                        getColorSource().getColor(series, item), item);
+                if (getItemLabelGenerator() != null && !world.isDraft()) {
+                    String label = getItemLabelGenerator().generateItemLabel(
+                            dataset, seriesKey, item);
+                    if (label != null) {
+                        world.add(createItemLabel(label, cx, cy, cz, 
+                                new XYZItemKey(seriesKey, item)));
+                    }
+                }
+            }
+            if (points.getVertexCount() > 0) {
+                world.add(points);
+            }
+        }
+    }
+    
+    /**
+     * Creates an object for an item label.
+     * 
+     * @param label  the label text.
+     * @param cx  the x-coordinate for the item.
+     * @param cy  the y-coordinate for the item.
+     * @param cz  the z-coordinate for the item.
+     * @param itemKey  the item key.
+     * 
+     * @return The label object. 
+     */
+    private Object3D createItemLabel(String label, double cx, double cy, 
+            double cz, XYZItemKey itemKey) {
+        double dx = this.itemLabelOffsetPercent.getDX() * this.size;
+        double dy = this.itemLabelOffsetPercent.getDY() * this.size;
+        double dz = this.itemLabelOffsetPercent.getDZ() * this.size;
+        Object3D labelObj = Object3D.createLabelObject(label, 
+                getItemLabelFont(), getItemLabelColor(), 
+                getItemLabelBackgroundColor(), cx + dx, cy + dy, cz + dz, 
+                false, true);
+        labelObj.setProperty(Object3D.ITEM_KEY, itemKey);
+        return labelObj;
+    }
+    
     /**
      * Constructs and places one item from the specified dataset into the given 
      * world.  The {@link XYZPlot} class will iterate over its dataset and
@@ -148,15 +311,67 @@ public class ScatterXYZRenderer extends AbstractXYZRenderer
      * @param zOffset  the z-offset.
      */
     @Override
-    @SuppressWarnings("unchecked")
     public void composeItem(XYZDataset dataset, int series, int item, 
         World world, Dimension3D dimensions, double xOffset, double yOffset, 
         double zOffset) {
+        composeItem(dataset, series, item, dataset.getX(series, item), 
+                dataset.getY(series, item), dataset.getZ(series, item), world, 
+                xOffset, yOffset, zOffset);
+    }
     
-        double x = dataset.getX(series, item);
-        double y = dataset.getY(series, item);
-        double z = dataset.getZ(series, item);
+    /**
+     * Constructs and places a range of items in one series into the given
+     * world, reading the data values from the dataset in blocks.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item (inclusive).
+     * @param world  the world ({@code null} not permitted).
+     * @param dimensions  the dimensions ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     * 
+     * @since 1.7
+     */
+    @Override
+    public void composeItems(XYZDataset dataset, int series, int firstItem, 
+            int lastItem, World world, Dimension3D dimensions, double xOffset, 
+            double yOffset, double zOffset) {
+        double[] xs = new double[BLOCK_SIZE];
+        double[] ys = new double[BLOCK_SIZE];
+        double[] zs = new double[BLOCK_SIZE];
+        for (int first = firstItem; first <= lastItem; first += BLOCK_SIZE) {
+            int count = Math.min(BLOCK_SIZE, lastItem - first + 1);
+            XYZDatasetUtils.getItems(dataset, series, first, count, xs, ys, 
+                    zs);
+            for (int i = 0; i < count; i++) {
+                composeItem(dataset, series, first + i, xs[i], ys[i], zs[i], 
+                        world, xOffset, yOffset, zOffset);
+            }
+        }
+    }
     
+    /**
+     * Constructs and places one item into the given world, using data values
+     * that have already been read from the dataset.
+     * 
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param z  the z-value.
+     * @param world  the world.
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     */
+    @SuppressWarnings("unchecked")
+    private void composeItem(XYZDataset dataset, int series, int item, 
+            double x, double y, double z, World world, double xOffset, 
+            double yOffset, double zOffset) {
         XYZPlot plot = getPlot();
         Axis3D xAxis = plot.getXAxis();
         Axis3D yAxis = plot.getYAxis();
@@ -180,10 +395,17 @@ public class ScatterXYZRenderer extends AbstractXYZRenderer
         double cx = (xmax + xmin) / 2.0 + xOffset;
         double cy = (ymax + ymin) / 2.0 + yOffset;
         double cz = (zmax + zmin) / 2.0 + zOffset;
-        Object3D cube = Object3D.createBox(cx, xmax - xmin, cy, ymax - ymin, 
-                cz, zmax - zmin, color);
         Comparable<?> seriesKey = dataset.getSeriesKey(series);
         XYZItemKey itemKey = new XYZItemKey(seriesKey, item);
+        if (world.isDraft()) {
+            // for a draft, a point is enough (and item labels are skipped)
+            Object3D point = Object3D.createPoint(cx, cy, cz, color);
+            point.setProperty(Object3D.ITEM_KEY, itemKey);
+            world.add(point);
+            return;
+        }
+        Object3D cube = Object3D.createBox(cx, xmax - xmin, cy, ymax - ymin, 
+                cz, zmax - zmin, color);
         cube.setProperty(Object3D.ITEM_KEY, itemKey);
         world.add(cube);
         
@@ -191,15 +413,7 @@ public class ScatterXYZRenderer extends AbstractXYZRenderer
             String label = getItemLabelGenerator().generateItemLabel(dataset,
                     seriesKey, item);
             if (label != null) {
-                double dx = this.itemLabelOffsetPercent.getDX() * this.size;
-                double dy = this.itemLabelOffsetPercent.getDY() * this.size;
-                double dz = this.itemLabelOffsetPercent.getDZ() * this.size;
-                Object3D labelObj = Object3D.createLabelObject(label, 
-                        getItemLabelFont(), getItemLabelColor(), 
-                        getItemLabelBackgroundColor(), cx + dx, cy + dy, 
-                        cz + dz, false, true);
-                labelObj.setProperty(Object3D.ITEM_KEY, itemKey);
-                world.add(labelObj);
+                world.add(createItemLabel(label, cx, cy, cz, itemKey));
             }
         }
 
@@ -227,6 +441,9 @@ public class ScatterXYZRenderer extends AbstractXYZRenderer
         if (!this.itemLabelOffsetPercent.equals(that.itemLabelOffsetPercent)) {
             return false;
         }
+        if (!ObjectUtils.equalsShape(this.glyph, that.glyph)) {
+            return false;
+        }
         return super.equals(obj);
     }
 }
@@ -36,6 +36,10 @@ import java.awt.Color;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import com.orsoncharts.Range;
 import com.orsoncharts.axis.ValueAxis3D;
@@ -43,6 +47,8 @@ import com.orsoncharts.data.function.Function3D;
 import com.orsoncharts.data.function.Function3DUtils;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.DoubleSidedFace;
+import com.orsoncharts.graphics3d.Face;
 import com.orsoncharts.graphics3d.Object3D;
 import com.orsoncharts.graphics3d.Point3D;
 import com.orsoncharts.graphics3d.World;
@@ -66,6 +72,14 @@ import com.orsoncharts.util.ArgChecks;
  * cause slight rendering artifacts if anti-aliasing is on (note that switching
  * off anti-aliasing as well also improves rendering performance).
  * <br><br>
+ * The function is sampled once at each point of the grid (the samples are
+ * reused for the neighbouring cells, and are cached until the axis ranges or 
+ * the sample counts change, the renderer is changed, or 
+ * {@link #invalidateSamples()} is called) and the surface is added to the 
+ * world as a single object with shared vertices.  For larger grids the 
+ * samples are computed in parallel unless this is switched off (see 
+ * {@link #setParallelSampling(boolean)}).
+ * <br><br>
  * NOTE: This class is serializable, but the serialization format is subject 
  * to change in future releases and should not be relied upon for persisting 
  * instances of this class.
@@ -76,6 +90,18 @@ import com.orsoncharts.util.ArgChecks;
 public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         ColorScaleRenderer, Serializable {
     
+    /** 
+     * The factor by which the number of samples (along each axis) is reduced
+     * when composing a draft of the surface (see {@link World#isDraft()}).
+     */
+    private static final int DRAFT_SAMPLE_DIVISOR = 4;
+    
+    /** 
+     * The number of function samples above which the sampling is split 
+     * across the available processors.
+     */
+    private static final int PARALLEL_THRESHOLD = 4096;
+
     /** The function. */
     private Function3D function;
 
@@ -96,6 +122,18 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
      */
     private boolean drawFaceOutlines;
     
+    /** 
+     * A flag that controls whether or not larger grids are sampled in 
+     * parallel.
+     */
+    private boolean parallelSampling;
+    
+    /** The most recently sampled grid (possibly {@code null}). */
+    private transient SampleGrid grid;
+    
+    /** The most recently sampled grid for draft worlds (possibly {@code null}). */
+    private transient SampleGrid draftGrid;
+    
     /**
      * Creates a new renderer for the specified function.  By default, the 
      * renderer will take 30 samples along the x-axis and 30 samples along the 
@@ -110,6 +148,7 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         this.zSamples = 30;
         this.colorScale = new FixedColorScale(Color.YELLOW);
         this.drawFaceOutlines = true;
+        this.parallelSampling = true;
     }
     
     /**
@@ -228,6 +267,67 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         fireChangeEvent(true);
     }
     
+    /**
+     * Returns the flag that controls whether or not the function is sampled
+     * in parallel (for grids with more than 4096 samples).  The default 
+     * value is {@code true}.
+     * 
+     * @return A boolean.
+     * 
+     * @since 1.7
+     */
+    public boolean getParallelSampling() {
+        return this.parallelSampling;
+    }
+    
+    /**
+     * Sets the flag that controls whether or not the function is sampled in
+     * parallel (for grids with more than 4096 samples) and sends a 
+     * {@link Renderer3DChangeEvent} to all registered listeners.  When this
+     * is {@code true}, the function is called from several threads at once,
+     * so it must be thread-safe (functions that just compute a value from 
+     * {@code x} and {@code z}, like all the functions in Orson Charts, are).
+     * Set this to {@code false} for a function that is not thread-safe.
+     * 
+     * @param parallel  the new flag value.
+     * 
+     * @since 1.7
+     */
+    public void setParallelSampling(boolean parallel) {
+        this.parallelSampling = parallel;
+        fireChangeEvent(true);
+    }
+    
+    /**
+     * Discards the cached function samples and sends a 
+     * {@link Renderer3DChangeEvent} to all registered listeners, so that the
+     * function is sampled again when the chart is next drawn.  Call this 
+     * after modifying a function whose values can change (the cache only 
+     * detects changes to the axis ranges and sample counts).
+     * 
+     * @since 1.7
+     */
+    public void invalidateSamples() {
+        fireChangeEvent(true);
+    }
+    
+    /**
+     * Sends a change event to all registered listeners, first discarding 
+     * the cached function samples if the change requires the world to be 
+     * updated.
+     * 
+     * @param requiresWorldUpdate  a flag indicating whether or not the change
+     *     requires the 3D world to be updated.
+     */
+    @Override
+    protected void fireChangeEvent(boolean requiresWorldUpdate) {
+        if (requiresWorldUpdate) {
+            this.grid = null;
+            this.draftGrid = null;
+        }
+        super.fireChangeEvent(requiresWorldUpdate);
+    }
+    
     /**
      * Composes the entire representation of the function in the supplied
      * {@code world}.
@@ -252,69 +352,100 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         double ylen = dim.getHeight();
         double zlen = dim.getDepth();
         Range yRange = new Range(yOffset, -yOffset);
-        for (int xIndex = 0; xIndex < this.xSamples; xIndex++) {
-            double xfrac0 = xIndex / (double) this.xSamples;
-            double xfrac1 = (xIndex + 1) / (double) this.xSamples;
-            for (int zIndex = 0; zIndex < this.zSamples; zIndex++) {
-                double zfrac0 = zIndex / (double) this.zSamples;
-                double zfrac1 = (zIndex + 1) / (double) this.zSamples;
-                
-                double x0 = xAxis.getRange().value(xfrac0);
-                double x1 = xAxis.getRange().value(xfrac1);
-                double xm = x0 / 2.0 + x1 / 2.0;
-                double z0 = zAxis.getRange().value(zfrac0);
-                double z1 = zAxis.getRange().value(zfrac1);
-                double zm = z0 / 2.0 + z1 / 2.0;
-                double y00 = this.function.getValue(x0, z0);
-                double y01 = this.function.getValue(x0, z1);
-                double y10 = this.function.getValue(x1, z0);
-                double y11 = this.function.getValue(x1, z1);
-                double ymm = this.function.getValue(xm, zm);
-                
-                double wx0 = xAxis.translateToWorld(x0, xlen) + xOffset;
-                double wx1 = xAxis.translateToWorld(x1, xlen) + xOffset;
-                double wy00 = yAxis.translateToWorld(y00, ylen) + yOffset;
-                double wy01 = yAxis.translateToWorld(y01, ylen) + yOffset;
-                double wy10 = yAxis.translateToWorld(y10, ylen) + yOffset;
-                double wy11 = yAxis.translateToWorld(y11, ylen) + yOffset;
-                double wz0 = zAxis.translateToWorld(z0, zlen) + zOffset;
-                double wz1 = zAxis.translateToWorld(z1, zlen) + zOffset;
-
-                Color color = this.colorScale.valueToColor(ymm);
-                Object3D obj = new Object3D(color, this.drawFaceOutlines);
-                List<Point3D> pts1 = facePoints1(wx0, wx1, wz0, wz1, wy00, wy01, 
-                        wy11, yRange);
-                int count1 = pts1.size();
-                for (Point3D pt : pts1) {
-                    obj.addVertex(pt);
-                }
-                if (count1 == 3) {
-                    obj.addDoubleSidedFace(new int[] {0, 1, 2});
-                } else if (count1 == 4) {
-                    obj.addDoubleSidedFace(new int[] {0, 1, 2, 3});
-                } else if (count1 == 5) {
-                    obj.addDoubleSidedFace(new int[] {0, 1, 2, 3, 4});
-                }
-                List<Point3D> pts2 = facePoints2(wx0, wx1, wz0, wz1, wy00, wy11,
-                        wy10, yRange);
-                int count2 = pts2.size();
-                for (Point3D pt : pts2) {
-                    obj.addVertex(pt);
+        
+        // a draft uses fewer samples and skips the face outlines
+        int xCount = this.xSamples;
+        int zCount = this.zSamples;
+        boolean outlines = this.drawFaceOutlines;
+        if (world.isDraft()) {
+            xCount = Math.max(2, xCount / DRAFT_SAMPLE_DIVISOR);
+            zCount = Math.max(2, zCount / DRAFT_SAMPLE_DIVISOR);
+            outlines = false;
+        }
+        SampleGrid g = world.isDraft() ? this.draftGrid : this.grid;
+        if (g == null || !g.matches(xAxis.getRange(), zAxis.getRange(), 
+                xCount, zCount)) {
+            g = new SampleGrid(this.function, xAxis.getRange(), 
+                    zAxis.getRange(), xCount, zCount, this.parallelSampling);
+            if (world.isDraft()) {
+                this.draftGrid = g;
+            } else {
+                this.grid = g;
+            }
+        }
+        
+        // add one vertex for each point in the grid, these are shared by the
+        // faces for all the cells that lie fully within the y-range
+        SurfaceMesh mesh = new SurfaceMesh(outlines);
+        double[] wx = new double[xCount + 1];
+        for (int xIndex = 0; xIndex <= xCount; xIndex++) {
+            wx[xIndex] = xAxis.translateToWorld(g.x[xIndex], xlen) + xOffset;
+        }
+        double[] wz = new double[zCount + 1];
+        for (int zIndex = 0; zIndex <= zCount; zIndex++) {
+            wz[zIndex] = zAxis.translateToWorld(g.z[zIndex], zlen) + zOffset;
+        }
+        double[] wy = new double[g.y.length];
+        boolean[] inRange = new boolean[g.y.length];
+        for (int xIndex = 0; xIndex <= xCount; xIndex++) {
+            for (int zIndex = 0; zIndex <= zCount; zIndex++) {
+                int v = xIndex * (zCount + 1) + zIndex;
+                wy[v] = yAxis.translateToWorld(g.y[v], ylen) + yOffset;
+                inRange[v] = yRange.contains(wy[v]);
+                mesh.addVertex(wx[xIndex], wy[v], wz[zIndex]);
+            }
+        }
+        
+        for (int xIndex = 0; xIndex < xCount; xIndex++) {
+            for (int zIndex = 0; zIndex < zCount; zIndex++) {
+                int v00 = xIndex * (zCount + 1) + zIndex;
+                int v01 = v00 + 1;
+                int v10 = v00 + zCount + 1;
+                int v11 = v10 + 1;
+                Color color = this.colorScale.valueToColor(
+                        g.mid[xIndex * zCount + zIndex]);
+                if (inRange[v00] && inRange[v01] && inRange[v11]) {
+                    mesh.addFace(new SurfaceFace(mesh, 
+                            new int[] {v00, v01, v11}, color));
+                } else {
+                    addFace(mesh, facePoints1(wx[xIndex], wx[xIndex + 1], 
+                            wz[zIndex], wz[zIndex + 1], wy[v00], wy[v01], 
+                            wy[v11], yRange), color);
                 }
-                if (count2 == 3) {
-                    obj.addDoubleSidedFace(new int[] {count1, count1 + 1, 
-                        count1 + 2});
-                } else if (count2 == 4) {
-                    obj.addDoubleSidedFace(new int[] {count1, count1 + 1, 
-                        count1 + 2, count1 + 3});
-                } else if (count2 == 5) {
-                    obj.addDoubleSidedFace(new int[] {count1, count1 + 1, 
-                        count1 + 2, count1 + 3, count1 + 4});                    
+                if (inRange[v00] && inRange[v11] && inRange[v10]) {
+                    mesh.addFace(new SurfaceFace(mesh, 
+                            new int[] {v00, v11, v10}, color));
+                } else {
+                    addFace(mesh, facePoints2(wx[xIndex], wx[xIndex + 1], 
+                            wz[zIndex], wz[zIndex + 1], wy[v00], wy[v11], 
+                            wy[v10], yRange), color);
                 }
-                world.add(obj);
             }
-            
-        }        
+        }
+        world.add(mesh);
+    }
+    
+    /**
+     * Adds a face to the mesh for a part of the surface that has been 
+     * clipped to the y-range (the vertices are added to the mesh as well).
+     * 
+     * @param mesh  the mesh.
+     * @param pts  the points for the face (if there are fewer than three
+     *     points, no face is added).
+     * @param color  the color for the face.
+     */
+    private void addFace(SurfaceMesh mesh, List<Point3D> pts, Color color) {
+        int count = pts.size();
+        if (count < 3) {
+            return;
+        }
+        int first = mesh.getVertexCount();
+        int[] vertices = new int[count];
+        for (int i = 0; i < count; i++) {
+            mesh.addVertex(pts.get(i));
+            vertices[i] = first + i;
+        }
+        mesh.addFace(new SurfaceFace(mesh, vertices, color));
     }
     
     private Point3D intersectPoint(double x0, double y0, double z0, double x1, 
@@ -584,6 +715,195 @@ public class SurfaceRenderer extends AbstractXYZRenderer implements XYZRenderer,
         if (this.drawFaceOutlines != that.drawFaceOutlines) {
             return false;
         }
+        if (this.parallelSampling != that.parallelSampling) {
+            return false;
+        }
         return super.equals(obj);
     }
+    
+    /**
+     * The function values sampled at each point of a grid covering the 
+     * x and z-ranges (plus the value at the midpoint of each cell, which is 
+     * used to choose the color for the cell).
+     */
+    private static final class SampleGrid {
+        
+        /** The x-range. */
+        private final Range xRange;
+        
+        /** The z-range. */
+        private final Range zRange;
+        
+        /** The x-values for the grid points ({@code xCount + 1} values). */
+        final double[] x;
+        
+        /** The z-values for the grid points ({@code zCount + 1} values). */
+        final double[] z;
+        
+        /** 
+         * The function values at the grid points, indexed by 
+         * {@code xIndex * (zCount + 1) + zIndex}.
+         */
+        final double[] y;
+        
+        /** 
+         * The function values at the cell midpoints, indexed by 
+         * {@code xIndex * zCount + zIndex}.
+         */
+        final double[] mid;
+        
+        /**
+         * Samples the function over the specified ranges.
+         * 
+         * @param function  the function.
+         * @param xRange  the x-range.
+         * @param zRange  the z-range.
+         * @param xCount  the number of cells along the x-axis.
+         * @param zCount  the number of cells along the z-axis.
+         * @param parallel  sample larger grids in parallel?
+         */
+        SampleGrid(final Function3D function, Range xRange, Range zRange, 
+                int xCount, final int zCount, boolean parallel) {
+            this.xRange = xRange;
+            this.zRange = zRange;
+            this.x = new double[xCount + 1];
+            for (int i = 0; i <= xCount; i++) {
+                this.x[i] = xRange.value(i / (double) xCount);
+            }
+            this.z = new double[zCount + 1];
+            for (int i = 0; i <= zCount; i++) {
+                this.z[i] = zRange.value(i / (double) zCount);
+            }
+            this.y = new double[(xCount + 1) * (zCount + 1)];
+            this.mid = new double[xCount * zCount];
+            
+            if (!parallel || this.y.length < PARALLEL_THRESHOLD 
+                    || Runtime.getRuntime().availableProcessors() < 2) {
+                for (int i = 0; i <= xCount; i++) {
+                    sampleRow(function, i, zCount);
+                }
+                return;
+            }
+            
+            // each task samples one row of grid points (and the midpoints of
+            // the cells that follow the row)
+            List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+            for (int i = 0; i <= xCount; i++) {
+                final int xIndex = i;
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        sampleRow(function, xIndex, zCount);
+                        return null;
+                    }
+                });
+            }
+            try {
+                for (Future<Void> f : ForkJoinPool.commonPool().invokeAll(
+                        tasks)) {
+                    f.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        
+        /**
+         * Samples the function for one row of the grid.
+         * 
+         * @param function  the function.
+         * @param xIndex  the row index.
+         * @param zCount  the number of cells along the z-axis.
+         */
+        private void sampleRow(Function3D function, int xIndex, int zCount) {
+            double x0 = this.x[xIndex];
+            int v = xIndex * (zCount + 1);
+            for (int zIndex = 0; zIndex <= zCount; zIndex++) {
+                this.y[v + zIndex] = function.getValue(x0, this.z[zIndex]);
+            }
+            if (xIndex < this.x.length - 1) {
+                double xm = x0 / 2.0 + this.x[xIndex + 1] / 2.0;
+                for (int zIndex = 0; zIndex < zCount; zIndex++) {
+                    double zm = this.z[zIndex] / 2.0 + this.z[zIndex + 1] / 2.0;
+                    this.mid[xIndex * zCount + zIndex] = function.getValue(xm, 
+                            zm);
+                }
+            }
+        }
+        
+        /**
+         * Returns {@code true} if this grid was sampled with the specified
+         * ranges and counts, and {@code false} otherwise.
+         * 
+         * @param xRange  the x-range.
+         * @param zRange  the z-range.
+         * @param xCount  the number of cells along the x-axis.
+         * @param zCount  the number of cells along the z-axis.
+         * 
+         * @return A boolean. 
+         */
+        boolean matches(Range xRange, Range zRange, int xCount, int zCount) {
+            return this.x.length == xCount + 1 && this.z.length == zCount + 1
+                    && this.xRange.equals(xRange) 
+                    && this.zRange.equals(zRange);
+        }
+    }
+    
+    /**
+     * An object representing the surface, where each face has its own 
+     * color.
+     */
+    private static final class SurfaceMesh extends Object3D {
+        
+        /**
+         * Creates a new (empty) mesh.
+         * 
+         * @param outline  draw the face outlines?
+         */
+        SurfaceMesh(boolean outline) {
+            super(Color.GRAY, outline);
+        }
+
+        /**
+         * Returns the color for the specified face.
+         * 
+         * @param face  the face ({@code null} not permitted).
+         * 
+         * @return The color. 
+         */
+        @Override
+        public Color getColor(Face face) {
+            if (face instanceof SurfaceFace) {
+                return ((SurfaceFace) face).color;
+            }
+            return super.getColor(face);
+        }
+    }
+    
+    /**
+     * A double-sided face in the surface mesh, with its own color.
+     */
+    private static final class SurfaceFace extends DoubleSidedFace {
+        
+        /** The color. */
+        final Color color;
+        
+        /**
+         * Creates a new face.
+         * 
+         * @param owner  the mesh.
+         * @param vertices  the vertices.
+         * @param color  the color.
+         */
+        SurfaceFace(Object3D owner, int[] vertices, Color color) {
+            super(owner, vertices);
+            this.color = color;
+        }
+    }
 }
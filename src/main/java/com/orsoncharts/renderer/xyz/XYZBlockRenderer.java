@@ -0,0 +1,75 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.renderer.xyz;
+
+import com.orsoncharts.data.xyz.XYZBlockAccess;
+import com.orsoncharts.data.xyz.XYZDataset;
+import com.orsoncharts.graphics3d.Dimension3D;
+import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.plot.XYZPlot;
+import com.orsoncharts.renderer.ComposeType;
+
+/**
+ * An optional interface for {@link XYZRenderer} implementations (with the
+ * compose type {@link ComposeType#PER_ITEM}) that can construct a range of 
+ * items in one pass.  When a renderer implements this interface, the 
+ * {@link XYZPlot} calls {@link #composeItems(XYZDataset, int, int, int, 
+ * World, Dimension3D, double, double, double)} for each series instead of
+ * calling {@code composeItem()} once per item, so the renderer can read the 
+ * data values in blocks (which is much faster for datasets that implement 
+ * {@link XYZBlockAccess}).
+ * 
+ * @since 1.7
+ */
+public interface XYZBlockRenderer {
+    
+    /**
+     * Constructs and places a range of items in one series from the 
+     * specified dataset into the given world.  The result should be the same
+     * as calling {@code composeItem()} for each item in the range.
+     * 
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item (inclusive).
+     * @param world  the world ({@code null} not permitted).
+     * @param dimensions  the dimensions ({@code null} not permitted).
+     * @param xOffset  the x-offset.
+     * @param yOffset  the y-offset.
+     * @param zOffset  the z-offset.
+     */
+    void composeItems(XYZDataset dataset, int series, int firstItem, 
+            int lastItem, World world, Dimension3D dimensions, double xOffset, 
+            double yOffset, double zOffset);
+
+}
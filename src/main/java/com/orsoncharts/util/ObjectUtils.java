@@ -36,6 +36,8 @@ import java.awt.GradientPaint;
 import java.awt.LinearGradientPaint;
 import java.awt.Paint;
 import java.awt.RadialGradientPaint;
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
 import java.util.Arrays;
 
 /**
@@ -137,4 +139,63 @@ public class ObjectUtils {
         }
     }
 
+    /**
+     * Returns {@code true} if the two {@code Shape} objects describe the 
+     * same path OR are both {@code null}.  The shapes are compared segment
+     * by segment (using their path iterators), since some shape classes 
+     * (for example {@code Path2D} and {@code GeneralPath}) do not override 
+     * the {@code equals()} method.
+     *
+     * @param s1  shape 1 ({@code null} permitted).
+     * @param s2  shape 2 ({@code null} permitted).
+     *
+     * @return A boolean.
+     * 
+     * @since 1.7
+     */
+    public static boolean equalsShape(Shape s1, Shape s2) {
+        if (s1 == s2) {
+            return true;
+        }
+        if (s1 == null || s2 == null) {
+            return false;
+        }
+        PathIterator it1 = s1.getPathIterator(null);
+        PathIterator it2 = s2.getPathIterator(null);
+        if (it1.getWindingRule() != it2.getWindingRule()) {
+            return false;
+        }
+        double[] c1 = new double[6];
+        double[] c2 = new double[6];
+        while (!it1.isDone() && !it2.isDone()) {
+            int type = it1.currentSegment(c1);
+            if (type != it2.currentSegment(c2)) {
+                return false;
+            }
+            int count;
+            switch (type) {
+                case PathIterator.SEG_MOVETO:
+                case PathIterator.SEG_LINETO:
+                    count = 2;
+                    break;
+                case PathIterator.SEG_QUADTO:
+                    count = 4;
+                    break;
+                case PathIterator.SEG_CUBICTO:
+                    count = 6;
+                    break;
+                default: // SEG_CLOSE
+                    count = 0;
+            }
+            for (int i = 0; i < count; i++) {
+                if (c1[i] != c2[i]) {
+                    return false;
+                }
+            }
+            it1.next();
+            it2.next();
+        }
+        return it1.isDone() && it2.isDone();
+    }
+
 }
@@ -40,6 +40,13 @@ import org.junit.Test;
 
 import java.awt.Color;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import com.orsoncharts.data.StandardPieDataset3D;
 import com.orsoncharts.data.PieDataset3D;
 import com.orsoncharts.data.category.CategoryDataset3D;
@@ -48,9 +55,20 @@ import com.orsoncharts.data.DefaultKeyedValues;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
+import com.orsoncharts.axis.NumberAxis3D;
+import com.orsoncharts.graphics3d.Face;
+import com.orsoncharts.graphics3d.Offset2D;
+import com.orsoncharts.graphics3d.RenderingInfo;
+import com.orsoncharts.graphics3d.ViewPoint3D;
 import com.orsoncharts.legend.LegendAnchor;
+import com.orsoncharts.legend.LegendBuilder;
+import com.orsoncharts.plot.Plot3D;
+import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.legend.StandardLegendBuilder;
+import com.orsoncharts.style.ChartStyle;
 import com.orsoncharts.style.ChartStyles;
+import com.orsoncharts.table.TableElement;
+import com.orsoncharts.util.Anchor2D;
 import com.orsoncharts.util.Orientation;
 import com.orsoncharts.table.StandardRectanglePainter;
 
@@ -243,6 +261,215 @@ public class Chart3DTest {
         
     }
 
+    /**
+     * Items appended to a series are added to the existing world, and the 
+     * result should match a chart that is drawn from scratch.
+     */
+    @Test
+    public void testDrawAfterAppend() {
+        XYZSeries<String> s1 = new XYZSeries<String>("S1");
+        s1.add(1, 2, 3);
+        s1.add(2, 3, 4);
+        XYZSeriesCollection<String> dataset = new XYZSeriesCollection<String>();
+        dataset.add(s1);
+        Chart3D chart = createScatterChartWithFixedRanges(dataset);
+        BufferedImage image = new BufferedImage(800, 600, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D bounds = new Rectangle2D.Double(0, 0, 800, 600);
+        int faces0 = chart.draw(g2, bounds).getFaces().size();
+        
+        // append an item within the axis ranges
+        s1.add(3, 4, 5);
+        int faces1 = chart.draw(g2, bounds).getFaces().size();
+        assertTrue(faces1 > faces0);
+        assertEquals(createScatterChartWithFixedRanges(dataset).draw(g2, 
+                bounds).getFaces().size(), faces1);
+        
+        // append an item that changes the axis range
+        XYZPlot plot = (XYZPlot) chart.getPlot();
+        ((NumberAxis3D) plot.getXAxis()).setAutoAdjustRange(true);
+        s1.add(30, 4, 5);
+        int faces2 = chart.draw(g2, bounds).getFaces().size();
+        Chart3D chart2 = Chart3DFactory.createScatterChart("title", null, 
+                dataset, "X", "Y", "Z");
+        XYZPlot plot2 = (XYZPlot) chart2.getPlot();
+        plot2.getYAxis().setRange(0.0, 10.0);
+        plot2.getZAxis().setRange(0.0, 10.0);
+        assertEquals(plot.getXAxis().getRange(), plot2.getXAxis().getRange());
+        assertEquals(chart2.draw(g2, bounds).getFaces().size(), faces2);
+        g2.dispose();
+    }
+    
+    /**
+     * A draft rendering of a scatter chart draws each item as a point, and
+     * does not affect the following full quality rendering.
+     */
+    @Test
+    public void testDraftRendering() {
+        XYZSeries<String> s1 = new XYZSeries<String>("S1");
+        s1.add(1, 2, 3);
+        s1.add(2, 3, 4);
+        s1.add(3, 4, 5);
+        XYZSeriesCollection<String> dataset = new XYZSeriesCollection<String>();
+        dataset.add(s1);
+        Chart3D chart = createScatterChartWithFixedRanges(dataset);
+        BufferedImage image = new BufferedImage(800, 600, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D bounds = new Rectangle2D.Double(0, 0, 800, 600);
+        int faces = chart.draw(g2, bounds).getFaces().size();
+        
+        g2.setRenderingHint(Chart3DHints.KEY_DRAFT, Boolean.TRUE);
+        int points = 0;
+        for (Face f : chart.draw(g2, bounds).getFaces()) {
+            if (f.getVertexCount() == 1) {
+                points++;
+            }
+        }
+        assertEquals(3, points);
+        
+        g2.setRenderingHint(Chart3DHints.KEY_DRAFT, Boolean.FALSE);
+        assertEquals(faces, chart.draw(g2, bounds).getFaces().size());
+        g2.dispose();
+    }
+    
+    /**
+     * The rendering info keeps its own copy of the projected points, so it
+     * is not changed when the chart is drawn again from another viewpoint.
+     */
+    @Test
+    public void testRenderingInfoOwnsPoints() {
+        XYZSeries<String> s1 = new XYZSeries<String>("S1");
+        s1.add(1, 2, 3);
+        s1.add(2, 3, 4);
+        XYZSeriesCollection<String> dataset = new XYZSeriesCollection<String>();
+        dataset.add(s1);
+        Chart3D chart = createScatterChartWithFixedRanges(dataset);
+        BufferedImage image = new BufferedImage(800, 600, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D bounds = new Rectangle2D.Double(0, 0, 800, 600);
+        RenderingInfo info = chart.draw(g2, bounds);
+        Point2D[] pts = info.getProjectedPoints();
+        Point2D p0 = (Point2D) pts[0].clone();
+        chart.getViewPoint().panLeftRight(0.5);
+        RenderingInfo info2 = chart.draw(g2, bounds);
+        assertEquals(p0, info.getProjectedPoints()[0]);
+        assertFalse(p0.equals(info2.getProjectedPoints()[0]));
+        g2.dispose();
+    }
+    
+    /**
+     * The legend is created once and reused for later renderings, until 
+     * there is a change to the chart or plot that could alter it.  Rotating
+     * the chart does not require a new legend.
+     */
+    @Test
+    public void testLegendIsReused() {
+        final int[] count = new int[1];
+        final StandardLegendBuilder builder = new StandardLegendBuilder();
+        LegendBuilder countingBuilder = new LegendBuilder() {
+            @Override
+            public TableElement createLegend(Plot3D plot, Anchor2D anchor, 
+                    Orientation orientation, ChartStyle style) {
+                count[0]++;
+                return builder.createLegend(plot, anchor, orientation, style);
+            }
+        };
+        XYZSeriesCollection<String> dataset 
+                = (XYZSeriesCollection<String>) createXYZDataset();
+        Chart3D chart = Chart3DFactory.createScatterChart("title", "subtitle", 
+                dataset, "X", "Y", "Z");
+        chart.setLegendBuilder(countingBuilder);
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D bounds = new Rectangle2D.Double(0, 0, 400, 300);
+        chart.draw(g2, bounds);
+        assertEquals(1, count[0]);
+        chart.getViewPoint().panLeftRight(0.1);
+        chart.draw(g2, bounds);
+        assertEquals(1, count[0]);
+        
+        XYZSeries<String> s2 = new XYZSeries<String>("S2");
+        s2.add(4, 5, 6);
+        dataset.add(s2);
+        chart.draw(g2, bounds);
+        assertEquals(2, count[0]);
+        
+        chart.setLegendAnchor(LegendAnchor.TOP_LEFT);
+        chart.draw(g2, bounds);
+        assertEquals(3, count[0]);
+        
+        chart.setStyle(ChartStyles.createPastelStyle());
+        chart.draw(g2, bounds);
+        assertEquals(4, count[0]);
+        chart.draw(g2, bounds);
+        assertEquals(4, count[0]);
+        g2.dispose();
+    }
+    
+    /**
+     * The view point and the 2D offset can be changed while a rendering is 
+     * in progress on another thread (the rendering uses a copy of the view).
+     */
+    @Test
+    public void testViewChangeDuringDraw() throws Exception {
+        final CountDownLatch drawing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final StandardLegendBuilder builder = new StandardLegendBuilder();
+        LegendBuilder blockingBuilder = new LegendBuilder() {
+            @Override
+            public TableElement createLegend(Plot3D plot, Anchor2D anchor, 
+                    Orientation orientation, ChartStyle style) {
+                drawing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return builder.createLegend(plot, anchor, orientation, style);
+            }
+        };
+        final Chart3D chart = Chart3DFactory.createScatterChart("title", null, 
+                createXYZDataset(), "X", "Y", "Z");
+        chart.setLegendBuilder(blockingBuilder);
+        Thread renderer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                BufferedImage image = new BufferedImage(400, 300, 
+                        BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g2 = image.createGraphics();
+                chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300));
+                g2.dispose();
+            }
+        });
+        renderer.start();
+        assertTrue(drawing.await(10, TimeUnit.SECONDS));
+        ViewPoint3D vp = chart.getViewPoint();
+        synchronized (vp) {
+            vp.panLeftRight(0.5);
+        }
+        chart.setTranslate2D(new Offset2D(10, 10));
+        chart.setViewPoint(ViewPoint3D.createAboveLeftViewPoint(30));
+        assertTrue(renderer.isAlive());
+        release.countDown();
+        renderer.join(10000);
+        assertFalse(renderer.isAlive());
+    }
+    
+    private Chart3D createScatterChartWithFixedRanges(
+            XYZDataset<String> dataset) {
+        Chart3D chart = Chart3DFactory.createScatterChart("title", null, 
+                dataset, "X", "Y", "Z");
+        XYZPlot plot = (XYZPlot) chart.getPlot();
+        plot.getXAxis().setRange(0.0, 10.0);
+        plot.getYAxis().setRange(0.0, 10.0);
+        plot.getZAxis().setRange(0.0, 10.0);
+        return chart;
+    }
+
     private PieDataset3D<String> createPieDataset() {
         StandardPieDataset3D<String> dataset 
                 = new StandardPieDataset3D<String>();
@@ -0,0 +1,159 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import org.junit.Test;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.data.xyz.XYZArrayDataset;
+import com.orsoncharts.data.xyz.XYZSeries;
+import com.orsoncharts.data.xyz.XYZSeriesCollection;
+
+/**
+ * Tests for the {@link BinaryUtils} class.
+ */
+public class BinaryUtilsTest {
+    
+    private static XYZSeriesCollection<String> createXYZDataset() {
+        XYZSeries<String> s1 = new XYZSeries<String>("S1");
+        for (int i = 0; i < 10000; i++) {
+            s1.add(i, Math.sin(i), -i);
+        }
+        XYZSeries<String> s2 = new XYZSeries<String>("Sé2");
+        s2.add(1.0, Double.NaN, 3.0);
+        XYZSeriesCollection<String> dataset 
+                = new XYZSeriesCollection<String>();
+        dataset.add(s1);
+        dataset.add(s2);
+        dataset.add(new XYZSeries<String>("S3"));
+        return dataset;
+    }
+    
+    @Test
+    public void testXYZDataset() throws IOException {
+        XYZSeriesCollection<String> dataset = createXYZDataset();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryUtils.writeXYZDataset(dataset, Channels.newChannel(out));
+        byte[] bytes = out.toByteArray();
+        
+        XYZArrayDataset<String> d1 = BinaryUtils.readXYZDataset(
+                Channels.newChannel(new ByteArrayInputStream(bytes)));
+        assertEquals(dataset.toString(), d1.toString());
+        XYZArrayDataset<String> d2 = BinaryUtils.readXYZDataset(
+                ByteBuffer.wrap(bytes));
+        assertEquals(d1, d2);
+        
+        // writing from an array dataset gives the same bytes
+        out = new ByteArrayOutputStream();
+        BinaryUtils.writeXYZDataset(d1, Channels.newChannel(out));
+        assertTrue(java.util.Arrays.equals(bytes, out.toByteArray()));
+        
+        File file = File.createTempFile("dataset", ".bin");
+        try {
+            FileOutputStream fos = new FileOutputStream(file);
+            try {
+                fos.write(bytes);
+            } finally {
+                fos.close();
+            }
+            assertEquals(d1, BinaryUtils.readXYZDataset(file));
+        } finally {
+            file.delete();
+        }
+        
+        // truncated input
+        try {
+            BinaryUtils.readXYZDataset(Channels.newChannel(
+                    new ByteArrayInputStream(bytes, 0, bytes.length - 1)));
+            fail("Expected an exception for truncated input.");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testKeyedValues3D() throws IOException {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(2.0, "S1", "R1", "C2");
+        dataset.addValue(3.0, "S1", "R2", "C1");
+        dataset.addValue(5.0, "S2", "R2", "C1");
+        dataset.addValue(Double.NaN, "S2", "R2", "C2");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryUtils.writeKeyedValues3D(dataset, Channels.newChannel(out));
+        KeyedValues3D<String, String, String, Number> result 
+                = BinaryUtils.readKeyedValues3D(Channels.newChannel(
+                new ByteArrayInputStream(out.toByteArray())));
+        assertEquals(dataset, result);
+        assertNull(result.getValue("S2", "R1", "C1"));
+        assertTrue(Double.isNaN(result.getValue("S2", "R2", "C2")
+                .doubleValue()));
+        
+        // the wrong type of data
+        try {
+            BinaryUtils.readPieDataset3D(Channels.newChannel(
+                    new ByteArrayInputStream(out.toByteArray())));
+            fail("Expected an exception for the wrong dataset type.");
+        } catch (RuntimeException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testPieDataset3D() throws IOException {
+        StandardPieDataset3D<String> dataset 
+                = new StandardPieDataset3D<String>();
+        dataset.add("A", 1.5);
+        dataset.add("B", null);
+        dataset.add("C", -3.0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryUtils.writePieDataset3D(dataset, Channels.newChannel(out));
+        PieDataset3D<String> result = BinaryUtils.readPieDataset3D(
+                Channels.newChannel(new ByteArrayInputStream(
+                out.toByteArray())));
+        assertEquals(dataset, result);
+    }
+
+}
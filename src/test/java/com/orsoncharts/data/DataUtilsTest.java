@@ -36,8 +36,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 import com.orsoncharts.Range;
+import com.orsoncharts.data.category.CategoryArrayDataset3D;
 import com.orsoncharts.data.category.StandardCategoryDataset3D;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZSeries;
@@ -318,4 +321,86 @@ public class DataUtilsTest {
                 Double.POSITIVE_INFINITY), DataUtils.findZRange(dataset, -1.0, 
                 false));
     }
+    
+    private static void checkSummary(XYZDataset dataset) {
+        XYZDataSummary summary = DataUtils.summarize(dataset);
+        assertEquals(DataUtils.findXRange(dataset), summary.getXRange());
+        assertEquals(DataUtils.findYRange(dataset), summary.getYRange());
+        assertEquals(DataUtils.findZRange(dataset), summary.getZRange());
+    }
+    
+    @Test
+    public void testSummarize_XYZDataset() {
+        XYZSeries<String> s1 = new XYZSeries<String>("S1");
+        s1.add(1.0, 2.0, 3.0);
+        s1.add(Double.NaN, Double.POSITIVE_INFINITY, -3.0);
+        XYZSeriesCollection<String> dataset 
+                = new XYZSeriesCollection<String>();
+        dataset.add(s1);
+        XYZDataSummary summary = DataUtils.summarize(dataset);
+        assertEquals(2, summary.getItemCount());
+        assertEquals(1, summary.getFiniteItemCount());
+        assertEquals(Double.POSITIVE_INFINITY, summary.getYTotal(), 0.0);
+        checkSummary(dataset);
+        
+        // a dataset large enough to be scanned in parallel
+        XYZSeries<String> s2 = new XYZSeries<String>("S2");
+        for (int i = 0; i < 300000; i++) {
+            s2.add(i, Math.sin(i), -i);
+        }
+        dataset.add(s2);
+        checkSummary(dataset);
+        assertEquals(300002, DataUtils.summarize(dataset).getItemCount());
+    }
+    
+    @Test
+    public void testSummarize_Values3D() {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(-2.0, "S1", "R1", "C2");
+        dataset.addValue(3.0, "S2", "R1", "C1");
+        dataset.addValue(null, "S2", "R2", "C2");
+        Values3DSummary summary = DataUtils.summarize(dataset);
+        assertEquals(3, summary.getFiniteCount());
+        assertEquals(5, summary.getNaNCount());
+        assertEquals(2.0, summary.getTotal(), 0.0);
+        assertEquals(DataUtils.findValueRange(dataset), 
+                summary.getValueRange());
+        assertEquals(DataUtils.findValueRange(dataset, 5.0), 
+                summary.getValueRange(5.0));
+        assertEquals(DataUtils.findStackedValueRange(dataset), 
+                summary.getStackedValueRange(0.0));
+        
+        // a dataset large enough to be scanned in parallel
+        double[] values = new double[10 * 200 * 100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i % 7 == 0) ? Double.NaN : Math.sin(i) * 100;
+        }
+        List<String> seriesKeys = new ArrayList<String>();
+        for (int i = 0; i < 10; i++) {
+            seriesKeys.add("S" + i);
+        }
+        List<String> rowKeys = new ArrayList<String>();
+        for (int i = 0; i < 200; i++) {
+            rowKeys.add("R" + i);
+        }
+        List<String> columnKeys = new ArrayList<String>();
+        for (int i = 0; i < 100; i++) {
+            columnKeys.add("C" + i);
+        }
+        CategoryArrayDataset3D<String, String, String> d 
+                = new CategoryArrayDataset3D<String, String, String>(
+                seriesKeys, rowKeys, columnKeys, values);
+        summary = DataUtils.summarize(d);
+        assertEquals(values.length, summary.getFiniteCount() 
+                + summary.getNaNCount());
+        assertEquals(DataUtils.findValueRange(d), summary.getValueRange());
+        Range stacked = DataUtils.findStackedValueRange(d);
+        assertEquals(stacked.getMin(), 
+                summary.getStackedValueRange(0.0).getMin(), 0.000001);
+        assertEquals(stacked.getMax(), 
+                summary.getStackedValueRange(0.0).getMax(), 0.000001);
+    }
+
 }
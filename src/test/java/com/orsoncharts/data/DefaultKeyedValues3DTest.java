@@ -36,7 +36,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
+import java.util.Arrays;
 import org.junit.Test;
 
 import com.orsoncharts.TestUtils;
@@ -167,6 +169,60 @@ public class DefaultKeyedValues3DTest {
                 = (DefaultKeyedValues3D<String, String, String, Number>) 
                 TestUtils.serialized(d1);
         assertEquals(d1, d2);
+        
+        // the key indexes still work after deserialization
+        d2.setValue(2.0, "S2", "R2", "C1");
+        assertEquals(1, d2.getSeriesIndex("S2"));
+        assertEquals(1, d2.getRowIndex("R2"));
+        assertEquals(0, d2.getColumnIndex("C1"));
+        assertNull(d2.getValue("S1", "R2", "C1"));
+    }
+    
+    @Test
+    public void testBuilder() {
+        KeyedValues3DBuilder<String, String, String> builder 
+                = new KeyedValues3DBuilder<String, String, String>(
+                Arrays.asList("S1", "S2"), Arrays.asList("R1", "R2", "R3"), 
+                Arrays.asList("C1", "C2"));
+        builder.setValue(1.0, "S1", "R1", "C1");
+        builder.setValue(2.0, "S2", "R3", "C2");
+        builder.setValue(3.0, 0, 1, 1);
+        DefaultKeyedValues3D<String, String, String, Number> expected 
+                = new DefaultKeyedValues3D<String, String, String, Number>();
+        expected.setValue(1.0, "S1", "R1", "C1");
+        expected.setValue(null, "S1", "R1", "C2");
+        expected.setValue(null, "S1", "R2", "C1");
+        expected.setValue(3.0, "S1", "R2", "C2");
+        expected.setValue(null, "S1", "R3", "C1");
+        expected.setValue(2.0, "S2", "R3", "C2");
+        DefaultKeyedValues3D<String, String, String, Number> data 
+                = builder.build();
+        assertEquals(expected, data);
+        assertEquals(2, data.getRowIndex("R3"));
+        
+        // the result can still be modified
+        data.setValue(4.0, "S2", "R4", "C1");
+        assertEquals(3, data.getRowIndex("R4"));
+        assertNull(data.getValue("S1", "R4", "C1"));
+        
+        try {
+            builder.setValue(1.0, "S3", "R1", "C1");
+            fail("Expected an IllegalArgumentException for an unknown key.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testBuilderDuplicateKeys() {
+        try {
+            new KeyedValues3DBuilder<String, String, String>(
+                    Arrays.asList("S1"), Arrays.asList("R1", "R2", "R1"), 
+                    Arrays.asList("C1"));
+            fail("Expected an IllegalArgumentException for a duplicate key.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
     }
 
 }
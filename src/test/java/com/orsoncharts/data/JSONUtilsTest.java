@@ -35,8 +35,12 @@ package com.orsoncharts.data;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.IOException;
+import java.io.StringReader;
 import org.junit.Test;
 import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.data.xyz.XYZArrayDataset;
 import com.orsoncharts.data.xyz.XYZDataset;
 import com.orsoncharts.data.xyz.XYZSeries;
 import com.orsoncharts.data.xyz.XYZSeriesCollection;
@@ -255,4 +259,70 @@ public class JSONUtilsTest {
         assertEquals("[[\"S1\", [[1.0, 2.0, 3.0]]], [\"S2\", []]]", 
                 JSONUtils.writeXYZDataset(dataset));
     }
+    
+    /**
+     * The streaming reader reads the same data as the standard reader, and
+     * reports progress when it is finished.
+     */
+    @Test
+    public void checkReadXYZDatasetStreaming() throws IOException {
+        String json = "[[\"Series 1\", [[1.0, 2.0, 3.0], [4.0, null, 6.0]]], " 
+                + "[\"Series 2\", []]]";
+        final long[] progress = new long[2];
+        XYZArrayDataset<String> dataset = JSONUtils.readXYZDataset(
+                new StringReader(json), new ReadProgressListener() {
+            @Override
+            public void readProgress(long position, long itemCount) {
+                progress[0] = position;
+                progress[1] = itemCount;
+            }
+        });
+        assertEquals(JSONUtils.readXYZDataset(json).toString(), 
+                dataset.toString());
+        assertEquals(2, dataset.getSeriesCount());
+        assertTrue(Double.isNaN(dataset.getY(0, 1)));
+        assertEquals(0, dataset.getItemCount(1));
+        assertEquals(json.length(), progress[0]);
+        assertEquals(2, progress[1]);
+        
+        try {
+            JSONUtils.readXYZDataset(new StringReader(
+                    "[[\"S1\", [[1.0, 2.0]]]]"), null);
+            fail("Expected an exception for an incomplete item.");
+        } catch (RuntimeException e) {
+            // expected
+        }
+    }
+    
+    /**
+     * The streaming reader accepts both the format read by 
+     * readKeyedValues3D() and the format written by writeKeyedValues3D().
+     */
+    @Test
+    public void checkReadKeyedValues3DStreaming() throws IOException {
+        String json = "{\"columnKeys\": [\"C1\", \"C2\"], \"rowKeys\": "
+                + "[\"R1\", \"R2\"], \"data\": [{\"seriesKey\": \"S1\", "
+                + "\"rows\": {\"R1\": [1.0, 2.0], \"R2\": [3.0, 4.0]}}, "
+                + "{\"seriesKey\": \"S2\", \"rows\": {\"R2\": [5.0, 6.0]}}]}";
+        KeyedValues3D<String, String, String, Number> expected 
+                = JSONUtils.readKeyedValues3D(json);
+        assertEquals(expected, JSONUtils.readKeyedValues3D(
+                new StringReader(json), null));
+        String written = JSONUtils.writeKeyedValues3D(expected);
+        assertEquals(expected, JSONUtils.readKeyedValues3D(
+                new StringReader(written), null));
+        assertEquals(0, JSONUtils.readKeyedValues3D(new StringReader("{}"), 
+                null).getSeriesCount());
+        
+        try {
+            JSONUtils.readKeyedValues3D(new StringReader("{\"columnKeys\": "
+                    + "[\"C1\"], \"rowKeys\": [\"R1\"], \"data\": "
+                    + "[{\"seriesKey\": \"S1\", \"rows\": {\"R9\": "
+                    + "[1.0]}}]}"), null);
+            fail("Expected an exception for an unknown row key.");
+        } catch (RuntimeException e) {
+            // expected
+        }
+    }
+
 }
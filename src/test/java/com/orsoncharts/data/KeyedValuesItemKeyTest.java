@@ -32,6 +32,7 @@
 
 package com.orsoncharts.data;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
@@ -53,6 +54,7 @@ public class KeyedValuesItemKeyTest {
         assertFalse(k1.equals(k2));
         k2 = new KeyedValuesItemKey("AA");
         assertTrue(k1.equals(k2));
+        assertEquals(k1.hashCode(), k2.hashCode());
     }
     
     @Test
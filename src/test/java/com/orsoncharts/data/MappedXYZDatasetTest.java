@@ -0,0 +1,185 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+import com.orsoncharts.Range;
+import com.orsoncharts.TestUtils;
+import com.orsoncharts.axis.NumberAxis3D;
+import com.orsoncharts.data.xyz.XYZDatasetUtils;
+import com.orsoncharts.data.xyz.XYZSeries;
+import com.orsoncharts.data.xyz.XYZSeriesCollection;
+import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.plot.XYZPlot;
+import com.orsoncharts.renderer.xyz.LineXYZRenderer;
+import com.orsoncharts.renderer.xyz.ScatterXYZRenderer;
+import com.orsoncharts.renderer.xyz.XYZRenderer;
+
+/**
+ * Tests for the {@link MappedXYZDataset} class.
+ */
+public class MappedXYZDatasetTest {
+    
+    private static XYZSeriesCollection<String> createDataset() {
+        XYZSeries<String> s1 = new XYZSeries<String>("S1");
+        for (int i = 0; i < 3000; i++) {
+            s1.add(i, Math.sin(i / 100.0), -i);
+        }
+        XYZSeries<String> s2 = new XYZSeries<String>("S2");
+        s2.add(1.0, Double.NaN, 3.0);
+        s2.add(2.0, 5.0, Double.POSITIVE_INFINITY);
+        XYZSeriesCollection<String> dataset 
+                = new XYZSeriesCollection<String>();
+        dataset.add(s1);
+        dataset.add(s2);
+        return dataset;
+    }
+    
+    private static File writeToFile(XYZSeriesCollection<String> dataset) 
+            throws IOException {
+        File file = File.createTempFile("dataset", ".bin");
+        FileOutputStream fos = new FileOutputStream(file);
+        try {
+            BinaryUtils.writeXYZDataset(dataset, fos.getChannel());
+        } finally {
+            fos.close();
+        }
+        return file;
+    }
+    
+    @Test
+    public void testValues() throws Exception {
+        XYZSeriesCollection<String> dataset = createDataset();
+        File file = writeToFile(dataset);
+        try {
+            MappedXYZDataset d = new MappedXYZDataset(file);
+            assertEquals(dataset.getSeriesKeys(), d.getSeriesKeys());
+            assertEquals(1, d.getSeriesIndex("S2"));
+            assertEquals(-1, d.getSeriesIndex("S3"));
+            for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                assertEquals(dataset.getItemCount(s), d.getItemCount(s));
+                for (int i = 0; i < dataset.getItemCount(s); i++) {
+                    assertEquals(dataset.getX(s, i), d.getX(s, i), 0.0);
+                    assertEquals(dataset.getY(s, i), d.getY(s, i), 0.0);
+                    assertEquals(dataset.getZ(s, i), d.getZ(s, i), 0.0);
+                }
+            }
+            assertEquals(dataset.toString(), 
+                    JSONUtils.writeXYZDataset(d));
+            
+            // ranges come from the header
+            assertEquals(dataset.getXRange(), d.getXRange());
+            assertEquals(dataset.getYRange(), d.getYRange());
+            assertEquals(new Range(-2999.0, 3.0), d.getZRange());
+            assertEquals(d.getYRange(), DataUtils.findYRange(d, Double.NaN, true));
+            
+            double[] xs = new double[10];
+            double[] ys = new double[10];
+            double[] zs = new double[10];
+            XYZDatasetUtils.getItems(d, 0, 2990, 10, xs, ys, zs);
+            assertEquals(2999.0, xs[9], 0.0);
+            assertEquals(Math.sin(29.99), ys[9], 0.0);
+            assertEquals(-2990.0, zs[0], 0.0);
+            
+            MappedXYZDataset d2 = (MappedXYZDataset) TestUtils.serialized(d);
+            assertEquals(d, d2);
+            assertEquals(d.getX(0, 100), d2.getX(0, 100), 0.0);
+        } finally {
+            file.delete();
+        }
+    }
+    
+    @Test
+    public void testEmpty() throws IOException {
+        XYZSeriesCollection<String> dataset 
+                = new XYZSeriesCollection<String>();
+        dataset.add(new XYZSeries<String>("S1"));
+        File file = writeToFile(dataset);
+        try {
+            MappedXYZDataset d = new MappedXYZDataset(file);
+            assertEquals(1, d.getSeriesCount());
+            assertEquals(0, d.getItemCount(0));
+            assertNull(d.getXRange());
+        } finally {
+            file.delete();
+        }
+    }
+    
+    private static int composedVertexCount(XYZPlot plot, boolean block) {
+        World world = new World();
+        if (block) {
+            plot.compose(world, 0.0, 0.0, 0.0);
+        } else {
+            XYZRenderer r = plot.getRenderer();
+            for (int s = 0; s < plot.getDataset().getSeriesCount(); s++) {
+                for (int i = 0; i < plot.getDataset().getItemCount(s); i++) {
+                    r.composeItem(plot.getDataset(), s, i, world, 
+                            plot.getDimensions(), 0.0, 0.0, 0.0);
+                }
+            }
+        }
+        return world.getVertexCount();
+    }
+    
+    /**
+     * Composing with the block renderers gives the same result as composing 
+     * item by item.
+     */
+    @Test
+    public void testBlockRenderers() throws IOException {
+        File file = writeToFile(createDataset());
+        try {
+            MappedXYZDataset d = new MappedXYZDataset(file);
+            XYZPlot plot = new XYZPlot(d, new LineXYZRenderer(), 
+                    new NumberAxis3D("X"), new NumberAxis3D("Y"), 
+                    new NumberAxis3D("Z"));
+            int count = composedVertexCount(plot, true);
+            assertTrue(count > 0);
+            assertEquals(count, composedVertexCount(plot, false));
+            plot.setRenderer(new ScatterXYZRenderer());
+            count = composedVertexCount(plot, true);
+            assertTrue(count > 0);
+            assertEquals(count, composedVertexCount(plot, false));
+        } finally {
+            file.delete();
+        }
+    }
+
+}
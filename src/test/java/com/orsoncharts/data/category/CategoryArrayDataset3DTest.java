@@ -0,0 +1,127 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.category;
+
+import com.orsoncharts.Range;
+import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.DataUtils;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link CategoryArrayDataset3D} class.
+ */
+public class CategoryArrayDataset3DTest {
+    
+    private static StandardCategoryDataset3D<String, String, String> 
+            createStandardDataset() {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(2.0, "S1", "R2", "C2");
+        dataset.addValue(-3.0, "S2", "R1", "C2");
+        dataset.addValue(null, "S2", "R2", "C1");
+        return dataset;
+    }
+    
+    @Test
+    public void checkValues() {
+        StandardCategoryDataset3D<String, String, String> source 
+                = createStandardDataset();
+        CategoryArrayDataset3D<String, String, String> dataset 
+                = new CategoryArrayDataset3D<String, String, String>(source);
+        assertEquals(source.getSeriesKeys(), dataset.getSeriesKeys());
+        assertEquals(source.getRowKeys(), dataset.getRowKeys());
+        assertEquals(source.getColumnKeys(), dataset.getColumnKeys());
+        assertEquals(1, dataset.getRowIndex("R2"));
+        assertEquals(-1, dataset.getColumnIndex("C3"));
+        assertEquals(2.0, dataset.getValue("S1", "R2", "C2").doubleValue(), 
+                0.0);
+        assertNull(dataset.getValue(1, 1, 0));
+        assertTrue(Double.isNaN(dataset.getDoubleValue(0, 0, 1)));
+        assertEquals(source.toString(), dataset.toString());
+        assertEquals(new Range(-3.0, 2.0), DataUtils.findValueRange(dataset));
+        
+        dataset.setValue(5.0, "S2", "R2", "C1");
+        assertEquals(5.0, dataset.getDoubleValue(1, 1, 0), 0.0);
+        dataset.setValue(null, "S2", "R2", "C1");
+        assertNull(dataset.getValue(1, 1, 0));
+        try {
+            dataset.setValue(1.0, "S3", "R1", "C1");
+            fail("Expected an IllegalArgumentException for an unknown key.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            dataset.getDoubleValue(0, 2, 0);
+            fail("Expected an IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void checkEquals() {
+        CategoryArrayDataset3D<String, String, String> d1 
+                = new CategoryArrayDataset3D<String, String, String>(
+                Arrays.asList("S1"), Arrays.asList("R1", "R2"), 
+                Arrays.asList("C1"), new double[] { 1.0, Double.NaN });
+        CategoryArrayDataset3D<String, String, String> d2 
+                = new CategoryArrayDataset3D<String, String, String>(
+                Arrays.asList("S1"), Arrays.asList("R1", "R2"), 
+                Arrays.asList("C1"));
+        assertFalse(d1.equals(d2));
+        d2.setValue(1.0, 0, 0, 0);
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkSerialization() {
+        CategoryArrayDataset3D<String, String, String> d1 
+                = new CategoryArrayDataset3D<String, String, String>(
+                createStandardDataset());
+        CategoryArrayDataset3D<String, String, String> d2 
+                = (CategoryArrayDataset3D<String, String, String>) 
+                TestUtils.serialized(d1);
+        assertEquals(d1, d2);
+    }
+
+}
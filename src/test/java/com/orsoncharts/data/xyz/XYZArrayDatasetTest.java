@@ -0,0 +1,201 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.data.xyz;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Test;
+import com.orsoncharts.Range;
+import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.DataUtils;
+import com.orsoncharts.data.Dataset3DChangeEvent;
+import com.orsoncharts.data.Dataset3DChangeListener;
+import com.orsoncharts.data.Series3DChangeEvent;
+
+/**
+ * Tests for the {@link XYZArrayDataset} class.
+ */
+public class XYZArrayDatasetTest implements Dataset3DChangeListener {
+
+    private Dataset3DChangeEvent lastEvent;
+    
+    @Before
+    public void setup() {
+        this.lastEvent = null;
+    }
+    
+    @Override
+    public void datasetChanged(Dataset3DChangeEvent event) {
+        this.lastEvent = event;
+    }
+    
+    @Test
+    public void testAddSeries() {
+        XYZArrayDataset<String> dataset = new XYZArrayDataset<String>();
+        assertEquals(0, dataset.addSeries("S1"));
+        assertEquals(1, dataset.addSeries("S2"));
+        assertEquals(1, dataset.getSeriesIndex("S2"));
+        assertEquals(-1, dataset.getSeriesIndex("S3"));
+        try {
+            dataset.addSeries("S1");
+            fail("Adding a series with the same name not permitted.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        dataset.removeSeries(0);
+        assertEquals(1, dataset.getSeriesCount());
+        assertEquals(0, dataset.getSeriesIndex("S2"));
+        assertEquals(-1, dataset.getSeriesIndex("S1"));
+    }
+    
+    @Test
+    public void testAddAll() {
+        XYZArrayDataset<String> dataset = new XYZArrayDataset<String>();
+        dataset.addSeries("S1");
+        dataset.add(0, 1.0, 2.0, 3.0);
+        int n = 100;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double[] zs = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = i;
+            ys[i] = 2 * i;
+            zs[i] = 3 * i;
+        }
+        dataset.addChangeListener(this);
+        dataset.addAll(0, xs, ys, zs);
+        assertEquals(n + 1, dataset.getItemCount(0));
+        assertEquals(1.0, dataset.getX(0, 0), 0.0);
+        assertEquals(99.0, dataset.getX(0, 100), 0.0);
+        assertEquals(198.0, dataset.getY(0, 100), 0.0);
+        assertEquals(297.0, dataset.getZ(0, 100), 0.0);
+        assertEquals(99.0, dataset.getXValues(0)[100], 0.0);
+        assertSame(dataset.getXValues(0), dataset.getXValues(0));
+        
+        // a single event describes the whole append
+        Series3DChangeEvent se = (Series3DChangeEvent) lastEvent.getSource();
+        assertEquals("S1", se.getSource());
+        assertEquals(1, se.getFirstItemIndex());
+        assertEquals(100, se.getLastItemIndex());
+        
+        try {
+            dataset.addAll(0, xs, ys, new double[1]);
+            fail("Arrays of different lengths not permitted.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testRanges() {
+        XYZArrayDataset<String> dataset = new XYZArrayDataset<String>();
+        assertNull(dataset.getXRange());
+        dataset.addSeries("S1");
+        dataset.addSeries("S2");
+        dataset.add(0, 1.0, 2.0, Double.NaN);
+        dataset.addAll(1, new double[] { -5.0, 4.0 }, 
+                new double[] { 3.0, Double.NEGATIVE_INFINITY }, 
+                new double[] { 6.0, 7.0 });
+        assertEquals(new Range(-5.0, 4.0), dataset.getXRange());
+        assertEquals(new Range(2.0, 3.0), dataset.getYRange());
+        assertEquals(new Range(6.0, 7.0), dataset.getZRange());
+        assertEquals(new Range(-5.0, 10.0), 
+                DataUtils.findXRange(dataset, 10.0));
+        dataset.removeSeries(1);
+        assertEquals(new Range(1.0, 1.0), dataset.getXRange());
+        assertNull(dataset.getZRange());
+    }
+    
+    @Test
+    public void testEventNotification() {
+        XYZArrayDataset<String> dataset = new XYZArrayDataset<String>();
+        dataset.addChangeListener(this);
+        assertNull(this.lastEvent);
+        dataset.addSeries("S1");
+        assertTrue(this.lastEvent != null);
+        this.lastEvent = null;
+        dataset.add(0, 1.0, 2.0, 3.0);
+        assertTrue(this.lastEvent != null);
+        this.lastEvent = null;
+        dataset.removeAll();
+        assertTrue(this.lastEvent != null);
+    }
+
+    @Test
+    public void testEquals() {
+        XYZArrayDataset<String> d1 = new XYZArrayDataset<String>();
+        XYZArrayDataset<String> d2 = new XYZArrayDataset<String>();
+        assertTrue(d1.equals(d2));
+        assertFalse(d1.equals(null));
+        
+        d1.addSeries("S");
+        d1.add(0, 1.0, 2.0, 3.0);
+        assertFalse(d1.equals(d2));
+        d2.addSeries("S");
+        d2.addAll(0, new double[] { 1.0 }, new double[] { 2.0 }, 
+                new double[] { 3.0 });
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+        
+        d1.add(0, 4.0, 5.0, Double.NaN);
+        assertFalse(d1.equals(d2));
+        d2.add(0, 4.0, 5.0, Double.NaN);
+        assertTrue(d1.equals(d2));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSerialization() {
+        XYZArrayDataset<String> d1 = new XYZArrayDataset<String>();
+        d1.addSeries("S");
+        d1.add(0, 1.0, 2.0, 3.0);
+        XYZArrayDataset<String> d2 = (XYZArrayDataset) TestUtils.serialized(d1);
+        assertEquals(d1, d2);
+    }
+    
+    @Test
+    public void checkToString() {
+        XYZArrayDataset<String> d = new XYZArrayDataset<String>();
+        assertEquals("[]", d.toString());
+        d.addSeries("S1");
+        d.add(0, 1.0, 2.0, 3.0);
+        assertEquals("[[\"S1\", [[1.0, 2.0, 3.0]]]]", d.toString());
+    }
+
+}
@@ -36,9 +36,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 
+import com.orsoncharts.Range;
 import com.orsoncharts.TestUtils;
 import com.orsoncharts.data.Series3DChangeEvent;
 import com.orsoncharts.data.Series3DChangeListener;
@@ -52,6 +54,8 @@ public class XYZSeriesTest implements Series3DChangeListener {
     
     private Series3DChangeEvent lastEvent;
     
+    private int eventCount;
+    
     @Test
     public void testGeneral() {
         XYZSeries<String> s = new XYZSeries<String>("S1");
@@ -128,9 +132,125 @@ public class XYZSeriesTest implements Series3DChangeListener {
         assertEquals(s1, s2);
     }
 
+    /**
+     * The series tracks the ranges of its values as items are added and
+     * removed.
+     */
+    @Test
+    public void testRanges() {
+        XYZSeries<String> s = new XYZSeries<String>("S1");
+        assertNull(s.getXRange());
+        s.add(1.0, Double.NaN, 3.0);
+        assertEquals(new Range(1.0, 1.0), s.getXRange());
+        assertNull(s.getYRange());
+        s.add(-1.0, 2.0, Double.POSITIVE_INFINITY);
+        assertEquals(new Range(-1.0, 1.0), s.getXRange());
+        assertEquals(new Range(2.0, 2.0), s.getYRange());
+        assertEquals(new Range(3.0, 3.0), s.getZRange());
+        s.remove(1);
+        assertEquals(new Range(1.0, 1.0), s.getXRange());
+        
+        XYZSeries<String> s2 = (XYZSeries<String>) TestUtils.serialized(s);
+        assertEquals(new Range(3.0, 3.0), s2.getZRange());
+        s2.add(5.0, 5.0, 5.0);
+        assertEquals(new Range(3.0, 5.0), s2.getZRange());
+    }
+    
+    /**
+     * A block of items is appended with a single change event.
+     */
+    @Test
+    public void testAddAll() {
+        XYZSeries<String> s = new XYZSeries<String>("S1");
+        s.add(0.0, 0.0, 0.0);
+        s.addChangeListener(this);
+        s.addAll(new double[] { 1.0, 2.0 }, new double[] { 3.0, 4.0 }, 
+                new double[] { 5.0, 6.0 });
+        assertEquals(3, s.getItemCount());
+        assertEquals(2.0, s.getXValue(2), EPSILON);
+        assertEquals(1, this.eventCount);
+        assertEquals(1, this.lastEvent.getFirstItemIndex());
+        assertEquals(2, this.lastEvent.getLastItemIndex());
+    }
+    
+    /**
+     * With a maximum item count, the oldest items are removed.
+     */
+    @Test
+    public void testMaxItemCount() {
+        XYZSeries<String> s = new XYZSeries<String>("S1");
+        s.setMaxItemCount(3);
+        for (int i = 0; i < 5; i++) {
+            s.add(i, 10 - i, i);
+        }
+        assertEquals(3, s.getItemCount());
+        assertEquals(2.0, s.getXValue(0), EPSILON);
+        assertEquals(new Range(2.0, 4.0), s.getXRange());
+        assertEquals(new Range(6.0, 8.0), s.getYRange());
+        s.addChangeListener(this);
+        s.add(5, 5, 5);
+        assertFalse(this.lastEvent.isAppend());
+        s.setMaxItemCount(1);
+        assertEquals(1, s.getItemCount());
+        assertEquals(5.0, s.getXValue(0), EPSILON);
+    }
+    
+    /**
+     * Changes made while notification is off, or within the notify 
+     * interval, are combined into a single event.
+     */
+    @Test
+    public void testCoalescedEvents() {
+        XYZSeries<String> s = new XYZSeries<String>("S1");
+        s.add(0.0, 0.0, 0.0);
+        s.addChangeListener(this);
+        s.setNotify(false);
+        s.add(1.0, 1.0, 1.0);
+        s.add(2.0, 2.0, 2.0);
+        assertEquals(0, this.eventCount);
+        s.setNotify(true);
+        assertEquals(1, this.eventCount);
+        assertEquals(1, this.lastEvent.getFirstItemIndex());
+        assertEquals(2, this.lastEvent.getLastItemIndex());
+        
+        this.eventCount = 0;
+        s.setNotifyInterval(60000L);
+        s.add(3.0, 3.0, 3.0);
+        s.add(4.0, 4.0, 4.0);
+        assertEquals(0, this.eventCount);
+        s.flush();
+        assertEquals(1, this.eventCount);
+        assertEquals(3, this.lastEvent.getFirstItemIndex());
+        assertEquals(4, this.lastEvent.getLastItemIndex());
+        s.flush();
+        assertEquals(1, this.eventCount);
+    }
+    
+    /**
+     * Changes held back within the notify interval are not sent on another 
+     * thread when the interval ends, but by the next change or by a call to
+     * flush().
+     */
+    @Test
+    public void testHeldBackEvent() throws InterruptedException {
+        XYZSeries<String> s = new XYZSeries<String>("S1");
+        s.addChangeListener(this);
+        s.setNotifyInterval(20L);
+        s.add(1.0, 1.0, 1.0);
+        s.add(2.0, 2.0, 2.0);
+        s.add(3.0, 3.0, 3.0);
+        Thread.sleep(60L);
+        assertEquals(1, this.eventCount);
+        s.flush();
+        assertEquals(2, this.eventCount);
+        assertEquals(1, this.lastEvent.getFirstItemIndex());
+        assertEquals(2, this.lastEvent.getLastItemIndex());
+    }
+    
     @Override
     public void seriesChanged(Series3DChangeEvent event) {
         this.lastEvent = event;
+        this.eventCount++;
     }
 
 }
@@ -0,0 +1,165 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.Test;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
+import com.orsoncharts.data.StandardPieDataset3D;
+import com.orsoncharts.util.ExportFormat;
+
+/**
+ * Tests for the {@link BatchRenderer} class.
+ */
+public class BatchRendererTest {
+
+    private Chart3D createChart() {
+        StandardPieDataset3D<String> dataset 
+                = new StandardPieDataset3D<String>();
+        dataset.add("A", 3.0);
+        dataset.add("B", 5.0);
+        return Chart3DFactory.createPieChart("Title", "Subtitle", dataset);
+    }
+
+    @Test
+    public void testSubmit() throws Exception {
+        BatchRenderer renderer = new BatchRenderer(2);
+        Chart3D chart = createChart();
+        List<RenderJob> jobs = new ArrayList<RenderJob>();
+        List<ByteArrayOutputStream> outputs 
+                = new ArrayList<ByteArrayOutputStream>();
+        for (int i = 0; i < 4; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outputs.add(out);
+            jobs.add(new RenderJob(chart, 200, 100, ExportFormat.PNG, out));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(100000);
+        jobs.add(new RenderJob(createChart(), 300, 150, ExportFormat.JPEG, 
+                buffer));
+        List<Future<RenderResult>> futures = renderer.submitAll(jobs);
+        for (int i = 0; i < 4; i++) {
+            RenderResult result = futures.get(i).get();
+            assertSame(jobs.get(i), result.getJob());
+            assertNotNull(result.getRenderingInfo());
+            assertEquals(outputs.get(i).size(), result.getByteCount());
+            assertTrue(result.getRenderTime() > 0);
+            assertEquals(result.getQueueTime() + result.getRenderTime(), 
+                    result.getLatency());
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                    outputs.get(i).toByteArray()));
+            assertEquals(200, image.getWidth());
+            assertEquals(100, image.getHeight());
+        }
+        RenderResult result = futures.get(4).get();
+        assertEquals(buffer.position(), result.getByteCount());
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                buffer.array(), 0, buffer.position()));
+        assertEquals(300, image.getWidth());
+        assertEquals(150, image.getHeight());
+        renderer.shutdown();
+        assertTrue(renderer.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * A job whose output does not fit in the buffer fails with an 
+     * {@code IOException}.
+     */
+    @Test
+    public void testBufferTooSmall() throws InterruptedException {
+        BatchRenderer renderer = new BatchRenderer(1);
+        Future<RenderResult> future = renderer.submit(new RenderJob(
+                createChart(), 200, 100, ExportFormat.PNG, 
+                ByteBuffer.allocate(100)));
+        try {
+            future.get();
+            fail("Expected an ExecutionException.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+        renderer.shutdown();
+    }
+
+    @Test
+    public void testUnsupportedFormat() {
+        try {
+            new RenderJob(createChart(), 200, 100, ExportFormat.SVG, 
+                    new ByteArrayOutputStream());
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testImagePool() {
+        ImagePool pool = new ImagePool(1);
+        BufferedImage image = pool.acquire(10, 20, 
+                BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, 0xFF00FF00);
+        pool.release(image);
+        assertEquals(1, pool.getIdleCount());
+        BufferedImage image2 = pool.acquire(10, 20, 
+                BufferedImage.TYPE_INT_ARGB);
+        assertSame(image, image2);
+        assertEquals(0, image2.getRGB(0, 0));
+        assertEquals(0, pool.getIdleCount());
+        
+        // a different size or type gives a new image
+        pool.release(image2);
+        assertTrue(image2 != pool.acquire(10, 20, 
+                BufferedImage.TYPE_INT_RGB));
+        assertEquals(1, pool.getIdleCount());
+        
+        // the pool holds at most one idle image
+        pool.release(new BufferedImage(5, 5, BufferedImage.TYPE_INT_RGB));
+        assertEquals(1, pool.getIdleCount());
+    }
+
+}
@@ -0,0 +1,119 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.awt.Color;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link FaceCuller} class.
+ */
+public class FaceCullerTest {
+    
+    @Test
+    public void testCull() {
+        World world = new World();
+        Object3D cube = Object3D.createCube(1.0, 0.0, 0.0, 0.0, Color.RED);
+        world.add(cube);
+        Object3D sheet = new Object3D(Color.BLUE);
+        sheet.addVertex(-0.5, -0.5, 0.0);
+        sheet.addVertex(0.5, -0.5, 0.0);
+        sheet.addVertex(0.5, 0.5, 0.0);
+        sheet.addDoubleSidedFace(new int[] {0, 1, 2});
+        world.add(sheet);
+        ViewPoint3D vp = ViewPoint3D.createAboveLeftViewPoint(10.0);
+        Point3D[] eyePts = world.calculateEyeCoordinates(vp);
+        Point2D[] pts = world.calculateProjectedPoints(vp, 1500.0);
+        List<Face> faces = world.getFaces();
+        
+        // with no clip, only the back faces of the cube are culled
+        List<Face> visible = FaceCuller.cull(faces, eyePts, pts, null);
+        int frontFaces = 0;
+        for (Face f : cube.getFaces()) {
+            if (f.isFrontFacing(pts)) {
+                frontFaces++;
+                assertTrue(visible.contains(f));
+            }
+        }
+        assertEquals(frontFaces + 1, visible.size());
+        assertTrue(visible.contains(sheet.getFaces().get(0)));
+        
+        // a clip that excludes everything
+        visible = FaceCuller.cull(faces, eyePts, pts, 
+                new Rectangle2D.Double(5000.0, 5000.0, 10.0, 10.0));
+        assertTrue(visible.isEmpty());
+        
+        // when the eye is inside the cube, all faces are culled
+        vp = new ViewPoint3D(0.0, 0.5, 0.1, 0.0);
+        eyePts = world.calculateEyeCoordinates(vp);
+        pts = world.calculateProjectedPoints(vp, 1500.0);
+        visible = FaceCuller.cull(cube.getFaces(), eyePts, pts, null);
+        assertTrue(visible.isEmpty());
+    }
+
+    /**
+     * A point face is kept while any part of its glyph can overlap the clip,
+     * even if the vertex itself is outside the clip.
+     */
+    @Test
+    public void testCullGlyph() {
+        Object3D obj = new Object3D(Color.RED);
+        obj.addVertex(0.0, 0.0, 0.0);
+        PointFace f = new PointFace(obj, 0, 
+                new Ellipse2D.Double(-20.0, -20.0, 40.0, 40.0), Color.RED, 
+                null);
+        List<Face> faces = Collections.<Face>singletonList(f);
+        Point3D[] eyePts = new Point3D[] {new Point3D(0.0, 0.0, -10.0)};
+        Point2D[] pts = new Point2D[] {new Point2D.Double(110.0, 50.0)};
+        
+        // the vertex is 10 units to the right of the clip
+        Rectangle2D clip = new Rectangle2D.Double(0.0, 0.0, 100.0, 100.0);
+        assertEquals(1, FaceCuller.cull(faces, eyePts, pts, clip).size());
+        
+        // the vertex is 20 units below the clip
+        pts[0] = new Point2D.Double(50.0, 120.0);
+        assertEquals(1, FaceCuller.cull(faces, eyePts, pts, clip).size());
+        
+        // the glyph lies entirely to the left of the clip
+        pts[0] = new Point2D.Double(-30.0, 50.0);
+        assertTrue(FaceCuller.cull(faces, eyePts, pts, clip).isEmpty());
+    }
+
+}
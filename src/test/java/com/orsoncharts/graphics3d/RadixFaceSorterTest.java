@@ -0,0 +1,85 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RadixFaceSorter} class.
+ */
+public class RadixFaceSorterTest {
+    
+    /**
+     * The sorter should give exactly the same order as the 
+     * {@link StandardFaceSorter}, including the order of faces with equal 
+     * z-values.
+     */
+    @Test
+    public void testSameOrderAsStandardFaceSorter() {
+        Random random = new Random(123L);
+        Object3D obj = new Object3D(Color.RED);
+        int vertexCount = 500;
+        for (int i = 0; i < vertexCount; i++) {
+            // use a small set of z-values so that there are many ties, with 
+            // both positive and negative values
+            obj.addVertex(random.nextDouble(), random.nextDouble(), 
+                    random.nextInt(21) - 10);
+        }
+        for (int i = 0; i < 2000; i++) {
+            obj.addFace(new int[] { random.nextInt(vertexCount), 
+                    random.nextInt(vertexCount), random.nextInt(vertexCount)});
+        }
+        World world = new World();
+        world.add(obj);
+        Point3D[] pts = new Point3D[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            pts[i] = obj.getVertex(i);
+        }
+        List<Face> faces = world.getFaces();
+        List<Face> expected = new StandardFaceSorter().sort(
+                new ArrayList<Face>(faces), pts);
+        List<Face> result = new RadixFaceSorter().sort(
+                new ArrayList<Face>(faces), pts);
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(expected.get(i) == result.get(i));
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.awt.Color;
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RenderingInfo} class.
+ */
+public class RenderingInfoTest {
+    
+    /**
+     * Finds the object at (x, y) by testing every face (the approach used
+     * before the spatial index was added).
+     */
+    private Object3D bruteForceObjectAt(RenderingInfo info, double x, 
+            double y) {
+        List<Face> faces = info.getFaces();
+        for (int i = faces.size() - 1; i >= 0; i--) {
+            Face f = faces.get(i);
+            if (f.createPath(info.getProjectedPoints()).contains(
+                    x - info.getDX(), y - info.getDY())) {
+                return f.getOwner();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * The indexed lookup should give the same results as testing every 
+     * face.
+     */
+    @Test
+    public void testFetchObjectAt() {
+        World world = new World();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                world.add(Object3D.createBox(i * 1.5, 1.0, (i + j) % 4, 
+                        1.0 + j % 3, j * 1.5, 1.0, Color.RED));
+            }
+        }
+        ViewPoint3D vp = ViewPoint3D.createAboveLeftViewPoint(40.0);
+        Point3D[] eyePts = world.calculateEyeCoordinates(vp);
+        Point2D[] pts = world.calculateProjectedPoints(vp, 1500.0);
+        List<Face> faces = new StandardFaceSorter().sort(
+                new ArrayList<Face>(world.getFaces()), eyePts);
+        RenderingInfo info = new RenderingInfo(faces, pts, 300.0, 200.0);
+        int hits = 0;
+        for (int x = 0; x < 600; x += 3) {
+            for (int y = 0; y < 400; y += 3) {
+                Object3D expected = bruteForceObjectAt(info, x, y);
+                assertEquals(expected, info.fetchObjectAt(x, y));
+                if (expected != null) {
+                    hits++;
+                }
+            }
+        }
+        assertTrue(hits > 0);
+    }
+    
+    /**
+     * Hit testing uses the vertex offsets at the time of rendering, so it 
+     * is not affected when the world is updated afterwards.
+     */
+    @Test
+    public void testFetchObjectAtAfterWorldUpdate() {
+        World world = new World();
+        Object3D box = Object3D.createBox(0.0, 2.0, 0.0, 2.0, 0.0, 2.0, 
+                Color.RED);
+        world.add("b", box);
+        ViewPoint3D vp = ViewPoint3D.createAboveLeftViewPoint(20.0);
+        Point3D[] eyePts = world.calculateEyeCoordinates(vp);
+        Point2D[] pts = world.calculateProjectedPoints(vp, 1500.0);
+        List<Face> faces = new StandardFaceSorter().sort(
+                new ArrayList<Face>(world.getFaces()), eyePts);
+        RenderingInfo info = new RenderingInfo(faces, pts, 0.0, 0.0);
+        
+        // adding an object in an earlier partition shifts the offsets
+        world.add("a", Object3D.createBox(10.0, 1.0, 10.0, 1.0, 10.0, 1.0, 
+                Color.BLUE));
+        world.getFaces();
+        assertTrue(faces.get(0).getOffset() > 0);
+        assertEquals(box, info.fetchObjectAt(0.0, 0.0));
+    }
+    
+    @Test
+    public void testFetchObjectAtEmpty() {
+        RenderingInfo info = new RenderingInfo(new ArrayList<Face>(), 
+                new Point2D[0], 0.0, 0.0);
+        assertNull(info.fetchObjectAt(1.0, 2.0));
+    }
+
+}
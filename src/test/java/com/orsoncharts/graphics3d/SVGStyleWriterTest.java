@@ -0,0 +1,107 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+
+/**
+ * Tests for the {@link SVGStyleWriter} class.
+ */
+public class SVGStyleWriterTest {
+
+    @Test
+    public void testWrite() throws IOException {
+        StringWriter sw = new StringWriter();
+        SVGStyleWriter writer = new SVGStyleWriter(sw, "c");
+        writer.write("<g style=\"fill: red\"><path d=\"M 0 0\" "
+                + "style=\"fill: blue\"/><text x=\"1\" style=\"fill: red\">"
+                + "a style=\"x\"</text><rect title='style=\"b\"'/></g>");
+        assertEquals(2, writer.getClassCount());
+        writer.writeStyleElement();
+        assertEquals("<g class=\"c0\"><path d=\"M 0 0\" class=\"c1\"/>"
+                + "<text x=\"1\" class=\"c0\">a style=\"x\"</text>"
+                + "<rect title='style=\"b\"'/></g>"
+                + "<style type=\"text/css\">\n.c0 { fill: red }\n"
+                + ".c1 { fill: blue }\n</style>\n", sw.toString());
+    }
+
+    /**
+     * SVG export of a chart (with element hinting) produces a well-formed 
+     * document with no inline styles.
+     */
+    @Test
+    public void testWriteAsSVG() throws Exception {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(3.0, "S1", "R1", "C2");
+        Chart3D chart = Chart3DFactory.createBarChart("Title", "Subtitle", 
+                dataset, "Row", "Column", "Value");
+        chart.setElementHinting(true);
+        StringWriter sw = new StringWriter();
+        ExportUtils.writeAsSVG(chart, 300, 200, sw);
+        String svg = sw.toString();
+        assertTrue(svg.startsWith("<svg "));
+        assertTrue(svg.endsWith("</svg>"));
+        assertTrue(svg.indexOf(" style=\"") < 0);
+        
+        Document doc = DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder().parse(new ByteArrayInputStream(
+                svg.getBytes("UTF-8")));
+        Element root = doc.getDocumentElement();
+        assertEquals("svg", root.getNodeName());
+        assertEquals(1, root.getElementsByTagName("style").getLength());
+        assertEquals(1, root.getElementsByTagName("defs").getLength());
+        NodeList paths = root.getElementsByTagName("path");
+        assertTrue(paths.getLength() > 0);
+        
+        // a second export (with a buffer sized from the first)
+        StringWriter sw2 = new StringWriter();
+        ExportUtils.writeAsSVG(chart, 300, 200, sw2);
+        assertTrue(sw2.toString().endsWith("</svg>"));
+    }
+
+}
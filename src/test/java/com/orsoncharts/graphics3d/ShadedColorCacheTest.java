@@ -0,0 +1,64 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import java.awt.Color;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ShadedColorCache} class.
+ */
+public class ShadedColorCacheTest {
+    
+    @Test
+    public void testGetShadedColor() {
+        ShadedColorCache cache = new ShadedColorCache();
+        Color base = new Color(200, 100, 50, 128);
+        Color c = cache.getShadedColor(base, 0.5);
+        assertEquals(new Color(100, 50, 25, 128), c);
+        assertSame(c, cache.getShadedColor(base, 0.5));
+        
+        // shades are clamped to the range 0.0 to 1.0
+        assertEquals(new Color(200, 100, 50, 128), 
+                cache.getShadedColor(base, 1.5));
+        assertEquals(new Color(0, 0, 0, 128), 
+                cache.getShadedColor(base, -0.5));
+        
+        // equal base colors share a table
+        assertSame(c, cache.getShadedColor(new Color(200, 100, 50, 128), 
+                0.5));
+    }
+    
+}
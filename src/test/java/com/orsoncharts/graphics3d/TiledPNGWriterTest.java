@@ -0,0 +1,134 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Adler32;
+import javax.imageio.ImageIO;
+import org.junit.Test;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+
+/**
+ * Tests for the {@link TiledPNGWriter} class.
+ */
+public class TiledPNGWriterTest {
+
+    @Test
+    public void testCombineAdler32() {
+        byte[] b = new byte[100000];
+        new Random(1L).nextBytes(b);
+        Adler32 all = new Adler32();
+        all.update(b);
+        Adler32 a1 = new Adler32();
+        a1.update(b, 0, 70001);
+        Adler32 a2 = new Adler32();
+        a2.update(b, 70001, b.length - 70001);
+        assertEquals(all.getValue(), TiledPNGWriter.combineAdler32(
+                a1.getValue(), a2.getValue(), b.length - 70001));
+        assertEquals(all.getValue(), TiledPNGWriter.combineAdler32(1L, 
+                all.getValue(), b.length));
+    }
+
+    /**
+     * An image written in tiles should be the same as one drawn in a single
+     * pass.
+     */
+    @Test
+    public void testWrite() throws IOException {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        dataset.addValue(1.0, "S1", "R1", "C1");
+        dataset.addValue(3.0, "S1", "R1", "C2");
+        dataset.addValue(2.0, "S2", "R2", "C1");
+        Chart3D chart = Chart3DFactory.createBarChart("Title", "Subtitle", 
+                dataset, "Row", "Column", "Value");
+        int w = 300;
+        int h = 200;
+        BufferedImage expected = new BufferedImage(w, h, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = expected.createGraphics();
+        chart.draw(g2, new Rectangle(w, h));
+        g2.dispose();
+        
+        checkImage(expected, chart, 37);
+        checkImage(expected, chart, 200);
+        checkImage(expected, chart, 1000);
+        
+        // the faces are sorted once for all the tiles
+        final FaceSorter sorter = chart.getFaceSorter();
+        final AtomicInteger sorts = new AtomicInteger();
+        chart.setFaceSorter(new FaceSorter() {
+            @Override
+            public List<Face> sort(List<Face> faces, Point3D[] eyePts) {
+                sorts.incrementAndGet();
+                return sorter.sort(faces, eyePts);
+            }
+        });
+        checkImage(expected, chart, 37);
+        assertEquals(1, sorts.get());
+    }
+
+    private void checkImage(BufferedImage expected, Chart3D chart, 
+            int tileHeight) throws IOException {
+        int w = expected.getWidth();
+        int h = expected.getHeight();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TiledPNGWriter.write(chart, w, h, tileHeight, out);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                out.toByteArray()));
+        assertEquals(w, image.getWidth());
+        assertEquals(h, image.getHeight());
+        int differences = 0;
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                if (expected.getRGB(x, y) != image.getRGB(x, y)) {
+                    differences++;
+                }
+            }
+        }
+        assertEquals(0, differences);
+    }
+
+}
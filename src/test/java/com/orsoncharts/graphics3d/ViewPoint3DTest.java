@@ -130,6 +130,23 @@ public class ViewPoint3DTest {
         assertEquals(vp1, vp2);
     }
 
+    /**
+     * A copy projects points exactly as the original does, and is 
+     * independent of later changes to the original.
+     */
+    @Test
+    public void testCopy() {
+        ViewPoint3D vp1 = ViewPoint3D.createAboveLeftViewPoint(25.0);
+        vp1.roll(0.3);
+        ViewPoint3D vp2 = new ViewPoint3D(vp1);
+        assertEquals(vp1, vp2);
+        Point3D p = new Point3D(1.0, -2.0, 3.0);
+        assertEquals(vp1.worldToScreen(p, 1500.0), 
+                vp2.worldToScreen(p, 1500.0));
+        vp1.panLeftRight(0.1);
+        assertFalse(vp1.equals(vp2));
+    }
+
     @Test
     public void testZ() {
         Point3D p = new Point3D(0, 0, 25);
@@ -0,0 +1,186 @@
+/* ===========================================================
+ * Orson Charts : a 3D chart library for the Java(tm) platform
+ * ===========================================================
+ * 
+ * (C)opyright 2013-2016, by Object Refinery Limited.  All rights reserved.
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ * 
+ * If you do not wish to be bound by the terms of the GPL, an alternative
+ * commercial license can be purchased.  For details, please see visit the
+ * Orson Charts home page:
+ * 
+ * http://www.object-refinery.com/orsoncharts/index.html
+ * 
+ */
+
+package com.orsoncharts.graphics3d;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.awt.Color;
+import java.awt.geom.Point2D;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link World} class.
+ */
+public class WorldTest {
+    
+    private World createWorld() {
+        World world = new World();
+        world.add(Object3D.createBox(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, Color.RED));
+        world.add("other", Object3D.createCube(-1.0, 2.0, 3.0, 5.0, 
+                Color.BLUE));
+        return world;
+    }
+    
+    /**
+     * The packed eye coordinates should match the point-based results 
+     * exactly.
+     */
+    @Test
+    public void testCalculateEyeCoordinates() {
+        World world = createWorld();
+        ViewPoint3D vp = ViewPoint3D.createAboveLeftViewPoint(20.0);
+        Point3D[] expected = world.calculateEyeCoordinates(vp);
+        double[] packed = world.calculateEyeCoordinates(vp, null);
+        assertEquals(expected.length * 3, packed.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].x, packed[i * 3], 0.0);
+            assertEquals(expected[i].y, packed[i * 3 + 1], 0.0);
+            assertEquals(expected[i].z, packed[i * 3 + 2], 0.0);
+        }
+        
+        // an array that is large enough is reused
+        double[] packed2 = world.calculateEyeCoordinates(vp, packed);
+        assertSame(packed, packed2);
+    }
+    
+    /**
+     * The packed projected points should match the point-based results 
+     * exactly.
+     */
+    @Test
+    public void testCalculateProjectedPoints() {
+        World world = createWorld();
+        ViewPoint3D vp = ViewPoint3D.createAboveRightViewPoint(20.0);
+        Point2D[] expected = world.calculateProjectedPoints(vp, 1500.0);
+        double[] packed = world.calculateProjectedPoints(vp, 1500.0, null);
+        assertEquals(expected.length * 2, packed.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getX(), packed[i * 2], 0.0);
+            assertEquals(expected[i].getY(), packed[i * 2 + 1], 0.0);
+        }
+    }
+    
+    /**
+     * Updating points in place gives the same results as a fresh 
+     * calculation.
+     */
+    @Test
+    public void testUpdatePoints() {
+        World world = createWorld();
+        ViewPoint3D vp = ViewPoint3D.createAboveViewPoint(20.0);
+        Point3D[] eye = world.updateEyeCoordinates(vp, null);
+        Point2D[] pts = world.updateProjectedPoints(vp, 1500.0, null);
+        vp.panLeftRight(0.5);
+        Point3D eye0 = eye[0];
+        Point2D pt0 = pts[0];
+        assertSame(eye, world.updateEyeCoordinates(vp, eye));
+        assertSame(pts, world.updateProjectedPoints(vp, 1500.0, pts));
+        assertSame(eye0, eye[0]);
+        assertSame(pt0, pts[0]);
+        Point3D[] expectedEye = world.calculateEyeCoordinates(vp);
+        Point2D[] expectedPts = world.calculateProjectedPoints(vp, 1500.0);
+        for (int i = 0; i < eye.length; i++) {
+            assertEquals(expectedEye[i], eye[i]);
+            assertEquals(expectedPts[i], pts[i]);
+        }
+    }
+
+    /**
+     * The parallel calculations must give exactly the same results as the
+     * serial calculations.
+     */
+    @Test
+    public void testParallelMatchesSerial() {
+        World world = new World();
+        for (int i = 0; i < 100; i++) {
+            // objects of varying sizes, including empty objects
+            Object3D obj = new Object3D(Color.RED);
+            for (int v = 0; v < (i % 7) * 80; v++) {
+                obj.addVertex(i * 0.1, v * 0.2, (i + v) % 13);
+            }
+            world.add(i % 2 == 0 ? "a" : "b", obj);
+        }
+        assertTrue(world.getVertexCount() >= World.PARALLEL_THRESHOLD);
+        ViewPoint3D vp = ViewPoint3D.createAboveLeftViewPoint(50.0);
+        double[] eye = world.calculateEyeCoordinates(vp, null);
+        double[] pts = world.calculateProjectedPoints(vp, 1500.0, null);
+        world.setParallel(true);
+        assertArrayEquals(eye, world.calculateEyeCoordinates(vp, null), 0.0);
+        assertArrayEquals(pts, world.calculateProjectedPoints(vp, 1500.0, 
+                null), 0.0);
+    }
+
+    /**
+     * Shading with the world space face normals and the sun direction 
+     * mapped into world coordinates should match shading with the normals
+     * calculated from the eye coordinates.
+     */
+    @Test
+    public void testWorldNormalShading() {
+        World world = createWorld();
+        ViewPoint3D[] vps = new ViewPoint3D[] { 
+            ViewPoint3D.createAboveLeftViewPoint(20.0),
+            ViewPoint3D.createAboveRightViewPoint(30.0),
+            new ViewPoint3D(1.2, -0.4, 25.0, 0.7)
+        };
+        for (ViewPoint3D vp : vps) {
+            Point3D[] eyePts = world.calculateEyeCoordinates(vp);
+            Point3D sun = vp.eyeToWorldDirection(world.getSunX(), 
+                    world.getSunY(), world.getSunZ());
+            for (Face f : world.getFaces()) {
+                double[] e = f.calculateNormal(eyePts);
+                double expected = e[0] * world.getSunX() 
+                        + e[1] * world.getSunY() + e[2] * world.getSunZ();
+                double[] n = f.getNormal();
+                double actual = n[0] * sun.x + n[1] * sun.y + n[2] * sun.z;
+                assertEquals(expected, actual, 1e-6);
+                assertSame(n, f.getNormal());
+            }
+        }
+    }
+    
+    @Test
+    public void testGetObjectsInPartition() {
+        World world = createWorld();
+        assertEquals(1, world.getObjects(World.DEFAULT_PARTITION_KEY).size());
+        assertEquals(1, world.getObjects("other").size());
+        assertEquals(0, world.getObjects("missing").size());
+        
+        // the list is a copy
+        world.getObjects("other").clear();
+        assertEquals(1, world.getObjects("other").size());
+    }
+    
+}
@@ -32,11 +32,20 @@
 
 package com.orsoncharts.renderer.category;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
 import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.KeyedValues3DItemKey;
+import com.orsoncharts.data.category.StandardCategoryDataset3D;
+import com.orsoncharts.graphics3d.IndexedMesh3D;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.plot.CategoryPlot3D;
 import java.awt.Color;
 
 /**
@@ -80,4 +89,67 @@ public class LineRenderer3DTest {
         assertTrue(r1.equals(r2));
     }
 
-}
\ No newline at end of file
+    /**
+     * Each series is composed into a single mesh, with one part per line 
+     * segment and the vertices at the joints shared between segments.
+     */
+    @Test
+    public void testComposeItem() {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        for (int c = 0; c < 4; c++) {
+            dataset.addValue(1.0 + c, "S1", "R1", "C" + c);
+            dataset.addValue(4.0 - c, "S2", "R1", "C" + c);
+        }
+        Chart3D chart = Chart3DFactory.createLineChart("T", null, dataset, 
+                null, null, null);
+        CategoryPlot3D plot = (CategoryPlot3D) chart.getPlot();
+        for (int i = 0; i < 2; i++) {
+            World world = new World();
+            plot.compose(world, -5.0, -5.0, -5.0);
+            assertEquals(2, world.getObjects().size());
+            IndexedMesh3D mesh = (IndexedMesh3D) world.getObjects().get(0);
+            assertEquals(6, mesh.getPartCount());
+            assertEquals(32, mesh.getVertexCount());
+            assertEquals(new KeyedValues3DItemKey("S1", "R1", "C0"), 
+                    mesh.getItemKey(mesh.getFaces().get(0)));
+        }
+    }
+
+    /**
+     * The renderer keeps no per-series state, so items can be composed into
+     * two worlds in turn (as happens when the renderer is shared by two 
+     * charts).
+     */
+    @Test
+    public void testComposeItemInterleaved() {
+        StandardCategoryDataset3D<String, String, String> dataset 
+                = new StandardCategoryDataset3D<String, String, String>();
+        for (int c = 0; c < 4; c++) {
+            dataset.addValue(1.0 + c, "S1", "R1", "C" + c);
+            dataset.addValue(4.0 - c, "S2", "R1", "C" + c);
+        }
+        Chart3D chart = Chart3DFactory.createLineChart("T", null, dataset, 
+                null, null, null);
+        CategoryPlot3D plot = (CategoryPlot3D) chart.getPlot();
+        World w1 = new World();
+        World w2 = new World();
+        for (int s = 0; s < 2; s++) {
+            for (int c = 0; c < 4; c++) {
+                plot.getRenderer().composeItem(dataset, s, 0, c, w1, 
+                        plot.getDimensions(), -5.0, -5.0, -5.0);
+                plot.getRenderer().composeItem(dataset, s, 0, c, w2, 
+                        plot.getDimensions(), -5.0, -5.0, -5.0);
+            }
+        }
+        for (World world : new World[] {w1, w2}) {
+            assertEquals(2, world.getObjects().size());
+            for (Object3D obj : world.getObjects()) {
+                IndexedMesh3D mesh = (IndexedMesh3D) obj;
+                assertEquals(6, mesh.getPartCount());
+                assertEquals(32, mesh.getVertexCount());
+            }
+        }
+    }
+
+}
@@ -32,10 +32,27 @@
 
 package com.orsoncharts.renderer.xyz;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import java.awt.Graphics2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import org.junit.Test;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
 import com.orsoncharts.TestUtils;
+import com.orsoncharts.data.xyz.XYZItemKey;
+import com.orsoncharts.data.xyz.XYZSeries;
+import com.orsoncharts.data.xyz.XYZSeriesCollection;
+import com.orsoncharts.graphics3d.Face;
+import com.orsoncharts.graphics3d.Object3D;
+import com.orsoncharts.graphics3d.PointFace;
+import com.orsoncharts.graphics3d.RenderingInfo;
+import com.orsoncharts.plot.XYZPlot;
 
 /**
  * Tests for the {@link ScatterXYZRenderer} class.
@@ -53,7 +70,30 @@ public class ScatterXYZRendererTest {
         assertFalse(r1.equals(r2));
         r2.setSize(1.0);
         assertTrue(r1.equals(r2));
+        
+        r1.setGlyph(new Ellipse2D.Double(-2.0, -2.0, 4.0, 4.0));
+        assertFalse(r1.equals(r2));
+        r2.setGlyph(new Ellipse2D.Double(-2.0, -2.0, 4.0, 4.0));
+        assertTrue(r1.equals(r2));
+        
+        // GeneralPath doesn't override equals()
+        r1.setGlyph(createTriangle(3.0));
+        assertFalse(r1.equals(r2));
+        r2.setGlyph(createTriangle(3.0));
+        assertTrue(r1.equals(r2));
+        r2.setGlyph(createTriangle(4.0));
+        assertFalse(r1.equals(r2));
     }
+    
+    private static GeneralPath createTriangle(double size) {
+        GeneralPath p = new GeneralPath();
+        p.moveTo(0.0, -size);
+        p.lineTo(size, size);
+        p.lineTo(-size, size);
+        p.closePath();
+        return p;
+    }
+
     /**
      * Some checks for serialization support.
      */
@@ -62,5 +102,57 @@ public class ScatterXYZRendererTest {
         ScatterXYZRenderer r1 = new ScatterXYZRenderer();
         ScatterXYZRenderer r2 = (ScatterXYZRenderer) TestUtils.serialized(r1);
         assertTrue(r1.equals(r2));
+        
+        r1.setGlyph(new Ellipse2D.Double(-2.0, -2.0, 4.0, 4.0));
+        r2 = (ScatterXYZRenderer) TestUtils.serialized(r1);
+        assertTrue(r1.equals(r2));
+        
+        r1.setGlyph(createTriangle(3.0));
+        r2 = (ScatterXYZRenderer) TestUtils.serialized(r1);
+        assertTrue(r1.equals(r2));
+    }
+    
+    /**
+     * With a glyph set, each item is rendered as a point face and can be 
+     * found by hit testing.
+     */
+    @Test
+    public void testGlyphRendering() {
+        XYZSeries<String> s1 = new XYZSeries<String>("S1");
+        s1.add(1, 2, 3);
+        s1.add(2, 3, 4);
+        s1.add(3, 4, 5);
+        s1.add(30, 4, 5);  // outside the x-axis range
+        XYZSeriesCollection<String> dataset 
+                = new XYZSeriesCollection<String>();
+        dataset.add(s1);
+        Chart3D chart = Chart3DFactory.createScatterChart("title", null, 
+                dataset, "X", "Y", "Z");
+        XYZPlot plot = (XYZPlot) chart.getPlot();
+        plot.getXAxis().setRange(0.0, 10.0);
+        ScatterXYZRenderer renderer = (ScatterXYZRenderer) plot.getRenderer();
+        renderer.setGlyph(new Ellipse2D.Double(-3.0, -3.0, 6.0, 6.0));
+        BufferedImage image = new BufferedImage(800, 600, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        RenderingInfo info = chart.draw(g2, 
+                new Rectangle2D.Double(0, 0, 800, 600));
+        g2.dispose();
+        int points = 0;
+        for (Face f : info.getFaces()) {
+            if (f instanceof PointFace) {
+                points++;
+                Point2D pt = info.getProjectedPoints()[f.getVertexIndex(0)];
+                Object3D obj = info.fetchObjectAt(pt.getX() + info.getDX(), 
+                        pt.getY() + info.getDY());
+                assertEquals(((PointFace) f).getItemKey(), 
+                        obj.getProperty(Object3D.ITEM_KEY));
+                XYZItemKey<?> key = (XYZItemKey<?>) obj.getProperty(
+                        Object3D.ITEM_KEY);
+                assertEquals("S1", key.getSeriesKey());
+                assertTrue(key.getItemIndex() < 3);
+            }
+        }
+        assertEquals(3, points);
     }
 }
@@ -32,11 +32,17 @@
 
 package com.orsoncharts.renderer.xyz;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
+import com.orsoncharts.Chart3D;
+import com.orsoncharts.Chart3DFactory;
 import com.orsoncharts.TestUtils;
 import com.orsoncharts.data.function.Function3D;
+import com.orsoncharts.graphics3d.World;
+import com.orsoncharts.plot.XYZPlot;
 import com.orsoncharts.renderer.FixedColorScale;
 import java.awt.Color;
 
@@ -77,6 +83,11 @@ public class SurfaceRendererTest {
         assertFalse(r1.equals(r2));
         r2.setDrawFaceOutlines(false);
         assertTrue(r1.equals(r2));
+        
+        r1.setParallelSampling(false);
+        assertFalse(r1.equals(r2));
+        r2.setParallelSampling(false);
+        assertTrue(r1.equals(r2));
     }
     
     /**
@@ -89,6 +100,60 @@ public class SurfaceRendererTest {
         assertTrue(r1.equals(r2));
     }
 
+    /**
+     * The function is sampled once per grid point (plus once per cell for 
+     * the color) and the samples are reused when the world is composed 
+     * again with the same axis ranges.
+     */
+    @Test
+    public void testComposeAll() {
+        final AtomicInteger calls = new AtomicInteger();
+        Function3D f = new Function3D() {
+            @Override
+            public double getValue(double x, double z) {
+                calls.incrementAndGet();
+                return x * z;
+            }
+        };
+        Chart3D chart = Chart3DFactory.createSurfaceChart("T", null, f, "X", 
+                "Y", "Z");
+        XYZPlot plot = (XYZPlot) chart.getPlot();
+        SurfaceRenderer r = (SurfaceRenderer) plot.getRenderer();
+        calls.set(0);
+        World world = new World();
+        plot.compose(world, -5.0, -5.0, -5.0);
+        assertEquals(31 * 31 + 30 * 30, calls.get());
+        assertEquals(1, world.getObjects().size());
+        assertEquals(31 * 31, world.getVertexCount());
+        assertEquals(2 * 30 * 30, world.getFaces().size());
+        
+        world = new World();
+        plot.compose(world, -5.0, -5.0, -5.0);
+        assertEquals(31 * 31 + 30 * 30, calls.get());
+        
+        // after invalidation the function is sampled again
+        r.invalidateSamples();
+        world = new World();
+        plot.compose(world, -5.0, -5.0, -5.0);
+        assertEquals(2 * (31 * 31 + 30 * 30), calls.get());
+        
+        // enough samples to be computed in parallel
+        r.setXSamples(100);
+        r.setZSamples(100);
+        calls.set(0);
+        world = new World();
+        plot.compose(world, -5.0, -5.0, -5.0);
+        assertEquals(101 * 101 + 100 * 100, calls.get());
+        assertEquals(2 * 100 * 100, world.getFaces().size());
+        
+        // the same samples are taken on the calling thread
+        r.setParallelSampling(false);
+        calls.set(0);
+        world = new World();
+        plot.compose(world, -5.0, -5.0, -5.0);
+        assertEquals(101 * 101 + 100 * 100, calls.get());
+    }
+
     static final class F3D implements Function3D {
 
         public F3D() { 
@@ -37,8 +37,11 @@ import java.awt.GradientPaint;
 import java.awt.LinearGradientPaint;
 import java.awt.MultipleGradientPaint;
 import java.awt.RadialGradientPaint;
+import java.awt.Shape;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.GeneralPath;
 import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertTrue;
@@ -280,4 +283,32 @@ public class ObjectUtilsTest {
                 AffineTransform.getTranslateInstance(1.0, 2.0));
         assertTrue(ObjectUtils.equalsPaint(p1, p2));
     }
+    
+    @Test
+    public void testEqualsShape() {
+        assertTrue(ObjectUtils.equalsShape(null, null));
+        Shape s1 = new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0);
+        assertFalse(ObjectUtils.equalsShape(s1, null));
+        assertFalse(ObjectUtils.equalsShape(null, s1));
+        GeneralPath p1 = new GeneralPath();
+        p1.moveTo(0.0f, 0.0f);
+        p1.lineTo(1.0f, 2.0f);
+        p1.quadTo(3.0f, 4.0f, 5.0f, 6.0f);
+        p1.closePath();
+        GeneralPath p2 = new GeneralPath();
+        p2.moveTo(0.0f, 0.0f);
+        p2.lineTo(1.0f, 2.0f);
+        p2.quadTo(3.0f, 4.0f, 5.0f, 6.0f);
+        p2.closePath();
+        assertTrue(ObjectUtils.equalsShape(p1, p2));
+        assertFalse(ObjectUtils.equalsShape(p1, s1));
+        
+        p2.lineTo(7.0f, 8.0f);
+        assertFalse(ObjectUtils.equalsShape(p1, p2));
+        p1.lineTo(7.0f, 8.0f);
+        assertTrue(ObjectUtils.equalsShape(p1, p2));
+        
+        p1.setWindingRule(GeneralPath.WIND_EVEN_ODD);
+        assertFalse(ObjectUtils.equalsShape(p1, p2));
+    }
 }